@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compare two JMH result files in JSON format, as produced by {@code -rf json -rff <file>}, and report benchmarks
+ * whose score regressed by more than a threshold. This is meant to be run locally: record a baseline with the current
+ * code, switch to the new code and run the benchmarks again with {@code -Dbenchmarks.baseline=<file>}.
+ */
+public final class BaselineComparison {
+    private record Score(String mode, double score, double error, String unit) {
+        Score {
+            requireNonNull(mode);
+            requireNonNull(unit);
+        }
+
+        boolean lowerIsBetter() {
+            // Throughput is the only mode where a higher score is better
+            return !"thrpt".equals(mode);
+        }
+    }
+
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    private BaselineComparison() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Run the comparison. Arguments are the baseline result file, the current result file and an optional threshold,
+     * expressed in percent. Exits with a non-zero status if any benchmark regressed.
+     *
+     * @param args command line arguments
+     * @throws IOException if a result file cannot be read
+     */
+    @SuppressWarnings("checkstyle:regexpSinglelineJava")
+    public static void main(final String... args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        final int regressions = compare(readScores(Path.of(args[0])), readScores(Path.of(args[1])), threshold,
+            System.out);
+        if (regressions != 0) {
+            System.err.println(regressions + " benchmark(s) regressed by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    private static int compare(final Map<String, Score> baseline, final Map<String, Score> current,
+            final double threshold, final PrintStream out) {
+        int regressions = 0;
+        for (var entry : current.entrySet()) {
+            final var key = entry.getKey();
+            final var now = entry.getValue();
+            final var then = baseline.get(key);
+            if (then == null) {
+                out.printf("NEW        %s: %.3f %s%n", key, now.score, now.unit);
+                continue;
+            }
+            if (!then.mode.equals(now.mode) || !then.unit.equals(now.unit)) {
+                out.printf("SKIPPED    %s: incompatible mode or unit (%s %s vs. %s %s)%n", key, then.mode, then.unit,
+                    now.mode, now.unit);
+                continue;
+            }
+
+            final double change = (now.score - then.score) / then.score * 100;
+            final double worse = now.lowerIsBetter() ? change : -change;
+            // A difference within combined error bounds is not significant
+            final boolean significant = Math.abs(now.score - then.score) > then.error + now.error;
+            final String verdict;
+            if (significant && worse > threshold) {
+                verdict = "REGRESSED ";
+                regressions++;
+            } else if (significant && worse < -threshold) {
+                verdict = "IMPROVED  ";
+            } else {
+                verdict = "UNCHANGED ";
+            }
+            out.printf("%s %s: %.3f -> %.3f %s (%+.1f%%)%n", verdict, key, then.score, now.score, now.unit, change);
+        }
+
+        for (var key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                out.printf("MISSING    %s%n", key);
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, Score> readScores(final Path file) throws IOException {
+        final var ret = new TreeMap<String, Score>();
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (var element : JsonParser.parseReader(reader).getAsJsonArray()) {
+                final var result = element.getAsJsonObject();
+                final var metric = result.getAsJsonObject("primaryMetric");
+                final var error = metric.get("scoreError");
+                ret.put(benchmarkKey(result), new Score(result.get("mode").getAsString(),
+                    metric.get("score").getAsDouble(),
+                    // JMH reports "NaN" when there are too few samples to estimate an error
+                    error.isJsonPrimitive() && error.getAsJsonPrimitive().isNumber() ? error.getAsDouble() : 0,
+                    metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return ret;
+    }
+
+    private static String benchmarkKey(final JsonObject result) {
+        final var name = result.get("benchmark").getAsString();
+        final var params = result.getAsJsonObject("params");
+        if (params == null || params.size() == 0) {
+            return name;
+        }
+        return params.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(param -> param.getKey() + "=" + asString(param.getValue()))
+            .collect(Collectors.joining(",", name + "(", ")"));
+    }
+
+    private static String asString(final JsonElement element) {
+        return element.isJsonPrimitive() ? element.getAsString() : element.toString();
+    }
+}
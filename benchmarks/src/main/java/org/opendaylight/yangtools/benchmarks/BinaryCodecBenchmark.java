@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of binary {@link NormalizedNode} encoding and decoding in all writable
+ * {@link NormalizedNodeStreamVersion}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class BinaryCodecBenchmark {
+    // MAGNESIUM is a read-only format, hence we cannot produce data for it
+    @Param({ "POTASSIUM" })
+    public NormalizedNodeStreamVersion version;
+    @Param({ "10", "1000" })
+    public int interfaces;
+
+    private ContainerNode data;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        data = GeneratedModel.device(0).data(interfaces);
+        bytes = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = version.newDataOutput(new DataOutputStream(bos))) {
+            out.writeNormalizedNode(data);
+        }
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public NormalizedNode decode() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(bytes)))
+            .readNormalizedNode();
+    }
+}
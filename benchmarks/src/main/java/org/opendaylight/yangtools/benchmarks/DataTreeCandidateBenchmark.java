@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of {@link DataTreeCandidate} application, as done by a replica following a leader. A candidate
+ * produced by a leader {@link DataTree} is applied to a follower {@link DataTree} with the same contents, validated
+ * and prepared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DataTreeCandidateBenchmark {
+    @Param({ "1000" })
+    public int interfaces;
+    @Param({ "1", "100" })
+    public int modified;
+
+    private DataTree follower;
+    private DataTreeCandidate candidate;
+
+    @Setup
+    public void setup() throws IOException, YangParserException, DataValidationFailedException {
+        final var context = GeneratedModel.of(1).parse();
+        final var model = GeneratedModel.device(0);
+        final var data = model.data(interfaces);
+        final var leader = populatedTree(context, data);
+        follower = populatedTree(context, data);
+
+        final var mod = leader.takeSnapshot().newModification();
+        final var interfacePath = model.interfacePath();
+        for (int i = 0; i < modified; ++i) {
+            mod.write(interfacePath.node(model.interfaceId(i)), model.interfaceEntry(i, 9000));
+        }
+        mod.ready();
+        leader.validate(mod);
+        candidate = leader.prepare(mod);
+    }
+
+    @Benchmark
+    public DataTreeCandidate applyCandidate() throws DataValidationFailedException {
+        final var mod = follower.takeSnapshot().newModification();
+        DataTreeCandidates.applyToModification(mod, candidate);
+        mod.ready();
+        follower.validate(mod);
+        return follower.prepare(mod);
+    }
+
+    private static DataTree populatedTree(final EffectiveModelContext context, final ContainerNode data)
+            throws DataValidationFailedException {
+        final var tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_CONFIGURATION, context);
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(data.name()), data);
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+        return tree;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
+import org.opendaylight.yangtools.yang.parser.impl.DefaultYangParserFactory;
+
+/**
+ * A synthetic, but realistically-shaped, device model used across benchmarks. It consists of a shared
+ * {@code gen-types} module, providing typedefs, identities and a grouping, and a configurable number of
+ * {@code gen-device-N} modules, each of which defines a {@code device} container with keyed lists, a choice,
+ * a leaf-list, nested lists and a leafref. Matching data can be generated at any scale.
+ */
+final class GeneratedModel {
+    private static final String REVISION = "2023-01-01";
+    private static final String TYPES_MODULE = """
+        module gen-types {
+          yang-version 1.1;
+          namespace "urn:opendaylight:yangtools:benchmark:types";
+          prefix gt;
+
+          revision 2023-01-01;
+
+          identity interface-type;
+          identity ethernet {
+            base interface-type;
+          }
+          identity loopback {
+            base interface-type;
+          }
+
+          typedef interface-name {
+            type string {
+              length 1..64;
+              pattern '[a-zA-Z][a-zA-Z0-9/.:\\-]*';
+            }
+          }
+
+          typedef vlan-id {
+            type uint16 {
+              range 1..4094;
+            }
+          }
+
+          typedef admin-status {
+            type enumeration {
+              enum up;
+              enum down;
+              enum testing;
+            }
+          }
+
+          grouping counters {
+            container counters {
+              leaf in-octets {
+                type uint64;
+              }
+              leaf out-octets {
+                type uint64;
+              }
+              leaf in-packets {
+                type uint64;
+              }
+              leaf out-packets {
+                type uint64;
+              }
+              leaf in-errors {
+                type uint32;
+              }
+              leaf out-errors {
+                type uint32;
+              }
+            }
+          }
+        }""";
+    private static final String DEVICE_MODULE = """
+        module gen-device-%1$d {
+          yang-version 1.1;
+          namespace "urn:opendaylight:yangtools:benchmark:device-%1$d";
+          prefix d%1$d;
+
+          import gen-types {
+            prefix gt;
+          }
+
+          revision 2023-01-01;
+
+          container device {
+            leaf hostname {
+              type string;
+            }
+
+            list interface {
+              key name;
+
+              leaf name {
+                type gt:interface-name;
+              }
+              leaf description {
+                type string;
+              }
+              leaf type {
+                type identityref {
+                  base gt:interface-type;
+                }
+              }
+              leaf enabled {
+                type boolean;
+                default true;
+              }
+              leaf admin-status {
+                type gt:admin-status;
+              }
+              leaf mtu {
+                type uint16 {
+                  range 68..9216;
+                }
+              }
+              choice encapsulation {
+                case tagged {
+                  leaf vlan-id {
+                    type gt:vlan-id;
+                  }
+                }
+                case untagged {
+                  leaf untagged {
+                    type empty;
+                  }
+                }
+              }
+              leaf-list tag {
+                type string;
+              }
+              list address {
+                key ip;
+
+                leaf ip {
+                  type string;
+                }
+                leaf prefix-length {
+                  type uint8 {
+                    range 0..32;
+                  }
+                }
+              }
+              uses gt:counters;
+            }
+
+            list route {
+              key destination;
+
+              leaf destination {
+                type string;
+              }
+              leaf interface {
+                type leafref {
+                  path ../../interface/name;
+                }
+              }
+              leaf metric {
+                type uint32;
+              }
+            }
+          }
+        }""";
+
+    private static final QNameModule TYPES = module("types");
+    private static final QName ETHERNET = QName.create(TYPES, "ethernet").intern();
+    private static final QName LOOPBACK = QName.create(TYPES, "loopback").intern();
+
+    /**
+     * QNames of a single {@code gen-device-N} module.
+     */
+    static final class Device {
+        final @NonNull QName device;
+        final @NonNull QName hostname;
+        final @NonNull QName iface;
+        final @NonNull QName name;
+        final @NonNull QName description;
+        final @NonNull QName type;
+        final @NonNull QName enabled;
+        final @NonNull QName adminStatus;
+        final @NonNull QName mtu;
+        final @NonNull QName encapsulation;
+        final @NonNull QName tagged;
+        final @NonNull QName vlanId;
+        final @NonNull QName untagged;
+        final @NonNull QName tag;
+        final @NonNull QName address;
+        final @NonNull QName ip;
+        final @NonNull QName prefixLength;
+        final @NonNull QName counters;
+        final @NonNull QName inOctets;
+        final @NonNull QName outOctets;
+        final @NonNull QName inPackets;
+        final @NonNull QName outPackets;
+        final @NonNull QName inErrors;
+        final @NonNull QName outErrors;
+        final @NonNull QName route;
+        final @NonNull QName destination;
+        final @NonNull QName metric;
+
+        Device(final int index) {
+            final var module = module("device-" + index);
+            device = QName.create(module, "device").intern();
+            hostname = QName.create(module, "hostname").intern();
+            iface = QName.create(module, "interface").intern();
+            name = QName.create(module, "name").intern();
+            description = QName.create(module, "description").intern();
+            type = QName.create(module, "type").intern();
+            enabled = QName.create(module, "enabled").intern();
+            adminStatus = QName.create(module, "admin-status").intern();
+            mtu = QName.create(module, "mtu").intern();
+            encapsulation = QName.create(module, "encapsulation").intern();
+            tagged = QName.create(module, "tagged").intern();
+            vlanId = QName.create(module, "vlan-id").intern();
+            untagged = QName.create(module, "untagged").intern();
+            tag = QName.create(module, "tag").intern();
+            address = QName.create(module, "address").intern();
+            ip = QName.create(module, "ip").intern();
+            prefixLength = QName.create(module, "prefix-length").intern();
+            counters = QName.create(module, "counters").intern();
+            inOctets = QName.create(module, "in-octets").intern();
+            outOctets = QName.create(module, "out-octets").intern();
+            inPackets = QName.create(module, "in-packets").intern();
+            outPackets = QName.create(module, "out-packets").intern();
+            inErrors = QName.create(module, "in-errors").intern();
+            outErrors = QName.create(module, "out-errors").intern();
+            route = QName.create(module, "route").intern();
+            destination = QName.create(module, "destination").intern();
+            metric = QName.create(module, "metric").intern();
+        }
+
+        @NonNull YangInstanceIdentifier interfacePath() {
+            return YangInstanceIdentifier.of(device, iface);
+        }
+
+        @NonNull NodeIdentifierWithPredicates interfaceId(final int index) {
+            return NodeIdentifierWithPredicates.of(iface, name, interfaceName(index));
+        }
+
+        @NonNull ContainerNode data(final int interfaces) {
+            final var ifaceList = Builders.mapBuilder(interfaces).withNodeIdentifier(new NodeIdentifier(iface));
+            final var routeList = Builders.mapBuilder(interfaces).withNodeIdentifier(new NodeIdentifier(route));
+            for (int i = 0; i < interfaces; ++i) {
+                ifaceList.withChild(interfaceEntry(i, 1500));
+                final var dest = "10." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + ".0/24";
+                routeList.withChild(Builders.mapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(route, destination, dest))
+                    .withChild(ImmutableNodes.leafNode(destination, dest))
+                    .withChild(ImmutableNodes.leafNode(iface, interfaceName(i)))
+                    .withChild(ImmutableNodes.leafNode(metric, Uint32.valueOf(i % 100)))
+                    .build());
+            }
+
+            return Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(device))
+                .withChild(ImmutableNodes.leafNode(hostname, "router-" + interfaces))
+                .withChild(ifaceList.build())
+                .withChild(routeList.build())
+                .build();
+        }
+
+        @NonNull MapEntryNode interfaceEntry(final int index, final int mtuValue) {
+            final var ifaceName = interfaceName(index);
+            final var tags = Builders.<String>leafSetBuilder().withNodeIdentifier(new NodeIdentifier(tag));
+            for (var value : List.of("core", "site-" + index % 16)) {
+                tags.withChild(Builders.<String>leafSetEntryBuilder()
+                    .withNodeIdentifier(new NodeWithValue<>(tag, value))
+                    .withValue(value)
+                    .build());
+            }
+
+            final var addresses = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(address));
+            for (int i = 0; i < 2; ++i) {
+                final var ipValue = "192.168." + (index & 0xFF) + "." + (i + 1);
+                addresses.withChild(Builders.mapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(address, ip, ipValue))
+                    .withChild(ImmutableNodes.leafNode(ip, ipValue))
+                    .withChild(ImmutableNodes.leafNode(prefixLength, Uint8.valueOf(24)))
+                    .build());
+            }
+
+            final var encap = Builders.choiceBuilder().withNodeIdentifier(new NodeIdentifier(encapsulation));
+            if (index % 2 == 0) {
+                encap.withChild(ImmutableNodes.leafNode(vlanId, Uint16.valueOf(index % 4094 + 1)));
+            } else {
+                encap.withChild(ImmutableNodes.leafNode(untagged, Empty.value()));
+            }
+
+            return Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(iface, name, ifaceName))
+                .withChild(ImmutableNodes.leafNode(name, ifaceName))
+                .withChild(ImmutableNodes.leafNode(description, "Uplink port " + index + " towards the core"))
+                .withChild(ImmutableNodes.leafNode(type, index == 0 ? LOOPBACK : ETHERNET))
+                .withChild(ImmutableNodes.leafNode(enabled, index % 7 != 0))
+                .withChild(ImmutableNodes.leafNode(adminStatus, index % 7 != 0 ? "up" : "down"))
+                .withChild(ImmutableNodes.leafNode(mtu, Uint16.valueOf(mtuValue)))
+                .withChild(encap.build())
+                .withChild(tags.build())
+                .withChild(addresses.build())
+                .withChild(Builders.containerBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(counters))
+                    .withChild(ImmutableNodes.leafNode(inOctets, Uint64.valueOf(index * 1_000_000L)))
+                    .withChild(ImmutableNodes.leafNode(outOctets, Uint64.valueOf(index * 750_000L)))
+                    .withChild(ImmutableNodes.leafNode(inPackets, Uint64.valueOf(index * 1_000L)))
+                    .withChild(ImmutableNodes.leafNode(outPackets, Uint64.valueOf(index * 750L)))
+                    .withChild(ImmutableNodes.leafNode(inErrors, Uint32.valueOf(index % 3)))
+                    .withChild(ImmutableNodes.leafNode(outErrors, Uint32.ZERO))
+                    .build())
+                .build();
+        }
+    }
+
+    private final @NonNull ImmutableList<YangTextSchemaSource> sources;
+
+    private GeneratedModel(final int deviceModules) {
+        sources = IntStream.range(-1, deviceModules)
+            .mapToObj(i -> i < 0 ? source("gen-types", TYPES_MODULE)
+                : source("gen-device-" + i, DEVICE_MODULE.formatted(i)))
+            .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Return a model with the specified number of {@code gen-device-N} modules.
+     *
+     * @param deviceModules number of device modules
+     * @return A GeneratedModel
+     */
+    static @NonNull GeneratedModel of(final int deviceModules) {
+        return new GeneratedModel(deviceModules);
+    }
+
+    static @NonNull Device device(final int index) {
+        return new Device(index);
+    }
+
+    static @NonNull String interfaceName(final int index) {
+        return "ge-0/" + index / 48 + "/" + index % 48;
+    }
+
+    @NonNull List<YangTextSchemaSource> sources() {
+        return sources;
+    }
+
+    @NonNull EffectiveModelContext parse() throws IOException, YangParserException {
+        return parse(new DefaultYangParserFactory());
+    }
+
+    @NonNull EffectiveModelContext parse(final YangParserFactory factory) throws IOException, YangParserException {
+        return factory.createParser().addSources(sources).buildEffectiveModel();
+    }
+
+    private static QNameModule module(final String suffix) {
+        return QNameModule.create(XMLNamespace.of("urn:opendaylight:yangtools:benchmark:" + suffix),
+            Revision.of(REVISION)).intern();
+    }
+
+    private static YangTextSchemaSource source(final String name, final String text) {
+        return YangTextSchemaSource.delegateForCharSource(name + "@" + REVISION + ".yang", CharSource.wrap(text));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of RFC7951 JSON parsing through {@link JsonParserStream} and serialization through
+ * {@link JSONNormalizedNodeStreamWriter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class JsonCodecBenchmark {
+    @Param({ "10", "1000" })
+    public int interfaces;
+
+    private JSONCodecFactory codecFactory;
+    private ContainerNode data;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException, YangParserException {
+        codecFactory = JSONCodecFactorySupplier.RFC7951.getShared(GeneratedModel.of(1).parse());
+        data = GeneratedModel.device(0).data(interfaces);
+        json = serialize();
+    }
+
+    @Benchmark
+    public NormalizedNode parse() throws IOException {
+        final var result = new NormalizationResultHolder();
+        try (var parser = JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecFactory)) {
+            parser.parse(new JsonReader(new StringReader(json)));
+        }
+        return result.getResult().data();
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        final var writer = new StringWriter();
+        try (var nodeWriter = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+                codecFactory, JsonWriterFactory.createJsonWriter(writer)))) {
+            nodeWriter.write(data);
+        }
+        return writer.toString();
+    }
+}
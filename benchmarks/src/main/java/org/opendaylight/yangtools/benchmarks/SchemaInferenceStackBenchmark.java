@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of {@link SchemaInferenceStack} navigation, including transparent choice/case traversal and leafref
+ * resolution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class SchemaInferenceStackBenchmark {
+    private final GeneratedModel.Device model = GeneratedModel.device(0);
+
+    private EffectiveModelContext modelContext;
+    private SchemaInferenceStack routeInterface;
+    private LeafrefTypeDefinition leafref;
+
+    @Setup
+    public void setup() throws IOException, YangParserException {
+        modelContext = GeneratedModel.of(10).parse();
+        routeInterface = SchemaInferenceStack.ofDataTreePath(modelContext, model.device, model.route, model.iface);
+        leafref = (LeafrefTypeDefinition) ((LeafSchemaNode) routeInterface.currentStatement()).getType();
+    }
+
+    @Benchmark
+    public EffectiveStatement<?, ?> enterDataTree() {
+        final var stack = SchemaInferenceStack.of(modelContext);
+        stack.enterDataTree(model.device);
+        stack.enterDataTree(model.iface);
+        stack.enterDataTree(model.counters);
+        return stack.enterDataTree(model.inOctets);
+    }
+
+    @Benchmark
+    public Absolute enterSchemaTreeThroughChoice() {
+        final var stack = SchemaInferenceStack.of(modelContext);
+        stack.enterSchemaTree(model.device);
+        stack.enterSchemaTree(model.iface);
+        stack.enterSchemaTree(model.encapsulation);
+        stack.enterSchemaTree(model.tagged);
+        stack.enterSchemaTree(model.vlanId);
+        return stack.toSchemaNodeIdentifier();
+    }
+
+    @Benchmark
+    public EffectiveStatement<?, ?> exitToDataTree() {
+        final var stack = SchemaInferenceStack.ofDataTreePath(modelContext, model.device, model.iface, model.vlanId);
+        return stack.exitToDataTree();
+    }
+
+    @Benchmark
+    public TypeDefinition<?> resolveLeafref() {
+        return routeInterface.resolveLeafref(leafref);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of XML parsing through {@link XmlParserStream} and serialization through
+ * {@link XMLStreamNormalizedNodeStreamWriter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class XmlCodecBenchmark {
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    @Param({ "10", "1000" })
+    public int interfaces;
+
+    private EffectiveModelContext modelContext;
+    private XmlCodecFactory codecFactory;
+    private EffectiveStatementInference device;
+    private ContainerNode data;
+    private String xml;
+
+    @Setup
+    public void setup() throws IOException, YangParserException, XMLStreamException {
+        modelContext = GeneratedModel.of(1).parse();
+        codecFactory = XmlCodecFactory.create(modelContext);
+        final var model = GeneratedModel.device(0);
+        device = SchemaInferenceStack.ofDataTreePath(modelContext, model.device).toInference();
+        data = model.data(interfaces);
+        xml = serialize();
+    }
+
+    @Benchmark
+    public NormalizedNode parse() throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        try (var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecFactory,
+                device)) {
+            parser.parse(UntrustedXML.createXMLStreamReader(new StringReader(xml)));
+        }
+        return result.getResult().data();
+    }
+
+    @Benchmark
+    public String serialize() throws IOException, XMLStreamException {
+        final var writer = new StringWriter();
+        final XMLStreamWriter xmlWriter = OUTPUT_FACTORY.createXMLStreamWriter(writer);
+        try (var nodeWriter = NormalizedNodeWriter.forStreamWriter(
+                XMLStreamNormalizedNodeStreamWriter.create(xmlWriter, modelContext))) {
+            nodeWriter.write(data);
+        }
+        xmlWriter.close();
+        return writer.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarking of {@link YangInstanceIdentifier} construction, hashing and comparison. Paths point to leaves nested
+ * in two levels of keyed lists, which is typical for both configuration and operational data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class YangInstanceIdentifierBenchmark {
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private final GeneratedModel.Device model = GeneratedModel.device(0);
+    private final NodeIdentifierWithPredicates[] interfaceIds = new NodeIdentifierWithPredicates[SIZE];
+    private final NodeIdentifierWithPredicates[] addressIds = new NodeIdentifierWithPredicates[SIZE];
+    private final YangInstanceIdentifier[] paths = new YangInstanceIdentifier[SIZE];
+    private final YangInstanceIdentifier[] equalPaths = new YangInstanceIdentifier[SIZE];
+
+    private YangInstanceIdentifier interfacePath;
+    private NodeIdentifier address;
+    private NodeIdentifier prefixLength;
+    private int index;
+
+    @Setup
+    public void setup() {
+        interfacePath = model.interfacePath();
+        address = new NodeIdentifier(model.address);
+        prefixLength = new NodeIdentifier(model.prefixLength);
+        for (int i = 0; i < SIZE; ++i) {
+            interfaceIds[i] = model.interfaceId(i);
+            addressIds[i] = NodeIdentifierWithPredicates.of(model.address, model.ip, "192.168." + (i & 0xFF) + ".1");
+            paths[i] = newPath(i);
+            equalPaths[i] = newPath(i);
+            // Make sure both hash codes are cached, so that we measure only equality
+            paths[i].hashCode();
+            equalPaths[i].hashCode();
+        }
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier build() {
+        return newPath(next());
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier append() {
+        final int offset = next();
+        return interfacePath.node(interfaceIds[offset]).node(address).node(addressIds[offset]).node(prefixLength);
+    }
+
+    @Benchmark
+    public int buildAndHash() {
+        return newPath(next()).hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsDistinct() {
+        final int offset = next();
+        return paths[offset].equals(equalPaths[offset]);
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier parent() {
+        return paths[next()].getParent();
+    }
+
+    private YangInstanceIdentifier newPath(final int offset) {
+        return YangInstanceIdentifier.builder()
+            .node(model.device)
+            .node(model.iface)
+            .node(interfaceIds[offset])
+            .node(model.address)
+            .node(addressIds[offset])
+            .node(model.prefixLength)
+            .build();
+    }
+
+    private int next() {
+        return index = index + 1 & MASK;
+    }
+}
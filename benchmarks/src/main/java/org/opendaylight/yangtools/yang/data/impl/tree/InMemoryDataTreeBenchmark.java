@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.impl.tree;
 
 import com.google.common.collect.Streams;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -59,6 +60,7 @@ public class InMemoryDataTreeBenchmark {
     private static final int OUTER_LIST_100K = 100000;
     private static final int OUTER_LIST_50K = 50000;
     private static final int OUTER_LIST_10K = 10000;
+    private static final int BATCH_SIZE = 1000;
 
     private static final NodeIdentifierWithPredicates[] OUTER_LIST_IDS = Streams.mapWithIndex(
         IntStream.range(0, OUTER_LIST_100K),
@@ -163,6 +165,23 @@ public class InMemoryDataTreeBenchmark {
         }
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write100KSingleNodeWithOneInnerItemInBatchedCommitBenchmark() {
+        for (int batchStart = 0; batchStart < OUTER_LIST_100K; batchStart += BATCH_SIZE) {
+            final var snapshot = datastore.takeSnapshot();
+            final var batch = new ArrayList<DataTreeModification>(BATCH_SIZE);
+            for (int outerListKey = batchStart; outerListKey < batchStart + BATCH_SIZE; ++outerListKey) {
+                final DataTreeModification modification = snapshot.newModification();
+                modification.write(OUTER_LIST_PATHS[outerListKey], OUTER_LIST_ONE_ITEM_INNER_LIST[outerListKey]);
+                modification.ready();
+                batch.add(modification);
+            }
+            datastore.commit(datastore.prepareBatch(batch));
+        }
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ByteProcessor;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link DataInput} reading directly from a {@link ByteBuf}. Running out of readable bytes is reported as an
+ * {@link EOFException}, as mandated by {@link DataInput}.
+ */
+final class ByteBufDataInput implements DataInput {
+    private static final ByteProcessor FIND_NON_ASCII = value -> value >= 0;
+
+    private final ByteBuf buf;
+
+    ByteBufDataInput(final ByteBuf buf) {
+        this.buf = requireNonNull(buf);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws EOFException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int off, final int len) throws EOFException {
+        checkReadable(len);
+        buf.readBytes(bytes, off, len);
+    }
+
+    @Override
+    public int skipBytes(final int count) {
+        final int skipped = Math.min(count, buf.readableBytes());
+        buf.skipBytes(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws EOFException {
+        checkReadable(Byte.BYTES);
+        return buf.readBoolean();
+    }
+
+    @Override
+    public byte readByte() throws EOFException {
+        checkReadable(Byte.BYTES);
+        return buf.readByte();
+    }
+
+    @Override
+    public int readUnsignedByte() throws EOFException {
+        checkReadable(Byte.BYTES);
+        return buf.readUnsignedByte();
+    }
+
+    @Override
+    public short readShort() throws EOFException {
+        checkReadable(Short.BYTES);
+        return buf.readShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws EOFException {
+        checkReadable(Short.BYTES);
+        return buf.readUnsignedShort();
+    }
+
+    @Override
+    public char readChar() throws EOFException {
+        checkReadable(Character.BYTES);
+        return buf.readChar();
+    }
+
+    @Override
+    public int readInt() throws EOFException {
+        checkReadable(Integer.BYTES);
+        return buf.readInt();
+    }
+
+    @Override
+    public long readLong() throws EOFException {
+        checkReadable(Long.BYTES);
+        return buf.readLong();
+    }
+
+    @Override
+    public float readFloat() throws EOFException {
+        checkReadable(Float.BYTES);
+        return buf.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws EOFException {
+        checkReadable(Double.BYTES);
+        return buf.readDouble();
+    }
+
+    @Override
+    public String readLine() {
+        if (!buf.isReadable()) {
+            return null;
+        }
+
+        final var sb = new StringBuilder();
+        while (buf.isReadable()) {
+            final int ch = buf.readUnsignedByte();
+            if (ch == '\n') {
+                break;
+            }
+            if (ch == '\r') {
+                if (buf.isReadable() && buf.getByte(buf.readerIndex()) == '\n') {
+                    buf.skipBytes(1);
+                }
+                break;
+            }
+            sb.append((char) ch);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        final int utflen = readUnsignedShort();
+        checkReadable(utflen);
+
+        // Fast path: plain ASCII is decoded directly from the buffer
+        final int start = buf.readerIndex();
+        if (buf.forEachByte(start, utflen, FIND_NON_ASCII) == -1) {
+            final var str = buf.toString(start, utflen, StandardCharsets.US_ASCII);
+            buf.skipBytes(utflen);
+            return str;
+        }
+
+        // Slow path: rewind to the length and let DataInputStream deal with modified UTF-8
+        buf.readerIndex(start - Short.BYTES);
+        return DataInputStream.readUTF(this);
+    }
+
+    private void checkReadable(final int len) throws EOFException {
+        final int readable = buf.readableBytes();
+        if (readable < len) {
+            throw new EOFException("Attempted to read " + len + " bytes, only " + readable + " available");
+        }
+    }
+}
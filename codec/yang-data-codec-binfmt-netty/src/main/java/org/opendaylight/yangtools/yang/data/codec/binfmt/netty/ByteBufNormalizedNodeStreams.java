@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import com.google.common.annotations.Beta;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+
+/**
+ * Factory methods for {@link NormalizedNodeDataInput} and {@link NormalizedNodeDataOutput} instances backed directly
+ * by a {@link ByteBuf}. Compared to going through {@link java.io.DataInputStream} and
+ * {@link java.io.DataOutputStream}, this avoids intermediate {@code byte[]} copies and stream layers. Any kind of
+ * buffer, including pooled, direct and {@link io.netty.buffer.CompositeByteBuf}s, is supported.
+ *
+ * <p>
+ * Returned objects operate on the buffer's reader and writer indices, but do not take ownership of the buffer: callers
+ * remain responsible for managing its reference count.
+ */
+@Beta
+public final class ByteBufNormalizedNodeStreams {
+    private ByteBufNormalizedNodeStreams() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Create a new {@link NormalizedNodeDataInput} reading from a {@link ByteBuf}. The stream version is read from the
+     * buffer.
+     *
+     * @param buf Source buffer
+     * @return A new {@link NormalizedNodeDataInput}
+     * @throws IOException if the buffer does not start with a valid stream header
+     * @throws NullPointerException if {@code buf} is {@code null}
+     */
+    public static @NonNull NormalizedNodeDataInput newDataInput(final @NonNull ByteBuf buf) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new ByteBufDataInput(buf));
+    }
+
+    /**
+     * Create a new {@link NormalizedNodeDataOutput} writing to a {@link ByteBuf} in
+     * {@link NormalizedNodeStreamVersion#current()} format.
+     *
+     * @param buf Target buffer
+     * @return A new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if {@code buf} is {@code null}
+     */
+    public static @NonNull NormalizedNodeDataOutput newDataOutput(final @NonNull ByteBuf buf) {
+        return newDataOutput(buf, NormalizedNodeStreamVersion.current());
+    }
+
+    /**
+     * Create a new {@link NormalizedNodeDataOutput} writing to a {@link ByteBuf} in specified format.
+     *
+     * @param buf Target buffer
+     * @param version Stream version
+     * @return A new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws UnsupportedOperationException if {@code version} does not support writing
+     */
+    public static @NonNull NormalizedNodeDataOutput newDataOutput(final @NonNull ByteBuf buf,
+            final @NonNull NormalizedNodeStreamVersion version) {
+        return version.newDataOutput(new ByteBufDataOutput(buf));
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * {@link org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput} and
+ * {@link org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput} operating directly on Netty
+ * {@link io.netty.buffer.ByteBuf}s. Entry point is
+ * {@link org.opendaylight.yangtools.yang.data.codec.binfmt.netty.ByteBufNormalizedNodeStreams}.
+ */
+@Export
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import org.osgi.annotation.bundle.Export;
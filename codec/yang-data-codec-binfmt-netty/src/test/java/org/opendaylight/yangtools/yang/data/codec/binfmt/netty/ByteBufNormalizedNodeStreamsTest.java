@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+class ByteBufNormalizedNodeStreamsTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName ASCII = QName.create(FOO, "ascii");
+    private static final QName UNICODE = QName.create(FOO, "unicode");
+    private static final QName LONG = QName.create(FOO, "long");
+    private static final QName NUMBER = QName.create(FOO, "number");
+    private static final List<String> STRINGS = List.of("", "ascii", "nul\u0000", "été", "中文",
+        "😀", "x".repeat(20000));
+
+    @Test
+    void testNormalizedNodeRoundTrip() throws IOException {
+        final var data = data();
+        final var buf = PooledByteBufAllocator.DEFAULT.directBuffer(16);
+        try {
+            try (var out = ByteBufNormalizedNodeStreams.newDataOutput(buf)) {
+                out.writeNormalizedNode(data);
+            }
+
+            // The encoding is the same as when going through a DataOutputStream
+            assertArrayEquals(streamBytes(data), ByteBufUtil.getBytes(buf));
+
+            assertEquals(data, ByteBufNormalizedNodeStreams.newDataInput(buf).readNormalizedNode());
+            assertFalse(buf.isReadable());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    void testCompositeBuffer() throws IOException {
+        final var data = data();
+        final var bytes = streamBytes(data);
+
+        // Scatter the encoding across many small components, so that primitives and strings straddle them
+        final var composite = ByteBufAllocator.DEFAULT.compositeBuffer(Integer.MAX_VALUE);
+        try {
+            for (int off = 0; off < bytes.length; off += 7) {
+                composite.addComponent(true, Unpooled.wrappedBuffer(bytes, off, Math.min(7, bytes.length - off)));
+            }
+            assertEquals(data, ByteBufNormalizedNodeStreams.newDataInput(composite).readNormalizedNode());
+        } finally {
+            composite.release();
+        }
+
+        // Writes into a composite buffer work as well
+        final var target = ByteBufAllocator.DEFAULT.compositeBuffer();
+        try {
+            target.addComponent(true, Unpooled.buffer(8));
+            try (var out = ByteBufNormalizedNodeStreams.newDataOutput(target)) {
+                out.writeNormalizedNode(data);
+            }
+            assertArrayEquals(bytes, ByteBufUtil.getBytes(target));
+        } finally {
+            target.release();
+        }
+    }
+
+    @Test
+    void testDataTreeCandidate() throws IOException {
+        final var candidate = DataTreeCandidates.fromNormalizedNode(YangInstanceIdentifier.of(FOO), data());
+        final var buf = Unpooled.buffer();
+        try (var out = ByteBufNormalizedNodeStreams.newDataOutput(buf)) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        }
+
+        final var read = DataTreeCandidateInputOutput.readDataTreeCandidate(
+            ByteBufNormalizedNodeStreams.newDataInput(buf));
+        assertEquals(candidate.getRootPath(), read.getRootPath());
+        assertEquals(candidate.getRootNode().modificationType(), read.getRootNode().modificationType());
+        assertEquals(candidate.getRootNode().dataAfter(), read.getRootNode().dataAfter());
+    }
+
+    @Test
+    void testTruncatedInput() throws IOException {
+        final var bytes = streamBytes(data());
+        final var buf = Unpooled.wrappedBuffer(bytes, 0, bytes.length - 1);
+        final var input = ByteBufNormalizedNodeStreams.newDataInput(buf);
+        assertThrows(EOFException.class, input::readNormalizedNode);
+    }
+
+    @Test
+    void testPrimitives() throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        final var buf = Unpooled.buffer(1);
+        writePrimitives(new DataOutputStream(bos));
+        writePrimitives(new ByteBufDataOutput(buf));
+        assertArrayEquals(bos.toByteArray(), ByteBufUtil.getBytes(buf));
+
+        final var expected = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        final var actual = new ByteBufDataInput(buf);
+        assertEquals(expected.readBoolean(), actual.readBoolean());
+        assertEquals(expected.readByte(), actual.readByte());
+        assertEquals(expected.readUnsignedByte(), actual.readUnsignedByte());
+        assertEquals(expected.readShort(), actual.readShort());
+        assertEquals(expected.readUnsignedShort(), actual.readUnsignedShort());
+        assertEquals(expected.readChar(), actual.readChar());
+        assertEquals(expected.readInt(), actual.readInt());
+        assertEquals(expected.readLong(), actual.readLong());
+        assertEquals(expected.readFloat(), actual.readFloat());
+        assertEquals(expected.readDouble(), actual.readDouble());
+        for (var str : STRINGS) {
+            assertEquals(str, expected.readUTF());
+            assertEquals(str, actual.readUTF());
+        }
+        final var expectedBytes = new byte[8];
+        expected.readFully(expectedBytes);
+        final var actualBytes = new byte[8];
+        actual.readFully(actualBytes);
+        assertArrayEquals(expectedBytes, actualBytes);
+        assertEquals(2, actual.skipBytes(5));
+        assertThrows(EOFException.class, actual::readByte);
+    }
+
+    private static void writePrimitives(final DataOutput out) throws IOException {
+        out.writeBoolean(true);
+        out.writeByte(-2);
+        out.writeByte(200);
+        out.writeShort(-3);
+        out.writeShort(60000);
+        out.writeChar('中');
+        out.writeInt(Integer.MIN_VALUE);
+        out.writeLong(Long.MAX_VALUE);
+        out.writeFloat(1.5F);
+        out.writeDouble(-2.25);
+        for (var str : STRINGS) {
+            out.writeUTF(str);
+        }
+        out.writeChars("ch");
+        out.writeBytes("bytesā");
+    }
+
+    private static byte[] streamBytes(final ContainerNode data) throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bos))) {
+            out.writeNormalizedNode(data);
+        }
+        return bos.toByteArray();
+    }
+
+    private static ContainerNode data() {
+        final var list = Builders.unkeyedListBuilder().withNodeIdentifier(new NodeIdentifier(FOO));
+        for (int i = 0; i < 100; ++i) {
+            list.withChild(Builders.unkeyedListEntryBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(ASCII, "value-" + i))
+                .withChild(ImmutableNodes.leafNode(UNICODE, STRINGS.get(i % 6) + i))
+                .withChild(ImmutableNodes.leafNode(NUMBER, Uint32.valueOf(i)))
+                .build());
+        }
+
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(list.build())
+            .withChild(ImmutableNodes.leafNode(LONG, "é".repeat(20000)))
+            .build();
+    }
+}
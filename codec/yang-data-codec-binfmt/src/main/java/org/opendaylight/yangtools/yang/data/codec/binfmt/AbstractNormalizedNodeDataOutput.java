@@ -49,9 +49,20 @@ abstract class AbstractNormalizedNodeDataOutput implements NormalizedNodeDataOut
             output.writeByte(TokenTypes.SIGNATURE_MARKER);
             output.writeShort(streamVersion());
             headerWritten = true;
+            writeHeaderExtension();
         }
     }
 
+    /**
+     * Write any additional header fields mandated by {@link #streamVersion()}. This method is invoked just after the
+     * version has been written and must write directly to {@link #output}. Default implementation does nothing.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void writeHeaderExtension() throws IOException {
+        // No-op by default
+    }
+
     @Override
     public final void write(final int value) throws IOException {
         ensureHeaderWritten();
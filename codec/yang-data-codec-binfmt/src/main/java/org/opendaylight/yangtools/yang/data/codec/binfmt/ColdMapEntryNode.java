@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import com.google.common.base.VerifyException;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+
+/**
+ * A {@link MapEntryNode} whose contents are held in a region of a {@link ByteBuffer}, as produced by
+ * {@link PotassiumColdStorage}.
+ */
+final class ColdMapEntryNode extends AbstractNormalizedNode<NodeIdentifierWithPredicates, MapEntryNode>
+        implements MapEntryNode {
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = requireNonNull(buffer);
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, count);
+            return count;
+        }
+    }
+
+    // Shared read-only buffer, we occupy the region of length bytes starting at offset
+    private final @NonNull ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    private final int size;
+
+    private volatile WeakReference<MapEntryNode> materialized;
+
+    ColdMapEntryNode(final NodeIdentifierWithPredicates name, final ByteBuffer buffer, final int offset,
+            final int length, final int size) {
+        super(name);
+        this.buffer = requireNonNull(buffer);
+        this.offset = offset;
+        this.length = length;
+        this.size = size;
+    }
+
+    @Override
+    public Collection<@NonNull DataContainerChild> body() {
+        return materialize().body();
+    }
+
+    @Override
+    public DataContainerChild childByArg(final NodeIdentifier child) {
+        return materialize().childByArg(child);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected Class<MapEntryNode> implementedType() {
+        return MapEntryNode.class;
+    }
+
+    @Override
+    protected int valueHashCode() {
+        // Implementations are free to compute their value hash code in any way consistent with equals, hence we
+        // need to use the same value as the materialized node
+        return valueHashCodeOf(materialize());
+    }
+
+    @Override
+    protected boolean valueEquals(final MapEntryNode other) {
+        return materialize().equals(other);
+    }
+
+    @Override
+    protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
+        return toStringHelper.add("name", name()).add("size", size).add("bytes", length);
+    }
+
+    private @NonNull MapEntryNode materialize() {
+        final var ref = materialized;
+        if (ref != null) {
+            final var existing = ref.get();
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        final MapEntryNode ret;
+        try {
+            final var node = NormalizedNodeDataInput.newDataInput(
+                new DataInputStream(new BufferInputStream(buffer.slice(offset, length)))).readNormalizedNode();
+            if (!(node instanceof MapEntryNode entry)) {
+                throw new VerifyException("Unexpected node " + node.contract() + " in " + name());
+            }
+            ret = entry;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode " + name(), e);
+        }
+
+        materialized = new WeakReference<>(ret);
+        return ret;
+    }
+}
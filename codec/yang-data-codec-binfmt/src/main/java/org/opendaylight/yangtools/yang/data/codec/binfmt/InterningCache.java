@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheStats;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A bounded, lock-free cache of interned objects. Entries are held in a power-of-two sized table, where each key can
+ * reside in one of two adjacent slots. Lookups are performed using the components of a key, so that a hit does not
+ * allocate any objects. When both slots are occupied, a miss replaces the primary slot.
+ *
+ * <p>
+ * Concurrent misses on the same key may end up creating multiple objects, only one of which will be retained. This is
+ * benign, as the objects are equal and callers intern them through their canonical interners.
+ *
+ * @param <T> type of cached objects
+ */
+final class InterningCache<T> {
+    /**
+     * Check whether a cached object matches the key components.
+     *
+     * @param <T> type of cached objects
+     * @param <A> type of first key component
+     * @param <B> type of second key component
+     */
+    @FunctionalInterface
+    interface Matcher<T, A, B> {
+        boolean matches(T obj, A first, B second);
+    }
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    InterningCache(final int maximumSize) {
+        checkArgument(maximumSize > 1, "Invalid maximum size %s", maximumSize);
+        final int size = Integer.highestOneBit(maximumSize - 1) << 1;
+        checkArgument(size > 0, "Maximum size %s is too large", maximumSize);
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Return the cached object matching key components, creating it if it is not present.
+     *
+     * @param hash hash code of the key
+     * @param first first key component
+     * @param second second key component
+     * @param matcher matcher of cached objects, should be a non-capturing function
+     * @param factory factory of new objects, should be a non-capturing function
+     * @return a cached object
+     */
+    <A, B> @NonNull T get(final int hash, final A first, final B second, final Matcher<T, A, B> matcher,
+            final BiFunction<A, B, @NonNull T> factory) {
+        final int primary = (hash ^ hash >>> 16) & mask;
+        final int secondary = primary ^ 1;
+
+        final T existing = slots.getAcquire(primary);
+        if (existing != null && matcher.matches(existing, first, second)) {
+            hits.increment();
+            return existing;
+        }
+        final T alternate = slots.getAcquire(secondary);
+        if (alternate != null && matcher.matches(alternate, first, second)) {
+            hits.increment();
+            return alternate;
+        }
+
+        misses.increment();
+        final T created = factory.apply(first, second);
+        if (existing == null && slots.compareAndSet(primary, null, created)
+            || alternate == null && slots.compareAndSet(secondary, null, created)) {
+            return created;
+        }
+        slots.setRelease(primary, created);
+        evictions.increment();
+        return created;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    @NonNull CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions.sum());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("capacity", capacity()).add("stats", stats()).toString();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DataTreeColdStorage} which stores list entries in direct {@link ByteBuffer}s, encoded in
+ * {@link NormalizedNodeStreamVersion#POTASSIUM} format. Entry identifiers remain on heap, as they are needed to look
+ * up the entries, all other data is decoded when the entry is accessed. The decoded form is weakly retained, so that
+ * a burst of accesses decodes the entry only once, while the heap does not hold on to it.
+ *
+ * <p>
+ * Entries are not allocated individually. They are packed into slabs of direct memory, each entry being represented
+ * by its offset and length within a slab, so that storing millions of entries does not require as many direct buffers
+ * and their associated cleaners. A slab is released once all entries stored in it become unreachable, hence replacing
+ * an entry does not release its memory immediately. Entries larger than a fraction of the slab size are allocated
+ * a buffer of their own, so that they do not waste the unused remainder of a slab.
+ */
+@Beta
+@NonNullByDefault
+public final class PotassiumColdStorage implements DataTreeColdStorage {
+    private static final Logger LOG = LoggerFactory.getLogger(PotassiumColdStorage.class);
+
+    /**
+     * Default size of a slab, in bytes.
+     */
+    public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+    private final int minimumSize;
+    private final int slabSize;
+    // Entries larger than this are allocated a dedicated buffer
+    private final int maximumSlabbedSize;
+
+    // Slab currently being filled and its read-only view handed out to entries, both guarded by 'this'. Initialized to
+    // an empty buffer, so that the first slab is allocated only when it is needed.
+    private ByteBuffer slab = ByteBuffer.allocate(0);
+    private ByteBuffer slabView = slab;
+
+    private PotassiumColdStorage(final int minimumSize, final int slabSize) {
+        this.minimumSize = minimumSize;
+        this.slabSize = slabSize;
+        maximumSlabbedSize = slabSize / 8;
+    }
+
+    /**
+     * Create a new storage, which stores entries whose serialized form occupies at least {@code minimumSize} bytes.
+     * Smaller entries are left on heap, as their off-heap form would not save enough memory to justify the cost of
+     * decoding them. Entries are stored in slabs of {@link #DEFAULT_SLAB_SIZE} bytes.
+     *
+     * @param minimumSize Minimum serialized size of an entry, in bytes
+     * @return A new storage
+     * @throws IllegalArgumentException if {@code minimumSize} is negative
+     */
+    public static PotassiumColdStorage of(final int minimumSize) {
+        return of(minimumSize, DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * Create a new storage, which stores entries whose serialized form occupies at least {@code minimumSize} bytes in
+     * slabs of {@code slabSize} bytes.
+     *
+     * @param minimumSize Minimum serialized size of an entry, in bytes
+     * @param slabSize Size of a slab, in bytes
+     * @return A new storage
+     * @throws IllegalArgumentException if {@code minimumSize} is negative or {@code slabSize} is not positive
+     */
+    public static PotassiumColdStorage of(final int minimumSize, final int slabSize) {
+        checkArgument(minimumSize >= 0, "Invalid minimum size %s", minimumSize);
+        checkArgument(slabSize > 0, "Invalid slab size %s", slabSize);
+        return new PotassiumColdStorage(minimumSize, slabSize);
+    }
+
+    @Override
+    public MapEntryNode offload(final MapEntryNode entry) {
+        if (entry instanceof ColdMapEntryNode) {
+            return entry;
+        }
+
+        final var output = ByteStreams.newDataOutput();
+        try (var nnout = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            nnout.writeNormalizedNode(entry);
+        } catch (IOException e) {
+            LOG.warn("Failed to serialize {}, retaining it on heap", entry.name(), e);
+            return entry;
+        }
+
+        final var bytes = output.toByteArray();
+        if (bytes.length < minimumSize) {
+            return entry;
+        }
+        if (bytes.length > maximumSlabbedSize) {
+            final var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).asReadOnlyBuffer();
+            return new ColdMapEntryNode(entry.name(), buffer, 0, bytes.length, entry.size());
+        }
+        return store(entry, bytes);
+    }
+
+    private synchronized ColdMapEntryNode store(final MapEntryNode entry, final byte[] bytes) {
+        if (slab.remaining() < bytes.length) {
+            slab = ByteBuffer.allocateDirect(slabSize);
+            slabView = slab.asReadOnlyBuffer();
+        }
+
+        final int offset = slab.position();
+        slab.put(bytes);
+        return new ColdMapEntryNode(entry.name(), slabView, offset, bytes.length, entry.size());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("minimumSize", minimumSize).add("slabSize", slabSize).toString();
+    }
+}
@@ -15,14 +15,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.concepts.Either;
@@ -61,16 +60,24 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
     private static final @NonNull Long INT64_0 = 0L;
     private static final byte @NonNull[] BINARY_0 = new byte[0];
 
+    // Stream-local lookup tables, their indices start after the corresponding dictionary entries
     private final List<NodeIdentifier> codedNodeIdentifiers = new ArrayList<>();
     private final List<QNameModule> codedModules = new ArrayList<>();
     private final List<String> codedStrings = new ArrayList<>();
+    private final @NonNull PotassiumDictionary dictionary;
 
     PotassiumDataInput(final DataInput input) {
+        this(input, PotassiumDictionary.EMPTY);
+    }
+
+    PotassiumDataInput(final DataInput input, final PotassiumDictionary dictionary) {
         super(input);
+        this.dictionary = requireNonNull(dictionary);
     }
 
     @Override
     public NormalizedNodeStreamVersion getVersion() {
+        // Dictionary-backed streams are structurally equivalent
         return NormalizedNodeStreamVersion.POTASSIUM;
     }
 
@@ -263,7 +270,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         final NodeIdentifier nodeId;
         try {
             nodeId = QNameFactory.getNodeIdentifier(module, localName);
-        } catch (ExecutionException e) {
+        } catch (IllegalArgumentException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QName module=" + module + " localName="
                     + localName, e);
         }
@@ -297,11 +304,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
                         + nodeHeader);
         }
 
-        try {
-            return codedNodeIdentifiers.get(index);
-        } catch (IndexOutOfBoundsException e) {
-            throw new InvalidNormalizedNodeStreamException("Invalid QName reference " + index, e);
-        }
+        return lookupNodeIdentifier(index);
     }
 
     @Override
@@ -465,7 +468,8 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         }
 
         try {
-            return codedModules.get(index);
+            final int count = dictionary.moduleCount();
+            return index < count ? dictionary.module(index) : codedModules.get(index - count);
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidNormalizedNodeStreamException("Invalid QNameModule reference " + index, e);
         }
@@ -480,7 +484,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         final QNameModule module;
         try {
             module = QNameFactory.createModule(namespace, revision);
-        } catch (UncheckedExecutionException e) {
+        } catch (IllegalArgumentException | DateTimeParseException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QNameModule ns=" + namespace + " rev=" + revision,
                 e);
         }
@@ -574,7 +578,8 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
 
     private @NonNull NodeIdentifier lookupNodeIdentifier(final int index) throws InvalidNormalizedNodeStreamException {
         try {
-            return codedNodeIdentifiers.get(index);
+            final int count = dictionary.qnameCount();
+            return index < count ? dictionary.nodeIdentifier(index) : codedNodeIdentifiers.get(index - count);
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidNormalizedNodeStreamException("Invalid QName reference " + index, e);
         }
@@ -586,7 +591,8 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
 
     private @NonNull String lookupString(final int index) throws InvalidNormalizedNodeStreamException {
         try {
-            return codedStrings.get(index);
+            final int count = dictionary.stringCount();
+            return index < count ? dictionary.string(index) : codedStrings.get(index - count);
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidNormalizedNodeStreamException("Invalid String reference " + index, e);
         }
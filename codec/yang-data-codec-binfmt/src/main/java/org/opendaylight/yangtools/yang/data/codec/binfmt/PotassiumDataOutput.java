@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 import java.io.DataOutput;
 import java.io.IOException;
@@ -66,13 +67,19 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
      */
     private final Deque<Object> stack = new ArrayDeque<>();
 
-    // Coding maps
+    // Coding maps, holding only stream-local entries. Their codes start after the corresponding dictionary entries.
     private final Map<QNameModule, Integer> moduleCodeMap = new HashMap<>();
     private final Map<String, Integer> stringCodeMap = new HashMap<>();
     private final Map<QName, Integer> qnameCodeMap = new HashMap<>();
+    private final @NonNull PotassiumDictionary dictionary;
 
     PotassiumDataOutput(final DataOutput output) {
+        this(output, PotassiumDictionary.EMPTY);
+    }
+
+    PotassiumDataOutput(final DataOutput output, final PotassiumDictionary dictionary) {
         super(output);
+        this.dictionary = requireNonNull(dictionary);
     }
 
     @Override
@@ -197,12 +204,20 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
 
     @Override
     short streamVersion() {
-        return TokenTypes.POTASSIUM_VERSION;
+        return dictionary == PotassiumDictionary.EMPTY ? TokenTypes.POTASSIUM_VERSION
+            : TokenTypes.POTASSIUM_DICTIONARY_VERSION;
+    }
+
+    @Override
+    void writeHeaderExtension() throws IOException {
+        if (dictionary != PotassiumDictionary.EMPTY) {
+            output.writeLong(dictionary.fingerprint());
+        }
     }
 
     @Override
     void writeQNameInternal(final QName qname) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code == null) {
             output.writeByte(PotassiumValue.QNAME);
             encodeQName(qname);
@@ -264,7 +279,7 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     }
 
     private void writePathArgumentQName(final QName qname, final byte typeHeader) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code != null) {
             final int val = code;
             if (val < 256) {
@@ -529,7 +544,7 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     // Encode a QName-based (i.e. NodeIdentifier*) node with a particular QName. This will either result in a QName
     // definition, or a reference, where this is encoded along with the node type.
     private void writeQNameNode(final int type, final @NonNull QName qname) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code == null) {
             output.writeByte(type | PotassiumNode.ADDR_DEFINE);
             encodeQName(qname);
@@ -552,16 +567,16 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     // Encode a QName using lookup tables, resuling either in a reference to an existing entry, or emitting two
     // String values.
     private void encodeQName(final @NonNull QName qname) throws IOException {
-        final Integer prev = qnameCodeMap.put(qname, qnameCodeMap.size());
+        final Integer prev = qnameCodeMap.put(qname, dictionary.qnameCount() + qnameCodeMap.size());
         if (prev != null) {
             throw new IOException("Internal coding error: attempted to re-encode " + qname + "%s already encoded as "
                     + prev);
         }
 
         final QNameModule module = qname.getModule();
-        final Integer code = moduleCodeMap.get(module);
+        final Integer code = lookupModule(module);
         if (code == null) {
-            moduleCodeMap.put(module, moduleCodeMap.size());
+            moduleCodeMap.put(module, dictionary.moduleCount() + moduleCodeMap.size());
             encodeString(module.getNamespace().toString());
             final Optional<Revision> rev = module.getRevision();
             if (rev.isPresent()) {
@@ -578,15 +593,30 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     // Encode a String using lookup tables, resulting either in a reference to an existing entry, or emitting as
     // a literal value
     private void encodeString(final @NonNull String str) throws IOException {
-        final Integer code = stringCodeMap.get(str);
+        final Integer code = lookupString(str);
         if (code != null) {
             writeRef(code);
         } else {
-            stringCodeMap.put(str, stringCodeMap.size());
+            stringCodeMap.put(str, dictionary.stringCount() + stringCodeMap.size());
             writeValue(str);
         }
     }
 
+    private Integer lookupModule(final QNameModule module) {
+        final Integer code = dictionary.moduleCode(module);
+        return code != null ? code : moduleCodeMap.get(module);
+    }
+
+    private Integer lookupQName(final QName qname) {
+        final Integer code = dictionary.qnameCode(qname);
+        return code != null ? code : qnameCodeMap.get(qname);
+    }
+
+    private Integer lookupString(final String str) {
+        final Integer code = dictionary.stringCode(str);
+        return code != null ? code : stringCodeMap.get(str);
+    }
+
     // Write a QName with a lookup table reference. This is a combination of asserting the value is a QName plus
     // the effects of writeRef()
     private void writeQNameRef(final int code) throws IOException {
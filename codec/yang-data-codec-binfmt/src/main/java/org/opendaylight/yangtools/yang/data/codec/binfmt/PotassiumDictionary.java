@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IdentityEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaTreeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+
+/**
+ * A dictionary of {@link QNameModule}s, {@link QName}s and {@link String}s shared between the writer and the reader of
+ * a {@link NormalizedNodeStreamVersion#POTASSIUM} stream. Streams produced by {@link #newDataOutput(DataOutput)} refer
+ * to dictionary entries by their index, so that these are never emitted as literals, which helps with streams carrying
+ * small amounts of data.
+ *
+ * <p>
+ * A dictionary is derived deterministically from an {@link EffectiveModelContext}, hence two parties which have the
+ * same set of models produce equal dictionaries. Each stream records the {@link #fingerprint()} of the dictionary it
+ * was written with and {@link #newDataInput(DataInput)} refuses to decode streams written with a different
+ * dictionary.
+ */
+@Beta
+public final class PotassiumDictionary implements Immutable {
+    static final @NonNull PotassiumDictionary EMPTY = new PotassiumDictionary(ImmutableList.of(), ImmutableList.of(),
+        ImmutableList.of());
+
+    private final @NonNull ImmutableList<QNameModule> modules;
+    private final @NonNull ImmutableList<NodeIdentifier> nodeIdentifiers;
+    private final @NonNull ImmutableList<String> strings;
+    private final @NonNull ImmutableMap<QNameModule, Integer> moduleCodes;
+    private final @NonNull ImmutableMap<QName, Integer> qnameCodes;
+    private final @NonNull ImmutableMap<String, Integer> stringCodes;
+    private final long fingerprint;
+
+    private PotassiumDictionary(final ImmutableList<QNameModule> modules, final ImmutableList<QName> qnames,
+            final ImmutableList<String> strings) {
+        this.modules = requireNonNull(modules);
+        this.strings = requireNonNull(strings);
+        nodeIdentifiers = qnames.stream().map(NodeIdentifier::create).collect(ImmutableList.toImmutableList());
+        moduleCodes = indexOf(modules);
+        qnameCodes = indexOf(qnames);
+        stringCodes = indexOf(strings);
+
+        final Hasher hasher = Hashing.farmHashFingerprint64().newHasher();
+        hasher.putInt(modules.size());
+        for (var module : modules) {
+            hasher.putString(module.getNamespace().toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+            module.getRevision().ifPresent(rev -> hasher.putString(rev.toString(), StandardCharsets.UTF_8));
+            hasher.putByte((byte) 0);
+        }
+        hasher.putInt(qnames.size());
+        for (var qname : qnames) {
+            hasher.putInt(moduleCodes.get(qname.getModule()))
+                .putString(qname.getLocalName(), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        hasher.putInt(strings.size());
+        for (var str : strings) {
+            hasher.putString(str, StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        fingerprint = hasher.hash().asLong();
+    }
+
+    /**
+     * Create a dictionary for specified {@link EffectiveModelContext}. The dictionary contains all modules, the QNames
+     * of all schema tree nodes and identities, and the local names of those QNames as well as names of all bits.
+     *
+     * @param modelContext an {@link EffectiveModelContext}
+     * @return A new dictionary
+     * @throws NullPointerException if {@code modelContext} is {@code null}
+     */
+    public static @NonNull PotassiumDictionary of(final EffectiveModelContext modelContext) {
+        final var modules = new TreeSet<>(modelContext.getModuleStatements().keySet());
+        final var qnames = new TreeSet<QName>();
+        final var strings = new TreeSet<String>();
+        for (var module : modelContext.getModuleStatements().values()) {
+            collectEntries(module, qnames, strings);
+        }
+        for (var qname : qnames) {
+            modules.add(qname.getModule());
+            strings.add(qname.getLocalName());
+        }
+        return new PotassiumDictionary(ImmutableList.copyOf(modules), ImmutableList.copyOf(qnames),
+            ImmutableList.copyOf(strings));
+    }
+
+    /**
+     * Return the fingerprint of this dictionary. Dictionaries with equal contents have the same fingerprint.
+     *
+     * @return the fingerprint of this dictionary
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Create a new {@link NormalizedNodeDataOutput} writing a stream which refers to this dictionary.
+     *
+     * @param output the DataOutput to write to
+     * @return a new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if {@code output} is {@code null}
+     */
+    public @NonNull NormalizedNodeDataOutput newDataOutput(final @NonNull DataOutput output) {
+        return new PotassiumDataOutput(output, this);
+    }
+
+    /**
+     * Create a new {@link NormalizedNodeDataInput} reading from the given input. Unlike
+     * {@link NormalizedNodeDataInput#newDataInput(DataInput)}, this method accepts also streams written by
+     * {@link #newDataOutput(DataOutput)} of a dictionary with the same {@link #fingerprint()}.
+     *
+     * @param input the DataInput to read from
+     * @return a new {@link NormalizedNodeDataInput} instance
+     * @throws InvalidNormalizedNodeStreamException if the stream version is not supported or the stream refers to
+     *                                              a different dictionary
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if {@code input} is {@code null}
+     */
+    public @NonNull NormalizedNodeDataInput newDataInput(final @NonNull DataInput input) throws IOException {
+        return new VersionedNormalizedNodeDataInput(input, this).delegate();
+    }
+
+    int moduleCount() {
+        return modules.size();
+    }
+
+    int qnameCount() {
+        return nodeIdentifiers.size();
+    }
+
+    int stringCount() {
+        return strings.size();
+    }
+
+    @Nullable Integer moduleCode(final QNameModule module) {
+        return moduleCodes.get(module);
+    }
+
+    @Nullable Integer qnameCode(final QName qname) {
+        return qnameCodes.get(qname);
+    }
+
+    @Nullable Integer stringCode(final String str) {
+        return stringCodes.get(str);
+    }
+
+    @NonNull QNameModule module(final int index) {
+        return modules.get(index);
+    }
+
+    @NonNull NodeIdentifier nodeIdentifier(final int index) {
+        return nodeIdentifiers.get(index);
+    }
+
+    @NonNull String string(final int index) {
+        return strings.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("fingerprint", String.format("%016x", fingerprint))
+            .add("modules", modules.size()).add("qnames", nodeIdentifiers.size()).add("strings", strings.size())
+            .toString();
+    }
+
+    private static void collectEntries(final EffectiveStatement<?, ?> stmt, final Set<QName> qnames,
+            final Set<String> strings) {
+        if (stmt instanceof SchemaTreeEffectiveStatement<?> schemaTree) {
+            qnames.add(schemaTree.argument());
+        } else if (stmt instanceof IdentityEffectiveStatement identity) {
+            qnames.add(identity.argument());
+        }
+        if (stmt instanceof TypedDataSchemaNode typed && typed.getType() instanceof BitsTypeDefinition bits) {
+            for (var bit : bits.getBits()) {
+                strings.add(bit.getName());
+            }
+        }
+        for (var substmt : stmt.effectiveSubstatements()) {
+            collectEntries(substmt, qnames, strings);
+        }
+    }
+
+    private static <T> @NonNull ImmutableMap<T, Integer> indexOf(final Collection<T> items) {
+        final var builder = ImmutableMap.<T, Integer>builderWithExpectedSize(items.size());
+        int code = 0;
+        for (var item : items) {
+            builder.put(item, code++);
+        }
+        return builder.build();
+    }
+}
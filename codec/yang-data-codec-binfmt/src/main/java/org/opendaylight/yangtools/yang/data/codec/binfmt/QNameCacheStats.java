@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheStats;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Statistics of the process-wide caches used to intern {@link org.opendaylight.yangtools.yang.common.QNameModule}s and
+ * {@link org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier}s decoded from
+ * {@link NormalizedNodeDataInput}s. Reported statistics track hits, misses and evictions, all other fields are zero.
+ */
+@Beta
+public final class QNameCacheStats {
+    private QNameCacheStats() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Return a snapshot of the statistics of the {@code QNameModule} cache.
+     *
+     * @return A {@link CacheStats} snapshot
+     */
+    public static @NonNull CacheStats modules() {
+        return QNameFactory.moduleStats();
+    }
+
+    /**
+     * Return a snapshot of the statistics of the {@code NodeIdentifier} cache.
+     *
+     * @return A {@link CacheStats} snapshot
+     */
+    public static @NonNull CacheStats nodeIdentifiers() {
+        return QNameFactory.nodeIdentifierStats();
+    }
+}
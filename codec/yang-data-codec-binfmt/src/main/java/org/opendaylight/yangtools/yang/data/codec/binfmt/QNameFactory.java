@@ -9,14 +9,11 @@ package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.cache.CacheStats;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
-import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.Revision;
@@ -24,80 +21,22 @@ import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 
 final class QNameFactory {
-    private static final class StringQName implements Immutable {
-        private final @NonNull String localName;
-        private final @NonNull String namespace;
-        private final @Nullable String revision;
-
-        StringQName(final String localName, final String namespace, final String revision) {
-            this.localName = requireNonNull(localName);
-            this.namespace = requireNonNull(namespace);
-            this.revision = revision;
+    /**
+     * A {@link QNameModule} along with the strings it was created from, so that lookups do not need to allocate.
+     */
+    private record ModuleEntry(@NonNull String namespace, @Nullable String revision, @NonNull QNameModule module) {
+        ModuleEntry {
+            requireNonNull(namespace);
+            requireNonNull(module);
         }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(localName, namespace, revision);
+        static @NonNull ModuleEntry of(final String namespace, final @Nullable String revision) {
+            return new ModuleEntry(namespace, revision,
+                QNameModule.create(XMLNamespace.of(namespace), Revision.ofNullable(revision)).intern());
         }
 
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof StringQName other && localName.equals(other.localName)
-                && namespace.equals(other.namespace) && Objects.equals(revision, other.revision);
-        }
-
-        QName toQName() {
-            return revision != null ? QName.create(namespace, revision, localName) : QName.create(namespace, localName);
-        }
-    }
-
-    private static final class ModuleQName implements Immutable {
-        private final @NonNull QNameModule module;
-        private final @NonNull String localName;
-
-        ModuleQName(final QNameModule module, final String localName) {
-            this.module = requireNonNull(module);
-            this.localName = requireNonNull(localName);
-        }
-
-        @Override
-        public int hashCode() {
-            return 31 * module.hashCode() + localName.hashCode();
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof ModuleQName other && localName.equals(other.localName)
-                && module.equals(other.module);
-        }
-
-        QName toQName() {
-            return QName.create(module, localName);
-        }
-    }
-
-    private static final class StringModule implements Immutable {
-        private final @NonNull String namespace;
-        private final @Nullable String revision;
-
-        StringModule(final String namespace, final String revision) {
-            this.namespace = requireNonNull(namespace);
-            this.revision = revision;
-        }
-
-        @Override
-        public int hashCode() {
-            return 31 * namespace.hashCode() + Objects.hashCode(revision);
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof StringModule other && namespace.equals(other.namespace)
-                && Objects.equals(revision, other.revision);
-        }
-
-        QNameModule toQNameModule() {
-            return QNameModule.create(XMLNamespace.of(namespace), Revision.ofNullable(revision));
+        boolean matches(final String otherNamespace, final @Nullable String otherRevision) {
+            return namespace.equals(otherNamespace) && Objects.equals(revision, otherRevision);
         }
     }
 
@@ -106,53 +45,58 @@ final class QNameFactory {
     private static final int MAX_MODULE_CACHE_SIZE = Integer.getInteger(
         "org.opendaylight.controller.cluster.datastore.node.utils.module-cache.max-size", 2000);
 
-    private static final LoadingCache<StringQName, QName> STRING_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<StringQName, QName>() {
-                @Override
-                public QName load(final StringQName key) {
-                    return key.toQName().intern();
-                }
-            });
-    private static final LoadingCache<ModuleQName, QName> QNAME_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<ModuleQName, QName>() {
-                @Override
-                public QName load(final ModuleQName key) {
-                    return key.toQName().intern();
-                }
-            });
-    private static final LoadingCache<StringModule, QNameModule> MODULE_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_MODULE_CACHE_SIZE).weakValues().build(new CacheLoader<StringModule, QNameModule>() {
-                @Override
-                public QNameModule load(final StringModule key) {
-                    return key.toQNameModule().intern();
-                }
-            });
-    private static final LoadingCache<ModuleQName, NodeIdentifier> NODEID_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<ModuleQName, NodeIdentifier>() {
-                @Override
-                public NodeIdentifier load(final ModuleQName key) throws ExecutionException {
-                    return NodeIdentifier.create(QNAME_CACHE.get(key));
-                }
-            });
+    private static final InterningCache<ModuleEntry> MODULE_CACHE = new InterningCache<>(MAX_MODULE_CACHE_SIZE);
+    private static final InterningCache<NodeIdentifier> NODEID_CACHE = new InterningCache<>(MAX_QNAME_CACHE_SIZE);
 
     private QNameFactory() {
 
     }
 
-    static QName create(final String localName, final String namespace, final @Nullable String revision) {
-        return STRING_CACHE.getUnchecked(new StringQName(localName, namespace, revision));
+    static @NonNull QName create(final String localName, final String namespace, final @Nullable String revision) {
+        return QName.create(createModule(namespace, revision), localName).intern();
+    }
+
+    /**
+     * Return a {@link QNameModule} for specified namespace and revision.
+     *
+     * @param namespace namespace string
+     * @param revision optional revision string
+     * @return A QNameModule
+     * @throws IllegalArgumentException if {@code namespace} is not valid
+     * @throws DateTimeParseException if {@code revision} is not valid
+     */
+    static @NonNull QNameModule createModule(final String namespace, final @Nullable String revision) {
+        return MODULE_CACHE.get(31 * namespace.hashCode() + Objects.hashCode(revision), namespace, revision,
+            ModuleEntry::matches, ModuleEntry::of).module();
+    }
+
+    /**
+     * Return a {@link NodeIdentifier} for specified module and local name.
+     *
+     * @param module a QNameModule
+     * @param localName local name string
+     * @return A NodeIdentifier
+     * @throws IllegalArgumentException if {@code localName} is not valid
+     */
+    static @NonNull NodeIdentifier getNodeIdentifier(final QNameModule module, final String localName) {
+        return NODEID_CACHE.get(31 * module.hashCode() + localName.hashCode(), module, localName,
+            QNameFactory::matches, QNameFactory::createNodeIdentifier);
+    }
+
+    static @NonNull CacheStats moduleStats() {
+        return MODULE_CACHE.stats();
     }
 
-    static QName create(final QNameModule module, final String localName) {
-        return QNAME_CACHE.getUnchecked(new ModuleQName(module, localName));
+    static @NonNull CacheStats nodeIdentifierStats() {
+        return NODEID_CACHE.stats();
     }
 
-    static QNameModule createModule(final String namespace, final @Nullable String revision) {
-        return MODULE_CACHE.getUnchecked(new StringModule(namespace, revision));
+    private static boolean matches(final NodeIdentifier nodeId, final QNameModule module, final String localName) {
+        final var qname = nodeId.getNodeType();
+        return localName.equals(qname.getLocalName()) && module.equals(qname.getModule());
     }
 
-    static @NonNull NodeIdentifier getNodeIdentifier(final QNameModule module, final String localName)
-            throws ExecutionException {
-        return NODEID_CACHE.get(new ModuleQName(module, localName));
+    private static @NonNull NodeIdentifier createNodeIdentifier(final QNameModule module, final String localName) {
+        return NodeIdentifier.create(QName.create(module, localName).intern());
     }
 }
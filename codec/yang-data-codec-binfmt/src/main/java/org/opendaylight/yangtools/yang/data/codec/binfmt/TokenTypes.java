@@ -30,6 +30,12 @@ final class TokenTypes {
      * and AugmentationIdentifiers are not preserved.
      */
     static final short POTASSIUM_VERSION = 5;
+    /**
+     * Potassium version with an external dictionary. Structurally matches {@link #POTASSIUM_VERSION}, but the header
+     * is followed by the fingerprint of a {@link PotassiumDictionary} and the lookup tables are pre-populated from that
+     * dictionary.
+     */
+    static final short POTASSIUM_DICTIONARY_VERSION = 6;
 
     private TokenTypes() {
         // Utility class
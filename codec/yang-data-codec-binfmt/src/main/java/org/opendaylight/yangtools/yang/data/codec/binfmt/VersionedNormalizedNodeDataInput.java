@@ -11,13 +11,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.DataInput;
 import java.io.IOException;
+import org.eclipse.jdt.annotation.Nullable;
 
 final class VersionedNormalizedNodeDataInput extends ForwardingNormalizedNodeDataInput {
+    private final @Nullable PotassiumDictionary dictionary;
+
     private DataInput input;
     private NormalizedNodeDataInput delegate;
 
     VersionedNormalizedNodeDataInput(final DataInput input) {
+        this(input, null);
+    }
+
+    VersionedNormalizedNodeDataInput(final DataInput input, final @Nullable PotassiumDictionary dictionary) {
         this.input = requireNonNull(input);
+        this.dictionary = dictionary;
     }
 
     @Override
@@ -35,6 +43,17 @@ final class VersionedNormalizedNodeDataInput extends ForwardingNormalizedNodeDat
         final NormalizedNodeDataInput ret = switch (version) {
             case TokenTypes.MAGNESIUM_VERSION -> new MagnesiumDataInput(input);
             case TokenTypes.POTASSIUM_VERSION -> new PotassiumDataInput(input);
+            case TokenTypes.POTASSIUM_DICTIONARY_VERSION -> {
+                final long fingerprint = input.readLong();
+                if (dictionary == null) {
+                    throw defunct("Stream requires dictionary %016x", fingerprint);
+                }
+                if (fingerprint != dictionary.fingerprint()) {
+                    throw defunct("Stream requires dictionary %016x, %016x provided", fingerprint,
+                        dictionary.fingerprint());
+                }
+                yield new PotassiumDataInput(input, dictionary);
+            }
             default -> throw defunct("Unhandled stream version %s", version);
         };
 
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class PotassiumColdStorageTest {
+    private static final QName STATS = QName.create("foo", "stats");
+    private static final QName ENTRY = QName.create(STATS, "entry");
+    private static final QName NAME = QName.create(STATS, "name");
+    private static final QName PACKETS = QName.create(STATS, "packets");
+    private static final QName BYTES = QName.create(STATS, "bytes");
+    private static final YangInstanceIdentifier ENTRY_PATH = YangInstanceIdentifier.of(STATS, ENTRY);
+
+    private static EffectiveModelContext CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container stats {
+                list entry {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf packets {
+                    type uint32;
+                  }
+                  leaf bytes {
+                    type uint32;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @Test
+    void testOffload() {
+        final var entry = entry("eth0", 1);
+        final var cold = PotassiumColdStorage.of(0).offload(entry);
+        assertInstanceOf(ColdMapEntryNode.class, cold);
+        assertEquals(entry, cold);
+        assertEquals(cold, entry);
+        assertEquals(entry.hashCode(), cold.hashCode());
+        assertEquals(entry.size(), cold.size());
+        assertEquals(entry.childByArg(new NodeIdentifier(PACKETS)), cold.childByArg(new NodeIdentifier(PACKETS)));
+
+        // Already cold entries are retained
+        assertSame(cold, PotassiumColdStorage.of(0).offload(cold));
+        // Small entries are left on heap
+        assertSame(entry, PotassiumColdStorage.of(Integer.MAX_VALUE).offload(entry));
+    }
+
+    @Test
+    void testDataTree() throws DataValidationFailedException {
+        final DataTree dataTree = new InMemoryDataTreeFactory().create(
+            DataTreeConfiguration.builder(TreeType.OPERATIONAL).setColdStorage(PotassiumColdStorage.of(0)).build(),
+            CONTEXT);
+
+        var mod = dataTree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(STATS), Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(STATS))
+            .withChild(Builders.mapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(ENTRY))
+                .withChild(entry("eth0", 1))
+                .withChild(entry("eth1", 2))
+                .build())
+            .build());
+        commit(dataTree, mod);
+
+        var list = readList(dataTree);
+        assertInstanceOf(ColdMapEntryNode.class, list.childByArg(entryId("eth0")));
+        assertEquals(entry("eth1", 2), list.childByArg(entryId("eth1")));
+
+        // Modify a leaf inside a cold entry: the entry is brought back to heap
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(ENTRY_PATH.node(entryId("eth0")).node(PACKETS), ImmutableNodes.leafNode(PACKETS, Uint32.TEN));
+        commit(dataTree, mod);
+
+        list = readList(dataTree);
+        final var eth0 = list.childByArg(entryId("eth0"));
+        assertFalse(eth0 instanceof ColdMapEntryNode);
+        assertEquals(ImmutableNodes.leafNode(PACKETS, Uint32.TEN), eth0.childByArg(new NodeIdentifier(PACKETS)));
+        assertEquals(ImmutableNodes.leafNode(BYTES, Uint32.valueOf(1500)), eth0.childByArg(new NodeIdentifier(BYTES)));
+        assertInstanceOf(ColdMapEntryNode.class, list.childByArg(entryId("eth1")));
+        assertEquals(entry("eth1", 2), list.childByArg(entryId("eth1")));
+
+        // Write the entry as a whole: it is offloaded again
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(ENTRY_PATH.node(entryId("eth0")), entry("eth0", 3));
+        commit(dataTree, mod);
+
+        final var written = readList(dataTree).childByArg(entryId("eth0"));
+        assertInstanceOf(ColdMapEntryNode.class, written);
+        assertEquals(entry("eth0", 3), written);
+    }
+
+    @Test
+    void testOffloadOnCommit() throws DataValidationFailedException {
+        final var offloads = new AtomicInteger();
+        final var dataTree = createDataTree(offloads);
+
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(STATS), stats(entry("eth0", 1), entry("eth1", 2)));
+        assertEquals(entry("eth0", 1), mod.readNode(ENTRY_PATH.node(entryId("eth0"))).orElseThrow());
+        mod.ready();
+        dataTree.validate(mod);
+
+        // Neither reads nor candidates which are not committed touch the storage
+        final var aborted = dataTree.prepare(mod);
+        assertEquals(entry("eth0", 1), aborted.getRootNode()
+            .getModifiedChild(new NodeIdentifier(STATS))
+            .getModifiedChild(new NodeIdentifier(ENTRY))
+            .getModifiedChild(entryId("eth0"))
+            .getDataAfter());
+        assertEquals(0, offloads.get());
+
+        dataTree.commit(dataTree.prepare(mod));
+        assertEquals(2, offloads.get());
+        final var list = readList(dataTree);
+        assertInstanceOf(ColdMapEntryNode.class, list.childByArg(entryId("eth0")));
+        assertInstanceOf(ColdMapEntryNode.class, list.childByArg(entryId("eth1")));
+    }
+
+    @Test
+    void testChainedCandidates() throws DataValidationFailedException {
+        final var offloads = new AtomicInteger();
+        final var dataTree = createDataTree(offloads);
+
+        var mod = dataTree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(STATS), stats(entry("eth0", 1)));
+        commit(dataTree, mod);
+        assertEquals(1, offloads.get());
+
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(ENTRY_PATH.node(entryId("eth1")), entry("eth1", 2));
+        mod.ready();
+        dataTree.validate(mod);
+        final var first = dataTree.prepare(mod);
+
+        // Prepared on top of the first candidate, which is not offloaded
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(ENTRY_PATH.node(entryId("eth2")), entry("eth2", 3));
+        mod.ready();
+        first.validate(mod);
+        final var second = first.prepare(mod);
+        assertEquals(1, offloads.get());
+
+        dataTree.commit(first);
+        assertEquals(2, offloads.get());
+        dataTree.commit(second);
+        assertEquals(3, offloads.get());
+
+        final var list = readList(dataTree);
+        assertEquals(3, list.size());
+        for (int i = 0; i < 3; ++i) {
+            final var entry = list.childByArg(entryId("eth" + i));
+            assertInstanceOf(ColdMapEntryNode.class, entry);
+            assertEquals(entry("eth" + i, i + 1), entry);
+        }
+    }
+
+    @Test
+    void testSlabs() {
+        // Small slabs, so that entries span multiple slabs and some are allocated dedicated buffers
+        final var storage = PotassiumColdStorage.of(0, 512);
+        final var cold = new ArrayList<MapEntryNode>();
+        for (int i = 0; i < 100; ++i) {
+            cold.add(assertInstanceOf(ColdMapEntryNode.class, storage.offload(entry("eth" + i, i))));
+        }
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(entry("eth" + i, i), cold.get(i));
+        }
+
+        final var large = entry("x".repeat(1024), 1);
+        assertEquals(large, assertInstanceOf(ColdMapEntryNode.class, storage.offload(large)));
+    }
+
+    private static DataTree createDataTree(final AtomicInteger offloads) {
+        final var storage = PotassiumColdStorage.of(0);
+        return new InMemoryDataTreeFactory().create(DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setColdStorage((DataTreeColdStorage) entry -> {
+                offloads.incrementAndGet();
+                return storage.offload(entry);
+            })
+            .build(), CONTEXT);
+    }
+
+    private static void commit(final DataTree dataTree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    private static MapNode readList(final DataTree dataTree) {
+        return assertInstanceOf(MapNode.class, dataTree.takeSnapshot().readNode(ENTRY_PATH).orElseThrow());
+    }
+
+    private static NodeIdentifierWithPredicates entryId(final String name) {
+        return NodeIdentifierWithPredicates.of(ENTRY, NAME, name);
+    }
+
+    private static ContainerNode stats(final MapEntryNode... entries) {
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(STATS))
+            .withChild(Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ENTRY)).withValue(List.of(entries))
+                .build())
+            .build();
+    }
+
+    private static MapEntryNode entry(final String name, final int packets) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(entryId(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(PACKETS, Uint32.valueOf(packets)))
+            .withChild(ImmutableNodes.leafNode(BYTES, Uint32.valueOf(packets * 1500L)))
+            .build();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class PotassiumDictionaryTest {
+    private static final QName STATS = QName.create("foo", "stats");
+    private static final QName ENTRY = QName.create(STATS, "entry");
+    private static final QName NAME = QName.create(STATS, "name");
+    private static final QName PACKETS = QName.create(STATS, "packets");
+    private static final QName FLAGS = QName.create(STATS, "flags");
+    private static final QName UNKNOWN = QName.create("bar", "unknown");
+
+    private static EffectiveModelContext CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container stats {
+                list entry {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf packets {
+                    type uint32;
+                  }
+                  leaf flags {
+                    type bits {
+                      bit up;
+                      bit running;
+                    }
+                  }
+                }
+              }
+            }""");
+    }
+
+    @Test
+    void testDeterministic() {
+        final var first = PotassiumDictionary.of(CONTEXT);
+        final var second = PotassiumDictionary.of(YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container stats {
+                list entry {
+                  key name;
+                  leaf flags {
+                    type bits {
+                      bit running;
+                      bit up;
+                    }
+                  }
+                  leaf packets {
+                    type uint32;
+                  }
+                  leaf name {
+                    type string;
+                  }
+                }
+              }
+            }"""));
+        assertEquals(first.fingerprint(), second.fingerprint());
+        assertNotEquals(PotassiumDictionary.EMPTY.fingerprint(), first.fingerprint());
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final var dictionary = PotassiumDictionary.of(CONTEXT);
+        final var node = stats();
+
+        final var plain = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(plain)) {
+            out.writeNormalizedNode(node);
+        }
+        final var dict = ByteStreams.newDataOutput();
+        try (var out = dictionary.newDataOutput(dict)) {
+            out.writeNormalizedNode(node);
+            out.writeYangInstanceIdentifier(YangInstanceIdentifier.of(STATS, ENTRY, UNKNOWN));
+        }
+
+        final byte[] bytes = dict.toByteArray();
+        assertTrue(bytes.length < plain.toByteArray().length);
+
+        final var in = dictionary.newDataInput(ByteStreams.newDataInput(bytes));
+        assertEquals(NormalizedNodeStreamVersion.POTASSIUM, in.getVersion());
+        assertEquals(node, in.readNormalizedNode());
+        assertEquals(YangInstanceIdentifier.of(STATS, ENTRY, UNKNOWN), in.readYangInstanceIdentifier());
+
+        // Plain streams are accepted, too
+        assertEquals(node, dictionary.newDataInput(ByteStreams.newDataInput(plain.toByteArray())).readNormalizedNode());
+    }
+
+    @Test
+    void testMismatchedDictionary() throws IOException {
+        final var dict = ByteStreams.newDataOutput();
+        try (var out = PotassiumDictionary.of(CONTEXT).newDataOutput(dict)) {
+            out.writeNormalizedNode(stats());
+        }
+        final byte[] bytes = dict.toByteArray();
+
+        final var other = PotassiumDictionary.of(YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container stats;
+            }"""));
+        assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> other.newDataInput(ByteStreams.newDataInput(bytes)));
+        assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(bytes)));
+    }
+
+    private static ContainerNode stats() {
+        final var entries = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ENTRY));
+        for (int i = 0; i < 3; ++i) {
+            final var name = "eth" + i;
+            entries.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, NAME, name))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(PACKETS, Uint32.valueOf(i)))
+                .withChild(ImmutableNodes.leafNode(FLAGS, ImmutableSet.of("up", "running")))
+                .build());
+        }
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(STATS))
+            .withChild(entries.build())
+            .build();
+    }
+}
@@ -10,7 +10,10 @@ package org.opendaylight.yangtools.yang.data.codec.binfmt;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.format.DateTimeParseException;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.Revision;
@@ -27,6 +30,43 @@ class QNameFactoryTest {
         assertSame(created, cached);
     }
 
+    @Test
+    void testStats() {
+        final var module = QNameFactory.createModule("stats", "2023-01-01");
+        final var before = QNameCacheStats.nodeIdentifiers();
+        final var nodeId = QNameFactory.getNodeIdentifier(module, "foo");
+        assertSame(nodeId, QNameFactory.getNodeIdentifier(module, "foo"));
+        final var after = QNameCacheStats.nodeIdentifiers().minus(before);
+        assertTrue(after.hitCount() >= 1);
+        assertTrue(after.missCount() >= 1);
+
+        final var modulesBefore = QNameCacheStats.modules();
+        assertSame(module, QNameFactory.createModule("stats", "2023-01-01"));
+        assertTrue(QNameCacheStats.modules().minus(modulesBefore).hitCount() >= 1);
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(DateTimeParseException.class, () -> QNameFactory.createModule("foo", "bad"));
+        final var module = QNameFactory.createModule("foo", null);
+        assertThrows(IllegalArgumentException.class, () -> QNameFactory.getNodeIdentifier(module, "bad name"));
+    }
+
+    @Test
+    void testEviction() {
+        final var cache = new InterningCache<String>(2);
+        assertEquals(2, cache.capacity());
+        assertSame(cache.get(0, "a", "", (obj, first, second) -> obj.equals(first), String::concat),
+            cache.get(0, "a", "", (obj, first, second) -> obj.equals(first), String::concat));
+        cache.get(0, "b", "", (obj, first, second) -> obj.equals(first), String::concat);
+        cache.get(0, "c", "", (obj, first, second) -> obj.equals(first), String::concat);
+
+        final var stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(3, stats.missCount());
+        assertEquals(1, stats.evictionCount());
+    }
+
     private static QName lookup(final QName qname) {
         return QNameFactory.create(qname.getLocalName(), qname.getNamespace().toString(),
             qname.getRevision().map(Revision::toString).orElse(null));
@@ -21,11 +21,13 @@ import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 final class IdentityrefJSONCodec implements JSONCodec<QName> {
     private final @NonNull EffectiveModelContext context;
+    private final @NonNull JSONCodecFactory codecs;
     private final @NonNull QNameModule parentModule;
 
-    IdentityrefJSONCodec(final EffectiveModelContext context, final QNameModule parentModule) {
-        this.context = requireNonNull(context);
+    IdentityrefJSONCodec(final JSONCodecFactory codecs, final QNameModule parentModule) {
+        this.codecs = requireNonNull(codecs);
         this.parentModule = requireNonNull(parentModule);
+        context = codecs.getEffectiveModelContext();
     }
 
     @Override
@@ -54,6 +56,15 @@ final class IdentityrefJSONCodec implements JSONCodec<QName> {
      */
     @Override
     public void writeValue(final JsonWriter writer, final QName value) throws IOException {
+        if (writer instanceof Utf8JsonWriter utf8) {
+            final var encoded = codecs.memberName(value).encodedQualifiedName();
+            if (encoded == null) {
+                throw new IllegalArgumentException("Cannot find module for " + value.getModule());
+            }
+            utf8.value(encoded);
+            return;
+        }
+
         writer.value(QNameCodecUtil.encodeQName(value, uri -> context.findModuleStatement(uri)
             .map(module -> module.argument().getLocalName())
             .orElseThrow(() -> new IllegalArgumentException("Cannot find module for " + uri))));
@@ -11,6 +11,7 @@ import static com.google.common.base.Verify.verifyNotNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -94,6 +95,7 @@ public abstract sealed class JSONCodecFactory extends AbstractCodecFactory<JSONC
         }
     }
 
+    private final ConcurrentHashMap<QName, JSONMemberName> memberNames = new ConcurrentHashMap<>();
     private final @NonNull JSONInstanceIdentifierCodec iidCodec;
 
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR",
@@ -137,7 +139,7 @@ public abstract sealed class JSONCodecFactory extends AbstractCodecFactory<JSONC
 
     @Override
     protected final JSONCodec<QName> identityRefCodec(final IdentityrefTypeDefinition type, final QNameModule module) {
-        return new IdentityrefJSONCodec(getEffectiveModelContext(), module);
+        return new IdentityrefJSONCodec(this, module);
     }
 
     @Override
@@ -206,6 +208,18 @@ public abstract sealed class JSONCodecFactory extends AbstractCodecFactory<JSONC
         return NullJSONCodec.INSTANCE;
     }
 
+    /**
+     * Return the {@link JSONMemberName} corresponding to a {@link QName}.
+     *
+     * @param qname QName to look up
+     * @return A JSONMemberName
+     */
+    final @NonNull JSONMemberName memberName(final QName qname) {
+        final var existing = memberNames.get(qname);
+        return existing != null ? existing
+            : memberNames.computeIfAbsent(qname, key -> JSONMemberName.of(getEffectiveModelContext(), key));
+    }
+
     // Returns a one-off factory for the purposes of normalizing an anydata tree.
     //
     // FIXME: 7.0.0: this is really ugly, as we should be able to tell if the new context is the same as ours and
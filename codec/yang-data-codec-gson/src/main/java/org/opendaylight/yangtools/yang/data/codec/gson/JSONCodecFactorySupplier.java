@@ -10,15 +10,20 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.base.Stopwatch;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.data.util.codec.CodecCache;
+import org.opendaylight.yangtools.yang.data.util.codec.CodecWarmup;
+import org.opendaylight.yangtools.yang.data.util.codec.ConcurrentCodecCache;
 import org.opendaylight.yangtools.yang.data.util.codec.LazyCodecCache;
 import org.opendaylight.yangtools.yang.data.util.codec.NoopCodecCache;
 import org.opendaylight.yangtools.yang.data.util.codec.PrecomputedCodecCache;
@@ -166,6 +171,31 @@ public enum JSONCodecFactorySupplier {
         return Optional.ofNullable(precomputed.getIfPresent(context));
     }
 
+    /**
+     * Asynchronously pre-compute a thread-safe, eagerly-caching {@link JSONCodecFactory} for an
+     * {@link EffectiveModelContext}. Codecs are created concurrently by tasks executing in specified pool. Once the
+     * returned future completes, the factory is available through {@link #getPrecomputed(EffectiveModelContext)} and
+     * {@link #getPrecomputedIfAvailable(EffectiveModelContext)}.
+     *
+     * <p>
+     * This method is useful when a new EffectiveModelContext is being installed, as it keeps the first requests using
+     * it from paying the cost of codec construction. If a pre-computed factory is already available, it is retained.
+     *
+     * @param context EffectiveModelContext instance
+     * @param pool pool to use
+     * @return A future completing with warmup statistics
+     * @throws NullPointerException if any argument is null
+     */
+    @Beta
+    public @NonNull CompletableFuture<CodecWarmup.Stats> warmupPrecomputed(final @NonNull EffectiveModelContext context,
+            final @NonNull ForkJoinPool pool) {
+        final var cache = new ConcurrentCodecCache<JSONCodec<?>>();
+        return CodecWarmup.warmup(createFactory(context, cache), pool).thenApply(stats -> {
+            precomputed.asMap().putIfAbsent(context, createFactory(context, cache.toPrecomputed()));
+            return stats;
+        });
+    }
+
     /**
      * Get a thread-safe, lazily-caching {@link JSONCodecFactory} for a SchemaContext. This method can, and will,
      * return the same instance as long as the associated EffectiveModelContext is present or the factory is not
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * JSON names of a {@link QName}, both in its plain and module-qualified form, along with their encodings as used by
+ * {@link Utf8JsonWriter}. Instances are cached in {@link JSONCodecFactory}, so that writing a member name does not
+ * involve looking up the module nor building a String.
+ */
+final class JSONMemberName {
+    private final @NonNull QName qname;
+    private final byte @NonNull [] encodedLocalName;
+    private final @Nullable String qualifiedName;
+    private final byte @Nullable [] encodedQualifiedName;
+
+    private JSONMemberName(final QName qname, final @Nullable String qualifiedName) {
+        this.qname = requireNonNull(qname);
+        this.qualifiedName = qualifiedName;
+        encodedLocalName = Utf8JsonWriter.encodeString(qname.getLocalName());
+        encodedQualifiedName = qualifiedName == null ? null : Utf8JsonWriter.encodeString(qualifiedName);
+    }
+
+    static @NonNull JSONMemberName of(final EffectiveModelContext context, final QName qname) {
+        return new JSONMemberName(qname, context.findModuleStatement(qname.getModule())
+            .map(module -> module.argument().getLocalName() + ':' + qname.getLocalName())
+            .orElse(null));
+    }
+
+    /**
+     * Return the name, optionally qualified with the name of its module.
+     *
+     * @param qualified {@code true} if the name should be qualified
+     * @return The name
+     * @throws IllegalArgumentException if {@code qualified} is requested and the module is not known
+     */
+    @NonNull String name(final boolean qualified) {
+        return qualified ? requireQualified(qualifiedName) : qname.getLocalName();
+    }
+
+    /**
+     * Return the encoded name, optionally qualified with the name of its module.
+     *
+     * @param qualified {@code true} if the name should be qualified
+     * @return The name, as a quoted UTF-8 string
+     * @throws IllegalArgumentException if {@code qualified} is requested and the module is not known
+     */
+    byte @NonNull [] encodedName(final boolean qualified) {
+        return qualified ? requireQualified(encodedQualifiedName) : encodedLocalName;
+    }
+
+    /**
+     * Return the encoded module-qualified name, if the module is known.
+     *
+     * @return The qualified name, as a quoted UTF-8 string, or {@code null}
+     */
+    byte @Nullable [] encodedQualifiedName() {
+        return encodedQualifiedName;
+    }
+
+    private <T> @NonNull T requireQualified(final @Nullable T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Could not find module for namespace " + qname.getModule());
+        }
+        return value;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.NoSuchElementException;
 import java.util.regex.Pattern;
 import javax.xml.transform.dom.DOMSource;
 import org.checkerframework.checker.regex.qual.Regex;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.common.MountPointLabel;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
@@ -38,6 +39,7 @@ import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -313,8 +315,8 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     @Override
     public void startLeafNode(final NodeIdentifier name) throws IOException {
         tracker.startLeafNode(name);
-        context.emittingChild(codecs.getEffectiveModelContext(), writer);
-        context.writeChildJsonIdentifier(codecs.getEffectiveModelContext(), writer, name.getNodeType());
+        context.emittingChild(codecs, writer);
+        context.writeChildJsonIdentifier(codecs, writer, name.getNodeType());
     }
 
     @Override
@@ -326,7 +328,7 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     @Override
     public void startLeafSetEntryNode(final NodeWithValue<?> name) throws IOException {
         tracker.startLeafSetEntryNode(name);
-        context.emittingChild(codecs.getEffectiveModelContext(), writer);
+        context.emittingChild(codecs, writer);
     }
 
     @Override
@@ -387,8 +389,8 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     public final boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
         if (NormalizedAnydata.class.isAssignableFrom(objectModel)) {
             tracker.startAnydataNode(name);
-            context.emittingChild(codecs.getEffectiveModelContext(), writer);
-            context.writeChildJsonIdentifier(codecs.getEffectiveModelContext(), writer, name.getNodeType());
+            context.emittingChild(codecs, writer);
+            context.writeChildJsonIdentifier(codecs, writer, name.getNodeType());
             return true;
         }
 
@@ -407,8 +409,8 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     public final boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
         if (DOMSource.class.isAssignableFrom(objectModel)) {
             tracker.startAnyxmlNode(name);
-            context.emittingChild(codecs.getEffectiveModelContext(), writer);
-            context.writeChildJsonIdentifier(codecs.getEffectiveModelContext(), writer, name.getNodeType());
+            context.emittingChild(codecs, writer);
+            context.writeChildJsonIdentifier(codecs, writer, name.getNodeType());
             return true;
         }
         return false;
@@ -417,7 +419,7 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     @Override
     public final void endNode() throws IOException {
         tracker.endNode();
-        context = context.endNode(codecs.getEffectiveModelContext(), writer);
+        context = context.endNode(codecs, writer);
     }
 
     @Override
@@ -426,12 +428,70 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
     }
 
     final void closeWriter() throws IOException {
+        endRootContext();
+        writer.close();
+    }
+
+    /**
+     * End the root context, completing the output of this writer without touching the underlying {@link JsonWriter}.
+     *
+     * @throws IOException if the document is not complete or the writer reports it
+     */
+    final void endRootContext() throws IOException {
         if (!(context instanceof JSONStreamWriterRootContext)) {
             throw new IOException("Unexpected root context " + context);
         }
 
-        context.endNode(codecs.getEffectiveModelContext(), writer);
-        writer.close();
+        context.endNode(codecs, writer);
+    }
+
+    /**
+     * Reset this writer to its initial state, so that it can emit another document.
+     *
+     * @param rootContext New root context
+     */
+    final void resetState(final JSONStreamWriterRootContext rootContext) {
+        tracker.reset();
+        context = requireNonNull(rootContext);
+    }
+
+    /**
+     * Return the {@link Inference} of the node currently being written.
+     *
+     * @return Current inference
+     */
+    final @NonNull Inference currentInference() {
+        return tracker.toInference();
+    }
+
+    /**
+     * Return the namespace of the node currently being written.
+     *
+     * @return Current namespace
+     */
+    final @NonNull XMLNamespace currentNamespace() {
+        return context.getNamespace();
+    }
+
+    /**
+     * Return the number of JSON structures which are open at the node currently being written.
+     *
+     * @return Current JSON nesting depth
+     */
+    final int currentJsonDepth() {
+        return context.jsonDepth();
+    }
+
+    /**
+     * Write a pre-encoded JSON value as the next child of the node currently being written.
+     *
+     * @param json Encoded JSON value
+     * @throws IOException when the writer reports it
+     */
+    final void writeRawChild(final String json) throws IOException {
+        context.emittingChild(codecs, writer);
+        writer.jsonValue(json);
+        context = context.endNode(codecs, writer);
     }
 
     @Override
@@ -469,7 +529,7 @@ public abstract class JSONNormalizedNodeStreamWriter implements NormalizedNodeSt
 
     private void writeNormalizedAnydata(final NormalizedAnydata anydata) throws IOException {
         // Adjust state to point to parent node and ensure it can handle data tree nodes
-        final SchemaInferenceStack.Inference inference;
+        final Inference inference;
         try {
             final SchemaInferenceStack stack = SchemaInferenceStack.ofInference(anydata.getInference());
             stack.exitToDataTree();
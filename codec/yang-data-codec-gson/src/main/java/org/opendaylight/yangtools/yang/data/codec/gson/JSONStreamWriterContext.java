@@ -15,9 +15,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
-import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
  * Abstract base class for a single level of {@link JSONNormalizedNodeStreamWriter} recursion. Provides the base API
@@ -52,39 +50,58 @@ abstract class JSONStreamWriterContext {
     /**
      * Write a child JSON node identifier, optionally prefixing it with the module name corresponding to its namespace.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @param qname Namespace/name tuple
      * @throws IOException when the writer reports it
      */
-    final void writeChildJsonIdentifier(final EffectiveModelContext schema, final JsonWriter writer, final QName qname)
+    final void writeChildJsonIdentifier(final JSONCodecFactory codecs, final JsonWriter writer, final QName qname)
             throws IOException {
-
-        final StringBuilder sb = new StringBuilder();
+        final var name = codecs.memberName(qname);
         // Prepend module name if namespaces do not match
-        final QNameModule module = qname.getModule();
-        if (!module.getNamespace().equals(getNamespace())) {
-            final var name = schema.findModuleStatement(module)
-                .map(mod -> mod.argument().getLocalName())
-                .orElseThrow(() -> new IllegalArgumentException("Could not find module for namespace " + module));
-            sb.append(name).append(':');
+        final boolean qualified = !qname.getNamespace().equals(getNamespace());
+        if (writer instanceof Utf8JsonWriter utf8) {
+            utf8.name(name.encodedName(qualified));
+        } else {
+            writer.name(name.name(qualified));
         }
-        sb.append(qname.getLocalName());
-
-        writer.name(sb.toString());
     }
 
     /**
      * Write our JSON node identifier, optionally prefixing it with the module name corresponding to its namespace.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @param qname Namespace/name tuple
      * @throws IOException when the writer reports it
      */
-    protected final void writeMyJsonIdentifier(final EffectiveModelContext schema, final JsonWriter writer,
+    protected final void writeMyJsonIdentifier(final JSONCodecFactory codecs, final JsonWriter writer,
             final QName qname) throws IOException {
-        parent.writeChildJsonIdentifier(schema, writer, qname);
+        parent.writeChildJsonIdentifier(codecs, writer, qname);
+    }
+
+    /**
+     * Return the number of JSON structures this node and its parents emit.
+     *
+     * @return JSON nesting depth
+     */
+    final int jsonDepth() {
+        int ret = 0;
+        for (var ctx = this; ctx != null; ctx = ctx.parent) {
+            if (ctx.isStructure()) {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Indicate whether this node emits a JSON structure, i.e. an object or an array.
+     *
+     * @return {@code true} if this node emits a JSON structure
+     */
+    protected boolean isStructure() {
+        return true;
     }
 
     /**
@@ -97,28 +114,28 @@ abstract class JSONStreamWriterContext {
     /**
      * Emit the start of an element.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @throws IOException when the writer reports it
      */
-    protected abstract void emitStart(EffectiveModelContext schema, JsonWriter writer) throws IOException;
+    protected abstract void emitStart(JSONCodecFactory codecs, JsonWriter writer) throws IOException;
 
     /**
      * Emit the end of an element.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @throws IOException when writer reports it
      */
     protected abstract void emitEnd(JsonWriter writer) throws IOException;
 
-    private void emitMyself(final EffectiveModelContext schema, final JsonWriter writer) throws IOException {
+    private void emitMyself(final JSONCodecFactory codecs, final JsonWriter writer) throws IOException {
         if (!emittedMyself) {
             if (parent != null) {
-                parent.emitMyself(schema, writer);
+                parent.emitMyself(codecs, writer);
             }
 
-            emitStart(schema, writer);
+            emitStart(codecs, writer);
             emittedMyself = true;
         }
     }
@@ -128,13 +145,13 @@ abstract class JSONStreamWriterContext {
      * been emitted, and takes care of that if necessary. Also makes sure separator
      * is emitted before a second and subsequent child.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @throws IOException when writer reports it
      */
-    final void emittingChild(final EffectiveModelContext schema, final JsonWriter writer) throws IOException {
+    final void emittingChild(final JSONCodecFactory codecs, final JsonWriter writer) throws IOException {
         checkState(!inChild, "Duplicate child encountered");
-        emitMyself(schema, writer);
+        emitMyself(codecs, writer);
         inChild = true;
     }
 
@@ -142,20 +159,20 @@ abstract class JSONStreamWriterContext {
      * Invoked by the writer when it is leaving this node. Checks whether this node
      * needs to be emitted and takes of that if necessary.
      *
-     * @param schema Schema context
+     * @param codecs JSON codec factory
      * @param writer Output writer
      * @return Parent node context
      * @throws IOException when writer reports it
      * @throws IllegalArgumentException if this node cannot be ended (e.g. root)
      */
-    final JSONStreamWriterContext endNode(final EffectiveModelContext schema, final JsonWriter writer)
+    final JSONStreamWriterContext endNode(final JSONCodecFactory codecs, final JsonWriter writer)
             throws IOException {
         if (inChild) {
             inChild = false;
             return this;
         }
         if (!emittedMyself && mandatory) {
-            emitMyself(schema, writer);
+            emitMyself(codecs, writer);
         }
         if (emittedMyself) {
             emitEnd(writer);
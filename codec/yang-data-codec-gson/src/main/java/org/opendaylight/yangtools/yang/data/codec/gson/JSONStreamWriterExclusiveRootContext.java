@@ -10,7 +10,6 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
-import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 final class JSONStreamWriterExclusiveRootContext extends JSONStreamWriterRootContext {
     JSONStreamWriterExclusiveRootContext(final XMLNamespace namespace) {
@@ -18,7 +17,12 @@ final class JSONStreamWriterExclusiveRootContext extends JSONStreamWriterRootCon
     }
 
     @Override
-    protected void emitStart(final EffectiveModelContext schema, final JsonWriter writer) throws IOException {
+    protected boolean isStructure() {
+        return true;
+    }
+
+    @Override
+    protected void emitStart(final JSONCodecFactory codecs, final JsonWriter writer) throws IOException {
         writer.beginObject();
     }
 
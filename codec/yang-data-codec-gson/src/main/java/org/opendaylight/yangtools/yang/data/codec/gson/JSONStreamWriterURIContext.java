@@ -10,7 +10,6 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
-import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
  * Abstract class tracking a virtual level of {@link JSONNormalizedNodeStreamWriter}
@@ -35,7 +34,12 @@ abstract class JSONStreamWriterURIContext extends JSONStreamWriterContext {
     }
 
     @Override
-    protected void emitStart(final EffectiveModelContext schema, final JsonWriter writer) throws IOException {
+    protected boolean isStructure() {
+        return false;
+    }
+
+    @Override
+    protected void emitStart(final JSONCodecFactory codecs, final JsonWriter writer) throws IOException {
         // No-op
     }
 }
\ No newline at end of file
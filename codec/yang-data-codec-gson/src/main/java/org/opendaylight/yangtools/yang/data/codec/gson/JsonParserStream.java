@@ -10,11 +10,14 @@ package org.opendaylight.yangtools.yang.data.codec.gson;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.UNKNOWN_SIZE;
 
+import com.google.common.annotations.Beta;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.MalformedJsonException;
 import java.io.Closeable;
 import java.io.EOFException;
@@ -23,31 +26,42 @@ import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.rfc8040.model.api.YangDataSchemaNode;
+import org.opendaylight.yangtools.util.ImmutableMapTemplate;
 import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema.ChildReusePolicy;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
 import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.MultipleEntryDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
+import org.opendaylight.yangtools.yang.data.util.ParsePlan;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
-import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.data.util.SubtreeSelector;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
@@ -70,35 +84,41 @@ public final class JsonParserStream implements Closeable, Flushable {
     private final Deque<XMLNamespace> namespaces = new ArrayDeque<>();
     private final NormalizedNodeStreamWriter writer;
     private final JSONCodecFactory codecs;
-    private final DataSchemaNode parentNode;
-
-    private final SchemaInferenceStack stack;
-
+    private final ParsePlan plan;
     // TODO: consider class specialization to remove this field
     private final boolean lenient;
 
+    private boolean lazyLeafValues;
+
+    private SchemaInferenceStack stack;
+    private DataSchemaNode parentNode;
+
     private JsonParserStream(final NormalizedNodeStreamWriter writer, final JSONCodecFactory codecs,
             final SchemaInferenceStack stack, final boolean lenient) {
         this.writer = requireNonNull(writer);
         this.codecs = requireNonNull(codecs);
         this.stack = requireNonNull(stack);
         this.lenient = lenient;
+        plan = ParsePlan.of(codecs.getEffectiveModelContext());
+        parentNode = parentNodeOf(stack);
+    }
 
-        if (!stack.isEmpty()) {
-            final EffectiveStatement<?, ?> parent = stack.currentStatement();
-            if (parent instanceof DataSchemaNode data) {
-                parentNode = data;
-            } else if (parent instanceof OperationDefinition oper) {
-                parentNode = oper.toContainerLike();
-            } else if (parent instanceof NotificationDefinition notif) {
-                parentNode = notif.toContainerLike();
-            } else if (parent instanceof YangDataSchemaNode yangData) {
-                parentNode = yangData.toContainerLike();
-            } else {
-                throw new IllegalArgumentException("Illegal parent node " + parent);
-            }
+    private static @NonNull DataSchemaNode parentNodeOf(final SchemaInferenceStack stack) {
+        if (stack.isEmpty()) {
+            return stack.getEffectiveModelContext();
+        }
+
+        final EffectiveStatement<?, ?> parent = stack.currentStatement();
+        if (parent instanceof DataSchemaNode data) {
+            return data;
+        } else if (parent instanceof OperationDefinition oper) {
+            return oper.toContainerLike();
+        } else if (parent instanceof NotificationDefinition notif) {
+            return notif.toContainerLike();
+        } else if (parent instanceof YangDataSchemaNode yangData) {
+            return yangData.toContainerLike();
         } else {
-            parentNode = stack.getEffectiveModelContext();
+            throw new IllegalArgumentException("Illegal parent node " + parent);
         }
     }
 
@@ -176,19 +196,140 @@ public final class JsonParserStream implements Closeable, Flushable {
         return new JsonParserStream(writer, codecFactory, SchemaInferenceStack.ofInference(parentNode), true);
     }
 
+    /**
+     * Reset this stream, so that it parses subsequent documents as rooted at the specified node. A stream can be
+     * used to parse any number of documents, one at a time, and retains its internal state between them. If parsing
+     * fails, the stream needs to be reset before it is used again.
+     *
+     * <p>
+     * Since the backing {@link NormalizedNodeStreamWriter} is retained as well, it typically is a
+     * {@link org.opendaylight.yangtools.yang.data.api.schema.stream.ReusableStreamReceiver}, which is reset at the same
+     * time.
+     *
+     * @param inference Logical root node
+     * @return This stream
+     * @throws NullPointerException if {@code inference} is null
+     * @throws IllegalArgumentException if {@code inference} does not belong to the {@link EffectiveModelContext} of
+     *                                  the codec factory of this stream, or it is not a valid root
+     */
+    @Beta
+    public @NonNull JsonParserStream reset(final @NonNull EffectiveStatementInference inference) {
+        checkArgument(inference.getEffectiveModelContext() == codecs.getEffectiveModelContext(),
+            "Inference %s does not match model context of %s", inference, codecs);
+        final var newStack = SchemaInferenceStack.ofInference(inference);
+        parentNode = parentNodeOf(newStack);
+        stack = newStack;
+        namespaces.clear();
+        return this;
+    }
+
+    /**
+     * Enable or disable lazy decoding of leaf values. When enabled, values of leaves, but not leaf-lists, are not
+     * decoded by their {@link JSONCodec} while parsing. Their lexical form is emitted as a {@link LazyLeafValue}
+     * instead, which is decoded, and validated, when the value is first accessed. The target
+     * {@link NormalizedNodeStreamWriter} needs to support such values, which is the case with
+     * {@link org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter}: the
+     * {@link org.opendaylight.yangtools.yang.data.api.schema.LeafNode}s it produces decode their value on first
+     * access.
+     *
+     * <p>
+     * List keys are always decoded while parsing, as they are part of their entry's
+     * {@link org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates}. Lazy
+     * decoding is disabled by default.
+     *
+     * @param enabled {@code true} to enable lazy decoding
+     * @return This stream
+     */
+    @Beta
+    public @NonNull JsonParserStream lazyLeafValues(final boolean enabled) {
+        lazyLeafValues = enabled;
+        return this;
+    }
+
+    /**
+     * Parse a JSON document from specified reader. The document is first parsed into an intermediate tree, which is
+     * then emitted into the target {@link NormalizedNodeStreamWriter}.
+     *
+     * @param reader JsonReader to read from
+     * @return This stream
+     * @throws JsonParseException if the document cannot be parsed
+     */
     public JsonParserStream parse(final JsonReader reader) {
+        return doParse(reader, false, SubtreeSelector.all());
+    }
+
+    /**
+     * Parse the selected parts of a JSON document from specified reader. This method is equivalent to
+     * {@link #parse(JsonReader)}, except members which are not selected by {@code selector} are skipped without their
+     * values being decoded.
+     *
+     * @param reader JsonReader to read from
+     * @param selector {@link SubtreeSelector} of the parts to parse, relative to the root of this stream
+     * @return This stream
+     * @throws JsonParseException if the document cannot be parsed
+     */
+    @Beta
+    public JsonParserStream parse(final JsonReader reader, final SubtreeSelector selector) {
+        return doParse(reader, false, requireNonNull(selector));
+    }
+
+    /**
+     * Parse a JSON document from specified reader in a single pass. Unlike {@link #parse(JsonReader)}, events are
+     * emitted into the target {@link NormalizedNodeStreamWriter} as soon as the corresponding tokens are read, without
+     * building an intermediate tree of the entire document.
+     *
+     * <p>
+     * Buffering is limited to the following constructs, which are held only until their enclosing JSON object ends:
+     * <ul>
+     *   <li>members belonging to a {@code choice}, as all of them need to be emitted as a single choice node</li>
+     *   <li>members of a keyed list entry which precede the last key leaf, as the entry cannot be started before its
+     *       keys are known</li>
+     * </ul>
+     * Children are emitted in document order, except for members of a choice, which are emitted at the end of their
+     * parent.
+     *
+     * @param reader JsonReader to read from
+     * @return This stream
+     * @throws JsonParseException if the document cannot be parsed
+     */
+    public JsonParserStream parseStreaming(final JsonReader reader) {
+        return doParse(reader, true, SubtreeSelector.all());
+    }
+
+    /**
+     * Parse the selected parts of a JSON document from specified reader in a single pass. This method is equivalent
+     * to {@link #parseStreaming(JsonReader)}, except members which are not selected by {@code selector} are skipped
+     * without their values being decoded.
+     *
+     * @param reader JsonReader to read from
+     * @param selector {@link SubtreeSelector} of the parts to parse, relative to the root of this stream
+     * @return This stream
+     * @throws JsonParseException if the document cannot be parsed
+     */
+    @Beta
+    public JsonParserStream parseStreaming(final JsonReader reader, final SubtreeSelector selector) {
+        return doParse(reader, true, requireNonNull(selector));
+    }
+
+    private JsonParserStream doParse(final JsonReader reader, final boolean streaming,
+            final SubtreeSelector selector) {
         // code copied from gson's JsonParser and Stream classes
 
         final boolean readerLenient = reader.isLenient();
         reader.setLenient(true);
         boolean isEmpty = true;
         try {
-            reader.peek();
+            final var token = reader.peek();
             isEmpty = false;
+            if (streaming && token == JsonToken.BEGIN_OBJECT) {
+                streamChildren(reader, parentNode, null, selector);
+                return this;
+            }
+
             // FIXME: this has a special-case bypass for SchemaContext, where we end up emitting just the child while
             //        the usual of() would result in SchemaContext.NAME being the root
             final var compositeNodeDataWithSchema = new CompositeNodeDataWithSchema<>(parentNode);
-            read(reader, compositeNodeDataWithSchema);
+            read(reader, compositeNodeDataWithSchema, selector, lazyLeafValues);
             compositeNodeDataWithSchema.write(writer);
 
             return this;
@@ -261,27 +402,28 @@ public final class JsonParserStream implements Closeable, Flushable {
         parent.setValue(domSource);
     }
 
-    private void read(final JsonReader in, AbstractNodeDataWithSchema<?> parent) throws IOException {
+    private void read(final JsonReader in, AbstractNodeDataWithSchema<?> parent, final SubtreeSelector selector,
+            final boolean lazyLeafValue) throws IOException {
         switch (in.peek()) {
             case STRING:
             case NUMBER:
-                setValue(parent, in.nextString());
+                setValue(parent, in.nextString(), lazyLeafValue);
                 break;
             case BOOLEAN:
-                setValue(parent, Boolean.toString(in.nextBoolean()));
+                setValue(parent, Boolean.toString(in.nextBoolean()), lazyLeafValue);
                 break;
             case NULL:
                 in.nextNull();
-                setValue(parent, null);
+                setValue(parent, null, lazyLeafValue);
                 break;
             case BEGIN_ARRAY:
                 in.beginArray();
                 while (in.hasNext()) {
                     if (parent instanceof LeafNodeDataWithSchema) {
-                        read(in, parent);
+                        read(in, parent, selector, lazyLeafValue);
                     } else {
                         final AbstractNodeDataWithSchema<?> newChild = newArrayEntry(parent);
-                        read(in, newChild);
+                        read(in, newChild, selector, lazyLeafValue);
                     }
                 }
                 in.endArray();
@@ -301,40 +443,18 @@ public final class JsonParserStream implements Closeable, Flushable {
                 }
                 while (in.hasNext()) {
                     final String jsonElementName = in.nextName();
-                    final DataSchemaNode parentSchema = parent.getSchema();
-                    final Entry<String, XMLNamespace> namespaceAndName =
-                        resolveNamespace(jsonElementName, parentSchema);
-                    final String localName = namespaceAndName.getKey();
-                    final XMLNamespace namespace = namespaceAndName.getValue();
-                    if (lenient && (localName == null || namespace == null)) {
-                        LOG.debug("Schema node with name {} was not found under {}", localName,
-                            parentSchema.getQName());
-                        in.skipValue();
-                        continue;
-                    }
-                    addNamespace(namespace);
-                    if (!namesakes.add(jsonElementName)) {
-                        throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
-                    }
-
-                    final Deque<DataSchemaNode> childDataSchemaNodes =
-                            ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, localName,
-                                getCurrentNamespace());
-                    checkState(!childDataSchemaNodes.isEmpty(),
-                        "Schema for node with name %s and namespace %s does not exist at %s",
-                        localName, getCurrentNamespace(), parentSchema);
-
-                    final QName qname = childDataSchemaNodes.peekLast().getQName();
-                    final AbstractNodeDataWithSchema<?> newChild = ((CompositeNodeDataWithSchema<?>) parent)
-                            .addChild(childDataSchemaNodes, ChildReusePolicy.NOOP);
-                    if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
-                        readAnyXmlValue(in, anyxml, jsonElementName);
-                    } else {
-                        stack.enterDataTree(qname);
-                        read(in, newChild);
-                        stack.exit();
+                    final Deque<DataSchemaNode> childDataSchemaNodes = resolveChild(in, jsonElementName,
+                        parent.getSchema(), namesakes);
+                    if (childDataSchemaNodes != null) {
+                        final var childSelector = selector.select(parent.getSchema(), childDataSchemaNodes);
+                        if (childSelector != null) {
+                            readChild(in, jsonElementName, (CompositeNodeDataWithSchema<?>) parent,
+                                childDataSchemaNodes, childSelector);
+                        } else {
+                            in.skipValue();
+                        }
+                        removeNamespace();
                     }
-                    removeNamespace();
                 }
                 in.endObject();
                 return;
@@ -343,6 +463,239 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
     }
 
+    private AbstractNodeDataWithSchema<?> readChild(final JsonReader in, final String jsonElementName,
+            final CompositeNodeDataWithSchema<?> parent, final Deque<DataSchemaNode> childDataSchemaNodes,
+            final SubtreeSelector selector) throws IOException {
+        final QName qname = childDataSchemaNodes.peekLast().getQName();
+        final AbstractNodeDataWithSchema<?> newChild = parent.addChild(childDataSchemaNodes, ChildReusePolicy.NOOP);
+        if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
+            readAnyXmlValue(in, anyxml, jsonElementName);
+        } else {
+            stack.enterDataTree(qname);
+            // List keys become part of the entry's NodeIdentifierWithPredicates, which is checked against the values of
+            // the key leaves: they need to be decoded
+            read(in, newChild, selector, lazyLeafValues && !isListKey(parent.getSchema(), qname));
+            stack.exit();
+        }
+        return newChild;
+    }
+
+    /**
+     * Resolve the schema of a JSON object member. If the member is resolved, its namespace is pushed and needs to be
+     * popped by the caller.
+     *
+     * @return Path to the child's schema, or {@code null} if the member has been skipped
+     */
+    private @Nullable Deque<DataSchemaNode> resolveChild(final JsonReader in, final String jsonElementName,
+            final DataSchemaNode parentSchema, final Set<String> namesakes) throws IOException {
+        final Entry<String, XMLNamespace> namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
+        final String localName = namespaceAndName.getKey();
+        final XMLNamespace namespace = namespaceAndName.getValue();
+        if (lenient && (localName == null || namespace == null)) {
+            LOG.debug("Schema node with name {} was not found under {}", localName, parentSchema.getQName());
+            in.skipValue();
+            return null;
+        }
+        addNamespace(namespace);
+        if (!namesakes.add(jsonElementName)) {
+            throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
+        }
+
+        final Deque<DataSchemaNode> childDataSchemaNodes =
+                plan.findChild(parentSchema, localName, getCurrentNamespace());
+        checkState(!childDataSchemaNodes.isEmpty(),
+            "Schema for node with name %s and namespace %s does not exist at %s",
+            localName, getCurrentNamespace(), parentSchema);
+        return childDataSchemaNodes;
+    }
+
+    /**
+     * Stream the members of a JSON object as children of {@code parentSchema}. If {@code keyTemplate} is non-null, the
+     * object is a keyed list entry, which is started as soon as its keys are known.
+     */
+    private void streamChildren(final JsonReader in, final DataSchemaNode parentSchema,
+            final @Nullable ImmutableMapTemplate<QName> keyTemplate, final SubtreeSelector selector)
+                throws IOException {
+        // Members of choices, emitted when the object ends
+        CompositeNodeDataWithSchema<?> choices = null;
+        // Members preceding the last key of a list entry, emitted once the entry is started
+        CompositeNodeDataWithSchema<?> pending = null;
+        Map<QName, Object> keyValues = null;
+        if (keyTemplate != null) {
+            pending = new CompositeNodeDataWithSchema<>(parentSchema);
+            keyValues = new HashMap<>();
+        }
+
+        final Set<String> namesakes = new HashSet<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            final String jsonElementName = in.nextName();
+            final Deque<DataSchemaNode> childDataSchemaNodes = resolveChild(in, jsonElementName, parentSchema,
+                namesakes);
+            if (childDataSchemaNodes == null) {
+                continue;
+            }
+            final var childSelector = selector.select(parentSchema, childDataSchemaNodes);
+            if (childSelector == null) {
+                in.skipValue();
+                removeNamespace();
+                continue;
+            }
+
+            final DataSchemaNode childSchema = childDataSchemaNodes.peekLast();
+            if (childDataSchemaNodes.size() > 1) {
+                if (choices == null) {
+                    choices = new CompositeNodeDataWithSchema<>(parentSchema);
+                }
+                readChild(in, jsonElementName, choices, childDataSchemaNodes, childSelector);
+            } else if (pending != null) {
+                final var newChild = readChild(in, jsonElementName, pending, childDataSchemaNodes, childSelector);
+                if (newChild instanceof LeafNodeDataWithSchema leaf
+                        && keyTemplate.keySet().contains(childSchema.getQName())) {
+                    keyValues.put(childSchema.getQName(), leaf.getValue());
+                    if (keyValues.size() == keyTemplate.keySet().size()) {
+                        startMapEntry((ListSchemaNode) parentSchema, keyTemplate, keyValues);
+                        pending.write(writer);
+                        pending = null;
+                    }
+                }
+            } else if (childSchema instanceof AnyxmlSchemaNode) {
+                streamSimpleChild(in, childSchema, jsonElementName);
+            } else {
+                stack.enterDataTree(childSchema.getQName());
+                streamChild(in, childSchema, jsonElementName, childSelector);
+                stack.exit();
+            }
+            removeNamespace();
+        }
+        in.endObject();
+
+        if (pending != null) {
+            // Not all keys have been encountered, this will fail
+            startMapEntry((ListSchemaNode) parentSchema, keyTemplate, keyValues);
+            pending.write(writer);
+        }
+        if (choices != null) {
+            choices.write(writer);
+        }
+    }
+
+    private void startMapEntry(final ListSchemaNode schema, final ImmutableMapTemplate<QName> keyTemplate,
+            final Map<QName, Object> keyValues) throws IOException {
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(NodeIdentifierWithPredicates.of(schema.getQName(),
+            keyTemplate.instantiateTransformed(keyValues, (key, value) -> value)), UNKNOWN_SIZE);
+    }
+
+    private void streamChild(final JsonReader in, final DataSchemaNode schema, final String jsonElementName,
+            final SubtreeSelector selector) throws IOException {
+        final var token = in.peek();
+        if (schema instanceof ContainerLike && token == JsonToken.BEGIN_OBJECT) {
+            writer.nextDataSchemaNode(schema);
+            writer.startContainerNode(NodeIdentifier.create(schema.getQName()), UNKNOWN_SIZE);
+            streamChildren(in, schema, null, selector);
+            writer.endNode();
+        } else if (schema instanceof ListSchemaNode list
+                && (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT)) {
+            streamList(in, list, token, selector);
+        } else if (schema instanceof LeafListSchemaNode leafList && token == JsonToken.BEGIN_ARRAY) {
+            streamLeafList(in, leafList);
+        } else {
+            // Leaves, anydata and anything unexpected, which will be reported
+            streamSimpleChild(in, schema, jsonElementName);
+        }
+    }
+
+    private void streamSimpleChild(final JsonReader in, final DataSchemaNode schema, final String jsonElementName)
+            throws IOException {
+        final var child = AbstractNodeDataWithSchema.of(schema);
+        if (child instanceof AnyXmlNodeDataWithSchema anyxml) {
+            readAnyXmlValue(in, anyxml, jsonElementName);
+        } else {
+            read(in, child, SubtreeSelector.all(), lazyLeafValues);
+        }
+        child.write(writer);
+    }
+
+    private void streamList(final JsonReader in, final ListSchemaNode schema, final JsonToken token,
+            final SubtreeSelector selector) throws IOException {
+        final var keyDef = schema.getKeyDefinition();
+        final var keyTemplate = keyDef.isEmpty() ? null : ImmutableMapTemplate.ordered(keyDef);
+        final var identifier = NodeIdentifier.create(schema.getQName());
+
+        writer.nextDataSchemaNode(schema);
+        if (keyTemplate == null) {
+            writer.startUnkeyedList(identifier, UNKNOWN_SIZE);
+        } else if (schema.isUserOrdered()) {
+            writer.startOrderedMapNode(identifier, UNKNOWN_SIZE);
+        } else {
+            writer.startMapNode(identifier, UNKNOWN_SIZE);
+        }
+
+        if (token == JsonToken.BEGIN_ARRAY) {
+            in.beginArray();
+            while (in.hasNext()) {
+                streamListEntry(in, schema, identifier, keyTemplate, selector);
+            }
+            in.endArray();
+        } else {
+            // A single list entry not wrapped in an array
+            streamListEntry(in, schema, identifier, keyTemplate, selector);
+        }
+        writer.endNode();
+    }
+
+    private void streamListEntry(final JsonReader in, final ListSchemaNode schema, final NodeIdentifier identifier,
+            final @Nullable ImmutableMapTemplate<QName> keyTemplate, final SubtreeSelector selector)
+                throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            // Not a valid entry, let the tree-based reader report it
+            final var entry = ((ListNodeDataWithSchema) AbstractNodeDataWithSchema.of(schema)).newChildEntry();
+            read(in, entry, selector, lazyLeafValues);
+            entry.write(writer);
+        } else if (keyTemplate != null) {
+            streamChildren(in, schema, keyTemplate, selector);
+            writer.endNode();
+        } else {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(identifier, UNKNOWN_SIZE);
+            streamChildren(in, schema, null, selector);
+            writer.endNode();
+        }
+    }
+
+    private void streamLeafList(final JsonReader in, final LeafListSchemaNode schema) throws IOException {
+        final var qname = schema.getQName();
+        writer.nextDataSchemaNode(schema);
+        if (schema.isUserOrdered()) {
+            writer.startOrderedLeafSet(NodeIdentifier.create(qname), UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(NodeIdentifier.create(qname), UNKNOWN_SIZE);
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            final String str = switch (in.peek()) {
+                case STRING, NUMBER -> in.nextString();
+                case BOOLEAN -> Boolean.toString(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    yield null;
+                }
+                default -> throw new IllegalStateException("Found an unexpected " + in.peek() + " nested under "
+                    + qname);
+            };
+
+            final Object value = translateValueByType(str, schema);
+            writer.nextDataSchemaNode(schema);
+            writer.startLeafSetEntryNode(new NodeWithValue<>(qname, value));
+            writer.scalarValue(value);
+            writer.endNode();
+        }
+        in.endArray();
+        writer.endNode();
+    }
+
     private static boolean isArray(final AbstractNodeDataWithSchema<?> parent) {
         return parent instanceof ListNodeDataWithSchema || parent instanceof LeafListNodeDataWithSchema;
     }
@@ -354,15 +707,21 @@ public final class JsonParserStream implements Closeable, Flushable {
         throw new IllegalStateException("Found an unexpected array nested under " + parent.getSchema().getQName());
     }
 
-    private void setValue(final AbstractNodeDataWithSchema<?> parent, final String value) {
+    private static boolean isListKey(final DataSchemaNode parent, final QName qname) {
+        return parent instanceof ListSchemaNode list && list.getKeyDefinition().contains(qname);
+    }
+
+    private void setValue(final AbstractNodeDataWithSchema<?> parent, final String value,
+            final boolean lazyLeafValue) {
         checkArgument(parent instanceof SimpleNodeDataWithSchema, "Node %s is not a simple type",
                 parent.getSchema().getQName());
         final SimpleNodeDataWithSchema<?> parentSimpleNode = (SimpleNodeDataWithSchema<?>) parent;
         checkArgument(parentSimpleNode.getValue() == null, "Node '%s' has already set its value to '%s'",
                 parentSimpleNode.getSchema().getQName(), parentSimpleNode.getValue());
 
-        final Object translatedValue = translateValueByType(value, parentSimpleNode.getSchema());
-        parentSimpleNode.setValue(translatedValue);
+        final DataSchemaNode schema = parentSimpleNode.getSchema();
+        parentSimpleNode.setValue(lazyLeafValue && value != null && parentSimpleNode instanceof LeafNodeDataWithSchema
+            ? lazyValueByType(value, schema) : translateValueByType(value, schema));
     }
 
     private Object translateValueByType(final String value, final DataSchemaNode node) {
@@ -370,6 +729,12 @@ public final class JsonParserStream implements Closeable, Flushable {
         return codecs.codecFor((TypedDataSchemaNode) node, stack).parseValue(null, value);
     }
 
+    private Object lazyValueByType(final String value, final DataSchemaNode node) {
+        checkArgument(node instanceof TypedDataSchemaNode);
+        final var codec = codecs.codecFor((TypedDataSchemaNode) node, stack);
+        return LazyLeafValue.of(str -> codec.parseValue(null, str), value);
+    }
+
     private void removeNamespace() {
         namespaces.pop();
     }
@@ -387,14 +752,13 @@ public final class JsonParserStream implements Closeable, Flushable {
             moduleNamePart = childName.substring(0, lastIndexOfColon);
             nodeNamePart = childName.substring(lastIndexOfColon + 1);
 
-            final var m = codecs.getEffectiveModelContext().findModuleStatements(moduleNamePart).iterator();
-            namespace = m.hasNext() ? m.next().localQNameModule().getNamespace() : null;
+            namespace = plan.moduleNamespace(moduleNamePart);
         } else {
             nodeNamePart = childName;
         }
 
         if (namespace == null) {
-            final Set<XMLNamespace> potentialUris = resolveAllPotentialNamespaces(nodeNamePart, dataSchemaNode);
+            final Set<XMLNamespace> potentialUris = plan.childNamespaces(dataSchemaNode, nodeNamePart);
             if (potentialUris.contains(getCurrentNamespace())) {
                 namespace = getCurrentNamespace();
             } else if (potentialUris.size() == 1) {
@@ -422,28 +786,6 @@ public final class JsonParserStream implements Closeable, Flushable {
         return builder.toString();
     }
 
-    private Set<XMLNamespace> resolveAllPotentialNamespaces(final String elementName,
-            final DataSchemaNode dataSchemaNode) {
-        final Set<XMLNamespace> potentialUris = new HashSet<>();
-        final Set<ChoiceSchemaNode> choices = new HashSet<>();
-        if (dataSchemaNode instanceof DataNodeContainer container) {
-            for (final DataSchemaNode childSchemaNode : container.getChildNodes()) {
-                if (childSchemaNode instanceof ChoiceSchemaNode choice) {
-                    choices.add(choice);
-                } else if (childSchemaNode.getQName().getLocalName().equals(elementName)) {
-                    potentialUris.add(childSchemaNode.getQName().getNamespace());
-                }
-            }
-
-            for (final ChoiceSchemaNode choiceNode : choices) {
-                for (final CaseSchemaNode concreteCase : choiceNode.getCases()) {
-                    potentialUris.addAll(resolveAllPotentialNamespaces(elementName, concreteCase));
-                }
-            }
-        }
-        return potentialUris;
-    }
-
     private XMLNamespace getCurrentNamespace() {
         return namespaces.peek();
     }
@@ -7,7 +7,9 @@
  */
 package org.opendaylight.yangtools.yang.data.codec.gson;
 
+import com.google.common.annotations.Beta;
 import com.google.gson.stream.JsonWriter;
+import java.io.OutputStream;
 import java.io.Writer;
 
 /**
@@ -40,4 +42,36 @@ public final class JsonWriterFactory {
         jsonWriter.setIndent(" ".repeat(indentSize));
         return jsonWriter;
     }
+
+    /**
+     * Create a new JsonWriter, which writes UTF-8 encoded JSON directly to the specified output stream. The output
+     * is the same as that of a JsonWriter writing to an UTF-8 {@link java.io.OutputStreamWriter}, but
+     * {@link JSONNormalizedNodeStreamWriter}s emit member names and numeric values without going through
+     * intermediate Strings. The returned writer buffers its output, hence it needs to be flushed or closed.
+     *
+     * @param out Output stream
+     * @return A JsonWriter instance
+     */
+    @Beta
+    public static JsonWriter createJsonWriter(final OutputStream out) {
+        return createJsonWriter(out, 0);
+    }
+
+    /**
+     * Create a new JsonWriter, which writes UTF-8 encoded JSON directly to the specified output stream. The output
+     * is the same as that of a JsonWriter writing to an UTF-8 {@link java.io.OutputStreamWriter}, but
+     * {@link JSONNormalizedNodeStreamWriter}s emit member names and numeric values without going through
+     * intermediate Strings. The returned writer buffers its output, hence it needs to be flushed or closed.
+     *
+     * <p>
+     * Note that the indent of the returned writer cannot be changed through {@link JsonWriter#setIndent(String)}.
+     *
+     * @param out Output stream
+     * @param indentSize size of the indent
+     * @return A JsonWriter instance
+     */
+    @Beta
+    public static JsonWriter createJsonWriter(final OutputStream out, final int indentSize) {
+        return new Utf8JsonWriter(out, " ".repeat(indentSize));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.util.AbstractParallelNormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+
+/**
+ * A {@link NormalizedNodeWriter} emitting JSON, which encodes entries of large lists concurrently. The output is
+ * identical to what a {@link JSONNormalizedNodeStreamWriter#createExclusiveWriter(JSONCodecFactory,
+ * EffectiveStatementInference, XMLNamespace, com.google.gson.stream.JsonWriter)} writer driven by
+ * {@link NormalizedNodeWriter#forStreamWriter(org.opendaylight.yangtools.yang.data.api.schema.stream.
+ * NormalizedNodeStreamWriter)} would produce.
+ *
+ * <p>
+ * The {@link JSONCodecFactory} is shared by all chunks and hence needs to be thread-safe, i.e. it has to be obtained
+ * from {@link JSONCodecFactorySupplier#getShared(org.opendaylight.yangtools.yang.model.api.EffectiveModelContext)} or
+ * {@link JSONCodecFactorySupplier#getPrecomputed(org.opendaylight.yangtools.yang.model.api.EffectiveModelContext)}.
+ * Factories returned from
+ * {@link JSONCodecFactorySupplier#createLazy(org.opendaylight.yangtools.yang.model.api.EffectiveModelContext)} are
+ * rejected.
+ */
+@Beta
+public final class ParallelJSONNormalizedNodeWriter extends AbstractParallelNormalizedNodeWriter {
+    private final JSONCodecFactory codecs;
+    private final JSONNormalizedNodeStreamWriter jsonWriter;
+    private final String indent;
+
+    private ParallelJSONNormalizedNodeWriter(final JSONCodecFactory codecs,
+            final JSONNormalizedNodeStreamWriter jsonWriter, final String indent, final ForkJoinPool pool,
+            final int chunkSize) {
+        super(jsonWriter, pool, chunkSize);
+        this.codecs = requireNonNull(codecs);
+        this.jsonWriter = jsonWriter;
+        this.indent = requireNonNull(indent);
+    }
+
+    /**
+     * Create a new writer, which encodes lists with more than {@link #DEFAULT_CHUNK_SIZE} entries using
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param codecFactory JSON codec factory
+     * @param rootNode Root node inference
+     * @param initialNs Initial namespace
+     * @param writer Output writer
+     * @param indentSize size of the indent
+     * @return A new writer
+     * @throws IllegalArgumentException if {@code codecFactory} is not thread-safe
+     */
+    public static @NonNull ParallelJSONNormalizedNodeWriter create(final JSONCodecFactory codecFactory,
+            final EffectiveStatementInference rootNode, final @Nullable XMLNamespace initialNs, final Writer writer,
+            final int indentSize) {
+        return create(codecFactory, rootNode, initialNs, writer, indentSize, ForkJoinPool.commonPool(),
+            DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new writer, which encodes lists with more than {@code chunkSize} entries using specified pool.
+     *
+     * @param codecFactory JSON codec factory
+     * @param rootNode Root node inference
+     * @param initialNs Initial namespace
+     * @param writer Output writer
+     * @param indentSize size of the indent
+     * @param pool pool to encode chunks in
+     * @param chunkSize number of list entries encoded by a single task
+     * @return A new writer
+     * @throws IllegalArgumentException if {@code codecFactory} is not thread-safe or {@code chunkSize} is not positive
+     */
+    public static @NonNull ParallelJSONNormalizedNodeWriter create(final JSONCodecFactory codecFactory,
+            final EffectiveStatementInference rootNode, final @Nullable XMLNamespace initialNs, final Writer writer,
+            final int indentSize, final ForkJoinPool pool, final int chunkSize) {
+        checkArgument(codecFactory.isThreadSafe(), "Codec factory %s is not thread-safe", codecFactory);
+        final var indent = " ".repeat(indentSize);
+        final var jsonWriter = JsonWriterFactory.createJsonWriter(writer);
+        jsonWriter.setIndent(indent);
+        return new ParallelJSONNormalizedNodeWriter(codecFactory,
+            (JSONNormalizedNodeStreamWriter) JSONNormalizedNodeStreamWriter.createExclusiveWriter(codecFactory,
+                rootNode, initialNs, jsonWriter), indent, pool, chunkSize);
+    }
+
+    @Override
+    protected ChunkEncoder newChunkEncoder() {
+        final var inference = jsonWriter.currentInference();
+        final var namespace = jsonWriter.currentNamespace();
+        final int depth = jsonWriter.currentJsonDepth();
+
+        return entries -> {
+            final var out = new StringWriter();
+            final var chunkWriter = JsonWriterFactory.createJsonWriter(out);
+            chunkWriter.setIndent(indent);
+            // Replicate nesting of the main writer, so that indentation matches
+            for (int i = 0; i < depth; i++) {
+                chunkWriter.beginArray();
+            }
+            chunkWriter.flush();
+            final int mark = out.getBuffer().length();
+
+            final var writer = NormalizedNodeWriter.forStreamWriter(
+                JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, inference, namespace, chunkWriter));
+            for (var entry : entries) {
+                writer.write(entry);
+            }
+            writer.flush();
+
+            // The main writer emits the separator and indentation preceding the first entry
+            final var buffer = out.getBuffer();
+            return buffer.substring(buffer.indexOf("{", mark));
+        };
+    }
+
+    @Override
+    protected void writeChunk(final String chunk) throws IOException {
+        jsonWriter.writeRawChild(chunk);
+    }
+}
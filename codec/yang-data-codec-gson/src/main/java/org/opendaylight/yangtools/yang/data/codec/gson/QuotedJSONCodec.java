@@ -23,6 +23,11 @@ final class QuotedJSONCodec<T> extends AbstractJSONCodec<T> {
 
     @Override
     public void writeValue(final JsonWriter ctx, final T value) throws IOException {
-        ctx.value(serialize(value));
+        if (ctx instanceof Utf8JsonWriter utf8 && value instanceof Number number) {
+            // RFC7951 64-bit integers and decimals: format directly, without an intermediate String
+            utf8.quotedValue(number);
+        } else {
+            ctx.value(serialize(value));
+        }
     }
 }
\ No newline at end of file
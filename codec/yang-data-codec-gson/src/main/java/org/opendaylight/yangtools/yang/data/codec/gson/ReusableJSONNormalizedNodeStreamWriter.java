@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.util.NormalizedNodeStreamWriterStack;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+
+/**
+ * A {@link JSONNormalizedNodeStreamWriter} which can be reused to emit any number of documents, one at a time. It
+ * writes UTF-8 encoded JSON directly to an {@link OutputStream}, just as a writer created on top of
+ * {@link JsonWriterFactory#createJsonWriter(OutputStream, int)} does, and retains its output buffer, its
+ * {@link NormalizedNodeStreamWriterStack} and other internal state between documents.
+ *
+ * <p>
+ * Each document is started by {@link #reset(OutputStream)} and is completed by {@link #close()}, which flushes the
+ * output stream, but does not close it. As is the case with
+ * {@link JSONNormalizedNodeStreamWriter#createExclusiveWriter(JSONCodecFactory, JsonWriter)}, each document is a
+ * single top-level JSON object. Instances are not thread-safe, but they can be pooled, for example in an
+ * {@link org.opendaylight.yangtools.util.concurrent.InstancePool}.
+ */
+@Beta
+public final class ReusableJSONNormalizedNodeStreamWriter extends JSONNormalizedNodeStreamWriter {
+    private final @NonNull Utf8JsonWriter jsonWriter;
+    private final @Nullable XMLNamespace initialNs;
+
+    private ReusableJSONNormalizedNodeStreamWriter(final JSONCodecFactory codecFactory,
+            final NormalizedNodeStreamWriterStack tracker, final Utf8JsonWriter jsonWriter,
+            final @Nullable XMLNamespace initialNs) {
+        super(codecFactory, tracker, jsonWriter, new JSONStreamWriterExclusiveRootContext(initialNs));
+        this.jsonWriter = jsonWriter;
+        this.initialNs = initialNs;
+    }
+
+    /**
+     * Create a new writer, rooted at the top of the {@link EffectiveModelContext} associated with the specified codec
+     * factory.
+     *
+     * @param codecFactory JSON codec factory
+     * @param indentSize size of the indent, {@code 0} for compact output
+     * @return A new writer
+     */
+    public static @NonNull ReusableJSONNormalizedNodeStreamWriter create(final JSONCodecFactory codecFactory,
+            final int indentSize) {
+        return new ReusableJSONNormalizedNodeStreamWriter(codecFactory,
+            NormalizedNodeStreamWriterStack.of(codecFactory.getEffectiveModelContext()), newJsonWriter(indentSize),
+            null);
+    }
+
+    /**
+     * Create a new writer, rooted at the specified node.
+     *
+     * @param codecFactory JSON codec factory
+     * @param rootNode Root node inference
+     * @param initialNs Initial namespace
+     * @param indentSize size of the indent, {@code 0} for compact output
+     * @return A new writer
+     */
+    public static @NonNull ReusableJSONNormalizedNodeStreamWriter create(final JSONCodecFactory codecFactory,
+            final EffectiveStatementInference rootNode, final @Nullable XMLNamespace initialNs, final int indentSize) {
+        return new ReusableJSONNormalizedNodeStreamWriter(codecFactory, NormalizedNodeStreamWriterStack.of(rootNode),
+            newJsonWriter(indentSize), initialNs);
+    }
+
+    /**
+     * Start a new document, which will be written to the specified output stream. Any state left over from a previous
+     * document, including pending output, is discarded. This method needs to be invoked before each document,
+     * including the first one.
+     *
+     * @param out Output stream
+     * @throws NullPointerException if {@code out} is null
+     */
+    public void reset(final OutputStream out) {
+        jsonWriter.reset(out);
+        resetState(new JSONStreamWriterExclusiveRootContext(initialNs));
+    }
+
+    /**
+     * Complete the current document and flush the output stream. The output stream is not closed.
+     *
+     * @throws IOException if the document is not complete or the output stream reports an error
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            endRootContext();
+        } finally {
+            jsonWriter.finish();
+        }
+    }
+
+    private static @NonNull Utf8JsonWriter newJsonWriter(final int indentSize) {
+        return new Utf8JsonWriter(OutputStream.nullOutputStream(), " ".repeat(indentSize));
+    }
+}
@@ -0,0 +1,684 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * A {@link JsonWriter} which encodes JSON as UTF-8 directly into an {@link OutputStream}, without going through a
+ * {@link Writer}. It produces the same output as a plain {@link JsonWriter} wrapped around an UTF-8
+ * {@link java.io.OutputStreamWriter}, but in addition to that it can emit pre-encoded member names and formats
+ * YANG numeric types without intermediate {@link String}s.
+ *
+ * <p>
+ * Since {@link JsonWriter} does not expose its indentation, it is picked up when the first top-level value is being
+ * written. Unlike with a plain {@link JsonWriter}, {@link #setIndent(String)} invoked after that point has no effect.
+ */
+final class Utf8JsonWriter extends JsonWriter {
+    // Same as com.google.gson.stream.JsonScope
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    private static final Pattern VALID_JSON_NUMBER_PATTERN =
+        Pattern.compile("-?(?:0|[1-9][0-9]*)(?:\\.[0-9]+)?(?:[eE][-+]?[0-9]+)?");
+
+    // Escapes for US-ASCII characters, matching those used by JsonWriter
+    private static final byte[][] REPLACEMENT_CHARS;
+    private static final byte[][] HTML_SAFE_REPLACEMENT_CHARS;
+    private static final byte[] LINE_SEPARATOR = ascii("\\u2028");
+    private static final byte[] PARAGRAPH_SEPARATOR = ascii("\\u2029");
+
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] COLON = ascii(":");
+    private static final byte[] COLON_SPACE = ascii(": ");
+
+    static {
+        REPLACEMENT_CHARS = new byte[128][];
+        for (int i = 0; i <= 0x1f; i++) {
+            REPLACEMENT_CHARS[i] = ascii(String.format("\\u%04x", i));
+        }
+        REPLACEMENT_CHARS['"'] = ascii("\\\"");
+        REPLACEMENT_CHARS['\\'] = ascii("\\\\");
+        REPLACEMENT_CHARS['\t'] = ascii("\\t");
+        REPLACEMENT_CHARS['\b'] = ascii("\\b");
+        REPLACEMENT_CHARS['\n'] = ascii("\\n");
+        REPLACEMENT_CHARS['\r'] = ascii("\\r");
+        REPLACEMENT_CHARS['\f'] = ascii("\\f");
+
+        HTML_SAFE_REPLACEMENT_CHARS = REPLACEMENT_CHARS.clone();
+        for (char ch : "<>&='".toCharArray()) {
+            HTML_SAFE_REPLACEMENT_CHARS[ch] = ascii(String.format("\\u%04x", (int) ch));
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final OutputStream NULL_OUTPUT = OutputStream.nullOutputStream();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    // Enough to hold any unsigned 64bit number
+    private final byte[] digits = new byte[20];
+    private final StringWriter probe;
+
+    private OutputStream out;
+    private byte[] indent;
+    private byte[] separator;
+    private boolean indentResolved;
+    private int[] stack = new int[32];
+    private int stackSize;
+    private int position;
+
+    // At most one of these is set at any given time
+    private String deferredName;
+    private byte[] deferredEncodedName;
+
+    Utf8JsonWriter(final OutputStream out, final String indent) {
+        this(out, indent, new StringWriter());
+    }
+
+    private Utf8JsonWriter(final OutputStream out, final String indent, final StringWriter probe) {
+        super(probe);
+        this.probe = probe;
+        this.out = requireNonNull(out);
+        setIndent(indent);
+        this.indent = indent.getBytes(StandardCharsets.UTF_8);
+        separator = indent.isEmpty() ? COLON : COLON_SPACE;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Encode a string into its quoted and escaped UTF-8 form, suitable for {@link #name(byte[])}.
+     *
+     * @param str String to encode
+     * @return Encoded form
+     */
+    static byte[] encodeString(final String str) {
+        final var bytes = new ByteArrayOutputStream(str.length() + 2);
+        final var writer = new Utf8JsonWriter(bytes, "");
+        try {
+            writer.string(str, REPLACEMENT_CHARS);
+            writer.flushBuffer();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected failure", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writeDeferredName();
+        return openScope(EMPTY_ARRAY, '[');
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        return closeScope(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writeDeferredName();
+        return openScope(EMPTY_OBJECT, '{');
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        return closeScope(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        requireNonNull(name, "name == null");
+        checkName();
+        deferredName = name;
+        return this;
+    }
+
+    /**
+     * Encodes the property name, as pre-encoded by {@link #encodeString(String)}. Since the encoding does not take
+     * {@link #isHtmlSafe()} into account, {@code encodedName} must not contain any characters affected by it. This is
+     * always the case for YANG identifiers.
+     *
+     * @param encodedName pre-encoded name
+     * @return this writer
+     * @throws IOException if an error occurs
+     */
+    JsonWriter name(final byte[] encodedName) throws IOException {
+        requireNonNull(encodedName);
+        checkName();
+        deferredEncodedName = encodedName;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        string(value, isHtmlSafe() ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS);
+        return this;
+    }
+
+    /**
+     * Encodes a string value, as pre-encoded by {@link #encodeString(String)}. The same restrictions as in
+     * {@link #name(byte[])} apply.
+     *
+     * @param encodedValue pre-encoded value
+     * @return this writer
+     * @throws IOException if an error occurs
+     */
+    JsonWriter value(final byte[] encodedValue) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        writeBytes(encodedValue);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(final float value) throws IOException {
+        writeDeferredName();
+        if (!isLenient() && (Float.isNaN(value) || Float.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(Float.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final double value) throws IOException {
+        writeDeferredName();
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final long value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        signed(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+
+        writeDeferredName();
+        if (!isDirectNumber(value)) {
+            final var str = value.toString();
+            if (str.equals("-Infinity") || str.equals("Infinity") || str.equals("NaN")) {
+                if (!isLenient()) {
+                    throw new IllegalArgumentException("Numeric values must be finite, but was " + str);
+                }
+            } else if (!isTrustedNumber(value) && !VALID_JSON_NUMBER_PATTERN.matcher(str).matches()) {
+                throw new IllegalArgumentException("String created by " + value.getClass()
+                    + " is not a valid JSON number: " + str);
+            }
+        }
+        beforeValue();
+        number(value);
+        return this;
+    }
+
+    /**
+     * Encodes a number as a string value, as used by RFC7951 for 64-bit numbers and decimals.
+     *
+     * @param value number to encode
+     * @return this writer
+     * @throws IOException if an error occurs
+     */
+    JsonWriter quotedValue(final Number value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        writeByte('"');
+        number(value);
+        writeByte('"');
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(final String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        string(value, null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (deferredName != null || deferredEncodedName != null) {
+            if (getSerializeNulls()) {
+                writeDeferredName();
+            } else {
+                // skip the name and the value
+                deferredName = null;
+                deferredEncodedName = null;
+                return this;
+            }
+        }
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+
+        final int size = stackSize;
+        if (size > 1 || size == 1 && stack[0] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+        stackSize = 0;
+    }
+
+    /**
+     * Reset this writer to start a new document, which is written to the specified output stream. Any pending output is
+     * discarded, internal buffers are retained.
+     *
+     * @param newOut Output stream
+     */
+    void reset(final OutputStream newOut) {
+        out = requireNonNull(newOut);
+        position = 0;
+        stackSize = 0;
+        deferredName = null;
+        deferredEncodedName = null;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Finish the current document. Unlike {@link #close()}, this method flushes the output stream, but does not close
+     * it. The output stream is released, so that it can be reclaimed while this writer is idle.
+     *
+     * @throws IOException if the output stream fails or the document is incomplete
+     */
+    void finish() throws IOException {
+        try {
+            flushBuffer();
+            out.flush();
+        } finally {
+            out = NULL_OUTPUT;
+        }
+
+        final int size = stackSize;
+        stackSize = 0;
+        if (size > 1 || size == 1 && stack[0] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+    }
+
+    private void checkName() {
+        if (deferredName != null || deferredEncodedName != null) {
+            throw new IllegalStateException();
+        }
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+    }
+
+    private JsonWriter openScope(final int empty, final char openBracket) throws IOException {
+        beforeValue();
+        push(empty);
+        writeByte(openBracket);
+        return this;
+    }
+
+    private JsonWriter closeScope(final int empty, final int nonempty, final char closeBracket) throws IOException {
+        final int context = peek();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        if (deferredName != null || deferredEncodedName != null) {
+            throw new IllegalStateException("Dangling name: "
+                + (deferredName != null ? deferredName : new String(deferredEncodedName, StandardCharsets.UTF_8)));
+        }
+
+        stackSize--;
+        if (context == nonempty) {
+            newline();
+        }
+        writeByte(closeBracket);
+        return this;
+    }
+
+    private void push(final int newTop) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
+    }
+
+    private int peek() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void replaceTop(final int topOfStack) {
+        stack[stackSize - 1] = topOfStack;
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredName != null) {
+            beforeName();
+            string(deferredName, isHtmlSafe() ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS);
+            deferredName = null;
+        } else if (deferredEncodedName != null) {
+            beforeName();
+            writeBytes(deferredEncodedName);
+            deferredEncodedName = null;
+        }
+    }
+
+    private void newline() throws IOException {
+        if (indent.length != 0) {
+            writeByte('\n');
+            for (int i = 1, size = stackSize; i < size; i++) {
+                writeBytes(indent);
+            }
+        }
+    }
+
+    private void beforeName() throws IOException {
+        final int context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            writeByte(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        newline();
+        replaceTop(DANGLING_NAME);
+    }
+
+    private void beforeValue() throws IOException {
+        switch (peek()) {
+            case NONEMPTY_DOCUMENT:
+                if (!isLenient()) {
+                    throw new IllegalStateException("JSON must have only one top-level value.");
+                }
+                replaceTop(NONEMPTY_DOCUMENT);
+                break;
+            case EMPTY_DOCUMENT:
+                if (!indentResolved) {
+                    resolveIndent();
+                }
+                replaceTop(NONEMPTY_DOCUMENT);
+                break;
+            case EMPTY_ARRAY:
+                replaceTop(NONEMPTY_ARRAY);
+                newline();
+                break;
+            case NONEMPTY_ARRAY:
+                writeByte(',');
+                newline();
+                break;
+            case DANGLING_NAME:
+                writeBytes(separator);
+                replaceTop(NONEMPTY_OBJECT);
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    // Have JsonWriter format a single-element array into the probe and extract the indentation from its output, which
+    // is either "[null]" or "[\n" + indent + "null\n]"
+    private void resolveIndent() throws IOException {
+        super.beginArray();
+        super.nullValue();
+        super.endArray();
+
+        final var str = probe.toString();
+        final var probed = str.indexOf('\n') == -1 ? "" : str.substring(2, str.indexOf("null"));
+        indent = probed.getBytes(StandardCharsets.UTF_8);
+        separator = probed.isEmpty() ? COLON : COLON_SPACE;
+        indentResolved = true;
+    }
+
+    private static boolean isDirectNumber(final Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+            || value instanceof Uint8 || value instanceof Uint16 || value instanceof Uint32 || value instanceof Uint64
+            || value instanceof Decimal64;
+    }
+
+    // Same as JsonWriter.isTrustedNumberType()
+    private static boolean isTrustedNumber(final Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+            || value instanceof Byte || value instanceof Short || value instanceof BigDecimal
+            || value instanceof BigInteger || value instanceof AtomicInteger
+            || value instanceof AtomicLong;
+    }
+
+    private void number(final Number value) throws IOException {
+        if (value instanceof Decimal64 decimal) {
+            decimal(decimal);
+        } else if (value instanceof Uint64 uint) {
+            unsigned(uint.longValue());
+        } else if (isDirectNumber(value)) {
+            signed(value.longValue());
+        } else {
+            writeAscii(value.toString());
+        }
+    }
+
+    private void signed(final long value) throws IOException {
+        if (value < 0) {
+            writeByte('-');
+            // Note: this works for Long.MIN_VALUE, too
+            unsigned(-value);
+        } else {
+            unsigned(value);
+        }
+    }
+
+    private void unsigned(final long value) throws IOException {
+        final int start = formatDigits(value);
+        writeBytes(digits, start, digits.length - start);
+    }
+
+    // Same as Decimal64.toCanonicalString()
+    private void decimal(final Decimal64 value) throws IOException {
+        final long unscaled = value.unscaledValue();
+        if (unscaled < 0) {
+            writeByte('-');
+        }
+
+        // Pad to at least scale + 1 digits, so that there is a digit before the decimal point
+        final int scale = value.scale();
+        int start = formatDigits(unscaled < 0 ? -unscaled : unscaled);
+        while (digits.length - start < scale + 1) {
+            digits[--start] = '0';
+        }
+
+        // Trim trailing zeros from fraction, but keep at least one digit
+        final int firstDecimal = digits.length - scale;
+        int end = digits.length;
+        while (end > firstDecimal + 1 && digits[end - 1] == '0') {
+            end--;
+        }
+
+        writeBytes(digits, start, firstDecimal - start);
+        writeByte('.');
+        writeBytes(digits, firstDecimal, end - firstDecimal);
+    }
+
+    // Format an unsigned value into digits, returning the index of the first digit
+    private int formatDigits(final long unsignedValue) {
+        int pos = digits.length;
+        long value = unsignedValue;
+        if (value < 0) {
+            // Larger than Long.MAX_VALUE, peel off the last digit to get into signed range
+            final long quotient = Long.divideUnsigned(value, 10);
+            digits[--pos] = (byte) ('0' + (value - quotient * 10));
+            value = quotient;
+        }
+        do {
+            final long quotient = value / 10;
+            digits[--pos] = (byte) ('0' + (value - quotient * 10));
+            value = quotient;
+        } while (value != 0);
+        return pos;
+    }
+
+    private void writeAscii(final String str) throws IOException {
+        final int length = str.length();
+        for (int i = 0; i < length; i++) {
+            writeByte(str.charAt(i));
+        }
+    }
+
+    // Emit UTF-8 encoding of a string, optionally quoting and escaping it
+    private void string(final String str, final byte[][] replacements) throws IOException {
+        if (replacements != null) {
+            writeByte('"');
+        }
+
+        final int length = str.length();
+        for (int i = 0; i < length; i++) {
+            final char ch = str.charAt(i);
+            if (ch < 0x80) {
+                final byte[] replacement = replacements != null ? replacements[ch] : null;
+                if (replacement != null) {
+                    writeBytes(replacement);
+                } else {
+                    writeByte(ch);
+                }
+            } else if (ch < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | ch >> 6);
+                buffer[position++] = (byte) (0x80 | ch & 0x3F);
+            } else if (Character.isSurrogate(ch)) {
+                final char low = i + 1 < length ? str.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(ch) && Character.isLowSurrogate(low)) {
+                    final int codePoint = Character.toCodePoint(ch, low);
+                    i++;
+                    ensure(4);
+                    buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                } else {
+                    // Unpaired surrogate, replaced the same way the UTF-8 CharsetEncoder does
+                    writeByte('?');
+                }
+            } else if (replacements != null && ch == '\u2028') {
+                writeBytes(LINE_SEPARATOR);
+            } else if (replacements != null && ch == '\u2029') {
+                writeBytes(PARAGRAPH_SEPARATOR);
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | ch >> 12);
+                buffer[position++] = (byte) (0x80 | ch >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | ch & 0x3F);
+            }
+        }
+
+        if (replacements != null) {
+            writeByte('"');
+        }
+    }
+
+    private void writeByte(final int value) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeBytes(final byte[] bytes) throws IOException {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeBytes(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length > BUFFER_SIZE) {
+            flushBuffer();
+            out.write(bytes, offset, length);
+        } else {
+            ensure(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+    }
+
+    private void ensure(final int length) throws IOException {
+        if (position + length > BUFFER_SIZE) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position != 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static byte[] ascii(final String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.util.codec.CodecWarmup;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JSONCodecWarmupTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName REF = QName.create(TOP, "ref");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                list entry {
+                  key id;
+                  leaf id {
+                    type uint32;
+                  }
+                  leaf name {
+                    type string;
+                  }
+                  container nested {
+                    leaf-list flags {
+                      type enumeration {
+                        enum one;
+                        enum two;
+                      }
+                    }
+                  }
+                }
+                leaf ref {
+                  type leafref {
+                    path ../entry/id;
+                  }
+                }
+              }
+              leaf other {
+                type union {
+                  type int8;
+                  type string;
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+    }
+
+    @Test
+    void testWarmupPrecomputed() {
+        final var supplier = JSONCodecFactorySupplier.RFC7951;
+        assertTrue(supplier.getPrecomputedIfAvailable(MODEL_CONTEXT).isEmpty());
+
+        final var stats = supplier.warmupPrecomputed(MODEL_CONTEXT, ForkJoinPool.commonPool()).join();
+        assertEquals(5, stats.leafCount());
+        assertTrue(stats.codecCount() > 0);
+        assertNotNull(stats.elapsed());
+
+        final var factory = supplier.getPrecomputedIfAvailable(MODEL_CONTEXT).orElseThrow();
+        assertSame(factory, supplier.getPrecomputed(MODEL_CONTEXT));
+
+        // The pre-computed cache can serve the leafref
+        final var stack = SchemaInferenceStack.of(MODEL_CONTEXT);
+        stack.enterDataTree(TOP);
+        final var ref = (TypedDataSchemaNode) stack.enterDataTree(REF);
+        assertNotNull(factory.codecFor(ref, stack));
+
+        // A second warmup retains the existing factory
+        supplier.warmupPrecomputed(MODEL_CONTEXT, ForkJoinPool.commonPool()).join();
+        assertSame(factory, supplier.getPrecomputed(MODEL_CONTEXT));
+    }
+
+    @Test
+    void testWarmupShared() {
+        final var stats = CodecWarmup.warmup(JSONCodecFactorySupplier.RFC7951.getShared(MODEL_CONTEXT),
+            ForkJoinPool.commonPool()).join();
+        assertEquals(5, stats.leafCount());
+        assertTrue(stats.codecCount() > 0);
+    }
+
+    @Test
+    void testWarmupOperations() {
+        final var context = YangParserTestUtils.parseYang("""
+            module bar {
+              yang-version 1.1;
+              namespace bar;
+              prefix bar;
+              container cont {
+                action act {
+                  input {
+                    leaf force {
+                      type boolean;
+                    }
+                  }
+                }
+                notification changed {
+                  leaf count {
+                    type uint8;
+                  }
+                }
+              }
+              rpc op {
+                input {
+                  leaf in {
+                    type int16;
+                  }
+                }
+                output {
+                  choice result {
+                    leaf out {
+                      type int32;
+                    }
+                  }
+                }
+              }
+              notification event {
+                leaf text {
+                  type string;
+                }
+              }
+            }""");
+        final var stats = CodecWarmup.warmup(JSONCodecFactorySupplier.RFC7951.getShared(context),
+            ForkJoinPool.commonPool()).join();
+        // force, count, in, out and text
+        assertEquals(5, stats.leafCount());
+        assertEquals(5, stats.codecCount());
+    }
+
+    @Test
+    void testWarmupLazy() {
+        final var lazy = JSONCodecFactorySupplier.RFC7951.createLazy(MODEL_CONTEXT);
+        assertThrows(IllegalArgumentException.class, () -> CodecWarmup.warmup(lazy, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.stream.JsonReader;
+import java.io.StringReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JsonParserLazyLeafTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName NUMBER = QName.create(TOP, "number");
+    private static final QName CODE = QName.create(TOP, "code");
+    private static final QName NUMBERS = QName.create(TOP, "numbers");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName VALUE = QName.create(TOP, "value");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static JSONCodecFactory CODEC_FACTORY;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf number {
+                  type uint64;
+                }
+                leaf code {
+                  type string {
+                    pattern "[a-z]+";
+                  }
+                }
+                leaf-list numbers {
+                  type uint64;
+                }
+                list entry {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type uint64;
+                  }
+                }
+              }
+            }""");
+        CODEC_FACTORY = JSONCodecFactorySupplier.RFC7951.getShared(MODEL_CONTEXT);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        CODEC_FACTORY = null;
+    }
+
+    @Test
+    void testLazyLeaves() {
+        final var input = """
+            { "foo:top": { "number": "18446744073709551615", "code": "abc", "numbers": [ "1", "2" ] } }""";
+        final var lazy = parse(input, true);
+        final var number = assertInstanceOf(LazyLeafNode.class, lazy.childByArg(new NodeIdentifier(NUMBER)));
+        assertFalse(number.lazyValue().isDecoded());
+        assertEquals("18446744073709551615", number.lazyValue().lexicalValue());
+        // Leaf-list entries are always decoded
+        assertInstanceOf(LeafSetNode.class, lazy.childByArg(new NodeIdentifier(NUMBERS)));
+
+        assertEquals(parse(input, false), lazy);
+    }
+
+    @Test
+    void testDeferredValidation() {
+        final var input = """
+            { "foo:top": { "number": "1", "code": "ABC" } }""";
+        assertThrows(IllegalArgumentException.class, () -> parse(input, false));
+
+        final var code = parse(input, true).childByArg(new NodeIdentifier(CODE));
+        assertInstanceOf(LazyLeafNode.class, code);
+        assertThrows(IllegalArgumentException.class, code::body);
+    }
+
+    @Test
+    void testKeyedList() {
+        // The second entry has its key last
+        final var input = """
+            { "foo:top": { "entry": [ { "name": "a", "value": 1 }, { "value": 2, "name": "b" } ] } }""";
+        final var expected = parse(input, false);
+        for (var streaming : new boolean[] { false, true }) {
+            final var lazy = parse(input, true, streaming);
+            assertEquals(expected, lazy);
+
+            final var entry = assertInstanceOf(MapNode.class, lazy.childByArg(new NodeIdentifier(ENTRY)))
+                .childByArg(NodeIdentifierWithPredicates.of(ENTRY, NAME, "b"));
+            // List keys are always decoded, other leaves are not
+            assertFalse(entry.childByArg(new NodeIdentifier(NAME)) instanceof LazyLeafNode);
+            assertInstanceOf(LazyLeafNode.class, entry.childByArg(new NodeIdentifier(VALUE)));
+        }
+    }
+
+    private static ContainerNode parse(final String input, final boolean lazy) {
+        return parse(input, lazy, false);
+    }
+
+    private static ContainerNode parse(final String input, final boolean lazy, final boolean streaming) {
+        final var result = new NormalizationResultHolder();
+        final var stream = JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), CODEC_FACTORY)
+            .lazyLeafValues(lazy);
+        final var reader = new JsonReader(new StringReader(input));
+        if (streaming) {
+            stream.parseStreaming(reader);
+        } else {
+            stream.parse(reader);
+        }
+        return (ContainerNode) result.getResult().data();
+    }
+}
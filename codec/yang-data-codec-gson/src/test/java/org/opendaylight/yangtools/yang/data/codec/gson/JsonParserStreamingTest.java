@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JsonParserStreamingTest {
+    private static JSONCodecFactory CODEC_FACTORY;
+    private static String JSON;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        CODEC_FACTORY = JSONCodecFactorySupplier.RFC7951.getShared(
+            YangParserTestUtils.parseYangResource("/streaming/foo.yang"));
+        JSON = TestUtils.loadTextFile("/streaming/interfaces.json");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        CODEC_FACTORY = null;
+        JSON = null;
+    }
+
+    @Test
+    void testSameAsTree() {
+        assertEquals(parse(JSON, false), parse(JSON, true));
+    }
+
+    @Test
+    void testEntriesEmittedWhileReading() {
+        final var reader = new JsonReader(new StringReader(JSON));
+        final var result = new NormalizationResultHolder();
+        final var paths = new ArrayList<String>();
+        final var writer = new ForwardingNormalizedNodeStreamWriter() {
+            private final NormalizedNodeStreamWriter delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+
+            @Override
+            protected NormalizedNodeStreamWriter delegate() {
+                return delegate;
+            }
+
+            @Override
+            public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                    throws IOException {
+                paths.add(reader.getPath());
+                super.startMapEntryNode(identifier, childSizeHint);
+            }
+        };
+
+        JsonParserStream.create(writer, CODEC_FACTORY).parseStreaming(reader);
+        // First interface entry is started just after its key has been read, followed by the buffered vlan entries,
+        // second interface entry is started right after its first member
+        assertEquals(List.of(
+            "$.foo:interfaces.interface[0].name",
+            "$.foo:interfaces.interface[0].name",
+            "$.foo:interfaces.interface[0].name",
+            "$.foo:interfaces.interface[1].name"), paths);
+        assertEquals(parse(JSON, false), result.getResult().data());
+    }
+
+    @Test
+    void testMissingKey() throws Exception {
+        final var json = TestUtils.loadTextFile("/streaming/missing-key.json");
+        assertThrows(IllegalArgumentException.class, () -> parse(json, true));
+    }
+
+    @Test
+    void testMixedCases() throws Exception {
+        final var json = TestUtils.loadTextFile("/streaming/mixed-cases.json");
+        assertThrows(IllegalArgumentException.class, () -> parse(json, true));
+    }
+
+    private static NormalizedNode parse(final String json, final boolean streaming) {
+        final var result = new NormalizationResultHolder();
+        final var parser = JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), CODEC_FACTORY);
+        final var reader = new JsonReader(new StringReader(json));
+        if (streaming) {
+            parser.parseStreaming(reader);
+        } else {
+            parser.parse(reader);
+        }
+        return result.getResult().data();
+    }
+}
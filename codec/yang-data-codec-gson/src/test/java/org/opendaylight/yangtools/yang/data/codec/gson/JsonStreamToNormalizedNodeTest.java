@@ -242,5 +242,11 @@ class JsonStreamToNormalizedNodeTest extends AbstractComplexJsonTest {
         jsonParser.parse(new JsonReader(new StringReader(inputJson)));
         assertEquals(awaitedStructure, result.getResult().data(),
                 "Transformation of json input to normalized node wasn't successful.");
+
+        final var streamingResult = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(streamingResult), lhotkaCodecFactory)
+            .parseStreaming(new JsonReader(new StringReader(inputJson)));
+        assertEquals(awaitedStructure, streamingResult.getResult().data(),
+                "Streaming transformation of json input to normalized node wasn't successful.");
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ParallelJSONNormalizedNodeWriterTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName TAGS = QName.create(TOP, "tags");
+    private static final QName NESTED = QName.create(TOP, "nested");
+    private static final QName VALUE = QName.create(TOP, "value");
+    private static final QName CH = QName.create(TOP, "ch");
+    private static final QName A = QName.create(TOP, "a");
+    private static final QName B = QName.create(TOP, "b");
+    private static final QName ORDERED = QName.create(TOP, "ordered");
+    private static final QName EXTRA = QName.create("bar", "extra");
+
+    private static JSONCodecFactory CODEC_FACTORY;
+    private static ForkJoinPool POOL;
+
+    @BeforeAll
+    static void beforeAll() {
+        CODEC_FACTORY = JSONCodecFactorySupplier.RFC7951.getShared(YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                list entry {
+                  key "id name";
+                  leaf name {
+                    type string;
+                  }
+                  leaf id {
+                    type uint32;
+                  }
+                  leaf-list tags {
+                    type string;
+                  }
+                  container nested {
+                    leaf value {
+                      type string;
+                    }
+                  }
+                  choice ch {
+                    leaf a {
+                      type string;
+                    }
+                    leaf b {
+                      type uint16;
+                    }
+                  }
+                }
+                list ordered {
+                  ordered-by user;
+                  key id;
+                  leaf id {
+                    type uint32;
+                  }
+                }
+              }
+            }""", """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              augment /foo:top/foo:entry {
+                leaf extra {
+                  type string;
+                }
+              }
+            }"""));
+        POOL = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POOL.shutdown();
+        POOL = null;
+        CODEC_FACTORY = null;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 2 })
+    void testSameAsSequential(final int indentSize) throws IOException {
+        final var data = createData(1000, 40);
+        assertEquals(writeSequential(data, indentSize), writeParallel(data, indentSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 4 })
+    void testChunkBoundaries(final int indentSize) throws IOException {
+        // 32 entries are written as exactly two chunks, 17 entries are written sequentially
+        final var data = createData(32, 17);
+        assertEquals(writeSequential(data, indentSize), writeParallel(data, indentSize));
+    }
+
+    @Test
+    void testLazyFactoryRejected() {
+        final var lazy = JSONCodecFactorySupplier.RFC7951.createLazy(CODEC_FACTORY.getEffectiveModelContext());
+        assertThrows(IllegalArgumentException.class,
+            () -> ParallelJSONNormalizedNodeWriter.create(lazy, rootInference(), null, new StringWriter(), 0));
+    }
+
+    private static String writeSequential(final ContainerNode data, final int indentSize) throws IOException {
+        final var out = new StringWriter();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+                CODEC_FACTORY, rootInference(), null, JsonWriterFactory.createJsonWriter(out, indentSize)))) {
+            writer.write(data);
+        }
+        return out.toString();
+    }
+
+    private static String writeParallel(final ContainerNode data, final int indentSize) throws IOException {
+        final var out = new StringWriter();
+        try (var writer = ParallelJSONNormalizedNodeWriter.create(CODEC_FACTORY, rootInference(), null, out,
+                indentSize, POOL, 16)) {
+            writer.write(data);
+        }
+        return out.toString();
+    }
+
+    private static Inference rootInference() {
+        return Inference.ofDataTreePath(CODEC_FACTORY.getEffectiveModelContext());
+    }
+
+    private static ContainerNode createData(final int entries, final int ordered) {
+        final var entryBuilder = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ENTRY));
+        for (int i = 0; i < entries; i++) {
+            final var name = "name-" + i;
+            final var builder = Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, Map.of(ID, Uint32.valueOf(i), NAME, name)))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(ID, Uint32.valueOf(i)))
+                .withChild(Builders.containerBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(NESTED))
+                    .withChild(ImmutableNodes.leafNode(VALUE, "value \"" + i + '"'))
+                    .build())
+                .withChild(Builders.choiceBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(CH))
+                    .withChild(i % 2 == 0 ? ImmutableNodes.leafNode(A, "a" + i)
+                        : ImmutableNodes.leafNode(B, Uint16.valueOf(i)))
+                    .build());
+            if (i % 3 == 0) {
+                builder.withChild(Builders.leafSetBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(TAGS))
+                    .withChild(Builders.leafSetEntryBuilder()
+                        .withNodeIdentifier(new NodeWithValue<>(TAGS, "tag"))
+                        .withValue("tag")
+                        .build())
+                    .build());
+            }
+            if (i % 5 == 0) {
+                builder.withChild(ImmutableNodes.leafNode(EXTRA, "extra" + i));
+            }
+            entryBuilder.withChild(builder.build());
+        }
+
+        final var orderedBuilder = Builders.orderedMapBuilder().withNodeIdentifier(new NodeIdentifier(ORDERED));
+        for (int i = ordered; i > 0; i--) {
+            orderedBuilder.withChild(ImmutableNodes.mapEntry(ORDERED, ID, Uint32.valueOf(i)));
+        }
+
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(entryBuilder.build())
+            .withChild(orderedBuilder.build())
+            .build();
+    }
+}
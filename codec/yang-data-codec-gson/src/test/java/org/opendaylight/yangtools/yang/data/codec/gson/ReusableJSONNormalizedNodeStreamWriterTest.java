@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.concurrent.InstancePool;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ReusableJSONNormalizedNodeStreamWriterTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName COUNT = QName.create(TOP, "count");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static JSONCodecFactory CODEC_FACTORY;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf name {
+                  type string;
+                }
+                leaf count {
+                  type uint32;
+                }
+              }
+            }""");
+        CODEC_FACTORY = JSONCodecFactorySupplier.RFC7951.getShared(MODEL_CONTEXT);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        CODEC_FACTORY = null;
+    }
+
+    @Test
+    void testReuseWriter() throws IOException {
+        final var pool = new InstancePool<>(() -> ReusableJSONNormalizedNodeStreamWriter.create(CODEC_FACTORY, 0), 1);
+
+        for (var data : new ContainerNode[] { createData("one", 1), createData("two", 2) }) {
+            final var streamWriter = pool.acquire();
+            final var actual = new ByteArrayOutputStream();
+            streamWriter.reset(actual);
+            NormalizedNodeWriter.forStreamWriter(streamWriter).write(data);
+            streamWriter.close();
+            pool.release(streamWriter);
+
+            assertEquals(writeExclusive(data), actual.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testReuseWriterAfterFailure() throws IOException {
+        final var streamWriter = ReusableJSONNormalizedNodeStreamWriter.create(CODEC_FACTORY, 0);
+        streamWriter.reset(new ByteArrayOutputStream());
+        streamWriter.startContainerNode(new NodeIdentifier(TOP), 1);
+        streamWriter.startLeafNode(new NodeIdentifier(NAME));
+        // Incomplete document
+        assertThrows(IOException.class, streamWriter::close);
+
+        final var data = createData("three", 3);
+        final var actual = new ByteArrayOutputStream();
+        streamWriter.reset(actual);
+        NormalizedNodeWriter.forStreamWriter(streamWriter).write(data);
+        streamWriter.close();
+        assertEquals(writeExclusive(data), actual.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReuseParser() {
+        final var result = ReusableImmutableNormalizedNodeStreamWriter.create();
+        final var parser = JsonParserStream.create(result, CODEC_FACTORY);
+
+        parser.parse(new JsonReader(new StringReader("""
+            { "foo:top": { "name": "one", "count": 1 } }""")));
+        assertEquals(createData("one", 1), result.result().data());
+
+        // Malformed input, parser is left in an unknown state
+        result.reset();
+        assertThrows(JsonParseException.class, () -> parser.parse(new JsonReader(new StringReader("""
+            { "foo:top": { "name": "one", "count": }"""))));
+
+        // Reset to the top of the model and reuse
+        result.reset();
+        parser.reset(Inference.ofDataTreePath(MODEL_CONTEXT)).parse(new JsonReader(new StringReader("""
+            { "foo:top": { "name": "two", "count": 2 } }""")));
+        assertEquals(createData("two", 2), result.result().data());
+
+        assertThrows(IllegalArgumentException.class, () -> parser.reset(Inference.ofDataTreePath(
+            YangParserTestUtils.parseYang("module bar { namespace bar; prefix bar; }"))));
+    }
+
+    private static String writeExclusive(final ContainerNode data) throws IOException {
+        final var expected = new StringWriter();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+                CODEC_FACTORY, JsonWriterFactory.createJsonWriter(expected)))) {
+            writer.write(data);
+        }
+        return expected.toString();
+    }
+
+    private static ContainerNode createData(final String name, final int count) {
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(COUNT, Uint32.valueOf(count)))
+            .build();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class Utf8JsonWriterTest {
+    @FunctionalInterface
+    private interface WriterAction {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName KIND = QName.create(TOP, "kind");
+    private static final QName BIG = QName.create(TOP, "big");
+    private static final QName UBIG = QName.create(TOP, "ubig");
+    private static final QName SMALL = QName.create(TOP, "small");
+    private static final QName USMALL = QName.create(TOP, "usmall");
+    private static final QName DEC = QName.create(TOP, "dec");
+    private static final QName TEXT = QName.create(TOP, "text");
+    private static final QName ONE = QName.create("bar", "one");
+    private static final QName EXTRA = QName.create("bar", "extra");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity kind;
+              container top {
+                leaf kind {
+                  type identityref {
+                    base kind;
+                  }
+                }
+                leaf big {
+                  type int64;
+                }
+                leaf ubig {
+                  type uint64;
+                }
+                leaf small {
+                  type int16;
+                }
+                leaf usmall {
+                  type uint8;
+                }
+                leaf dec {
+                  type decimal64 {
+                    fraction-digits 3;
+                  }
+                }
+                leaf text {
+                  type string;
+                }
+              }
+            }""", """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              identity one {
+                base foo:kind;
+              }
+              augment /foo:top {
+                leaf extra {
+                  type string;
+                }
+              }
+            }""");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 2 })
+    void testStructure(final int indentSize) throws IOException {
+        assertSameOutput(indentSize, writer -> writer.beginObject()
+            .name("empty-object").beginObject().endObject()
+            .name("empty-array").beginArray().endArray()
+            .name("array").beginArray()
+                .value(true).value(Boolean.FALSE).nullValue().value("str").jsonValue("{\"raw\":1}")
+                .beginObject().name("a").value(1).endObject()
+            .endArray()
+            .name("null").nullValue()
+            .name("skipped").value((String) null)
+            .endObject());
+    }
+
+    @Test
+    void testSerializeNulls() throws IOException {
+        assertSameOutput(0, writer -> {
+            writer.setSerializeNulls(false);
+            writer.beginObject().name("a").nullValue().name("b").value(1).name("c").value((Number) null).endObject();
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testStrings(final boolean htmlSafe) throws IOException {
+        assertSameOutput(0, writer -> {
+            writer.setHtmlSafe(htmlSafe);
+            writer.beginArray()
+                .value("quote\" backslash\\ controls\b\f\n\r\t" + (char) 0 + (char) 0x1f + (char) 0x7f)
+                .value("html <&>='")
+                .value("latin é, cjk 中文, separators " + (char) 0x2028 + (char) 0x2029)
+                .value("surrogates 😀, unpaired " + (char) 0xd800 + 'x' + (char) 0xdc00)
+                .endArray();
+        });
+    }
+
+    @Test
+    void testNumbers() throws IOException {
+        assertSameOutput(0, writer -> writer.beginArray()
+            .value(0).value(-1).value(Long.MIN_VALUE).value(Long.MAX_VALUE)
+            .value(1.5).value(-0.25F).value(Double.valueOf(3.0)).value(new BigDecimal("1.10"))
+            .value(Integer.valueOf(Integer.MIN_VALUE)).value(Short.valueOf((short) -7)).value(Byte.valueOf((byte) 9))
+            .value(Uint8.MAX_VALUE).value(Uint16.valueOf(4096)).value(Uint64.MAX_VALUE).value(Uint64.ZERO)
+            .value(Decimal64.valueOf("0.001")).value(Decimal64.valueOf("-0.001")).value(Decimal64.valueOf("12.500"))
+            .value(Decimal64.valueOf("-12.5")).value(Decimal64.valueOf(1, 0)).value(Decimal64.minValueIn(1))
+            .value(Decimal64.maxValueIn(18)).value(Decimal64.minValueIn(18))
+            .endArray());
+    }
+
+    @Test
+    void testIndentSetAfterCreation() throws IOException {
+        // The indent is picked up when the first value is written
+        assertSameOutput(0, writer -> {
+            writer.setIndent("\t");
+            writer.beginObject().name("a").value(1).name("b").beginArray().value(true).endArray().endObject();
+        });
+    }
+
+    @Test
+    void testQuotedNumbers() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (var writer = new Utf8JsonWriter(out, "")) {
+            writer.beginArray();
+            writer.quotedValue(Long.MIN_VALUE);
+            writer.quotedValue(Uint64.MAX_VALUE);
+            writer.quotedValue(Decimal64.minValueIn(18));
+            writer.quotedValue(Decimal64.valueOf("-12.500"));
+            writer.endArray();
+        }
+        assertEquals("[\"" + Long.MIN_VALUE + "\",\"" + Uint64.MAX_VALUE + "\",\"" + Decimal64.minValueIn(18)
+            + "\",\"-12.5\"]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testLargeOutput() throws IOException {
+        // Exceeds the internal buffer multiple times
+        final var str = "中".repeat(10000);
+        assertSameOutput(1, writer -> {
+            writer.beginArray();
+            for (int i = 0; i < 100; i++) {
+                writer.value(str).value(i);
+            }
+            writer.endArray();
+        });
+    }
+
+    @Test
+    void testErrors() throws IOException {
+        final var nested = new Utf8JsonWriter(OutputStream.nullOutputStream(), "");
+        assertThrows(IllegalStateException.class, () -> nested.name("a").value(1));
+
+        final var numbers = new Utf8JsonWriter(OutputStream.nullOutputStream(), "");
+        numbers.beginArray();
+        assertThrows(IllegalArgumentException.class, () -> numbers.value(Double.NaN));
+        assertThrows(IOException.class, numbers::close);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 2 })
+    void testSharedNormalizedNode(final int indentSize) throws IOException {
+        assertSameNormalizedNodeOutput(JSONCodecFactorySupplier.RFC7951.getShared(MODEL_CONTEXT), indentSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 2 })
+    void testPrecomputedNormalizedNode(final int indentSize) throws IOException {
+        assertSameNormalizedNodeOutput(JSONCodecFactorySupplier.RFC7951.getPrecomputed(MODEL_CONTEXT), indentSize);
+    }
+
+    private static void assertSameNormalizedNodeOutput(final JSONCodecFactory codecs, final int indentSize)
+            throws IOException {
+        final var data = createData();
+        assertSameOutput(indentSize, writer -> {
+            try (var nnWriter = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter
+                    .createExclusiveWriter(codecs, Inference.ofDataTreePath(MODEL_CONTEXT), null, writer))) {
+                nnWriter.write(data);
+            }
+        });
+    }
+
+    private static ContainerNode createData() {
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(ImmutableNodes.leafNode(KIND, ONE))
+            .withChild(ImmutableNodes.leafNode(BIG, Long.MIN_VALUE))
+            .withChild(ImmutableNodes.leafNode(UBIG, Uint64.MAX_VALUE))
+            .withChild(ImmutableNodes.leafNode(SMALL, (short) -300))
+            .withChild(ImmutableNodes.leafNode(USMALL, Uint8.valueOf(200)))
+            .withChild(ImmutableNodes.leafNode(DEC, Decimal64.valueOf("-1.250")))
+            .withChild(ImmutableNodes.leafNode(TEXT, "text \"é中😀\"\n"))
+            .withChild(ImmutableNodes.leafNode(EXTRA, "extra"))
+            .build();
+    }
+
+    private static void assertSameOutput(final int indentSize, final WriterAction action) throws IOException {
+        final var expected = new ByteArrayOutputStream();
+        final var gsonWriter = JsonWriterFactory.createJsonWriter(
+            new OutputStreamWriter(expected, StandardCharsets.UTF_8), indentSize);
+        action.write(gsonWriter);
+        gsonWriter.close();
+
+        final var actual = new ByteArrayOutputStream();
+        final var utf8Writer = JsonWriterFactory.createJsonWriter(actual, indentSize);
+        action.write(utf8Writer);
+        utf8Writer.close();
+
+        assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+}
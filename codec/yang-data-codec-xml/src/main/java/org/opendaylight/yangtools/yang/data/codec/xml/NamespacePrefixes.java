@@ -44,6 +44,14 @@ final class NamespacePrefixes implements Mutable {
         this.pref = pref;
     }
 
+    /**
+     * Forget all emitted prefixes, so that prefix assignment starts anew.
+     */
+    void reset() {
+        emittedPrefixes.clear();
+        counter = 0;
+    }
+
     List<Entry<XMLNamespace, String>> emittedPrefixes() {
         return emittedPrefixes.entrySet().stream()
             // Order by prefix
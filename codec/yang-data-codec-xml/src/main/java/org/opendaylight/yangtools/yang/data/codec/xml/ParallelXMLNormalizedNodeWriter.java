@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ForkJoinPool;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.util.AbstractParallelNormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+
+/**
+ * A {@link NormalizedNodeWriter} emitting XML, which encodes entries of large lists concurrently. The output is the
+ * same as what a {@link XMLStreamNormalizedNodeStreamWriter#create(XMLStreamWriter,
+ * EffectiveStatementInference, boolean)} writer driven by
+ * {@link NormalizedNodeWriter#forStreamWriter(org.opendaylight.yangtools.yang.data.api.schema.stream.
+ * NormalizedNodeStreamWriter)} would produce, with one caveat: each chunk of entries is encoded with only the
+ * namespace bindings of the enclosing element which belong to modules known to the model, and with its own set of
+ * generated prefixes. Prefixes of namespaces not bound by an enclosing element and not known to the model, such as
+ * those of unbound metadata or of identities when {@code preferPrefixes} is not set, may therefore differ.
+ *
+ * <p>
+ * Each chunk is encoded by its own {@link XMLStreamWriter} and {@link XMLStreamNormalizedNodeStreamWriter}, which do
+ * not use an {@link XmlCodecFactory}. The only objects shared between chunks are the {@link XMLOutputFactory}, which
+ * is required to be thread-safe, and the immutable model.
+ */
+@Beta
+public final class ParallelXMLNormalizedNodeWriter extends AbstractParallelNormalizedNodeWriter {
+    // Local name of the element used to replicate namespace bindings of the main writer
+    private static final String CHUNK_ROOT = "chunk";
+
+    private final SchemaAwareXMLStreamNormalizedNodeStreamWriter xmlWriter;
+    private final XMLOutputFactory factory;
+    private final boolean preferPrefixes;
+    private final Writer out;
+
+    private ParallelXMLNormalizedNodeWriter(final XMLOutputFactory factory, final Writer out,
+            final SchemaAwareXMLStreamNormalizedNodeStreamWriter xmlWriter, final boolean preferPrefixes,
+            final ForkJoinPool pool, final int chunkSize) {
+        super(xmlWriter, pool, chunkSize);
+        this.factory = requireNonNull(factory);
+        this.out = requireNonNull(out);
+        this.xmlWriter = xmlWriter;
+        this.preferPrefixes = preferPrefixes;
+    }
+
+    /**
+     * Create a new writer, which encodes lists with more than {@link #DEFAULT_CHUNK_SIZE} entries using
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param factory {@link XMLOutputFactory} to use
+     * @param out Output writer
+     * @param inference root node inference
+     * @param preferPrefixes prefer prefixes known to the model
+     * @return A new writer
+     * @throws IOException if the XMLStreamWriter cannot be created
+     */
+    public static @NonNull ParallelXMLNormalizedNodeWriter create(final XMLOutputFactory factory, final Writer out,
+            final EffectiveStatementInference inference, final boolean preferPrefixes) throws IOException {
+        return create(factory, out, inference, preferPrefixes, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new writer, which encodes lists with more than {@code chunkSize} entries using specified pool.
+     *
+     * @param factory {@link XMLOutputFactory} to use
+     * @param out Output writer
+     * @param inference root node inference
+     * @param preferPrefixes prefer prefixes known to the model
+     * @param pool pool to encode chunks in
+     * @param chunkSize number of list entries encoded by a single task
+     * @return A new writer
+     * @throws IOException if the XMLStreamWriter cannot be created
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public static @NonNull ParallelXMLNormalizedNodeWriter create(final XMLOutputFactory factory, final Writer out,
+            final EffectiveStatementInference inference, final boolean preferPrefixes, final ForkJoinPool pool,
+            final int chunkSize) throws IOException {
+        final var xmlWriter = (SchemaAwareXMLStreamNormalizedNodeStreamWriter) XMLStreamNormalizedNodeStreamWriter
+            .create(createXMLStreamWriter(factory, out), inference, preferPrefixes);
+        return new ParallelXMLNormalizedNodeWriter(factory, out, xmlWriter, preferPrefixes, pool, chunkSize);
+    }
+
+    @Override
+    protected ChunkEncoder newChunkEncoder() {
+        final var inference = xmlWriter.currentInference();
+
+        // Capture namespace bindings in effect
+        final var context = xmlWriter.namespaceContext();
+        final var defaultNamespace = context.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX);
+        final var bindings = new LinkedHashMap<String, String>();
+        for (var module : xmlWriter.modelContext().getModuleStatements().values()) {
+            final var namespace = module.namespace().argument().toString();
+            final var prefix = context.getPrefix(namespace);
+            if (prefix != null && !prefix.isEmpty()) {
+                bindings.putIfAbsent(prefix, namespace);
+            }
+        }
+
+        return entries -> {
+            final var sw = new StringWriter();
+            try {
+                final var chunkWriter = createXMLStreamWriter(factory, sw);
+                if (defaultNamespace != null && !defaultNamespace.isEmpty()) {
+                    chunkWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, CHUNK_ROOT, defaultNamespace);
+                    chunkWriter.writeDefaultNamespace(defaultNamespace);
+                } else {
+                    chunkWriter.writeStartElement(CHUNK_ROOT);
+                }
+                for (var binding : bindings.entrySet()) {
+                    chunkWriter.writeNamespace(binding.getKey(), binding.getValue());
+                }
+                // Terminate the start tag
+                chunkWriter.writeCharacters("");
+                chunkWriter.flush();
+                final int mark = sw.getBuffer().length();
+
+                final var writer = NormalizedNodeWriter.forStreamWriter(
+                    XMLStreamNormalizedNodeStreamWriter.create(chunkWriter, inference, preferPrefixes));
+                for (var entry : entries) {
+                    writer.write(entry);
+                }
+                writer.flush();
+                return sw.getBuffer().substring(mark);
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to encode chunk", e);
+            }
+        };
+    }
+
+    @Override
+    protected void writeChunk(final String chunk) throws IOException {
+        xmlWriter.writeRaw(out, chunk);
+    }
+
+    private static @NonNull XMLStreamWriter createXMLStreamWriter(final XMLOutputFactory factory,
+            final Writer writer) throws IOException {
+        try {
+            return factory.createXMLStreamWriter(writer);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to create XMLStreamWriter", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import com.google.common.annotations.Beta;
+import java.io.OutputStream;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.util.NormalizedNodeStreamWriterStack;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+
+/**
+ * An {@link XMLStreamNormalizedNodeStreamWriter} which can be reused to emit any number of documents, one at a time.
+ * It writes UTF-8 encoded XML directly to an {@link OutputStream}, just as a writer created on top of
+ * {@link XMLStreamNormalizedNodeStreamWriter#createUtf8XMLStreamWriter(OutputStream)} does, and retains its output
+ * buffer, its {@link NormalizedNodeStreamWriterStack} and other internal state between documents.
+ *
+ * <p>
+ * Each document is started by {@link #reset(OutputStream)} and is completed by {@link #close()}, which flushes the
+ * output stream, but does not close it. Instances are not thread-safe, but they can be pooled, for example in an
+ * {@link org.opendaylight.yangtools.util.concurrent.InstancePool}.
+ */
+@Beta
+public final class ReusableXMLStreamNormalizedNodeStreamWriter extends SchemaAwareXMLStreamNormalizedNodeStreamWriter {
+    private final @NonNull Utf8XMLStreamWriter xmlWriter;
+
+    private ReusableXMLStreamNormalizedNodeStreamWriter(final Utf8XMLStreamWriter xmlWriter,
+            final EffectiveModelContext modelContext, final NormalizedNodeStreamWriterStack tracker,
+            final boolean preferPrefixes) {
+        super(xmlWriter, modelContext, tracker, preferPrefixes);
+        this.xmlWriter = xmlWriter;
+    }
+
+    /**
+     * Create a new writer, rooted at the top of the specified {@link EffectiveModelContext}.
+     *
+     * @param context Associated {@link EffectiveModelContext}
+     * @param preferPrefixes prefer prefixes known to {@code context}
+     * @return A new writer
+     */
+    public static @NonNull ReusableXMLStreamNormalizedNodeStreamWriter create(final EffectiveModelContext context,
+            final boolean preferPrefixes) {
+        return new ReusableXMLStreamNormalizedNodeStreamWriter(newXmlWriter(), context,
+            NormalizedNodeStreamWriterStack.of(context), preferPrefixes);
+    }
+
+    /**
+     * Create a new writer, rooted at the specified node.
+     *
+     * @param inference root node inference
+     * @param preferPrefixes prefer prefixes known to the model
+     * @return A new writer
+     */
+    public static @NonNull ReusableXMLStreamNormalizedNodeStreamWriter create(
+            final EffectiveStatementInference inference, final boolean preferPrefixes) {
+        return new ReusableXMLStreamNormalizedNodeStreamWriter(newXmlWriter(), inference.getEffectiveModelContext(),
+            NormalizedNodeStreamWriterStack.of(inference), preferPrefixes);
+    }
+
+    /**
+     * Start a new document, which will be written to the specified output stream. Any state left over from a previous
+     * document, including pending output, is discarded. This method needs to be invoked before each document,
+     * including the first one.
+     *
+     * @param out Output stream
+     * @throws NullPointerException if {@code out} is null
+     */
+    public void reset(final OutputStream out) {
+        xmlWriter.reset(out);
+        resetState();
+    }
+
+    private static @NonNull Utf8XMLStreamWriter newXmlWriter() {
+        return new Utf8XMLStreamWriter(OutputStream.nullOutputStream());
+    }
+}
@@ -34,24 +34,38 @@ import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 
-final class SchemaAwareXMLStreamNormalizedNodeStreamWriter
-        extends XMLStreamNormalizedNodeStreamWriter<TypedDataSchemaNode> {
+sealed class SchemaAwareXMLStreamNormalizedNodeStreamWriter
+        extends XMLStreamNormalizedNodeStreamWriter<TypedDataSchemaNode>
+        permits ReusableXMLStreamNormalizedNodeStreamWriter {
     private final NormalizedNodeStreamWriterStack tracker;
     private final SchemaAwareXMLStreamWriterUtils streamUtils;
 
     private SchemaAwareXMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer,
             final EffectiveModelContext modelContext, final NormalizedNodeStreamWriterStack tracker,
-            final @Nullable PreferredPrefixes pref) {
-        super(writer, pref);
+            final XmlModelNames names, final @Nullable PreferredPrefixes pref) {
+        super(writer, pref, names);
         this.tracker = requireNonNull(tracker);
         streamUtils = new SchemaAwareXMLStreamWriterUtils(modelContext, pref);
     }
 
+    private SchemaAwareXMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer,
+            final EffectiveModelContext modelContext, final NormalizedNodeStreamWriterStack tracker,
+            final XmlModelNames names, final boolean modelPrefixes) {
+        this(writer, modelContext, tracker, names, modelPrefixes ? names.preferredPrefixes() : null);
+    }
+
     SchemaAwareXMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer,
             final EffectiveModelContext modelContext, final NormalizedNodeStreamWriterStack tracker,
             final boolean modelPrefixes) {
-        this(writer, modelContext, tracker, modelPrefixes ? new PreferredPrefixes.Shared(modelContext) : null);
+        this(writer, modelContext, tracker, XmlModelNames.of(modelContext), modelPrefixes);
+    }
+
+    @Override
+    void resetState() {
+        super.resetState();
+        tracker.reset();
     }
 
     @Override
@@ -172,6 +186,24 @@ final class SchemaAwareXMLStreamNormalizedNodeStreamWriter
         tracker.startAnydataNode(name);
     }
 
+    /**
+     * Return the {@link Inference} of the node currently being written.
+     *
+     * @return Current inference
+     */
+    @NonNull Inference currentInference() {
+        return tracker.toInference();
+    }
+
+    /**
+     * Return the {@link EffectiveModelContext} this writer is bound to.
+     *
+     * @return An EffectiveModelContext
+     */
+    @NonNull EffectiveModelContext modelContext() {
+        return streamUtils.modelContext();
+    }
+
     private @NonNull TypeDefinition<?> resolveType(final @NonNull TypeDefinition<?> type) throws XMLStreamException {
         if (type instanceof LeafrefTypeDefinition leafref) {
             try {
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Strings;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,14 +40,37 @@ final class StreamWriterFacade extends ValueWriter {
 
     private final XMLStreamWriter writer;
     private final NamespacePrefixes prefixes;
+    // Non-null only if both writer is a Utf8XMLStreamWriter and we have model names, i.e. we can use pre-encoded names
+    private final @Nullable Utf8XMLStreamWriter utf8Writer;
+    private final @Nullable XmlModelNames names;
 
     // QName of an element we delayed emitting. This only happens if it is a naked element, without any attributes,
     // namespace declarations or value.
     private QName openElement;
+    // Name of the delayed element, if we are using pre-encoded names
+    private XmlElementName openName;
 
-    StreamWriterFacade(final XMLStreamWriter writer, final @Nullable PreferredPrefixes pref) {
+    StreamWriterFacade(final XMLStreamWriter writer, final @Nullable PreferredPrefixes pref,
+            final @Nullable XmlModelNames names) {
         this.writer = requireNonNull(writer);
         prefixes = new NamespacePrefixes(writer.getNamespaceContext(), pref);
+        if (names != null && writer instanceof Utf8XMLStreamWriter utf8) {
+            utf8Writer = utf8;
+            this.names = names;
+        } else {
+            utf8Writer = null;
+            this.names = null;
+        }
+    }
+
+    /**
+     * Reset this facade to its initial state. This is used when the underlying writer has been reset to start a new
+     * document.
+     */
+    void reset() {
+        openElement = null;
+        openName = null;
+        prefixes.reset();
     }
 
     void writeCharacters(final String text) throws XMLStreamException {
@@ -82,7 +106,10 @@ final class StreamWriterFacade extends ValueWriter {
     }
 
     private void flushElement() throws XMLStreamException {
-        if (openElement != null) {
+        if (openName != null) {
+            utf8Writer.writeStartElement(openName);
+            openName = null;
+        } else if (openElement != null) {
             writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, openElement.getLocalName(),
                 openElement.getNamespace().toString());
             openElement = null;
@@ -92,6 +119,17 @@ final class StreamWriterFacade extends ValueWriter {
     void writeStartElement(final QName qname) throws XMLStreamException {
         flushElement();
 
+        if (utf8Writer != null) {
+            final var name = names.elementName(qname);
+            if (name.namespace().equals(utf8Writer.defaultNamespace())) {
+                openName = name;
+            } else {
+                utf8Writer.writeStartElement(name);
+                utf8Writer.writeDefaultNamespace(name);
+            }
+            return;
+        }
+
         final String namespace = qname.getNamespace().toString();
         final NamespaceContext context = writer.getNamespaceContext();
         final boolean reuseNamespace;
@@ -110,7 +148,10 @@ final class StreamWriterFacade extends ValueWriter {
     }
 
     void writeEndElement() throws XMLStreamException {
-        if (openElement != null) {
+        if (openName != null) {
+            utf8Writer.writeEmptyElement(openName);
+            openName = null;
+        } else if (openElement != null) {
             writer.writeEmptyElement(XMLConstants.DEFAULT_NS_PREFIX, openElement.getLocalName(),
                 openElement.getNamespace().toString());
             openElement = null;
@@ -161,6 +202,14 @@ final class StreamWriterFacade extends ValueWriter {
         writer.flush();
     }
 
+    void writeRaw(final Writer out, final String text) throws XMLStreamException, IOException {
+        flushElement();
+        // Close any pending start tag and push everything to the output before bypassing the writer
+        writer.writeCharacters("");
+        writer.flush();
+        out.write(text);
+    }
+
     void anydataWriteStreamReader(final XMLStreamReader reader) throws XMLStreamException {
         flushElement();
 
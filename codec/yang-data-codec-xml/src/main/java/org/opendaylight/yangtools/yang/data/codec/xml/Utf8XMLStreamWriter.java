@@ -0,0 +1,681 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A non-repairing {@link XMLStreamWriter}, which encodes UTF-8 directly into an {@link OutputStream}. Unlike generic
+ * implementations it does not support any configuration and it refuses to emit characters which are not allowed in
+ * XML 1.0. In exchange it provides {@link StreamWriterFacade} with the ability to emit elements using pre-encoded
+ * {@link XmlElementName}s.
+ *
+ * <p>
+ * As specified by {@link XMLStreamWriter#close()}, closing this writer does not close the underlying stream, it only
+ * flushes it.
+ */
+final class Utf8XMLStreamWriter implements XMLStreamWriter {
+    // Escaping applied to written strings
+    private enum Escape {
+        NONE,
+        TEXT,
+        ATTRIBUTE
+    }
+
+    // States of the current start tag
+    private static final int TAG_NONE = 0;
+    private static final int TAG_START = 1;
+    private static final int TAG_EMPTY = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final OutputStream NULL_OUTPUT = OutputStream.nullOutputStream();
+    private static final int INITIAL_DEPTH = 16;
+
+    private static final byte[] EMPTY_TAG_END = ascii("/>");
+    private static final byte[] XMLNS = ascii(" xmlns");
+    private static final byte[] AMP = ascii("&amp;");
+    private static final byte[] LT = ascii("&lt;");
+    private static final byte[] GT = ascii("&gt;");
+    private static final byte[] QUOT = ascii("&quot;");
+    private static final byte[] TAB = ascii("&#9;");
+    private static final byte[] LF = ascii("&#10;");
+    private static final byte[] CR = ascii("&#13;");
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final Context context = new Context();
+    private OutputStream out;
+    private int count;
+
+    // End tags of open elements
+    private byte[][] endTags = new byte[INITIAL_DEPTH][];
+    // Number of namespace bindings at the start of each open element
+    private int[] scopeStarts = new int[INITIAL_DEPTH];
+    private int depth;
+
+    // Namespace bindings, innermost last
+    private String[] bindingPrefixes = new String[INITIAL_DEPTH];
+    private String[] bindingNamespaces = new String[INITIAL_DEPTH];
+    private int bindingCount;
+
+    private @Nullable NamespaceContext rootContext;
+    private int tagState = TAG_NONE;
+
+    Utf8XMLStreamWriter(final OutputStream out) {
+        this.out = requireNonNull(out);
+    }
+
+    /**
+     * Reset this writer to start a new document, which is written to the specified output stream. Any pending output is
+     * discarded, internal buffers are retained.
+     *
+     * @param newOut Output stream
+     */
+    void reset(final OutputStream newOut) {
+        out = requireNonNull(newOut);
+        count = 0;
+        depth = 0;
+        bindingCount = 0;
+        rootContext = null;
+        tagState = TAG_NONE;
+    }
+
+    @Override
+    public void writeStartElement(final String localName) throws XMLStreamException {
+        startElement(XMLConstants.DEFAULT_NS_PREFIX, localName, TAG_START);
+    }
+
+    @Override
+    public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        startElement(requirePrefix(namespaceURI), localName, TAG_START);
+    }
+
+    @Override
+    public void writeStartElement(final String prefix, final String localName, final String namespaceURI)
+            throws XMLStreamException {
+        startElement(prefix, localName, TAG_START);
+    }
+
+    /**
+     * Write the start tag of an element with a pre-encoded name. The element's namespace is not declared.
+     *
+     * @param name Element name
+     * @throws XMLStreamException if an error occurs
+     */
+    void writeStartElement(final XmlElementName name) throws XMLStreamException {
+        startElement(name, TAG_START);
+    }
+
+    @Override
+    public void writeEmptyElement(final String localName) throws XMLStreamException {
+        startElement(XMLConstants.DEFAULT_NS_PREFIX, localName, TAG_EMPTY);
+    }
+
+    @Override
+    public void writeEmptyElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        startElement(requirePrefix(namespaceURI), localName, TAG_EMPTY);
+    }
+
+    @Override
+    public void writeEmptyElement(final String prefix, final String localName, final String namespaceURI)
+            throws XMLStreamException {
+        startElement(prefix, localName, TAG_EMPTY);
+    }
+
+    /**
+     * Write an empty element with a pre-encoded name. The element's namespace is not declared.
+     *
+     * @param name Element name
+     * @throws XMLStreamException if an error occurs
+     */
+    void writeEmptyElement(final XmlElementName name) throws XMLStreamException {
+        startElement(name, TAG_EMPTY);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        if (depth == 0) {
+            throw new XMLStreamException("No element to end");
+        }
+        if (tagState == TAG_START) {
+            // Start tag immediately followed by end tag: make it an empty element
+            writeBytes(EMPTY_TAG_END);
+            tagState = TAG_NONE;
+            popElement();
+            return;
+        }
+
+        closeStartTag();
+        if (depth == 0) {
+            throw new XMLStreamException("No element to end");
+        }
+        writeBytes(endTags[depth - 1]);
+        popElement();
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth != 0) {
+            writeEndElement();
+        }
+        // An empty element could have been left open at top level
+        closeStartTag();
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        try {
+            flush();
+        } finally {
+            // Release the output stream, so it can be reclaimed while we are idle
+            out = NULL_OUTPUT;
+        }
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        flushBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException("Failed to flush output", e);
+        }
+    }
+
+    @Override
+    public void writeAttribute(final String localName, final String value) throws XMLStreamException {
+        attribute(XMLConstants.DEFAULT_NS_PREFIX, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(final String prefix, final String namespaceURI, final String localName,
+            final String value) throws XMLStreamException {
+        attribute(prefix, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(final String namespaceURI, final String localName, final String value)
+            throws XMLStreamException {
+        attribute(requirePrefix(namespaceURI), localName, value);
+    }
+
+    @Override
+    public void writeNamespace(final String prefix, final String namespaceURI) throws XMLStreamException {
+        if (prefix == null || prefix.isEmpty() || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            writeDefaultNamespace(namespaceURI);
+            return;
+        }
+
+        checkStartTag();
+        writeBytes(XMLNS);
+        writeByte(':');
+        writeString(prefix, Escape.NONE);
+        writeByte('=');
+        writeByte('"');
+        writeString(namespaceURI, Escape.ATTRIBUTE);
+        writeByte('"');
+        bind(prefix, namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(final String namespaceURI) throws XMLStreamException {
+        checkStartTag();
+        writeBytes(XMLNS);
+        writeByte('=');
+        writeByte('"');
+        writeString(namespaceURI, Escape.ATTRIBUTE);
+        writeByte('"');
+        bind(XMLConstants.DEFAULT_NS_PREFIX, namespaceURI);
+    }
+
+    /**
+     * Declare the namespace of a pre-encoded name as the default namespace of the current element.
+     *
+     * @param name Element name
+     * @throws XMLStreamException if an error occurs
+     */
+    void writeDefaultNamespace(final XmlElementName name) throws XMLStreamException {
+        checkStartTag();
+        writeBytes(name.defaultNamespaceDeclaration());
+        bind(XMLConstants.DEFAULT_NS_PREFIX, name.namespace());
+    }
+
+    @Override
+    public void writeComment(final String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<!--");
+        writeString(data, Escape.NONE);
+        writeAscii("-->");
+    }
+
+    @Override
+    public void writeProcessingInstruction(final String target) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<?");
+        writeString(target, Escape.NONE);
+        writeAscii("?>");
+    }
+
+    @Override
+    public void writeProcessingInstruction(final String target, final String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<?");
+        writeString(target, Escape.NONE);
+        writeByte(' ');
+        writeString(data, Escape.NONE);
+        writeAscii("?>");
+    }
+
+    @Override
+    public void writeCData(final String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<![CDATA[");
+        // ']]>' cannot appear in a CDATA section, split it across two sections
+        writeString(data.replace("]]>", "]]]]><![CDATA[>"), Escape.NONE);
+        writeAscii("]]>");
+    }
+
+    @Override
+    public void writeDTD(final String dtd) throws XMLStreamException {
+        closeStartTag();
+        writeString(dtd, Escape.NONE);
+    }
+
+    @Override
+    public void writeEntityRef(final String name) throws XMLStreamException {
+        closeStartTag();
+        writeByte('&');
+        writeString(name, Escape.NONE);
+        writeByte(';');
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writeStartDocument("UTF-8", "1.0");
+    }
+
+    @Override
+    public void writeStartDocument(final String version) throws XMLStreamException {
+        writeStartDocument("UTF-8", version);
+    }
+
+    @Override
+    public void writeStartDocument(final String encoding, final String version) throws XMLStreamException {
+        if (!StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding)) {
+            throw new XMLStreamException("Unsupported encoding " + encoding);
+        }
+        writeAscii("<?xml version=\"");
+        writeString(version, Escape.ATTRIBUTE);
+        writeAscii("\" encoding=\"");
+        writeString(encoding, Escape.ATTRIBUTE);
+        writeAscii("\"?>");
+    }
+
+    @Override
+    public void writeCharacters(final String text) throws XMLStreamException {
+        closeStartTag();
+        writeString(text, Escape.TEXT);
+    }
+
+    @Override
+    public void writeCharacters(final char[] text, final int start, final int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public String getPrefix(final String uri) {
+        return context.getPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(final String prefix, final String uri) {
+        bind(requireNonNull(prefix), requireNonNull(uri));
+    }
+
+    @Override
+    public void setDefaultNamespace(final String uri) {
+        bind(XMLConstants.DEFAULT_NS_PREFIX, requireNonNull(uri));
+    }
+
+    @Override
+    public void setNamespaceContext(final NamespaceContext namespaceContext) throws XMLStreamException {
+        if (depth != 0 || bindingCount != 0) {
+            throw new XMLStreamException("Namespace context can only be set before any namespace is bound");
+        }
+        rootContext = namespaceContext;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return context;
+    }
+
+    @Override
+    public Object getProperty(final String name) {
+        if (XMLOutputFactory.IS_REPAIRING_NAMESPACES.equals(name)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Property " + name + " is not supported");
+    }
+
+    /**
+     * Return the namespace currently bound to the default prefix.
+     *
+     * @return Default namespace
+     */
+    @NonNull String defaultNamespace() {
+        return context.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX);
+    }
+
+    static @NonNull String escapeAttribute(final String value) {
+        final var sb = new StringBuilder(value.length());
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '"' -> sb.append("&quot;");
+                case '\t' -> sb.append("&#9;");
+                case '\n' -> sb.append("&#10;");
+                case '\r' -> sb.append("&#13;");
+                default -> sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void startElement(final String prefix, final String localName, final int state)
+            throws XMLStreamException {
+        closeStartTag();
+        final var name = prefix == null || prefix.isEmpty() ? requireNonNull(localName) : prefix + ':' + localName;
+        writeByte('<');
+        writeString(name, Escape.NONE);
+        pushElement(("</" + name + '>').getBytes(StandardCharsets.UTF_8));
+        tagState = state;
+    }
+
+    private void startElement(final XmlElementName name, final int state) throws XMLStreamException {
+        closeStartTag();
+        writeBytes(name.startTag());
+        pushElement(name.endTag());
+        tagState = state;
+    }
+
+    private void attribute(final String prefix, final String localName, final String value)
+            throws XMLStreamException {
+        checkStartTag();
+        writeByte(' ');
+        if (prefix != null && !prefix.isEmpty()) {
+            writeString(prefix, Escape.NONE);
+            writeByte(':');
+        }
+        writeString(localName, Escape.NONE);
+        writeByte('=');
+        writeByte('"');
+        writeString(value, Escape.ATTRIBUTE);
+        writeByte('"');
+    }
+
+    private String requirePrefix(final String namespaceURI) throws XMLStreamException {
+        final var prefix = context.getPrefix(namespaceURI);
+        if (prefix == null) {
+            throw new XMLStreamException("Namespace " + namespaceURI + " is not bound");
+        }
+        return prefix;
+    }
+
+    private void checkStartTag() throws XMLStreamException {
+        if (tagState == TAG_NONE) {
+            throw new XMLStreamException("Attributes and namespaces can only be written in a start tag");
+        }
+    }
+
+    private void closeStartTag() throws XMLStreamException {
+        switch (tagState) {
+            case TAG_START -> writeByte('>');
+            case TAG_EMPTY -> {
+                writeBytes(EMPTY_TAG_END);
+                popElement();
+            }
+            default -> {
+                return;
+            }
+        }
+        tagState = TAG_NONE;
+    }
+
+    private void pushElement(final byte[] endTag) {
+        if (depth == endTags.length) {
+            endTags = Arrays.copyOf(endTags, depth * 2);
+            scopeStarts = Arrays.copyOf(scopeStarts, depth * 2);
+        }
+        endTags[depth] = endTag;
+        scopeStarts[depth] = bindingCount;
+        depth++;
+    }
+
+    private void popElement() {
+        depth--;
+        endTags[depth] = null;
+        final int start = scopeStarts[depth];
+        Arrays.fill(bindingPrefixes, start, bindingCount, null);
+        Arrays.fill(bindingNamespaces, start, bindingCount, null);
+        bindingCount = start;
+    }
+
+    private void bind(final String prefix, final String namespaceURI) {
+        if (bindingCount == bindingPrefixes.length) {
+            bindingPrefixes = Arrays.copyOf(bindingPrefixes, bindingCount * 2);
+            bindingNamespaces = Arrays.copyOf(bindingNamespaces, bindingCount * 2);
+        }
+        bindingPrefixes[bindingCount] = prefix;
+        bindingNamespaces[bindingCount] = namespaceURI;
+        bindingCount++;
+    }
+
+    private void writeString(final String str, final Escape escape) throws XMLStreamException {
+        final int length = str.length();
+        int offset = 0;
+        while (offset < length) {
+            final char ch = str.charAt(offset++);
+            if (ch < 0x80) {
+                writeAsciiChar(ch, escape);
+            } else if (ch < 0x800) {
+                ensure(2);
+                buffer[count++] = (byte) (0xc0 | ch >> 6);
+                buffer[count++] = (byte) (0x80 | ch & 0x3f);
+            } else if (Character.isHighSurrogate(ch) && offset < length
+                    && Character.isLowSurrogate(str.charAt(offset))) {
+                final int codePoint = Character.toCodePoint(ch, str.charAt(offset++));
+                ensure(4);
+                buffer[count++] = (byte) (0xf0 | codePoint >> 18);
+                buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                buffer[count++] = (byte) (0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(ch) || ch == 0xfffe || ch == 0xffff) {
+                throw new XMLStreamException("Invalid XML character 0x" + Integer.toHexString(ch));
+            } else {
+                ensure(3);
+                buffer[count++] = (byte) (0xe0 | ch >> 12);
+                buffer[count++] = (byte) (0x80 | ch >> 6 & 0x3f);
+                buffer[count++] = (byte) (0x80 | ch & 0x3f);
+            }
+        }
+    }
+
+    private void writeAsciiChar(final char ch, final Escape escape) throws XMLStreamException {
+        if (ch < 0x20 && ch != '\t' && ch != '\n' && ch != '\r') {
+            throw new XMLStreamException("Invalid XML character 0x" + Integer.toHexString(ch));
+        }
+
+        switch (escape) {
+            case TEXT -> {
+                switch (ch) {
+                    case '&' -> writeBytes(AMP);
+                    case '<' -> writeBytes(LT);
+                    case '>' -> writeBytes(GT);
+                    case '\r' -> writeBytes(CR);
+                    default -> writeByte(ch);
+                }
+            }
+            case ATTRIBUTE -> {
+                switch (ch) {
+                    case '&' -> writeBytes(AMP);
+                    case '<' -> writeBytes(LT);
+                    case '"' -> writeBytes(QUOT);
+                    case '\t' -> writeBytes(TAB);
+                    case '\n' -> writeBytes(LF);
+                    case '\r' -> writeBytes(CR);
+                    default -> writeByte(ch);
+                }
+            }
+            default -> writeByte(ch);
+        }
+    }
+
+    private void writeAscii(final String str) throws XMLStreamException {
+        final int length = str.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) str.charAt(i);
+        }
+    }
+
+    private void writeByte(final int value) throws XMLStreamException {
+        ensure(1);
+        buffer[count++] = (byte) value;
+    }
+
+    private void writeBytes(final byte[] bytes) throws XMLStreamException {
+        final int length = bytes.length;
+        if (length > BUFFER_SIZE) {
+            flushBuffer();
+            writeOut(bytes, 0, length);
+        } else {
+            ensure(length);
+            System.arraycopy(bytes, 0, buffer, count, length);
+            count += length;
+        }
+    }
+
+    private void ensure(final int length) throws XMLStreamException {
+        if (count + length > BUFFER_SIZE) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws XMLStreamException {
+        if (count != 0) {
+            writeOut(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void writeOut(final byte[] bytes, final int offset, final int length) throws XMLStreamException {
+        try {
+            out.write(bytes, offset, length);
+        } catch (IOException e) {
+            throw new XMLStreamException("Failed to write output", e);
+        }
+    }
+
+    private static byte[] ascii(final String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Live view of namespace bindings in effect.
+     */
+    private final class Context implements NamespaceContext {
+        @Override
+        public String getNamespaceURI(final String prefix) {
+            requireNonNull(prefix);
+            for (int i = bindingCount - 1; i >= 0; i--) {
+                if (prefix.equals(bindingPrefixes[i])) {
+                    return bindingNamespaces[i];
+                }
+            }
+            switch (prefix) {
+                case XMLConstants.XML_NS_PREFIX:
+                    return XMLConstants.XML_NS_URI;
+                case XMLConstants.XMLNS_ATTRIBUTE:
+                    return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+                default:
+                    if (rootContext != null) {
+                        final var uri = rootContext.getNamespaceURI(prefix);
+                        if (uri != null) {
+                            return uri;
+                        }
+                    }
+                    return XMLConstants.NULL_NS_URI;
+            }
+        }
+
+        @Override
+        public String getPrefix(final String namespaceURI) {
+            requireNonNull(namespaceURI);
+            for (int i = bindingCount - 1; i >= 0; i--) {
+                final var prefix = bindingPrefixes[i];
+                if (namespaceURI.equals(bindingNamespaces[i]) && isInScope(prefix, i)) {
+                    return prefix;
+                }
+            }
+            switch (namespaceURI) {
+                case XMLConstants.XML_NS_URI:
+                    return XMLConstants.XML_NS_PREFIX;
+                case XMLConstants.XMLNS_ATTRIBUTE_NS_URI:
+                    return XMLConstants.XMLNS_ATTRIBUTE;
+                default:
+                    if (rootContext != null) {
+                        final var prefix = rootContext.getPrefix(namespaceURI);
+                        if (prefix != null && namespaceURI.equals(getNamespaceURI(prefix))) {
+                            return prefix;
+                        }
+                    }
+                    return null;
+            }
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(final String namespaceURI) {
+            requireNonNull(namespaceURI);
+            final var prefixes = new ArrayList<String>();
+            for (int i = bindingCount - 1; i >= 0; i--) {
+                final var prefix = bindingPrefixes[i];
+                if (namespaceURI.equals(bindingNamespaces[i]) && isInScope(prefix, i)
+                        && !prefixes.contains(prefix)) {
+                    prefixes.add(prefix);
+                }
+            }
+            return prefixes.iterator();
+        }
+
+        // Check whether the binding at specified index has not been overridden by a later binding
+        private boolean isInScope(final String prefix, final int index) {
+            for (int i = bindingCount - 1; i > index; i--) {
+                if (prefix.equals(bindingPrefixes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
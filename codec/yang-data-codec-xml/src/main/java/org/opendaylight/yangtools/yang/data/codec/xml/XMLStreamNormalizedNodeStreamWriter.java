@@ -9,12 +9,16 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.dom.DOMSource;
@@ -58,8 +62,9 @@ public abstract sealed class XMLStreamNormalizedNodeStreamWriter<T>
 
     private final @NonNull StreamWriterFacade facade;
 
-    XMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer, final @Nullable PreferredPrefixes pref) {
-        facade = new StreamWriterFacade(writer, pref);
+    XMLStreamNormalizedNodeStreamWriter(final XMLStreamWriter writer, final @Nullable PreferredPrefixes pref,
+            final @Nullable XmlModelNames names) {
+        facade = new StreamWriterFacade(writer, pref, names);
     }
 
     /**
@@ -247,6 +252,22 @@ public abstract sealed class XMLStreamNormalizedNodeStreamWriter<T>
         return new SchemalessXMLStreamNormalizedNodeStreamWriter(writer);
     }
 
+    /**
+     * Create a new {@link XMLStreamWriter}, which writes UTF-8 encoded XML directly to the specified output stream.
+     * Writers created by this class recognize it and emit element names and their namespace declarations in a
+     * pre-encoded form, which is shared by all writers bound to the same {@link EffectiveModelContext}. Unlike
+     * general-purpose implementations, the returned writer is not repairing and it refuses to emit characters not
+     * allowed by XML 1.0. It buffers its output, hence it needs to be flushed or closed. Closing it flushes
+     * {@code out}, but does not close it.
+     *
+     * @param out Output stream
+     * @return A new {@link XMLStreamWriter}
+     */
+    @Beta
+    public static @NonNull XMLStreamWriter createUtf8XMLStreamWriter(final OutputStream out) {
+        return new Utf8XMLStreamWriter(out);
+    }
+
     @Override
     public final List<MetadataExtension> supportedExtensions() {
         return List.of(this);
@@ -361,6 +382,38 @@ public abstract sealed class XMLStreamNormalizedNodeStreamWriter<T>
         }
     }
 
+    /**
+     * Reset this writer to its initial state, so that it can emit another document. The backing
+     * {@link XMLStreamWriter} needs to be reset beforehand.
+     */
+    void resetState() {
+        facade.reset();
+    }
+
+    /**
+     * Return the {@link NamespaceContext} of the backing {@link XMLStreamWriter}.
+     *
+     * @return A NamespaceContext
+     */
+    final NamespaceContext namespaceContext() {
+        return facade.getNamespaceContext();
+    }
+
+    /**
+     * Write pre-encoded XML content directly to the {@link Writer} backing the {@link XMLStreamWriter}.
+     *
+     * @param out Writer backing the XMLStreamWriter
+     * @param text Encoded XML content
+     * @throws IOException if an error occurs
+     */
+    final void writeRaw(final Writer out, final String text) throws IOException {
+        try {
+            facade.writeRaw(out, text);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write content", e);
+        }
+    }
+
     @Override
     public final void metadata(final ImmutableMap<QName, Object> attributes) throws IOException {
         for (final Entry<QName, Object> entry : attributes.entrySet()) {
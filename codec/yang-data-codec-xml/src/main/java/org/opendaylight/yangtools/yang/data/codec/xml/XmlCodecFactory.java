@@ -9,7 +9,10 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.common.QNameModule;
@@ -23,6 +26,7 @@ import org.opendaylight.yangtools.yang.data.impl.codec.DecimalStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.EnumStringCodec;
 import org.opendaylight.yangtools.yang.data.impl.codec.StringStringCodec;
 import org.opendaylight.yangtools.yang.data.util.codec.AbstractCodecFactory;
+import org.opendaylight.yangtools.yang.data.util.codec.CodecWarmup;
 import org.opendaylight.yangtools.yang.data.util.codec.SharedCodecCache;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
@@ -106,6 +110,21 @@ public final class XmlCodecFactory extends AbstractCodecFactory<XmlCodec<?>> {
         return create(MountPointContext.of(requireNonNull(context)), preferPrefixes);
     }
 
+    /**
+     * Asynchronously populate this factory with codecs for all leaves and leaf-lists in its
+     * {@link EffectiveModelContext}. Codecs are created concurrently by tasks executing in specified pool. This method
+     * is useful when a new EffectiveModelContext is being installed, as it keeps the first requests using it from
+     * paying the cost of codec construction.
+     *
+     * @param pool pool to use
+     * @return A future completing with warmup statistics
+     * @throws NullPointerException if {@code pool} is null
+     */
+    @Beta
+    public @NonNull CompletableFuture<CodecWarmup.Stats> warmup(final @NonNull ForkJoinPool pool) {
+        return CodecWarmup.warmup(this, pool);
+    }
+
     @Override
     protected XmlCodec<?> binaryCodec(final BinaryTypeDefinition type) {
         return new QuotedXmlCodec<>(BinaryStringCodec.from(type));
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import java.nio.charset.StandardCharsets;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+
+/**
+ * XML element name of a {@link QName}, along with its encodings as used by {@link Utf8XMLStreamWriter}. Instances are
+ * cached in {@link XmlModelNames}, so that writing an element does not involve building any Strings.
+ */
+final class XmlElementName {
+    private final @NonNull String localName;
+    private final @NonNull String namespace;
+    private final byte @NonNull [] startTag;
+    private final byte @NonNull [] endTag;
+    private final byte @NonNull [] defaultNamespaceDeclaration;
+
+    XmlElementName(final QName qname) {
+        localName = qname.getLocalName();
+        namespace = qname.getNamespace().toString();
+        startTag = ('<' + localName).getBytes(StandardCharsets.UTF_8);
+        endTag = ("</" + localName + '>').getBytes(StandardCharsets.UTF_8);
+        defaultNamespaceDeclaration = (" xmlns=\"" + Utf8XMLStreamWriter.escapeAttribute(namespace) + '"')
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @NonNull String localName() {
+        return localName;
+    }
+
+    @NonNull String namespace() {
+        return namespace;
+    }
+
+    /**
+     * Return the encoded start of the start tag, i.e. &lt;localName.
+     *
+     * @return Encoded start tag
+     */
+    byte @NonNull [] startTag() {
+        return startTag;
+    }
+
+    /**
+     * Return the encoded end tag, i.e. &lt;/localName&gt;.
+     *
+     * @return Encoded end tag
+     */
+    byte @NonNull [] endTag() {
+        return endTag;
+    }
+
+    /**
+     * Return the encoded declaration of this element's namespace as the default namespace, i.e.
+     * {@code  xmlns="namespace"}.
+     *
+     * @return Encoded namespace declaration
+     */
+    byte @NonNull [] defaultNamespaceDeclaration() {
+        return defaultNamespaceDeclaration;
+    }
+
+    @Override
+    public String toString() {
+        return '{' + namespace + '}' + localName;
+    }
+}
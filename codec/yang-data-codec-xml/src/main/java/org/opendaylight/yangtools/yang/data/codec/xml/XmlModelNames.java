@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Naming information shared by all {@link SchemaAwareXMLStreamNormalizedNodeStreamWriter}s bound to a particular
+ * {@link EffectiveModelContext}: {@link XmlElementName}s and {@link PreferredPrefixes}. Sharing these means that
+ * short-lived writers, such as those used to send a notification to a number of subscribers, do not need to
+ * re-learn them.
+ */
+final class XmlModelNames {
+    private static final LoadingCache<EffectiveModelContext, @NonNull XmlModelNames> NAMES =
+        CacheBuilder.newBuilder().weakKeys().softValues().build(new CacheLoader<>() {
+            @Override
+            public XmlModelNames load(final EffectiveModelContext key) {
+                return new XmlModelNames(key);
+            }
+        });
+
+    private final ConcurrentHashMap<QName, XmlElementName> elementNames = new ConcurrentHashMap<>();
+    private final PreferredPrefixes.@NonNull Shared preferredPrefixes;
+
+    private XmlModelNames(final EffectiveModelContext modelContext) {
+        preferredPrefixes = new PreferredPrefixes.Shared(modelContext);
+    }
+
+    static @NonNull XmlModelNames of(final EffectiveModelContext modelContext) {
+        return NAMES.getUnchecked(modelContext);
+    }
+
+    /**
+     * Return the {@link XmlElementName} corresponding to a {@link QName}.
+     *
+     * @param qname QName to look up
+     * @return An XmlElementName
+     */
+    @NonNull XmlElementName elementName(final QName qname) {
+        final var existing = elementNames.get(qname);
+        return existing != null ? existing : elementNames.computeIfAbsent(qname, XmlElementName::new);
+    }
+
+    /**
+     * Return the {@link PreferredPrefixes} of the model.
+     *
+     * @return PreferredPrefixes
+     */
+    @NonNull PreferredPrefixes preferredPrefixes() {
+        return preferredPrefixes;
+    }
+}
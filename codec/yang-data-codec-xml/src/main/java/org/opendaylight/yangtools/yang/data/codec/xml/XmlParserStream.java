@@ -10,6 +10,7 @@ package org.opendaylight.yangtools.yang.data.codec.xml;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.UNKNOWN_SIZE;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Strings;
@@ -19,13 +20,16 @@ import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamConstants;
@@ -38,19 +42,25 @@ import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stax.StAXSource;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.rfc7952.model.api.AnnotationSchemaNode;
 import org.opendaylight.yangtools.rfc8040.model.api.YangDataSchemaNode;
 import org.opendaylight.yangtools.rfc8528.model.api.MountPointSchemaNode;
 import org.opendaylight.yangtools.rfc8528.model.api.SchemaMountConstants;
+import org.opendaylight.yangtools.util.ImmutableMapTemplate;
 import org.opendaylight.yangtools.yang.common.AnnotationName;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.common.YangConstants;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContext;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContextFactory.ContainerName;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.MetadataExtension;
 import org.opendaylight.yangtools.yang.data.util.AbstractMountPointDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
@@ -59,6 +69,7 @@ import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.CompositeNodeDataWithSchema.ChildReusePolicy;
 import org.opendaylight.yangtools.yang.data.util.ContainerNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
 import org.opendaylight.yangtools.yang.data.util.LeafListEntryNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.LeafListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.LeafNodeDataWithSchema;
@@ -66,8 +77,9 @@ import org.opendaylight.yangtools.yang.data.util.ListEntryNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.MountPointData;
 import org.opendaylight.yangtools.yang.data.util.MultipleEntryDataWithSchema;
-import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
+import org.opendaylight.yangtools.yang.data.util.ParsePlan;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.SubtreeSelector;
 import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ContainerLike;
@@ -76,6 +88,7 @@ import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
@@ -112,6 +125,7 @@ public final class XmlParserStream implements Closeable, Flushable {
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlParserStream.class);
     private static final String XML_STANDARD_VERSION = "1.0";
+    private static final int UNBOUNDED = -1;
     private static final String COM_SUN_TRANSFORMER =
             "com.sun.org.apache.xalan.internal.xsltc.trax.TransformerFactoryImpl";
 
@@ -136,33 +150,45 @@ public final class XmlParserStream implements Closeable, Flushable {
     // Cache of nsUri Strings to QNameModules, as inferred from document
     private final Map<String, QNameModule> rawNamespaces = new HashMap<>();
     private final NormalizedNodeStreamWriter writer;
-    private final SchemaInferenceStack stack;
     private final XmlCodecFactory codecs;
-    private final DataSchemaNode parentNode;
+    private final ParsePlan plan;
     private final boolean strictParsing;
 
+    private SchemaInferenceStack stack;
+    private DataSchemaNode parentNode;
+    private boolean lazyLeafValues;
+
+    // Limit on the number of elements buffered by parseStreaming(), UNBOUNDED outside of it
+    private int bufferLimit = UNBOUNDED;
+    // Remaining number of elements which can be buffered, UNBOUNDED when not buffering
+    private int bufferCredit = UNBOUNDED;
+
     private XmlParserStream(final NormalizedNodeStreamWriter writer, final XmlCodecFactory codecs,
             final SchemaInferenceStack stack, final boolean strictParsing) {
         this.writer = requireNonNull(writer);
         this.codecs = requireNonNull(codecs);
         this.stack = requireNonNull(stack);
         this.strictParsing = strictParsing;
+        plan = ParsePlan.of(codecs.getEffectiveModelContext());
+        parentNode = parentNodeOf(stack);
+    }
 
-        if (!stack.isEmpty()) {
-            final var stmt = stack.currentStatement();
-            if (stmt instanceof DataSchemaNode data) {
-                parentNode = data;
-            } else if (stmt instanceof OperationDefinition oper) {
-                parentNode = oper.toContainerLike();
-            } else if (stmt instanceof NotificationDefinition notif) {
-                parentNode = notif.toContainerLike();
-            } else if (stmt instanceof YangDataSchemaNode yangData) {
-                parentNode = yangData.toContainerLike();
-            } else {
-                throw new IllegalArgumentException("Illegal parent node " + stmt);
-            }
+    private static @NonNull DataSchemaNode parentNodeOf(final SchemaInferenceStack stack) {
+        if (stack.isEmpty()) {
+            return stack.getEffectiveModelContext();
+        }
+
+        final var stmt = stack.currentStatement();
+        if (stmt instanceof DataSchemaNode data) {
+            return data;
+        } else if (stmt instanceof OperationDefinition oper) {
+            return oper.toContainerLike();
+        } else if (stmt instanceof NotificationDefinition notif) {
+            return notif.toContainerLike();
+        } else if (stmt instanceof YangDataSchemaNode yangData) {
+            return yangData.toContainerLike();
         } else {
-            parentNode = stack.getEffectiveModelContext();
+            throw new IllegalArgumentException("Illegal parent node " + stmt);
         }
     }
 
@@ -306,6 +332,59 @@ public final class XmlParserStream implements Closeable, Flushable {
         return create(writer, XmlCodecFactory.create(mountCtx), parentNode, strictParsing);
     }
 
+    /**
+     * Reset this stream, so that it parses subsequent documents as rooted at the specified node. A stream can be
+     * used to parse any number of documents, one at a time, and retains its internal state, such as resolved
+     * namespaces, between them. If parsing fails, the stream needs to be reset before it is used again.
+     *
+     * <p>
+     * Since the backing {@link NormalizedNodeStreamWriter} is retained as well, it typically is a
+     * {@link org.opendaylight.yangtools.yang.data.api.schema.stream.ReusableStreamReceiver}, which is reset at the same
+     * time.
+     *
+     * @param inference Logical root node
+     * @return This stream
+     * @throws NullPointerException if {@code inference} is null
+     * @throws IllegalArgumentException if {@code inference} does not belong to the {@link EffectiveModelContext} of
+     *                                  the codec factory of this stream, or it is not a valid root
+     */
+    @Beta
+    public @NonNull XmlParserStream reset(final @NonNull EffectiveStatementInference inference) {
+        checkArgument(inference.getEffectiveModelContext() == codecs.getEffectiveModelContext(),
+            "Inference %s does not match model context of %s", inference, codecs);
+        final var newStack = SchemaInferenceStack.ofInference(inference);
+        parentNode = parentNodeOf(newStack);
+        stack = newStack;
+        bufferLimit = UNBOUNDED;
+        bufferCredit = UNBOUNDED;
+        return this;
+    }
+
+    /**
+     * Enable or disable lazy decoding of leaf values. When enabled, values of leaves, but not leaf-lists, are not
+     * decoded by their {@link XmlCodec} while parsing. Their lexical form is emitted as a {@link LazyLeafValue}
+     * instead, which is decoded, and validated, when the value is first accessed. The target
+     * {@link NormalizedNodeStreamWriter} needs to support such values, which is the case with
+     * {@link org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter}: the
+     * {@link org.opendaylight.yangtools.yang.data.api.schema.LeafNode}s it produces decode their value on first
+     * access.
+     *
+     * <p>
+     * Values which are interpreted in the context of XML namespace declarations, such as {@code identityref},
+     * {@code instance-identifier} and {@code union} values, are always decoded while parsing. So are list keys, as they
+     * are part of their entry's
+     * {@link org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates}. Lazy
+     * decoding is disabled by default.
+     *
+     * @param enabled {@code true} to enable lazy decoding
+     * @return This stream
+     */
+    @Beta
+    public @NonNull XmlParserStream lazyLeafValues(final boolean enabled) {
+        lazyLeafValues = enabled;
+        return this;
+    }
+
     /**
      * This method parses the XML source and emits node events into a NormalizedNodeStreamWriter based on the
      * YANG-modeled data contained in the XML source.
@@ -320,16 +399,133 @@ public final class XmlParserStream implements Closeable, Flushable {
      *              if an error occurs while parsing the value of an anyxml node
      */
     public XmlParserStream parse(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        return parse(reader, SubtreeSelector.all());
+    }
+
+    /**
+     * Parse the selected parts of the XML source. This method is equivalent to {@link #parse(XMLStreamReader)}, except
+     * elements which are not selected by {@code selector} are skipped without their values being decoded.
+     *
+     * @param reader StAX reader which is to used to walk through the XML source
+     * @param selector {@link SubtreeSelector} of the parts to parse, relative to the root element
+     * @return This stream
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML
+     * @throws IOException if an error occurs while parsing the value of an anyxml node
+     */
+    @Beta
+    public XmlParserStream parse(final XMLStreamReader reader, final SubtreeSelector selector)
+            throws XMLStreamException, IOException {
+        requireNonNull(selector);
         if (reader.hasNext()) {
             reader.nextTag();
             final var nodeDataWithSchema = AbstractNodeDataWithSchema.of(parentNode);
-            read(reader, nodeDataWithSchema, reader.getLocalName());
+            read(reader, nodeDataWithSchema, reader.getLocalName(), selector, lazyLeafValues);
             nodeDataWithSchema.write(writer);
         }
 
         return this;
     }
 
+    /**
+     * Parse the XML source in a single pass, emitting node events into a NormalizedNodeStreamWriter without building an
+     * intermediate tree of the entire document. This is equivalent to {@code parseStreaming(reader, -1)}, i.e. the
+     * size of buffers is not limited.
+     *
+     * @param reader StAX reader which is to used to walk through the XML source
+     * @return This stream
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML
+     * @throws IOException if an error occurs while parsing the value of an anyxml node
+     */
+    @Beta
+    public XmlParserStream parseStreaming(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        return parseStreaming(reader, UNBOUNDED);
+    }
+
+    /**
+     * Parse the XML source in a single pass. Unlike {@link #parse(XMLStreamReader)}, events are emitted into the target
+     * NormalizedNodeStreamWriter as soon as the corresponding elements are read.
+     *
+     * <p>
+     * Buffering is limited to the following constructs:
+     * <ul>
+     *   <li>children of a keyed list entry which precede its last key leaf, as the entry cannot be started before its
+     *       keys are known</li>
+     *   <li>containers and list entries which can hold a mount point</li>
+     *   <li>a root element which is neither a container nor a list entry, i.e. a leaf, a leaf-list entry, an anyxml or
+     *       an anydata</li>
+     * </ul>
+     * The number of elements held in any such buffer is limited to {@code maxBufferedElements}. When this limit is
+     * exceeded, parsing fails immediately.
+     *
+     * <p>
+     * RFC7950 allows entries of a {@code list} or a {@code leaf-list} to be interleaved with other siblings. Since the
+     * corresponding nodes are emitted as soon as the next sibling is encountered, such documents are rejected, as are
+     * documents where siblings belonging to the same {@code choice} are not adjacent.
+     *
+     * @param reader StAX reader which is to used to walk through the XML source
+     * @param maxBufferedElements maximum number of elements held in a single buffer, negative for no limit
+     * @return This stream
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML, or if {@code maxBufferedElements} is exceeded
+     * @throws IOException if an error occurs while parsing the value of an anyxml node
+     */
+    @Beta
+    public XmlParserStream parseStreaming(final XMLStreamReader reader, final int maxBufferedElements)
+            throws XMLStreamException, IOException {
+        return parseStreaming(reader, maxBufferedElements, SubtreeSelector.all());
+    }
+
+    /**
+     * Parse the selected parts of the XML source in a single pass. This method is equivalent to
+     * {@link #parseStreaming(XMLStreamReader, int)}, except elements which are not selected by {@code selector} are
+     * skipped without their values being decoded.
+     *
+     * @param reader StAX reader which is to used to walk through the XML source
+     * @param maxBufferedElements maximum number of elements held in a single buffer, negative for no limit
+     * @param selector {@link SubtreeSelector} of the parts to parse, relative to the root element
+     * @return This stream
+     * @throws XMLStreamException if a well-formedness error or an unexpected processing condition occurs while parsing
+     *                            the XML, or if {@code maxBufferedElements} is exceeded
+     * @throws IOException if an error occurs while parsing the value of an anyxml node
+     */
+    @Beta
+    public XmlParserStream parseStreaming(final XMLStreamReader reader, final int maxBufferedElements,
+            final SubtreeSelector selector) throws XMLStreamException, IOException {
+        requireNonNull(selector);
+        if (reader.hasNext()) {
+            reader.nextTag();
+            final String rootElement = reader.getLocalName();
+            bufferLimit = maxBufferedElements < 0 ? UNBOUNDED : maxBufferedElements;
+            try {
+                if (parentNode instanceof ContainerLike container && !hasMountPoint(container)) {
+                    writer.nextDataSchemaNode(container);
+                    writer.startContainerNode(NodeIdentifier.create(container.getQName()), UNKNOWN_SIZE);
+                    writeMetadata(getElementAttributes(reader));
+                    streamChildren(reader, container, rootElement, null, null, selector);
+                    writer.endNode();
+                } else if (parentNode instanceof ListSchemaNode list && !hasMountPoint(list)) {
+                    // A single list entry, for example the body of a request targeting it
+                    startElementList(list);
+                    streamChild(reader, list, rootElement, selector);
+                    writer.endNode();
+                } else {
+                    final var nodeDataWithSchema = AbstractNodeDataWithSchema.of(parentNode);
+                    startBuffering();
+                    read(reader, nodeDataWithSchema, rootElement, selector, lazyLeafValues);
+                    endBuffering();
+                    nodeDataWithSchema.write(writer);
+                }
+            } finally {
+                bufferLimit = UNBOUNDED;
+                endBuffering();
+            }
+        }
+
+        return this;
+    }
+
     /**
      * This method traverses a {@link DOMSource} and emits node events into a NormalizedNodeStreamWriter based on the
      * YANG-modeled data contained in the source.
@@ -416,15 +612,19 @@ public final class XmlParserStream implements Closeable, Flushable {
         return (Document) result.getNode();
     }
 
-    private void read(final XMLStreamReader in, final AbstractNodeDataWithSchema<?> parent, final String rootElement)
-            throws XMLStreamException {
+    private void read(final XMLStreamReader in, final AbstractNodeDataWithSchema<?> parent, final String rootElement,
+            final SubtreeSelector selector, final boolean lazyLeafValue) throws XMLStreamException {
         if (!in.hasNext()) {
             return;
         }
+        if (!(parent instanceof MultipleEntryDataWithSchema)) {
+            consumeBufferCredit(in);
+        }
 
         if (parent instanceof LeafNodeDataWithSchema || parent instanceof LeafListEntryNodeDataWithSchema) {
             parent.setAttributes(getElementAttributes(in));
-            setValue((SimpleNodeDataWithSchema<?>) parent, in.getElementText(), in.getNamespaceContext());
+            setValue((SimpleNodeDataWithSchema<?>) parent, in.getElementText(), in.getNamespaceContext(),
+                lazyLeafValue);
             if (isNextEndDocument(in)) {
                 return;
             }
@@ -445,7 +645,7 @@ public final class XmlParserStream implements Closeable, Flushable {
             // aggregate current and subsequent nodes having same localName and namespace
             // into set of entries belonging to current parent node
             while (localName.equals(in.getLocalName()) && namespaceURI.equals(in.getNamespaceURI())) {
-                read(in, newEntryNode(parent), rootElement);
+                read(in, newEntryNode(parent), rootElement, selector, lazyLeafValue);
                 if (in.getEventType() == XMLStreamConstants.END_DOCUMENT
                         || in.getEventType() == XMLStreamConstants.END_ELEMENT) {
                     break;
@@ -455,7 +655,7 @@ public final class XmlParserStream implements Closeable, Flushable {
         }
 
         if (parent instanceof AnyXmlNodeDataWithSchema anyxml) {
-            setValue(anyxml, readAnyXmlValue(in), in.getNamespaceContext());
+            setValue(anyxml, readAnyXmlValue(in), in.getNamespaceContext(), false);
             if (isNextEndDocument(in)) {
                 return;
             }
@@ -470,7 +670,7 @@ public final class XmlParserStream implements Closeable, Flushable {
         if (parent instanceof AnydataNodeDataWithSchema anydata) {
             anydata.setObjectModel(DOMSourceAnydata.class);
             anydata.setAttributes(getElementAttributes(in));
-            setValue(anydata, readAnyXmlValue(in), in.getNamespaceContext());
+            setValue(anydata, readAnyXmlValue(in), in.getNamespaceContext(), false);
             if (isNextEndDocument(in)) {
                 return;
             }
@@ -521,7 +721,7 @@ public final class XmlParserStream implements Closeable, Flushable {
                     }
 
                     final Deque<DataSchemaNode> childDataSchemaNodes =
-                            ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, xmlElementName, nsUri);
+                            plan.findChild(parentSchema, xmlElementName, nsUri);
                     if (!childDataSchemaNodes.isEmpty()) {
                         final boolean elementList = isElementList(childDataSchemaNodes);
                         if (!added && !elementList) {
@@ -530,12 +730,19 @@ public final class XmlParserStream implements Closeable, Flushable {
                                 xmlElementName, elementNS, parentSchema), in.getLocation());
                         }
 
+                        final var childSelector = selector.select(parentSchema, childDataSchemaNodes);
+                        if (childSelector == null) {
+                            skipUnknownNode(in);
+                            continue;
+                        }
+
                         // We have a match, proceed with it
                         final QName qname = childDataSchemaNodes.peekLast().getQName();
                         final AbstractNodeDataWithSchema<?> child = ((CompositeNodeDataWithSchema<?>) parent).addChild(
                             childDataSchemaNodes, elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
                         stack.enterDataTree(qname);
-                        read(in, child, rootElement);
+                        read(in, child, rootElement, childSelector,
+                            lazyLeafValues && !isListKey(parentSchema, qname));
                         stack.exit();
                         continue;
                     }
@@ -600,6 +807,288 @@ public final class XmlParserStream implements Closeable, Flushable {
         }
     }
 
+    /**
+     * Stream the child elements of the element the reader is positioned at as children of {@code parentSchema}. If
+     * {@code keyTemplate} is non-null, the element is a keyed list entry, which is started as soon as its keys are
+     * known.
+     */
+    private void streamChildren(final XMLStreamReader in, final DataSchemaNode parentSchema, final String rootElement,
+            final @Nullable ImmutableMapTemplate<QName> keyTemplate,
+            final @Nullable ImmutableMap<QName, Object> attributes, final SubtreeSelector selector)
+                throws XMLStreamException, IOException {
+        // Children preceding the last key of a list entry, emitted once the entry is started
+        CompositeNodeDataWithSchema<?> pending = null;
+        Map<QName, Object> keyValues = null;
+        if (keyTemplate != null) {
+            pending = new CompositeNodeDataWithSchema<>(parentSchema);
+            keyValues = new HashMap<>();
+            startBuffering();
+        }
+
+        // Currently-open choice and case nodes, alternating
+        final var openChoices = new ArrayList<DataSchemaNode>();
+        // Currently-open list or leaf-list
+        DataSchemaNode openList = null;
+        // Lists, leaf-lists and choices which have been emitted and cannot be reopened
+        final var closed = new HashSet<QName>();
+        final var namesakes = new HashSet<Entry<String, String>>();
+
+        in.nextTag();
+        while (in.hasNext()) {
+            if (in.isEndElement()) {
+                skipEndElement(in);
+                break;
+            }
+
+            final String xmlElementName = in.getLocalName();
+            final String elementNS = in.getNamespaceURI();
+            final boolean added = namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
+
+            final XMLNamespace nsUri;
+            try {
+                nsUri = rawXmlNamespace(elementNS).getNamespace();
+            } catch (IllegalArgumentException e) {
+                throw new XMLStreamException("Failed to convert namespace " + xmlElementName, in.getLocation(), e);
+            }
+
+            final Deque<DataSchemaNode> childDataSchemaNodes =
+                plan.findChild(parentSchema, xmlElementName, nsUri);
+            if (childDataSchemaNodes.isEmpty()) {
+                if (strictParsing) {
+                    throw new XMLStreamException(String.format(
+                        "Schema for node with name %s and namespace %s does not exist in parent %s", xmlElementName,
+                        elementNS, parentSchema), in.getLocation());
+                }
+
+                LOG.debug("Skipping unknown node ns=\"{}\" localName=\"{}\" in parent {}", elementNS, xmlElementName,
+                    parentSchema);
+                skipUnknownNode(in);
+                continue;
+            }
+
+            final boolean elementList = isElementList(childDataSchemaNodes);
+            if (!added && !elementList) {
+                throw new XMLStreamException(String.format(
+                    "Duplicate element \"%s\" in namespace \"%s\" with parent \"%s\" in XML input",
+                    xmlElementName, elementNS, parentSchema), in.getLocation());
+            }
+
+            final var childSelector = selector.select(parentSchema, childDataSchemaNodes);
+            if (childSelector == null) {
+                skipUnknownNode(in);
+                continue;
+            }
+
+            final DataSchemaNode childSchema = childDataSchemaNodes.getLast();
+            final QName qname = childSchema.getQName();
+            if (pending != null) {
+                if (elementList || childDataSchemaNodes.size() > 1) {
+                    closed.add(childDataSchemaNodes.getFirst().getQName());
+                }
+
+                final AbstractNodeDataWithSchema<?> child = pending.addChild(childDataSchemaNodes,
+                    elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
+                stack.enterDataTree(qname);
+                // List keys become part of the entry's NodeIdentifierWithPredicates, which is checked against the
+                // values of the key leaves: they need to be decoded
+                read(in, child, rootElement, childSelector, lazyLeafValues && !isListKey(parentSchema, qname));
+                stack.exit();
+
+                if (child instanceof LeafNodeDataWithSchema leaf && keyTemplate.keySet().contains(qname)) {
+                    keyValues.put(qname, leaf.getValue());
+                    if (keyValues.size() == keyTemplate.keySet().size()) {
+                        endBuffering();
+                        startMapEntry((ListSchemaNode) parentSchema, keyTemplate, keyValues, attributes);
+                        pending.write(writer);
+                        pending = null;
+                    }
+                }
+                continue;
+            }
+
+            if (openList != null && openList != childSchema) {
+                writer.endNode();
+                closed.add(openList.getQName());
+                openList = null;
+            }
+            if (openList == null) {
+                updateChoices(in, openChoices, childDataSchemaNodes, closed);
+                if (elementList) {
+                    if (!closed.add(qname)) {
+                        throw new XMLStreamException(String.format(
+                            "Element \"%s\" in namespace \"%s\" is not adjacent to its previous siblings",
+                            xmlElementName, elementNS), in.getLocation());
+                    }
+                    startElementList(childSchema);
+                    openList = childSchema;
+                }
+            }
+
+            stack.enterDataTree(qname);
+            streamChild(in, childSchema, rootElement, childSelector);
+            stack.exit();
+        }
+
+        if (openList != null) {
+            writer.endNode();
+        }
+        for (int i = 0; i < openChoices.size(); i += 2) {
+            writer.endNode();
+        }
+        if (pending != null) {
+            // Not all keys have been encountered, this will fail
+            endBuffering();
+            startMapEntry((ListSchemaNode) parentSchema, keyTemplate, keyValues, attributes);
+            pending.write(writer);
+        }
+    }
+
+    /**
+     * Adjust currently-open choice nodes to match the choice/case path leading to a child.
+     */
+    private void updateChoices(final XMLStreamReader in, final List<DataSchemaNode> openChoices,
+            final Deque<DataSchemaNode> childDataSchemaNodes, final Set<QName> closed)
+            throws XMLStreamException, IOException {
+        final var path = new ArrayList<>(childDataSchemaNodes);
+        path.remove(path.size() - 1);
+
+        int common = 0;
+        while (common < openChoices.size() && common < path.size()) {
+            final QName choice = path.get(common).getQName();
+            if (!openChoices.get(common).getQName().equals(choice)) {
+                break;
+            }
+
+            final QName openCase = openChoices.get(common + 1).getQName();
+            final QName newCase = path.get(common + 1).getQName();
+            checkArgument(openCase.equals(newCase), "Data from case %s are specified but other data from case %s were "
+                + "specified earlier. Data aren't from the same case.", newCase, openCase);
+            common += 2;
+        }
+
+        while (openChoices.size() > common) {
+            openChoices.remove(openChoices.size() - 1);
+            closed.add(openChoices.remove(openChoices.size() - 1).getQName());
+            writer.endNode();
+        }
+
+        for (int i = common; i < path.size(); i += 2) {
+            final var choice = path.get(i);
+            if (!closed.add(choice.getQName())) {
+                throw new XMLStreamException(String.format("Element \"%s\" belongs to %s, which is not adjacent to "
+                    + "its previous members", in.getLocalName(), choice.getQName()), in.getLocation());
+            }
+            writer.nextDataSchemaNode(choice);
+            writer.startChoiceNode(NodeIdentifier.create(choice.getQName()), UNKNOWN_SIZE);
+            openChoices.add(choice);
+            openChoices.add(path.get(i + 1));
+        }
+    }
+
+    private void streamChild(final XMLStreamReader in, final DataSchemaNode schema, final String rootElement,
+            final SubtreeSelector selector) throws XMLStreamException, IOException {
+        if (schema instanceof ContainerLike container && !hasMountPoint(container)) {
+            writer.nextDataSchemaNode(container);
+            writer.startContainerNode(NodeIdentifier.create(container.getQName()), UNKNOWN_SIZE);
+            writeMetadata(getElementAttributes(in));
+            streamChildren(in, container, rootElement, null, null, selector);
+            writer.endNode();
+        } else if (schema instanceof ListSchemaNode list && !hasMountPoint(list)) {
+            final var keyDef = list.getKeyDefinition();
+            if (keyDef.isEmpty()) {
+                writer.nextDataSchemaNode(list);
+                writer.startUnkeyedListItem(NodeIdentifier.create(list.getQName()), UNKNOWN_SIZE);
+                streamChildren(in, list, rootElement, null, null, selector);
+            } else {
+                streamChildren(in, list, rootElement, ImmutableMapTemplate.ordered(keyDef), getElementAttributes(in),
+                    selector);
+            }
+            writer.endNode();
+        } else {
+            // Leaves, leaf-list entries, anyxml, anydata and mount points
+            final var child = schema instanceof ListSchemaNode || schema instanceof LeafListSchemaNode
+                ? ((MultipleEntryDataWithSchema<?>) AbstractNodeDataWithSchema.of(schema)).newChildEntry()
+                    : AbstractNodeDataWithSchema.of(schema);
+            final boolean buffer = child instanceof CompositeNodeDataWithSchema;
+            if (buffer) {
+                startBuffering();
+            }
+            read(in, child, rootElement, selector, lazyLeafValues);
+            if (buffer) {
+                endBuffering();
+            }
+            child.write(writer);
+        }
+    }
+
+    private void startElementList(final DataSchemaNode schema) throws IOException {
+        final var identifier = NodeIdentifier.create(schema.getQName());
+        writer.nextDataSchemaNode(schema);
+        if (schema instanceof ListSchemaNode list) {
+            if (list.getKeyDefinition().isEmpty()) {
+                writer.startUnkeyedList(identifier, UNKNOWN_SIZE);
+            } else if (list.isUserOrdered()) {
+                writer.startOrderedMapNode(identifier, UNKNOWN_SIZE);
+            } else {
+                writer.startMapNode(identifier, UNKNOWN_SIZE);
+            }
+        } else if (((LeafListSchemaNode) schema).isUserOrdered()) {
+            writer.startOrderedLeafSet(identifier, UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(identifier, UNKNOWN_SIZE);
+        }
+    }
+
+    private void startMapEntry(final ListSchemaNode schema, final ImmutableMapTemplate<QName> keyTemplate,
+            final Map<QName, Object> keyValues, final ImmutableMap<QName, Object> attributes) throws IOException {
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(NodeIdentifierWithPredicates.of(schema.getQName(),
+            keyTemplate.instantiateTransformed(keyValues, (key, value) -> value)), UNKNOWN_SIZE);
+        writeMetadata(attributes);
+    }
+
+    private void writeMetadata(final ImmutableMap<QName, Object> attributes) throws IOException {
+        if (!attributes.isEmpty()) {
+            final var metaWriter = writer.extension(MetadataExtension.class);
+            if (metaWriter != null) {
+                metaWriter.metadata(attributes);
+            }
+        }
+    }
+
+    private void startBuffering() {
+        bufferCredit = bufferLimit;
+    }
+
+    private void endBuffering() {
+        bufferCredit = UNBOUNDED;
+    }
+
+    private void consumeBufferCredit(final XMLStreamReader in) throws XMLStreamException {
+        if (bufferCredit != UNBOUNDED) {
+            if (bufferCredit == 0) {
+                throw new XMLStreamException("Exceeded the limit of " + bufferLimit + " buffered elements",
+                    in.getLocation());
+            }
+            bufferCredit--;
+        }
+    }
+
+    private static boolean hasMountPoint(final DataSchemaNode schema) {
+        if (schema instanceof ContainerSchemaNode container) {
+            return MountPointSchemaNode.streamAll(container).findAny().isPresent();
+        } else if (schema instanceof ListSchemaNode list) {
+            return MountPointSchemaNode.streamAll(list).findAny().isPresent();
+        }
+        return false;
+    }
+
+    private static void skipEndElement(final XMLStreamReader in) throws XMLStreamException {
+        if (!isNextEndDocument(in) && !isAtElement(in)) {
+            in.nextTag();
+        }
+    }
+
     // Return true if schema represents a construct which uses multiple sibling elements to represent its content. The
     // siblings MAY be interleaved as per RFC7950.
     private static boolean isElementList(final Deque<DataSchemaNode> childDataSchemaNodes) {
@@ -663,12 +1152,26 @@ public final class XmlParserStream implements Closeable, Flushable {
         in.nextTag();
     }
 
+    private static boolean isListKey(final DataSchemaNode parent, final QName qname) {
+        return parent instanceof ListSchemaNode list && list.getKeyDefinition().contains(qname);
+    }
+
     private void setValue(final SimpleNodeDataWithSchema<?> parent, final Object value,
-            final NamespaceContext nsContext) {
+            final NamespaceContext nsContext, final boolean lazyLeafValue) {
         final DataSchemaNode schema = parent.getSchema();
         final Object prev = parent.getValue();
         checkArgument(prev == null, "Node '%s' has already set its value to '%s'", schema.getQName(), prev);
-        parent.setValue(translateValueByType(value, schema, nsContext));
+        parent.setValue(lazyLeafValue && parent instanceof LeafNodeDataWithSchema leaf
+            ? lazyValueByType(value, leaf.getSchema(), nsContext) : translateValueByType(value, schema, nsContext));
+    }
+
+    private Object lazyValueByType(final Object value, final LeafSchemaNode node, final NamespaceContext namespaceCtx) {
+        checkArgument(value instanceof String);
+        final var str = (String) value;
+        final var codec = codecs.codecFor(node, stack);
+        // The NamespaceContext is not retained by the reader, hence only codecs which do not use it can be deferred
+        return codec instanceof AbstractXmlCodec<?> simple
+            ? LazyLeafValue.of(lexical -> simple.parseValue(null, lexical), str) : codec.parseValue(namespaceCtx, str);
     }
 
     private Object translateValueByType(final Object value, final DataSchemaNode node,
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import javax.xml.stream.XMLOutputFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ParallelXMLNormalizedNodeWriterTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName NESTED = QName.create(TOP, "nested");
+    private static final QName KIND = QName.create(TOP, "kind");
+    private static final QName CH = QName.create(TOP, "ch");
+    private static final QName A = QName.create(TOP, "a");
+    private static final QName B = QName.create(TOP, "b");
+    private static final QName EXTRA = QName.create("bar", "extra");
+    private static final QName AUG_ENTRY = QName.create("bar", "aug-entry");
+    private static final QName AUG_ID = QName.create("bar", "id");
+    private static final QName ONE = QName.create("bar", "one");
+    private static final QName TWO = QName.create("bar", "two");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static ForkJoinPool POOL;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity kind;
+              container top {
+                list entry {
+                  key "id name";
+                  leaf name {
+                    type string;
+                  }
+                  leaf id {
+                    type uint32;
+                  }
+                  container nested {
+                    leaf kind {
+                      type identityref {
+                        base kind;
+                      }
+                    }
+                  }
+                  choice ch {
+                    leaf a {
+                      type string;
+                    }
+                    leaf b {
+                      type empty;
+                    }
+                  }
+                }
+              }
+            }""", """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              identity one {
+                base foo:kind;
+              }
+              identity two {
+                base foo:kind;
+              }
+              augment /foo:top/foo:entry {
+                leaf extra {
+                  type string;
+                }
+              }
+              augment /foo:top {
+                list aug-entry {
+                  key id;
+                  leaf id {
+                    type uint32;
+                  }
+                }
+              }
+            }""");
+        POOL = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        POOL.shutdown();
+        POOL = null;
+        MODEL_CONTEXT = null;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestFactories.class)
+    void testSameAsSequential(final String factoryMode, final XMLOutputFactory factory) throws Exception {
+        final var data = createData(1000);
+        assertEquals(writeSequential(factory, data, true), writeParallel(factory, data, true));
+        assertEquals(writeSequential(factory, data, false), writeParallel(factory, data, false));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestFactories.class)
+    void testChunkBoundaries(final String factoryMode, final XMLOutputFactory factory) throws Exception {
+        // 32 entries are written as exactly two chunks
+        final var data = createData(32);
+        assertEquals(writeSequential(factory, data, true), writeParallel(factory, data, true));
+    }
+
+    private static String writeSequential(final XMLOutputFactory factory, final ContainerNode data,
+            final boolean preferPrefixes) throws Exception {
+        final var out = new StringWriter();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(XMLStreamNormalizedNodeStreamWriter.create(
+                factory.createXMLStreamWriter(out), Inference.ofDataTreePath(MODEL_CONTEXT), preferPrefixes))) {
+            writer.write(data);
+        }
+        return out.toString();
+    }
+
+    private static String writeParallel(final XMLOutputFactory factory, final ContainerNode data,
+            final boolean preferPrefixes) throws Exception {
+        final var out = new StringWriter();
+        try (var writer = ParallelXMLNormalizedNodeWriter.create(factory, out,
+                Inference.ofDataTreePath(MODEL_CONTEXT), preferPrefixes, POOL, 16)) {
+            writer.write(data);
+        }
+        return out.toString();
+    }
+
+    private static ContainerNode createData(final int entries) {
+        final var entryBuilder = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ENTRY));
+        final var augBuilder = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(AUG_ENTRY));
+        for (int i = 0; i < entries; i++) {
+            final var name = "name <" + i + '>';
+            final var builder = Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, Map.of(ID, Uint32.valueOf(i), NAME, name)))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(ID, Uint32.valueOf(i)))
+                .withChild(Builders.containerBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(NESTED))
+                    .withChild(ImmutableNodes.leafNode(KIND, i % 2 == 0 ? ONE : TWO))
+                    .build())
+                .withChild(Builders.choiceBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(CH))
+                    .withChild(i % 3 == 0 ? ImmutableNodes.leafNode(B, Empty.value())
+                        : ImmutableNodes.leafNode(A, "a" + i))
+                    .build());
+            if (i % 5 == 0) {
+                builder.withChild(ImmutableNodes.leafNode(EXTRA, "extra" + i));
+            }
+            entryBuilder.withChild(builder.build());
+            augBuilder.withChild(ImmutableNodes.mapEntry(AUG_ENTRY, AUG_ID, Uint32.valueOf(i)));
+        }
+
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(entryBuilder.build())
+            .withChild(augBuilder.build())
+            .build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.concurrent.InstancePool;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.xmlunit.builder.DiffBuilder;
+
+class ReusableXMLStreamNormalizedNodeStreamWriterTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName COUNT = QName.create(TOP, "count");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf name {
+                  type string;
+                }
+                leaf count {
+                  type uint32;
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+    }
+
+    @Test
+    void testReuseWriter() throws Exception {
+        final var pool = new InstancePool<>(
+            () -> ReusableXMLStreamNormalizedNodeStreamWriter.create(MODEL_CONTEXT, false), 1);
+
+        for (var data : new ContainerNode[] { createData("one", 1), createData("two", 2) }) {
+            final var streamWriter = pool.acquire();
+            final var actual = new ByteArrayOutputStream();
+            streamWriter.reset(actual);
+            NormalizedNodeWriter.forStreamWriter(streamWriter).write(data);
+            streamWriter.close();
+            pool.release(streamWriter);
+
+            assertSameXml(data, actual);
+        }
+    }
+
+    @Test
+    void testReuseWriterAfterFailure() throws Exception {
+        final var streamWriter = ReusableXMLStreamNormalizedNodeStreamWriter.create(MODEL_CONTEXT, false);
+        streamWriter.reset(new ByteArrayOutputStream());
+        streamWriter.startContainerNode(new NodeIdentifier(TOP), 1);
+        streamWriter.startLeafNode(new NodeIdentifier(NAME));
+        // Abandon the document half-way through
+
+        final var data = createData("three", 3);
+        final var actual = new ByteArrayOutputStream();
+        streamWriter.reset(actual);
+        NormalizedNodeWriter.forStreamWriter(streamWriter).write(data);
+        streamWriter.close();
+        assertSameXml(data, actual);
+    }
+
+    @Test
+    void testReuseParser() throws Exception {
+        final var result = ReusableImmutableNormalizedNodeStreamWriter.create();
+        final var parser = XmlParserStream.create(result, Inference.ofDataTreePath(MODEL_CONTEXT, TOP));
+
+        parser.parse(UntrustedXML.createXMLStreamReader(new StringReader("""
+            <top xmlns="foo"><name>one</name><count>1</count></top>""")));
+        assertEquals(createData("one", 1), result.result().data());
+
+        // Malformed input, parser is left in an unknown state
+        result.reset();
+        assertThrows(XMLStreamException.class, () -> parser.parse(UntrustedXML.createXMLStreamReader(
+            new StringReader("""
+                <top xmlns="foo"><name>one</name><count>1</top>"""))));
+
+        // Reset and reuse
+        result.reset();
+        parser.reset(Inference.ofDataTreePath(MODEL_CONTEXT, TOP)).parse(UntrustedXML.createXMLStreamReader(
+            new StringReader("""
+                <top xmlns="foo"><name>two</name><count>2</count></top>""")));
+        assertEquals(createData("two", 2), result.result().data());
+
+        assertThrows(IllegalArgumentException.class, () -> parser.reset(Inference.ofDataTreePath(
+            YangParserTestUtils.parseYang("module bar { namespace bar; prefix bar; }"))));
+    }
+
+    private static void assertSameXml(final ContainerNode data, final ByteArrayOutputStream actual)
+            throws Exception {
+        final var expected = new StringWriter();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(XMLStreamNormalizedNodeStreamWriter.create(
+                TestFactories.DEFAULT_OUTPUT_FACTORY.createXMLStreamWriter(expected), MODEL_CONTEXT))) {
+            writer.write(data);
+        }
+
+        final var diff = DiffBuilder.compare(expected.toString())
+            .withTest(actual.toString(StandardCharsets.UTF_8))
+            .checkForIdentical()
+            .build();
+        assertFalse(diff.hasDifferences(), diff.toString());
+    }
+
+    private static ContainerNode createData(final String name, final int count) {
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(COUNT, Uint32.valueOf(count)))
+            .build();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.xmlunit.builder.DiffBuilder;
+
+class Utf8XMLStreamWriterTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName TEXT = QName.create(TOP, "text");
+    private static final QName KIND = QName.create(TOP, "kind");
+    private static final QName FLAG = QName.create(TOP, "flag");
+    private static final QName ONE = QName.create("bar", "one");
+    private static final QName EXTRA = QName.create("bar", "extra");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity kind;
+              container top {
+                list entry {
+                  key id;
+                  leaf id {
+                    type uint32;
+                  }
+                  leaf text {
+                    type string;
+                  }
+                  leaf kind {
+                    type identityref {
+                      base kind;
+                    }
+                  }
+                  leaf flag {
+                    type empty;
+                  }
+                }
+              }
+            }""", """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              identity one {
+                base foo:kind;
+              }
+              augment /foo:top {
+                leaf extra {
+                  type string;
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testSameAsDefaultFactory(final boolean preferPrefixes) throws Exception {
+        final var data = createData();
+
+        final var expected = new StringWriter();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(XMLStreamNormalizedNodeStreamWriter.create(
+                TestFactories.DEFAULT_OUTPUT_FACTORY.createXMLStreamWriter(expected),
+                Inference.ofDataTreePath(MODEL_CONTEXT), preferPrefixes))) {
+            writer.write(data);
+        }
+
+        final var actual = new ByteArrayOutputStream();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(XMLStreamNormalizedNodeStreamWriter.create(
+                XMLStreamNormalizedNodeStreamWriter.createUtf8XMLStreamWriter(actual),
+                Inference.ofDataTreePath(MODEL_CONTEXT), preferPrefixes))) {
+            writer.write(data);
+        }
+
+        final var diff = DiffBuilder.compare(expected.toString())
+            .withTest(actual.toString(StandardCharsets.UTF_8))
+            .checkForIdentical()
+            .build();
+        assertFalse(diff.hasDifferences(), diff.toString());
+    }
+
+    @Test
+    void testMarkup() throws Exception {
+        final var out = new ByteArrayOutputStream();
+        final var writer = new Utf8XMLStreamWriter(out);
+        writer.writeStartDocument();
+        writer.writeStartElement("", "root", "urn:a");
+        writer.writeDefaultNamespace("urn:a");
+        writer.writeNamespace("b", "urn:b&c");
+        writer.writeAttribute("b", "urn:b&c", "attr", "\"<&>\t\n\r");
+        writer.writeEmptyElement("empty");
+        writer.writeStartElement("urn:b&c", "child");
+        writer.writeCharacters("<&> é中😀 \r");
+        writer.writeCData("a]]>b");
+        writer.writeComment("comment");
+        writer.writeProcessingInstruction("pi", "data");
+        writer.writeEndElement();
+        writer.writeStartElement("closed");
+        writer.writeEndDocument();
+        writer.close();
+
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<root xmlns=\"urn:a\" xmlns:b=\"urn:b&amp;c\" b:attr=\"&quot;&lt;&amp;>&#9;&#10;&#13;\"><empty/>"
+            + "<b:child>&lt;&amp;&gt; é中😀 &#13;<![CDATA[a]]]]><![CDATA[>b]]><!--comment-->"
+            + "<?pi data?></b:child><closed/></root>", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testNamespaceContext() throws Exception {
+        final var writer = new Utf8XMLStreamWriter(new ByteArrayOutputStream());
+        final var context = writer.getNamespaceContext();
+        writer.writeStartElement("root");
+        writer.writeDefaultNamespace("urn:a");
+        writer.writeNamespace("p", "urn:b");
+        assertEquals("urn:a", writer.defaultNamespace());
+        assertEquals("p", writer.getPrefix("urn:b"));
+
+        writer.writeStartElement("nested");
+        writer.writeNamespace("p", "urn:c");
+        assertEquals("urn:c", context.getNamespaceURI("p"));
+        assertEquals("p", context.getPrefix("urn:c"));
+        // Shadowed by the nested binding
+        assertNull(context.getPrefix("urn:b"));
+        writer.writeEndElement();
+
+        assertEquals("urn:b", context.getNamespaceURI("p"));
+        assertEquals("p", context.getPrefix("urn:b"));
+        assertNull(context.getPrefix("urn:c"));
+        writer.writeEndElement();
+        assertEquals("", writer.defaultNamespace());
+    }
+
+    @Test
+    void testInvalidOutput() throws Exception {
+        final var writer = new Utf8XMLStreamWriter(new ByteArrayOutputStream());
+        assertThrows(XMLStreamException.class, () -> writer.writeAttribute("attr", "value"));
+        assertThrows(XMLStreamException.class, writer::writeEndElement);
+        writer.writeStartElement("root");
+        assertThrows(XMLStreamException.class, () -> writer.writeCharacters(String.valueOf((char) 1)));
+        assertThrows(XMLStreamException.class, () -> writer.writeCharacters(String.valueOf((char) 0xd800)));
+        assertThrows(XMLStreamException.class, () -> writer.writeStartElement("urn:unbound", "child"));
+    }
+
+    private static ContainerNode createData() {
+        final var entries = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ENTRY));
+        for (int i = 0; i < 10; i++) {
+            final var entry = Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, ID, Uint32.valueOf(i)))
+                .withChild(ImmutableNodes.leafNode(ID, Uint32.valueOf(i)))
+                .withChild(ImmutableNodes.leafNode(TEXT, "text <" + i + "> & \"é\""))
+                .withChild(ImmutableNodes.leafNode(KIND, ONE));
+            if (i % 2 == 0) {
+                entry.withChild(ImmutableNodes.leafNode(FLAG, Empty.value()));
+            }
+            entries.withChild(entry.build());
+        }
+
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(entries.build())
+            .withChild(ImmutableNodes.leafNode(EXTRA, "extra"))
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlCodecWarmupTest {
+    @Test
+    void testWarmup() {
+        final var context = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity base;
+              container top {
+                leaf name {
+                  type string;
+                }
+                leaf kind {
+                  type identityref {
+                    base base;
+                  }
+                }
+                list entry {
+                  key id;
+                  leaf id {
+                    type uint32;
+                  }
+                }
+              }
+            }""");
+        final var factory = XmlCodecFactory.create(context);
+
+        final var stats = factory.warmup(ForkJoinPool.commonPool()).join();
+        assertEquals(3, stats.leafCount());
+        assertEquals(3, stats.codecCount());
+
+        // Warmed-up codecs are served from the cache
+        final var stack = SchemaInferenceStack.of(context);
+        stack.enterDataTree(QName.create("foo", "top"));
+        final var name = (TypedDataSchemaNode) stack.enterDataTree(QName.create("foo", "name"));
+        assertSame(factory.codecFor(name, stack), factory.codecFor(name, stack));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlParserLazyLeafTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName NUMBER = QName.create(TOP, "number");
+    private static final QName CODE = QName.create(TOP, "code");
+    private static final QName IDENT = QName.create(TOP, "ident");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName VALUE = QName.create(TOP, "value");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity base;
+              identity one {
+                base base;
+              }
+              container top {
+                leaf number {
+                  type uint64;
+                }
+                leaf code {
+                  type string {
+                    pattern "[a-z]+";
+                  }
+                }
+                leaf ident {
+                  type identityref {
+                    base base;
+                  }
+                }
+                list entry {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type uint64;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+    }
+
+    @Test
+    void testLazyLeaves() throws Exception {
+        final var input = """
+            <top xmlns="foo" xmlns:f="foo">
+              <number>18446744073709551615</number>
+              <code>abc</code>
+              <ident>f:one</ident>
+            </top>""";
+        final var lazy = parse(input, true);
+        final var number = assertInstanceOf(LazyLeafNode.class, lazy.childByArg(new NodeIdentifier(NUMBER)));
+        assertFalse(number.lazyValue().isDecoded());
+        assertEquals("18446744073709551615", number.lazyValue().lexicalValue());
+        // identityrefs need namespace context and are decoded while parsing
+        assertFalse(lazy.childByArg(new NodeIdentifier(IDENT)) instanceof LazyLeafNode);
+
+        assertEquals(parse(input, false), lazy);
+    }
+
+    @Test
+    void testDeferredValidation() throws Exception {
+        final var input = """
+            <top xmlns="foo"><number>1</number><code>ABC</code></top>""";
+        assertThrows(IllegalArgumentException.class, () -> parse(input, false));
+
+        final var code = parse(input, true).childByArg(new NodeIdentifier(CODE));
+        assertInstanceOf(LazyLeafNode.class, code);
+        assertThrows(IllegalArgumentException.class, code::body);
+    }
+
+    @Test
+    void testKeyedList() throws Exception {
+        // The second entry has its key last
+        final var input = """
+            <top xmlns="foo">
+              <entry><name>a</name><value>1</value></entry>
+              <entry><value>2</value><name>b</name></entry>
+            </top>""";
+        final var expected = parse(input, false);
+        for (var streaming : new boolean[] { false, true }) {
+            final var lazy = parse(input, true, streaming);
+            assertEquals(expected, lazy);
+
+            final var entry = assertInstanceOf(MapNode.class, lazy.childByArg(new NodeIdentifier(ENTRY)))
+                .childByArg(NodeIdentifierWithPredicates.of(ENTRY, NAME, "b"));
+            // List keys are always decoded, other leaves are not
+            assertFalse(entry.childByArg(new NodeIdentifier(NAME)) instanceof LazyLeafNode);
+            assertInstanceOf(LazyLeafNode.class, entry.childByArg(new NodeIdentifier(VALUE)));
+        }
+    }
+
+    private static ContainerNode parse(final String input, final boolean lazy) throws Exception {
+        return parse(input, lazy, false);
+    }
+
+    private static ContainerNode parse(final String input, final boolean lazy, final boolean streaming)
+            throws Exception {
+        final var result = new NormalizationResultHolder();
+        final var stream = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+            Inference.ofDataTreePath(MODEL_CONTEXT, TOP))
+            .lazyLeafValues(lazy);
+        final var reader = UntrustedXML.createXMLStreamReader(new StringReader(input));
+        if (streaming) {
+            stream.parseStreaming(reader);
+        } else {
+            stream.parse(reader);
+        }
+        return (ContainerNode) result.getResult().data();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.data.util.SubtreeSelector;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlParserSelectiveTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName VALUE = QName.create(TOP, "value");
+    private static final QName ALT = QName.create(TOP, "alt");
+    private static final QName FIRST = QName.create(TOP, "first");
+    private static final String INPUT = """
+        <top xmlns="foo">
+          <name>top-name</name>
+          <entry>
+            <value>one-value</value>
+            <id>one</id>
+            <other>ignored</other>
+          </entry>
+          <entry>
+            <id>two</id>
+            <value>two-value</value>
+            <other>ignored</other>
+          </entry>
+          <extra>
+            <values>1</values>
+            <values>2</values>
+            <nested><values>3</values></nested>
+          </extra>
+          <first>first-value</first>
+        </top>""";
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf name {
+                  type string;
+                }
+                list entry {
+                  key id;
+                  leaf id {
+                    type string;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                  leaf other {
+                    type string;
+                  }
+                }
+                container extra {
+                  leaf-list values {
+                    type int32;
+                  }
+                  container nested {
+                    leaf-list values {
+                      type int32;
+                    }
+                  }
+                }
+                choice alt {
+                  leaf first {
+                    type string;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+    }
+
+    @Test
+    void testSelectAll() throws Exception {
+        assertEquals(parse(SubtreeSelector.all(), false), parse(SubtreeSelector.all(), true));
+    }
+
+    @Test
+    void testSelectLeaves() throws Exception {
+        final var selector = SubtreeSelector.of(YangInstanceIdentifier.of(NAME), YangInstanceIdentifier.of(ALT, FIRST));
+        final var expected = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(ImmutableNodes.leafNode(NAME, "top-name"))
+            .withChild(Builders.choiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(ALT))
+                .withChild(ImmutableNodes.leafNode(FIRST, "first-value"))
+                .build())
+            .build();
+
+        assertEquals(expected, parse(selector, false));
+        assertEquals(expected, parse(selector, true));
+    }
+
+    @Test
+    void testSelectListEntries() throws Exception {
+        final var selector = SubtreeSelector.of(YangInstanceIdentifier.of(ENTRY, VALUE));
+        final var expected = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(Builders.mapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(ENTRY))
+                .withChild(createEntry("one"))
+                .withChild(createEntry("two"))
+                .build())
+            .build();
+
+        assertEquals(expected, parse(selector, false));
+        assertEquals(expected, parse(selector, true));
+    }
+
+    private static NormalizedNode parse(final SubtreeSelector selector, final boolean streaming) throws Exception {
+        final var result = new NormalizationResultHolder();
+        final var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+            Inference.ofDataTreePath(MODEL_CONTEXT, TOP));
+        final var reader = UntrustedXML.createXMLStreamReader(new StringReader(INPUT));
+        if (streaming) {
+            parser.parseStreaming(reader, -1, selector);
+        } else {
+            parser.parse(reader, selector);
+        }
+        return result.getResult().data();
+    }
+
+    private static MapEntryNode createEntry(final String id) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, ID, id))
+            .withChild(ImmutableNodes.leafNode(ID, id))
+            .withChild(ImmutableNodes.leafNode(VALUE, id + "-value"))
+            .build();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlParserStreamingTest {
+    private static final QName INTERFACES = QName.create("foo", "interfaces");
+    private static final QName INTERFACE = QName.create(INTERFACES, "interface");
+
+    private static EffectiveModelContext CONTEXT;
+
+    @BeforeAll
+    static void beforeAll() {
+        CONTEXT = YangParserTestUtils.parseYangResource("/streaming/foo.yang");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        CONTEXT = null;
+    }
+
+    @Test
+    void testSameAsTree() throws Exception {
+        assertEquals(parse("/streaming/interfaces.xml", false), parse("/streaming/interfaces.xml", true));
+    }
+
+    @Test
+    void testEntriesEmittedWhileReading() throws Exception {
+        final var reader = createReader("/streaming/interfaces.xml");
+        final var result = new NormalizationResultHolder();
+        final var lines = new ArrayList<Integer>();
+        final var writer = new ForwardingNormalizedNodeStreamWriter() {
+            private final NormalizedNodeStreamWriter delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+
+            @Override
+            protected NormalizedNodeStreamWriter delegate() {
+                return delegate;
+            }
+
+            @Override
+            public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                    throws IOException {
+                lines.add(reader.getLocation().getLineNumber());
+                super.startMapEntryNode(identifier, childSizeHint);
+            }
+        };
+
+        XmlParserStream.create(writer, Inference.ofDataTreePath(CONTEXT, INTERFACES))
+            .parseStreaming(reader);
+        // Entries with leading keys are started as soon as the key has been read, the second interface entry is
+        // started after its key, which follows its buffered siblings
+        assertEquals(List.of(4, 7, 10, 20), lines);
+        assertEquals(parse("/streaming/interfaces.xml", false), result.getResult().data());
+    }
+
+    @Test
+    void testBufferLimit() throws Exception {
+        // The second interface entry needs mtu, both tags and name buffered
+        final var limited = assertThrows(XMLStreamException.class,
+            () -> parse("/streaming/interfaces.xml", 3, INTERFACES));
+        assertThat(limited.getMessage(), containsString("Exceeded the limit of 3 buffered elements"));
+        assertEquals(parse("/streaming/interfaces.xml", false), parse("/streaming/interfaces.xml", 4, INTERFACES));
+    }
+
+    @Test
+    void testListEntryRoot() throws Exception {
+        final var expected = assertInstanceOf(MapNode.class,
+            parse("/streaming/interface.xml", null, INTERFACES, INTERFACE));
+        assertEquals(1, expected.size());
+        // The entry starts with its key, hence only the key is buffered
+        assertEquals(expected, parse("/streaming/interface.xml", 1, INTERFACES, INTERFACE));
+    }
+
+    @Test
+    void testInterleavedEntries() throws Exception {
+        // Accepted by the tree-based parser ...
+        parse("/streaming/interleaved.xml", false);
+        // ... but not in streaming mode
+        final var ex = assertThrows(XMLStreamException.class, () -> parse("/streaming/interleaved.xml", true));
+        assertThat(ex.getMessage(), containsString("Element \"log\" in namespace \"foo\" is not adjacent"));
+    }
+
+    @Test
+    void testMixedCases() {
+        assertThrows(IllegalArgumentException.class, () -> parse("/streaming/mixed-cases.xml", true));
+    }
+
+    @Test
+    void testMissingKey() {
+        assertThrows(IllegalArgumentException.class, () -> parse("/streaming/missing-key.xml", true));
+    }
+
+    private static NormalizedNode parse(final String resourceName, final boolean streaming) throws Exception {
+        return parse(resourceName, streaming ? -1 : null, INTERFACES);
+    }
+
+    private static NormalizedNode parse(final String resourceName, final Integer maxBufferedElements,
+            final QName... path) throws Exception {
+        final var result = new NormalizationResultHolder();
+        try (var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                Inference.ofDataTreePath(CONTEXT, path))) {
+            final var reader = createReader(resourceName);
+            if (maxBufferedElements == null) {
+                parser.parse(reader);
+            } else {
+                parser.parseStreaming(reader, maxBufferedElements);
+            }
+        }
+        return result.getResult().data();
+    }
+
+    private static XMLStreamReader createReader(final String resourceName) throws XMLStreamException {
+        return UntrustedXML.createXMLStreamReader(XmlParserStreamingTest.class.getResourceAsStream(resourceName));
+    }
+}
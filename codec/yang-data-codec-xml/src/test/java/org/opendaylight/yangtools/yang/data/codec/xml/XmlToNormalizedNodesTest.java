@@ -110,6 +110,14 @@ class XmlToNormalizedNodesTest {
         assertNotNull(expectedNormalizedNode);
 
         assertEquals(expectedNormalizedNode, transformedInput);
+
+        final var streamingResult = new NormalizationResultHolder();
+        try (var xmlParser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(streamingResult),
+                outerContainerSchema)) {
+            xmlParser.parseStreaming(UntrustedXML.createXMLStreamReader(
+                XmlToNormalizedNodesTest.class.getResourceAsStream("/baz.xml")));
+        }
+        assertEquals(expectedNormalizedNode, streamingResult.getResult().data());
     }
 
     @Test
@@ -14,7 +14,6 @@ module org.opendaylight.yangtools.util {
     requires transitive com.google.common;
     requires transitive org.opendaylight.yangtools.concepts;
     requires org.slf4j;
-    requires tech.pantheon.triemap;
 
     // Annotations
     requires static transitive java.compiler;
@@ -17,8 +17,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tech.pantheon.triemap.MutableTrieMap;
-import tech.pantheon.triemap.TrieMap;
 
 /**
  * A simple layer on top of maps, which performs snapshot mediation and optimization of
@@ -110,7 +108,7 @@ public final class MapAdaptor {
     @SuppressWarnings("static-method")
     public <K, V> Map<K, V> takeSnapshot(final Map<K, V> input) {
         if (input instanceof ReadOnlyTrieMap) {
-            return ((ReadOnlyTrieMap<K, V>)input).toReadWrite();
+            return ((ReadOnlyTrieMap<K, V>) input).toReadWrite();
         }
 
         LOG.trace("Converting input {} to a HashMap", input);
@@ -214,17 +212,14 @@ public final class MapAdaptor {
         }
 
         /*
-         * Favor isolation speed: use a TrieMap and perform snapshots
-         *
-         * This one is a bit tricky, as the TrieMap is concurrent and does not
-         * keep an uptodate size. Updating it requires a full walk -- which is
-         * O(N) and we want to avoid that. So we wrap it in an interceptor,
-         * which will maintain the size for us.
+         * Favor isolation speed: use a persistent trie and perform snapshots. Snapshots share structure with the
+         * original trie and modifications copy only the nodes on the path to the modified entry, i.e. O(log32 N)
+         * nodes.
          */
         LOG.trace("Copying input {} to a TrieMap ({} entries)", input, size);
-        final MutableTrieMap<K, V> map = TrieMap.create();
+        final ReadWriteTrieMap<K, V> map = new ReadWriteTrieMap<>();
         map.putAll(input);
-        final Map<K, V> ret = new ReadOnlyTrieMap<>(map, size);
+        final Map<K, V> ret = map.toReadOnly();
         LOG.trace("Read-only TrieMap is {}", ret);
         return ret;
     }
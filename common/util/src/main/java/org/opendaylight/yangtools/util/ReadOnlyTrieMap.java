@@ -7,68 +7,83 @@
  */
 package org.opendaylight.yangtools.util;
 
-import static java.util.Objects.requireNonNull;
-
-import com.google.common.collect.ForwardingMap;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tech.pantheon.triemap.ImmutableTrieMap;
-import tech.pantheon.triemap.MutableTrieMap;
 
 /**
- * A read-only facade in front of a TrieMap. This is what we give out from
- * MapAdaptor.optimize(). The idea is that we want our read-only users to
- * share a single snapshot. That snapshot is instantiated lazily either on
- * first access. Since we never leak the TrieMap and track its size as it
- * changes, we can cache it for future reference.
+ * A read-only map backed by a persistent {@link TrieNode} trie. This is what we give out from MapAdaptor.optimize().
+ * Since the trie is never modified, taking a {@link #toReadWrite()} snapshot is an O(1) operation: the resulting map
+ * shares all nodes with this map and copies only those nodes it needs to modify.
  */
-final class ReadOnlyTrieMap<K, V> extends ForwardingMap<K, V> {
+final class ReadOnlyTrieMap<K, V> extends AbstractMap<K, V> implements Immutable {
     private static final Logger LOG = LoggerFactory.getLogger(ReadOnlyTrieMap.class);
-    private static final VarHandle READ_ONLY;
-
-    static {
-        try {
-            READ_ONLY = MethodHandles.lookup().findVarHandle(ReadOnlyTrieMap.class, "readOnly", ImmutableTrieMap.class);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-    }
 
-    private final MutableTrieMap<K, V> readWrite;
+    private final @Nullable TrieNode root;
     private final int size;
 
-    // Used via the varhandle
-    @SuppressWarnings("unused")
-    private volatile ImmutableTrieMap<K, V> readOnly;
-
-    ReadOnlyTrieMap(final MutableTrieMap<K, V> map, final int size) {
-        this.readWrite = requireNonNull(map);
+    ReadOnlyTrieMap(final @Nullable TrieNode root, final int size) {
+        this.root = root;
         this.size = size;
     }
 
     ReadWriteTrieMap<K, V> toReadWrite() {
-        final ReadWriteTrieMap<K, V> ret = new ReadWriteTrieMap<>(readWrite.mutableSnapshot(), size);
+        final var ret = new ReadWriteTrieMap<K, V>(root, size);
         LOG.trace("Converted read-only TrieMap {} to read-write {}", this, ret);
         return ret;
     }
 
     @Override
-    protected ImmutableTrieMap<K, V> delegate() {
-        final ImmutableTrieMap<K, V> ret = (ImmutableTrieMap<K, V>) READ_ONLY.getAcquire(this);
-        return ret != null ? ret : loadReadOnly();
+    public int size() {
+        return size;
     }
 
     @Override
-    public int size() {
-        return size;
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    private ImmutableTrieMap<K, V> loadReadOnly() {
-        final ImmutableTrieMap<K, V> ret = readWrite.immutableSnapshot();
-        final Object witness = READ_ONLY.compareAndExchangeRelease(this, null, ret);
-        return witness == null ? ret : (ImmutableTrieMap<K, V>) witness;
+    public V get(final Object key) {
+        final var local = root;
+        return key == null || local == null ? null : (V) local.get(key, TrieNode.hash(key), 0);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    static final class EntryIterator<K, V> extends TrieNode.AbstractIterator<Entry<K, V>> {
+        EntryIterator(final @Nullable TrieNode root) {
+            super(root);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Entry<K, V> createElement(final Object key, final Object value) {
+            return new SimpleImmutableEntry<>((K) key, (V) value);
+        }
     }
 }
@@ -9,51 +9,46 @@ package org.opendaylight.yangtools.util;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.ForwardingMap;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tech.pantheon.triemap.MutableTrieMap;
-import tech.pantheon.triemap.TrieMap;
 
 /**
- * A TrieMap facade tracking modifications. Since we change structures based on
- * their size, and determining the size of a TrieMap is expensive, we make sure
- * to update it as we go.
+ * A mutable map backed by a persistent {@link TrieNode} trie. Nodes shared with a {@link ReadOnlyTrieMap} are copied
+ * on modification, while nodes created by this map are modified in place until {@link #toReadOnly()} is invoked. This
+ * map does not support {@code null} keys nor values.
  *
  * <p>
- * FIXME: this map does not support modification view the keySet()/values()/entrySet() methods.
+ * This map does not support modification via the keySet()/values()/entrySet() methods.
  *
  * @param <K> Key type
  * @param <V> Value type
  */
-final class ReadWriteTrieMap<K, V> extends ForwardingMap<K, V> {
+final class ReadWriteTrieMap<K, V> extends AbstractMap<K, V> {
     private static final Logger LOG = LoggerFactory.getLogger(ReadWriteTrieMap.class);
 
-    private final MutableTrieMap<K, V> delegate;
-
+    // Our editor identity, replaced whenever the trie is published
+    private Object editor = new Object();
+    private @Nullable TrieNode root;
     private int size;
 
     ReadWriteTrieMap() {
-        this.delegate = TrieMap.create();
-        this.size = 0;
+        // Empty map
     }
 
-    ReadWriteTrieMap(final MutableTrieMap<K, V> delegate, final int size) {
-        this.delegate = requireNonNull(delegate);
+    ReadWriteTrieMap(final @Nullable TrieNode root, final int size) {
+        this.root = root;
         this.size = size;
     }
 
-    @Override
-    protected Map<K, V> delegate() {
-        return delegate;
-    }
-
-    Map<K, V> toReadOnly() {
-        final Map<K, V> ret = new ReadOnlyTrieMap<>(delegate, size);
+    ReadOnlyTrieMap<K, V> toReadOnly() {
+        final var ret = new ReadOnlyTrieMap<K, V>(root, size);
+        // Make sure any further modifications do not touch the published nodes
+        editor = new Object();
         LOG.trace("Converted read-write TrieMap {} to read-only {}", this, ret);
         return ret;
     }
@@ -69,49 +64,72 @@ final class ReadWriteTrieMap<K, V> extends ForwardingMap<K, V> {
     }
 
     @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        final var local = root;
+        return key == null || local == null ? null : (V) local.get(key, TrieNode.hash(key), 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public V put(final K key, final V value) {
-        final V ret = delegate.put(key, value);
-        if (ret == null) {
+        requireNonNull(key);
+        requireNonNull(value);
+
+        final var local = root;
+        if (local == null) {
+            root = TrieNode.of(editor, key, value);
+            size = 1;
+            return null;
+        }
+
+        final var change = new TrieNode.Change();
+        root = local.put(editor, key, value, TrieNode.hash(key), 0, change);
+        if (change.sizeChanged) {
             size++;
         }
-        return ret;
+        return (V) change.previous;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(final Object key) {
-        final V ret = delegate.remove(key);
-        if (ret != null) {
-            size--;
+        final var local = root;
+        if (key == null || local == null) {
+            return null;
         }
-        return ret;
-    }
 
-    @Override
-    @SuppressWarnings("checkstyle:parameterName")
-    public void putAll(final Map<? extends K, ? extends V> m) {
-        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
-            put(e.getKey(), e.getValue());
+        final var change = new TrieNode.Change();
+        root = local.remove(editor, key, TrieNode.hash(key), 0, change);
+        if (change.sizeChanged) {
+            size--;
         }
+        return (V) change.previous;
     }
 
     @Override
     public void clear() {
-        delegate.clear();
+        root = null;
         size = 0;
     }
 
-    @Override
-    public Set<K> keySet() {
-        return Collections.unmodifiableSet(delegate.keySet());
-    }
-
-    @Override
-    public Collection<V> values() {
-        return Collections.unmodifiableCollection(delegate.values());
-    }
-
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return Collections.unmodifiableSet(delegate.entrySet());
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new ReadOnlyTrieMap.EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 }
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A node of a persistent Hash Array Mapped Trie, which backs {@link ReadOnlyTrieMap} and {@link ReadWriteTrieMap}.
+ * Each level of the trie consumes {@value #BITS} bits of the key's hash, hence a lookup or a modification touches
+ * O(log32 n) nodes. Modifications copy the nodes on the path from the root to the affected entry, sharing all other
+ * nodes with the original trie.
+ *
+ * <p>
+ * Each node is tagged with the identity of the editor which created it. An editor is allowed to modify the nodes it
+ * owns in place, which allows a {@link ReadWriteTrieMap} to perform bulk updates without excessive copying. Once the
+ * editor publishes its trie, it switches to a fresh identity, hence all published nodes are effectively immutable.
+ *
+ * <p>
+ * Both keys and values are stored in {@link #array} as consecutive pairs. A {@code null} key indicates the value is
+ * a child {@link TrieNode}. Keys and values themselves are never {@code null}.
+ */
+abstract sealed class TrieNode permits TrieNode.Bitmap, TrieNode.Collision {
+    /**
+     * Outcome of a single {@code put()} or {@code remove()} operation.
+     */
+    static final class Change {
+        Object previous;
+        boolean sizeChanged;
+    }
+
+    /**
+     * A regular node, which uses a bitmap to indicate which hash fragments are present.
+     */
+    static final class Bitmap extends TrieNode {
+        private int bitmap;
+
+        Bitmap(final Object owner, final int bitmap, final Object[] array) {
+            super(owner, array);
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        Object get(final Object key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+
+            final int idx = index(bit);
+            final Object existing = array[idx];
+            if (existing == null) {
+                return ((TrieNode) array[idx + 1]).get(key, hash, shift + BITS);
+            }
+            return key.equals(existing) ? array[idx + 1] : null;
+        }
+
+        @Override
+        TrieNode put(final Object editor, final Object key, final Object value, final int hash, final int shift,
+                final Change change) {
+            final int bit = bit(hash, shift);
+            final int idx = index(bit);
+            if ((bitmap & bit) == 0) {
+                change.sizeChanged = true;
+                final var newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                return update(editor, bitmap | bit, newArray);
+            }
+
+            final Object existingKey = array[idx];
+            final Object existingValue = array[idx + 1];
+            if (existingKey == null) {
+                final var child = (TrieNode) existingValue;
+                final var newChild = child.put(editor, key, value, hash, shift + BITS, change);
+                return newChild == child ? this : updatePair(editor, idx, null, newChild);
+            }
+            if (key.equals(existingKey)) {
+                change.previous = existingValue;
+                return existingValue == value ? this : updatePair(editor, idx, existingKey, value);
+            }
+
+            change.sizeChanged = true;
+            return updatePair(editor, idx, null, twoEntries(editor, existingKey, existingValue, hash(existingKey), key,
+                value, hash, shift + BITS));
+        }
+
+        @Override
+        TrieNode remove(final Object editor, final Object key, final int hash, final int shift, final Change change) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            final int idx = index(bit);
+            final Object existingKey = array[idx];
+            final Object existingValue = array[idx + 1];
+            if (existingKey == null) {
+                final var child = (TrieNode) existingValue;
+                final var newChild = child.remove(editor, key, hash, shift + BITS, change);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return removePair(editor, bit, idx);
+                }
+                // Pull up lone entries, so that the trie stays compact
+                if (newChild instanceof Bitmap bitmapChild && bitmapChild.array.length == 2
+                    && bitmapChild.array[0] != null) {
+                    return updatePair(editor, idx, bitmapChild.array[0], bitmapChild.array[1]);
+                }
+                return updatePair(editor, idx, null, newChild);
+            }
+            if (!key.equals(existingKey)) {
+                return this;
+            }
+
+            change.previous = existingValue;
+            change.sizeChanged = true;
+            return removePair(editor, bit, idx);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & bit - 1) * 2;
+        }
+
+        private Bitmap update(final Object editor, final int newBitmap, final Object[] newArray) {
+            if (isOwnedBy(editor)) {
+                bitmap = newBitmap;
+                array = newArray;
+                return this;
+            }
+            return new Bitmap(editor, newBitmap, newArray);
+        }
+
+        private Bitmap updatePair(final Object editor, final int idx, final Object key, final Object value) {
+            if (isOwnedBy(editor)) {
+                array[idx] = key;
+                array[idx + 1] = value;
+                return this;
+            }
+
+            final var newArray = array.clone();
+            newArray[idx] = key;
+            newArray[idx + 1] = value;
+            return new Bitmap(editor, bitmap, newArray);
+        }
+
+        private @Nullable Bitmap removePair(final Object editor, final int bit, final int idx) {
+            if (bitmap == bit) {
+                return null;
+            }
+
+            final var newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, newArray.length - idx);
+            return update(editor, bitmap ^ bit, newArray);
+        }
+    }
+
+    /**
+     * A node holding entries whose keys have the same hash.
+     */
+    static final class Collision extends TrieNode {
+        private final int hash;
+
+        Collision(final Object owner, final int hash, final Object[] array) {
+            super(owner, array);
+            this.hash = hash;
+        }
+
+        @Override
+        Object get(final Object key, final int keyHash, final int shift) {
+            if (keyHash == hash) {
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        return array[i + 1];
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        TrieNode put(final Object editor, final Object key, final Object value, final int keyHash, final int shift,
+                final Change change) {
+            if (keyHash != hash) {
+                // The key shares only a prefix of our hash: push us down one level
+                return new Bitmap(editor, bit(hash, shift), new Object[] { null, this })
+                    .put(editor, key, value, keyHash, shift, change);
+            }
+
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    final Object existing = array[i + 1];
+                    change.previous = existing;
+                    if (existing == value) {
+                        return this;
+                    }
+                    if (isOwnedBy(editor)) {
+                        array[i + 1] = value;
+                        return this;
+                    }
+
+                    final var newArray = array.clone();
+                    newArray[i + 1] = value;
+                    return new Collision(editor, hash, newArray);
+                }
+            }
+
+            change.sizeChanged = true;
+            final var newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            if (isOwnedBy(editor)) {
+                array = newArray;
+                return this;
+            }
+            return new Collision(editor, hash, newArray);
+        }
+
+        @Override
+        TrieNode remove(final Object editor, final Object key, final int keyHash, final int shift,
+                final Change change) {
+            if (keyHash != hash) {
+                return this;
+            }
+
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    change.previous = array[i + 1];
+                    change.sizeChanged = true;
+
+                    if (array.length == 4) {
+                        // A single entry remains, turn it into a bitmap node, so the parent can pull it up
+                        final int other = i == 0 ? 2 : 0;
+                        return new Bitmap(editor, bit(hash, shift), new Object[] { array[other], array[other + 1] });
+                    }
+
+                    final var newArray = new Object[array.length - 2];
+                    System.arraycopy(array, 0, newArray, 0, i);
+                    System.arraycopy(array, i + 2, newArray, i, newArray.length - i);
+                    if (isOwnedBy(editor)) {
+                        array = newArray;
+                        return this;
+                    }
+                    return new Collision(editor, hash, newArray);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Base class for iterators over the entries of a trie.
+     *
+     * @param <T> Type of produced elements
+     */
+    abstract static class AbstractIterator<T> implements Iterator<T> {
+        // Seven bitmap levels exhaust all 32 bits of the hash, plus one level of collision nodes
+        private static final int MAX_DEPTH = 8;
+
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] offsets = new int[MAX_DEPTH];
+        private int depth;
+
+        private Object nextKey;
+        private Object nextValue;
+
+        AbstractIterator(final @Nullable TrieNode root) {
+            if (root != null) {
+                arrays[0] = root.array;
+                advance();
+            } else {
+                depth = -1;
+            }
+        }
+
+        @Override
+        public final boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        public final T next() {
+            final Object key = nextKey;
+            if (key == null) {
+                throw new NoSuchElementException();
+            }
+            final T ret = createElement(key, nextValue);
+            advance();
+            return ret;
+        }
+
+        abstract @NonNull T createElement(@NonNull Object key, @NonNull Object value);
+
+        private void advance() {
+            while (depth >= 0) {
+                final var array = arrays[depth];
+                final int offset = offsets[depth];
+                if (offset < array.length) {
+                    offsets[depth] = offset + 2;
+                    final Object key = array[offset];
+                    final Object value = array[offset + 1];
+                    if (key != null) {
+                        nextKey = key;
+                        nextValue = value;
+                        return;
+                    }
+
+                    depth++;
+                    arrays[depth] = ((TrieNode) value).array;
+                    offsets[depth] = 0;
+                } else {
+                    arrays[depth--] = null;
+                }
+            }
+
+            nextKey = null;
+            nextValue = null;
+        }
+    }
+
+    static final int BITS = 5;
+
+    private static final int MASK = (1 << BITS) - 1;
+
+    // Identity of the editor which is allowed to modify this node in place
+    private final Object owner;
+
+    Object[] array;
+
+    TrieNode(final Object owner, final Object[] array) {
+        this.owner = owner;
+        this.array = array;
+    }
+
+    /**
+     * Create a trie holding a single entry.
+     *
+     * @param editor Editor identity
+     * @param key Entry key
+     * @param value Entry value
+     * @return A new trie root
+     */
+    static @NonNull TrieNode of(final Object editor, final Object key, final Object value) {
+        return new Bitmap(editor, bit(hash(key), 0), new Object[] { key, value });
+    }
+
+    static int hash(final Object key) {
+        // Spread higher bits to lower levels, as the root level uses only the lowest bits
+        final int hash = key.hashCode();
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Look up the value associated with a key.
+     *
+     * @param key Key to look up
+     * @param hash {@link #hash(Object)} of the key
+     * @param shift Hash shift of this node
+     * @return Associated value, or {@code null}
+     */
+    abstract @Nullable Object get(@NonNull Object key, int hash, int shift);
+
+    /**
+     * Associate a key with a value.
+     *
+     * @param editor Editor identity
+     * @param key Key to associate
+     * @param value Value to associate
+     * @param hash {@link #hash(Object)} of the key
+     * @param shift Hash shift of this node
+     * @param change Change tracking
+     * @return Resulting node, which is this node if it was not copied
+     */
+    abstract @NonNull TrieNode put(@NonNull Object editor, @NonNull Object key, @NonNull Object value, int hash,
+        int shift, @NonNull Change change);
+
+    /**
+     * Remove the entry for a key.
+     *
+     * @param editor Editor identity
+     * @param key Key to remove
+     * @param hash {@link #hash(Object)} of the key
+     * @param shift Hash shift of this node
+     * @param change Change tracking
+     * @return Resulting node, which is this node if it was not copied, or {@code null} if it became empty
+     */
+    abstract @Nullable TrieNode remove(@NonNull Object editor, @NonNull Object key, int hash, int shift,
+        @NonNull Change change);
+
+    final boolean isOwnedBy(final Object editor) {
+        return owner == editor;
+    }
+
+    static int bit(final int hash, final int shift) {
+        return 1 << fragment(hash, shift);
+    }
+
+    private static int fragment(final int hash, final int shift) {
+        return hash >>> shift & MASK;
+    }
+
+    private static TrieNode twoEntries(final Object editor, final Object firstKey, final Object firstValue,
+            final int firstHash, final Object secondKey, final Object secondValue, final int secondHash,
+            final int shift) {
+        if (firstHash == secondHash) {
+            return new Collision(editor, firstHash, new Object[] { firstKey, firstValue, secondKey, secondValue });
+        }
+
+        final int firstFragment = fragment(firstHash, shift);
+        final int secondFragment = fragment(secondHash, shift);
+        if (firstFragment == secondFragment) {
+            return new Bitmap(editor, 1 << firstFragment, new Object[] {
+                null, twoEntries(editor, firstKey, firstValue, firstHash, secondKey, secondValue, secondHash,
+                    shift + BITS)
+            });
+        }
+
+        return new Bitmap(editor, 1 << firstFragment | 1 << secondFragment, firstFragment < secondFragment
+            ? new Object[] { firstKey, firstValue, secondKey, secondValue }
+                : new Object[] { secondKey, secondValue, firstKey, firstValue });
+    }
+}
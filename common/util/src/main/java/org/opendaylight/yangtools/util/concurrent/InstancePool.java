@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A bounded pool of idle instances of a reusable, but not thread-safe, object. An instance is acquired by a thread,
+ * used exclusively by it and then released back into the pool, where it can be picked up by any other thread.
+ *
+ * <p>
+ * This pool is intended for use from a large number of short-lived threads, such as virtual threads: it never blocks,
+ * does not use monitors, which would pin a virtual thread to its carrier, and does not rely on {@link ThreadLocal}s,
+ * which do not retain anything useful when each task runs in a new thread. Idle instances are held in a fixed array
+ * of slots, which are claimed and released via compare-and-set, hence neither operation allocates. If the pool is
+ * empty, a new instance is created. If it is full, the released instance is dropped.
+ *
+ * <p>
+ * The pool does not reset the instances in any way, it is up to the user to bring an instance to its initial state,
+ * either before releasing it or after acquiring it.
+ *
+ * @param <T> type of pooled objects
+ */
+@Beta
+public final class InstancePool<T> {
+    private final @NonNull Supplier<? extends T> factory;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    /**
+     * Create a new pool.
+     *
+     * @param factory factory of new instances
+     * @param maxIdle maximum number of idle instances retained by the pool, rounded up to the next power of two
+     * @throws NullPointerException if {@code factory} is null
+     * @throws IllegalArgumentException if {@code maxIdle} is not positive or larger than {@code 2^30}
+     */
+    public InstancePool(final Supplier<? extends T> factory, final int maxIdle) {
+        this.factory = requireNonNull(factory);
+        checkArgument(maxIdle > 0 && maxIdle <= 1 << 30, "Invalid maximum idle instances %s", maxIdle);
+        final int size = maxIdle == 1 ? 1 : Integer.highestOneBit(maxIdle - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Acquire an instance, either an idle one or a newly-created one. The caller has exclusive access to it until it
+     * passes it to {@link #release(Object)}.
+     *
+     * @return An instance
+     */
+    public @NonNull T acquire() {
+        final int start = probeStart();
+        for (int i = 0; i <= mask; i++) {
+            final int idx = start + i & mask;
+            final T instance = slots.get(idx);
+            if (instance != null && slots.compareAndSet(idx, instance, null)) {
+                return instance;
+            }
+        }
+        return requireNonNull(factory.get(), "Factory returned null");
+    }
+
+    /**
+     * Release an instance back into the pool. The caller must not access the instance afterwards.
+     *
+     * @param instance Instance to release
+     * @throws NullPointerException if {@code instance} is null
+     */
+    public void release(final T instance) {
+        requireNonNull(instance);
+        final int start = probeStart();
+        for (int i = 0; i <= mask; i++) {
+            final int idx = start + i & mask;
+            if (slots.get(idx) == null && slots.compareAndSet(idx, null, instance)) {
+                return;
+            }
+        }
+        // The pool is full, let the instance be garbage-collected
+    }
+
+    /**
+     * Return the number of idle instances currently held by this pool. The result is an estimate, as other threads
+     * may be concurrently acquiring and releasing instances.
+     *
+     * @return Number of idle instances
+     */
+    public int idleCount() {
+        int ret = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (slots.get(i) != null) {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("capacity", mask + 1).add("idle", idleCount()).toString();
+    }
+
+    private int probeStart() {
+        // Spread threads over the slots to reduce contention. ThreadLocalRandom keeps its state in the Thread itself,
+        // hence this is cheap even for virtual threads.
+        return mask == 0 ? 0 : ThreadLocalRandom.current().nextInt() & mask;
+    }
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
@@ -18,21 +19,32 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
-import tech.pantheon.triemap.TrieMap;
 
 class ReadWriteTrieMapTest {
+    /**
+     * A key with a controlled hashCode, so we can exercise hash collisions.
+     */
+    private record CollidingKey(int hash, String name) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof CollidingKey other && hash == other.hash && name.equals(other.name);
+        }
+    }
 
     @Test
     void testMethodsOfReadWriteTrieMap() {
-        final var trieMap = TrieMap.<String, String>create();
-        trieMap.put("0", "zero");
-        trieMap.put("1", "one");
-
-        final var readWriteTrieMap = new ReadWriteTrieMap<>(trieMap, 5);
+        final var readWriteTrieMap = new ReadWriteTrieMap<String, String>();
+        readWriteTrieMap.put("0", "zero");
+        readWriteTrieMap.put("1", "one");
 
         assertNotNull(readWriteTrieMap, "Object readOnlyTrieMap shouldn't be 'null'.");
 
-        assertEquals(5, readWriteTrieMap.size(), "Size of readOnlyTrieMap should be '5'.");
+        assertEquals(2, readWriteTrieMap.size(), "Size of readOnlyTrieMap should be '2'.");
         assertFalse(readWriteTrieMap.isEmpty(), "Object readOnlyTrieMap shouldn't be empty.");
 
         assertTrue(readWriteTrieMap.containsKey("0"), "Object readOnlyTrieMap should have key '0'.");
@@ -51,18 +63,92 @@ class ReadWriteTrieMapTest {
         final var trieMapValues = readWriteTrieMap.values();
         assertEquals(3, trieMapValues.size(), "Size of values should be '3'.");
 
-        assertEquals(convertSetEntryToMap(readWriteTrieMap.entrySet()), trieMap);
-
-        trieMap.put("2", "two");
-        final var readWriteTrieMap2 = new ReadWriteTrieMap<>(trieMap, 4);
+        assertEquals(Map.of("0", "zero", "2", "two", "3", "three"),
+            convertSetEntryToMap(readWriteTrieMap.entrySet()));
 
+        final var readOnlyTrieMap = readWriteTrieMap.toReadOnly();
+        final var readWriteTrieMap2 = readOnlyTrieMap.toReadWrite();
+        assertEquals(readWriteTrieMap, readWriteTrieMap2);
+        readWriteTrieMap2.put("4", "four");
         assertNotEquals(readWriteTrieMap, readWriteTrieMap2);
-        assertEquals(readWriteTrieMap.hashCode(), readWriteTrieMap2.hashCode());
 
-        final var readOnlyTrieMap = readWriteTrieMap.toReadOnly();
         readWriteTrieMap.clear();
         assertEquals(0, readWriteTrieMap.size());
-        assertEquals(6, readOnlyTrieMap.size());
+        assertEquals(3, readOnlyTrieMap.size());
+        assertEquals(4, readWriteTrieMap2.size());
+    }
+
+    @Test
+    void testSnapshotIsolation() {
+        final var expected = new HashMap<Integer, Integer>();
+        final var readWrite = new ReadWriteTrieMap<Integer, Integer>();
+        for (int i = 0; i < 100_000; ++i) {
+            readWrite.put(i, i);
+            expected.put(i, i);
+        }
+
+        final var readOnly = readWrite.toReadOnly();
+        assertEquals(expected, readOnly);
+        assertEquals(expected.hashCode(), readOnly.hashCode());
+
+        // Modifications after publishing must not leak into the published map
+        for (int i = 0; i < 100_000; i += 2) {
+            assertEquals(i, readWrite.remove(i));
+        }
+        readWrite.put(1, -1);
+        assertEquals(50_000, readWrite.size());
+        assertEquals(-1, readWrite.get(1));
+        assertNull(readWrite.get(2));
+        assertEquals(expected, readOnly);
+
+        // Snapshots are independent of each other
+        final var first = readOnly.toReadWrite();
+        final var second = readOnly.toReadWrite();
+        first.remove(5);
+        second.put(5, 50);
+        assertNull(first.get(5));
+        assertEquals(50, second.get(5));
+        assertEquals(5, readOnly.get(5));
+        assertEquals(99_999, first.size());
+        assertEquals(100_000, second.size());
+
+        for (int i = 0; i < 100_000; ++i) {
+            second.remove(i);
+        }
+        assertTrue(second.isEmpty());
+        assertEquals(Map.of(), second);
+        assertEquals(expected, readOnly);
+    }
+
+    @Test
+    void testHashCollisions() {
+        final var a = new CollidingKey(42, "a");
+        final var b = new CollidingKey(42, "b");
+        final var c = new CollidingKey(42, "c");
+        // Shares the lower bits with the others
+        final var d = new CollidingKey(42 | 1 << 20, "d");
+
+        final var map = new ReadWriteTrieMap<CollidingKey, String>();
+        map.put(a, "a");
+        map.put(b, "b");
+        map.put(d, "d");
+        final var readOnly = map.toReadOnly();
+
+        map.put(c, "c");
+        assertEquals(Map.of(a, "a", b, "b", c, "c", d, "d"), map);
+        assertEquals(Map.of(a, "a", b, "b", d, "d"), readOnly);
+
+        assertEquals("a", map.remove(a));
+        assertNull(map.remove(a));
+        assertEquals("c", map.remove(c));
+        assertEquals(Map.of(b, "b", d, "d"), map);
+        assertEquals("b", map.get(b));
+        assertNull(map.get(new CollidingKey(42, "e")));
+
+        assertEquals("d", map.remove(d));
+        assertEquals("b", map.remove(b));
+        assertTrue(map.isEmpty());
+        assertEquals(3, readOnly.size());
     }
 
     private static Map<String, String> convertSetEntryToMap(final Set<Entry<String, String>> input) {
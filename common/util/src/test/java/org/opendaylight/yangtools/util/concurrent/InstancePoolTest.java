@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InstancePoolTest {
+    private static final class Resource {
+        final AtomicBoolean inUse = new AtomicBoolean();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new InstancePool<>(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new InstancePool<>(Object::new, 0));
+        assertThrows(IllegalArgumentException.class, () -> new InstancePool<>(Object::new, (1 << 30) + 1));
+        final var pool = new InstancePool<>(Object::new, 1);
+        assertThrows(NullPointerException.class, () -> pool.release(null));
+        assertThrows(NullPointerException.class, () -> new InstancePool<>(() -> null, 1).acquire());
+    }
+
+    @Test
+    void testAcquireRelease() {
+        final var created = new AtomicInteger();
+        final var pool = new InstancePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 3);
+        assertEquals("InstancePool{capacity=4, idle=0}", pool.toString());
+
+        final var first = pool.acquire();
+        final var second = pool.acquire();
+        assertNotSame(first, second);
+        assertEquals(2, created.get());
+
+        pool.release(first);
+        assertEquals(1, pool.idleCount());
+        assertSame(first, pool.acquire());
+        assertEquals(0, pool.idleCount());
+        assertEquals(2, created.get());
+
+        // Fill the pool, excess instances are dropped
+        for (int i = 0; i < 6; i++) {
+            pool.release(new Object());
+        }
+        assertEquals(4, pool.idleCount());
+        for (int i = 0; i < 4; i++) {
+            pool.acquire();
+        }
+        assertEquals(2, created.get());
+        pool.acquire();
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    void testSingleSlot() {
+        final var pool = new InstancePool<>(Object::new, 1);
+        final var obj = pool.acquire();
+        pool.release(obj);
+        pool.release(new Object());
+        assertEquals(1, pool.idleCount());
+        assertSame(obj, pool.acquire());
+    }
+
+    @Test
+    void testExclusiveAccess() throws Exception {
+        final var pool = new InstancePool<>(Resource::new, 8);
+        final var violation = new AtomicBoolean();
+        final var start = new CountDownLatch(1);
+
+        final var executor = Executors.newFixedThreadPool(16);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        final var resource = pool.acquire();
+                        if (!resource.inUse.compareAndSet(false, true)) {
+                            violation.set(true);
+                        }
+                        resource.inUse.set(false);
+                        pool.release(resource);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertFalse(violation.get());
+        assertTrue(pool.idleCount() <= 8);
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Optional;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableLeafNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafNode;
 import org.opendaylight.yangtools.yang.data.util.LeafInterner;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
@@ -37,6 +38,8 @@ final class InterningLeafNodeBuilder<T> extends ImmutableLeafNodeBuilder<T> {
 
     @Override
     public LeafNode<T> build() {
-        return interner.intern(super.build());
+        final var node = super.build();
+        // Interning requires the value to be decoded, which would defeat the purpose of a lazy value
+        return node instanceof LazyLeafNode ? node : interner.intern(node);
     }
 }
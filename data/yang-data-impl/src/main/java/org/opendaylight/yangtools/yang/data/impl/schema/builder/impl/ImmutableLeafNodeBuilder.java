@@ -13,6 +13,8 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.builder.NormalizedNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.nodes.AbstractImmutableNormalizedSimpleValueNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafNode;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
 
 public class ImmutableLeafNodeBuilder<T>
         extends AbstractImmutableNormalizedNodeBuilder<NodeIdentifier, T, LeafNode<T>> {
@@ -27,6 +29,9 @@ public class ImmutableLeafNodeBuilder<T>
         if (value instanceof byte[] bytes) {
             return (LeafNode<T>) new ImmutableBinaryLeafNode(identifier, bytes);
         }
+        if (value instanceof LazyLeafValue<?> lazy) {
+            return (LeafNode<T>) LazyLeafNode.of(identifier, lazy);
+        }
         return new ImmutableLeafNode<>(identifier, value);
     }
 
@@ -55,10 +55,12 @@ public class ImmutableMapEntryNodeBuilder
 
     public static @NonNull DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> create(
             final MapEntryNode node) {
-        if (!(node instanceof ImmutableMapEntryNode immutableNode)) {
-            throw new UnsupportedOperationException("Cannot initialize from class " + node.getClass());
+        if (node instanceof ImmutableMapEntryNode immutableNode) {
+            return new ImmutableMapEntryNodeBuilder(immutableNode);
         }
-        return new ImmutableMapEntryNodeBuilder(immutableNode);
+
+        // Other implementations, such as entries held in off-heap storage, are copied child-by-child
+        return new ImmutableMapEntryNodeBuilder(node.size()).withNodeIdentifier(node.name()).withValue(node.body());
     }
 
     private static void fillQNames(final Iterable<DataContainerChild> iterable, final Map<QName, NodeIdentifier> out) {
@@ -9,7 +9,6 @@ package org.opendaylight.yangtools.yang.data.impl.schema.builder.impl;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,7 +37,8 @@ public class ImmutableMapNodeBuilder implements CollectionNodeBuilder<MapEntryNo
 
     protected ImmutableMapNodeBuilder(final int sizeHint) {
         if (sizeHint >= 0) {
-            value = Maps.newHashMapWithExpectedSize(sizeHint);
+            // Large lists are built directly in a persistent map, so that build() does not need to copy them
+            value = MapAdaptor.getDefaultInstance().initialSnapshot(sizeHint);
         } else {
             value = new HashMap<>(DEFAULT_CAPACITY);
         }
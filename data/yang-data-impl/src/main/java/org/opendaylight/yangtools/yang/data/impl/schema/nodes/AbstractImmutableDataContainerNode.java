@@ -9,20 +9,26 @@ package org.opendaylight.yangtools.yang.data.impl.schema.nodes;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import org.opendaylight.yangtools.util.ImmutableOffsetMap;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
 import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
 
 public abstract class AbstractImmutableDataContainerNode<K extends PathArgument, N extends DataContainerNode>
         extends AbstractNormalizedNode<K, N> implements DataContainerNode {
     private final Map<NodeIdentifier, Object> children;
+    // Set if any of the children is stored as a LazyLeafValue, in which case the children map cannot be compared
+    // directly against a map holding decoded values
+    private final boolean lazyChildren;
 
     protected AbstractImmutableDataContainerNode(final Map<NodeIdentifier, Object> children, final K nodeIdentifier) {
         super(nodeIdentifier);
         this.children = ImmutableOffsetMap.unorderedCopyOf(children);
+        lazyChildren = hasLazyValue(this.children);
     }
 
     @Override
@@ -61,7 +67,9 @@ public abstract class AbstractImmutableDataContainerNode<K extends PathArgument,
     @Override
     protected boolean valueEquals(final N other) {
         if (other instanceof AbstractImmutableDataContainerNode<?, ?> immutableContainer) {
-            return children.equals(immutableContainer.children);
+            final var otherChildren = immutableContainer.children;
+            return lazyChildren || immutableContainer.lazyChildren ? lazyChildrenEqual(otherChildren)
+                : children.equals(otherChildren);
         }
         if (size() != other.size()) {
             return false;
@@ -73,4 +81,35 @@ public abstract class AbstractImmutableDataContainerNode<K extends PathArgument,
         }
         return true;
     }
+
+    // LazyLeafValues do not compare as equal to decoded values, hence we compare each pair of values, decoding lazy
+    // values as needed
+    private boolean lazyChildrenEqual(final Map<NodeIdentifier, Object> otherChildren) {
+        if (children.size() != otherChildren.size()) {
+            return false;
+        }
+        for (var entry : children.entrySet()) {
+            final var otherValue = otherChildren.get(entry.getKey());
+            if (otherValue == null || !childValueEquals(entry.getValue(), otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean childValueEquals(final Object value, final Object otherValue) {
+        if (value instanceof LazyLeafValue || otherValue instanceof LazyLeafValue) {
+            return Objects.deepEquals(LazyLeafValue.decodedValue(value), LazyLeafValue.decodedValue(otherValue));
+        }
+        return Objects.deepEquals(value, otherValue);
+    }
+
+    private static boolean hasLazyValue(final Map<NodeIdentifier, Object> children) {
+        for (var value : children.values()) {
+            if (value instanceof LazyLeafValue) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.impl.schema.nodes;
 
+import java.util.Arrays;
 import java.util.Objects;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -19,7 +20,9 @@ public abstract class AbstractImmutableNormalizedSimpleValueNode<K extends PathA
 
     @Override
     protected final int valueHashCode() {
-        return value().hashCode();
+        // Consistent with Objects.deepEquals() in valueEquals()
+        final var value = value();
+        return value instanceof byte[] bytes ? Arrays.hashCode(bytes) : value.hashCode();
     }
 
     @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.nodes;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
+
+/**
+ * A {@link LeafNode} backed by a {@link LazyLeafValue}. The value is decoded when {@link #body()} is first invoked,
+ * which also happens when this node is compared to another node. Failure to decode the value results in
+ * {@link #body()} throwing an {@link IllegalArgumentException}.
+ *
+ * @param <T> Value type
+ */
+@Beta
+public final class LazyLeafNode<T> extends AbstractNormalizedNode<NodeIdentifier, LeafNode<?>> implements LeafNode<T> {
+    private final @NonNull LazyLeafValue<T> lazyValue;
+
+    private LazyLeafNode(final NodeIdentifier name, final LazyLeafValue<T> lazyValue) {
+        super(name);
+        this.lazyValue = requireNonNull(lazyValue);
+    }
+
+    public static <T> @NonNull LazyLeafNode<T> of(final NodeIdentifier name, final LazyLeafValue<T> lazyValue) {
+        return new LazyLeafNode<>(name, lazyValue);
+    }
+
+    /**
+     * Return the {@link LazyLeafValue} backing this node.
+     *
+     * @return Backing {@link LazyLeafValue}
+     */
+    public @NonNull LazyLeafValue<T> lazyValue() {
+        return lazyValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T body() {
+        final var value = lazyValue.value();
+        return value instanceof byte[] bytes ? (T) bytes.clone() : value;
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Class<LeafNode<?>> implementedType() {
+        return (Class) LeafNode.class;
+    }
+
+    @Override
+    protected int valueHashCode() {
+        return lazyValue.hashCode();
+    }
+
+    @Override
+    protected boolean valueEquals(final LeafNode<?> other) {
+        return Objects.deepEquals(lazyValue.value(), other.body());
+    }
+
+    @Override
+    protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
+        return toStringHelper.add("name", name()).add("body", lazyValue);
+    }
+}
@@ -54,6 +54,10 @@ public final class LazyLeafOperations {
     }
 
     private static @NonNull Object encodeExpendableChild(final @NonNull DataContainerChild node) {
+        if (node instanceof LazyLeafNode<?> lazyLeaf) {
+            // Do not force the value to be decoded
+            return lazyLeaf.lazyValue();
+        }
         return node instanceof LeafNode<?> leafNode ? verifyEncode(leafNode.body()) : node;
     }
 
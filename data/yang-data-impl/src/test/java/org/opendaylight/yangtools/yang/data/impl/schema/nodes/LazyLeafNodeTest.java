@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.schema.nodes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
+
+class LazyLeafNodeTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final QName BAZ = QName.create(FOO, "baz");
+
+    private final AtomicInteger decodeCount = new AtomicInteger();
+
+    @Test
+    void testDecodeOnce() {
+        final var value = lazyValue("42");
+        final var leaf = ImmutableNodes.leafNode(BAR, value);
+        final var lazyLeaf = assertInstanceOf(LazyLeafNode.class, leaf);
+        assertSame(value, lazyLeaf.lazyValue());
+        assertFalse(value.isDecoded());
+        assertEquals(0, decodeCount.get());
+
+        assertEquals(Uint32.valueOf(42), leaf.body());
+        assertEquals(Uint32.valueOf(42), leaf.body());
+        assertTrue(value.isDecoded());
+        assertEquals(1, decodeCount.get());
+    }
+
+    @Test
+    void testInvalidValue() {
+        final var leaf = ImmutableNodes.leafNode(BAR, lazyValue("-1"));
+        assertThrows(IllegalArgumentException.class, leaf::body);
+        assertThrows(IllegalArgumentException.class, leaf::body);
+    }
+
+    @Test
+    void testLeafEquality() {
+        final var eager = ImmutableNodes.leafNode(BAR, Uint32.valueOf(42));
+        final var lazy = ImmutableNodes.leafNode(BAR, lazyValue("42"));
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertNotEquals(ImmutableNodes.leafNode(BAR, lazyValue("43")), eager);
+    }
+
+    @Test
+    void testBinaryLeafEquality() {
+        final var eager = ImmutableNodes.leafNode(BAR, new byte[] { 1, 2, 3 });
+        final var lazy = ImmutableNodes.leafNode(BAR, LazyLeafValue.of(str -> new byte[] { 1, 2, 3 }, "AQID"));
+        final var otherLazy = ImmutableNodes.leafNode(BAR, LazyLeafValue.of(str -> new byte[] { 1, 2, 3 }, "AQID"));
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(lazy, otherLazy);
+        assertEquals(eager.hashCode(), ImmutableNodes.leafNode(BAR, new byte[] { 1, 2, 3 }).hashCode());
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(lazy.hashCode(), otherLazy.hashCode());
+    }
+
+    @Test
+    void testContainerRetainsLazyLeaf() {
+        final var value = lazyValue("42");
+        final var lazyContainer = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, value))
+            .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+            .build();
+        assertFalse(value.isDecoded());
+
+        final var child = assertInstanceOf(LazyLeafNode.class, lazyContainer.childByArg(new NodeIdentifier(BAR)));
+        assertSame(value, child.lazyValue());
+        assertFalse(value.isDecoded());
+
+        final var eagerContainer = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, Uint32.valueOf(42)))
+            .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+            .build();
+        assertEquals(eagerContainer, lazyContainer);
+        assertEquals(lazyContainer, eagerContainer);
+        assertEquals(eagerContainer.hashCode(), lazyContainer.hashCode());
+    }
+
+    @Test
+    void testDeepContainerEquality() {
+        final var eager = deepContainer(ImmutableNodes.leafNode(BAR, Uint32.valueOf(42)));
+        final var otherEager = deepContainer(ImmutableNodes.leafNode(BAR, Uint32.valueOf(43)));
+        final var lazy = deepContainer(ImmutableNodes.leafNode(BAR, lazyValue("42")));
+        final var otherLazy = deepContainer(ImmutableNodes.leafNode(BAR, lazyValue("43")));
+
+        // Each level is compared once, hence a single differing leaf does not result in an exponential number of
+        // comparisons
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertNotEquals(eager, otherEager);
+            assertEquals(eager, lazy);
+            assertEquals(lazy, eager);
+            assertNotEquals(eager, otherLazy);
+            assertNotEquals(otherLazy, lazy);
+        });
+    }
+
+    private static ContainerNode deepContainer(final LeafNode<?> leaf) {
+        var container = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(leaf)
+            .build();
+        for (int i = 0; i < 64; i++) {
+            container = Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+                .withChild(container)
+                .build();
+        }
+        return container;
+    }
+
+    private LazyLeafValue<Uint32> lazyValue(final String lexical) {
+        return LazyLeafValue.of(str -> {
+            decodeCount.incrementAndGet();
+            return Uint32.valueOf(str);
+        }, lexical);
+    }
+}
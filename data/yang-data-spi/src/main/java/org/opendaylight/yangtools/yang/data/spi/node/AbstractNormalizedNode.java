@@ -59,7 +59,7 @@ public abstract class AbstractNormalizedNode<I extends PathArgument, T extends N
 
     @Override
     public final int hashCode() {
-        return 31 * name().hashCode() + valueHashCode();
+        return nameHashCode(name) + valueHashCode();
     }
 
     @Override
@@ -76,4 +76,22 @@ public abstract class AbstractNormalizedNode<I extends PathArgument, T extends N
     protected abstract int valueHashCode();
 
     protected abstract boolean valueEquals(@NonNull T other);
+
+    /**
+     * Return the value hash code of a node, i.e. the part of its {@link #hashCode()} which is not attributable to its
+     * {@link #name()}. This is useful for implementations which delegate to another node and need to report a hash code
+     * consistent with it.
+     *
+     * @param node A node
+     * @return Value hash code of the node
+     * @throws NullPointerException if {@code node} is null
+     */
+    protected static final int valueHashCodeOf(final NormalizedNode node) {
+        return node instanceof AbstractNormalizedNode<?, ?> abstractNode ? abstractNode.valueHashCode()
+            : node.hashCode() - nameHashCode(node.name());
+    }
+
+    private static int nameHashCode(final PathArgument name) {
+        return 31 * name.hashCode();
+    }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.api;
 
+import java.util.concurrent.Executor;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
@@ -29,4 +30,17 @@ public interface DataTree extends DataTreeTip, ReadOnlyDataTree {
      * @param candidate data tree candidate
      */
     void commit(DataTreeCandidate candidate);
+
+    /**
+     * Create a new {@link DataTreeCommitPipeline} committing into this data tree. Default implementation throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param executor Executor to use for running validation and commit tasks
+     * @return A new {@link DataTreeCommitPipeline}
+     * @throws NullPointerException if executor is null
+     * @throws UnsupportedOperationException if this data tree does not support commit pipelines
+     */
+    default DataTreeCommitPipeline newCommitPipeline(final Executor executor) {
+        throw new UnsupportedOperationException(getClass() + " does not support commit pipelines");
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.CheckedValue;
+
+/**
+ * A {@link DataTreeCandidateTip} resulting from {@link DataTreeTip#prepareBatch(List)}. It summarizes the effects of
+ * all modifications in the batch which were successfully prepared, so that they can be committed in one go. The
+ * outcome of each individual modification is available via {@link #outcomes()}.
+ */
+@Beta
+@NonNullByDefault
+public interface DataTreeBatchCandidate extends DataTreeCandidateTip {
+    /**
+     * Return the outcomes of individual modifications, in the order in which the modifications were supplied. A
+     * successful modification is reported as the {@link DataTreeCandidate} it produced, a failed modification is
+     * reported as the cause of its failure. Individual candidates are informational only, i.e. they cannot be
+     * committed, as their effects are already included in this candidate.
+     *
+     * @return Per-modification outcomes
+     */
+    List<CheckedValue<DataTreeCandidate, DataValidationFailedException>> outcomes();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+
+/**
+ * Storage for data which is rarely accessed, such as bulk statistics. A {@link DataTree} configured with a cold storage
+ * via {@link DataTreeConfiguration.Builder#setColdStorage(DataTreeColdStorage)} offers each list entry it creates or
+ * writes as a whole to this storage when the corresponding candidate is committed. Reads from modifications and
+ * candidates which are never committed do not touch the storage. The storage can then hold the contents of the entry
+ * outside of the Java heap, returning a {@link MapEntryNode} which materializes them when accessed. Entries which are
+ * modified in place are retained on heap until they are written as a whole again, so that frequent updates of
+ * individual leaves do not incur the cost of storing the entire entry.
+ *
+ * <p>
+ * Subtrees held in cold storage do not track versions of their individual children. This means that concurrent
+ * modifications of distinct children of such an entry are reported as conflicting.
+ */
+@Beta
+@NonNullByDefault
+public interface DataTreeColdStorage {
+    /**
+     * Offer a list entry for storage. The returned entry must be equal to the supplied entry. Implementations are free
+     * to return the supplied entry, for example if it is too small to be worth storing elsewhere.
+     *
+     * @param entry Entry to store
+     * @return An equivalent entry
+     */
+    MapEntryNode offload(MapEntryNode entry);
+}
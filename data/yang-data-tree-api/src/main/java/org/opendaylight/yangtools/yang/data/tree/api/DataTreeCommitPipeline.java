@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A pipeline for committing {@link DataTreeModification}s submitted concurrently by multiple threads into a single
+ * {@link DataTree}. Modifications are committed in the order in which they were submitted. Implementations are free
+ * to validate modifications which do not affect each other concurrently, but the resulting candidates are always
+ * published by a single sequencer.
+ *
+ * <p>
+ * While a pipeline is open, it should be the only entity committing into its {@link DataTree}. Implementations are
+ * expected to cope with outside commits, but doing so may defeat any concurrency they provide.
+ */
+@Beta
+@NonNullByDefault
+public interface DataTreeCommitPipeline extends AutoCloseable {
+    /**
+     * Submit a {@link DataTreeModification#ready()} modification for commit. The returned future completes with the
+     * {@link DataTreeCandidate} resulting from committing the modification, or fails with the cause of the failure,
+     * typically a {@link DataValidationFailedException}.
+     *
+     * @param modification Data tree modification
+     * @return A future completing when the modification has been committed
+     * @throws NullPointerException if modification is null
+     * @throws IllegalArgumentException if modification is unrecognized or it has not been sealed
+     * @throws IllegalStateException if this pipeline has been closed
+     */
+    ListenableFuture<DataTreeCandidate> submit(DataTreeModification modification);
+
+    /**
+     * Close this pipeline. No further modifications can be submitted, but modifications already submitted are still
+     * processed.
+     */
+    @Override
+    void close();
+}
@@ -11,7 +11,9 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.concepts.Mutable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -25,6 +27,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
  * <li>treeType</li>
  * <li>enable/disable unique indexes and unique constraint validation</li>
  * <li>enable/disable mandatory nodes validation</li>
+ * <li>{@link DataTreeColdStorage} for list entries</li>
  * </ul>
  *
  * <p>
@@ -49,13 +52,15 @@ public class DataTreeConfiguration implements Immutable {
     private final @NonNull YangInstanceIdentifier rootPath;
     private final boolean uniqueIndexes;
     private final boolean mandatoryNodesValidation;
+    private final @Nullable DataTreeColdStorage coldStorage;
 
     DataTreeConfiguration(final TreeType treeType, final YangInstanceIdentifier rootPath, final boolean uniqueIndexes,
-            final boolean mandatoryNodesValidation) {
+            final boolean mandatoryNodesValidation, final @Nullable DataTreeColdStorage coldStorage) {
         this.treeType = requireNonNull(treeType);
         this.rootPath = requireNonNull(rootPath);
         this.uniqueIndexes = uniqueIndexes;
         this.mandatoryNodesValidation = mandatoryNodesValidation;
+        this.coldStorage = coldStorage;
     }
 
     public @NonNull YangInstanceIdentifier getRootPath() {
@@ -74,11 +79,21 @@ public class DataTreeConfiguration implements Immutable {
         return mandatoryNodesValidation;
     }
 
+    /**
+     * Return the {@link DataTreeColdStorage} used to store list entries, if any.
+     *
+     * @return Cold storage, or empty if list entries are always held on heap
+     */
+    public @NonNull Optional<DataTreeColdStorage> getColdStorage() {
+        return Optional.ofNullable(coldStorage);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("type", treeType).add("root", rootPath)
                 .add("mandatory", mandatoryNodesValidation)
-                .add("unique", uniqueIndexes).toString();
+                .add("unique", uniqueIndexes)
+                .add("coldStorage", coldStorage).toString();
     }
 
     public static DataTreeConfiguration getDefault(final TreeType treeType) {
@@ -96,7 +111,8 @@ public class DataTreeConfiguration implements Immutable {
         return new Builder(treeType)
                 .setMandatoryNodesValidation(isMandatoryNodesValidationEnabled())
                 .setUniqueIndexes(isUniqueIndexEnabled())
-                .setRootPath(getRootPath());
+                .setRootPath(getRootPath())
+                .setColdStorage(coldStorage);
     }
 
     public static class Builder implements Mutable {
@@ -105,6 +121,7 @@ public class DataTreeConfiguration implements Immutable {
         private YangInstanceIdentifier rootPath;
         private boolean uniqueIndexes;
         private boolean mandatoryNodesValidation;
+        private @Nullable DataTreeColdStorage coldStorage;
 
         public Builder(final TreeType treeType) {
             this.treeType = requireNonNull(treeType);
@@ -126,13 +143,25 @@ public class DataTreeConfiguration implements Immutable {
             return this;
         }
 
+        /**
+         * Set the {@link DataTreeColdStorage} to use for list entries. Entries are offered to it as they are committed.
+         *
+         * @param coldStorage Cold storage, or {@code null} to hold all entries on heap
+         * @return This builder
+         */
+        public @NonNull Builder setColdStorage(final @Nullable DataTreeColdStorage coldStorage) {
+            this.coldStorage = coldStorage;
+            return this;
+        }
+
         /**
          * Return {@link DataTreeConfiguration} as defined by this builder's current state.
          *
          * @return A DataTreeConfiguration
          */
         public @NonNull DataTreeConfiguration build() {
-            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation);
+            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation,
+                coldStorage);
         }
     }
 }
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.api;
 
 import com.google.common.annotations.Beta;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -39,6 +40,23 @@ public interface DataTreeTip {
      */
     DataTreeCandidateTip prepare(DataTreeModification modification) throws DataValidationFailedException;
 
+    /**
+     * Validate and prepare a batch of modifications for commit. Modifications are processed in order, each of them
+     * being validated and prepared against the tip resulting from the previous successful modification. A modification
+     * which fails does not affect subsequent modifications. The resulting candidate includes the effects of all
+     * successful modifications and can be committed as a single unit. Default implementation throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param modifications Data tree modifications
+     * @return batch candidate
+     * @throws NullPointerException if modifications is null or contains a null element
+     * @throws IllegalArgumentException if any of the modifications is unrecognized
+     * @throws UnsupportedOperationException if this tip does not support batches
+     */
+    default DataTreeBatchCandidate prepareBatch(final List<? extends DataTreeModification> modifications) {
+        throw new UnsupportedOperationException(getClass() + " does not support batches");
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 
 @NonNullByDefault
 abstract class AbstractDataTreeCandidate extends AbstractDataTreeTip implements DataTreeCandidateTip {
@@ -25,4 +26,20 @@ abstract class AbstractDataTreeCandidate extends AbstractDataTreeTip implements
     public final YangInstanceIdentifier getRootPath() {
         return rootPath;
     }
+
+    /**
+     * Return the root node on which this candidate is based.
+     *
+     * @return Root node before this candidate is applied
+     */
+    abstract TreeNode getBeforeRoot();
+
+    /**
+     * Return the root node to be committed for this candidate, with list entries it creates or writes offloaded to
+     * the configured {@link org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage}.
+     *
+     * @param committedRoot Committed equivalent of {@link #getBeforeRoot()}
+     * @return Root node equivalent to {@link #getTipRoot()}
+     */
+    abstract TreeNode offloadCommitted(TreeNode committedRoot);
 }
@@ -7,8 +7,14 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.CheckedValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeBatchCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeTip;
@@ -27,30 +33,98 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
 
     @Override
     public final void validate(final DataTreeModification modification) throws DataValidationFailedException {
-        final var m = accessMod(modification, "validate");
-        m.getStrategy().checkApplicable(new ModificationPath(getRootPath()), m.getRootModification(), getTipRoot(),
-            m.getVersion());
+        validate(accessMod(modification, "validate"), getTipRoot());
+    }
+
+    /**
+     * Validate a modification against a particular root node rather than the current tip. This is useful for
+     * validating multiple modifications against a stable root without consulting the tip.
+     *
+     * @param modification Sealed modification
+     * @param root Root node to validate against
+     * @throws DataValidationFailedException if modification would result in inconsistent data tree
+     */
+    final void validate(final InMemoryDataTreeModification modification, final TreeNode root)
+            throws DataValidationFailedException {
+        modification.getStrategy().checkApplicable(new ModificationPath(getRootPath()),
+            modification.getRootModification(), root, modification.getVersion());
     }
 
     @Override
     public final DataTreeCandidateTip prepare(final DataTreeModification modification) {
-        final var m = accessMod(modification, "prepare");
-        final var root = m.getRootModification();
+        return prepare(accessMod(modification, "prepare"), getTipRoot());
+    }
 
-        final var currentRoot = getTipRoot();
+    private static @NonNull AbstractDataTreeCandidate prepare(final InMemoryDataTreeModification modification,
+            final TreeNode currentRoot) {
+        final var root = modification.getRootModification();
         if (root.getOperation() == LogicalOperation.NONE) {
             return new NoopDataTreeCandidate(YangInstanceIdentifier.of(), root, currentRoot);
         }
 
-        final var newRoot = m.getStrategy().apply(m.getRootModification(), currentRoot, m.getVersion());
+        final var strategy = modification.getStrategy();
+        final var newRoot = strategy.apply(root, currentRoot, modification.getVersion());
         if (newRoot == null) {
             throw new IllegalStateException("Apply strategy failed to produce root node for modification "
                 + modification);
         }
-        return new InMemoryDataTreeCandidate(YangInstanceIdentifier.of(), root, currentRoot, newRoot);
+        return new InMemoryDataTreeCandidate(YangInstanceIdentifier.of(), strategy, root, currentRoot, newRoot);
+    }
+
+    @Override
+    public final DataTreeBatchCandidate prepareBatch(final List<? extends DataTreeModification> modifications) {
+        return prepareBatch(modifications.stream().map(mod -> accessMod(mod, "prepare")).toList(), null);
+    }
+
+    /**
+     * Prepare a batch of modifications. Each modification is applied on top of the root resulting from the previous
+     * successful modification. If the modifications have already been validated against {@code validatedRoot} and that
+     * root is still the root of this tip, they are not validated again. Otherwise each of them is validated before it
+     * is applied.
+     *
+     * @param modifications Sealed modifications
+     * @param validatedRoot Root the modifications have been validated against, {@code null} if they have not been
+     *                      validated
+     * @return A batch candidate
+     */
+    final @NonNull InMemoryDataTreeBatchCandidate prepareBatch(
+            final List<InMemoryDataTreeModification> modifications, final @Nullable TreeNode validatedRoot) {
+        // The root is read exactly once, so that any concurrent change to it is either seen here, and validation is
+        // performed, or it is detected when the resulting batch is committed
+        final var beforeRoot = getTipRoot();
+        final boolean validate = beforeRoot != validatedRoot;
+        final var candidates = new ArrayList<AbstractDataTreeCandidate>(modifications.size());
+        final var outcomes =
+            new ArrayList<CheckedValue<DataTreeCandidate, DataValidationFailedException>>(modifications.size());
+
+        var currentRoot = beforeRoot;
+        for (var mod : modifications) {
+            final AbstractDataTreeCandidate candidate;
+            try {
+                if (validate) {
+                    validate(mod, currentRoot);
+                }
+                candidate = prepare(mod, currentRoot);
+            } catch (DataValidationFailedException e) {
+                outcomes.add(CheckedValue.ofException(e));
+                continue;
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                outcomes.add(CheckedValue.ofException(
+                    new DataValidationFailedException(getRootPath(), "Modification failed to apply", e)));
+                continue;
+            }
+
+            outcomes.add(CheckedValue.ofValue(candidate));
+            if (!(candidate instanceof NoopDataTreeCandidate)) {
+                candidates.add(candidate);
+                currentRoot = candidate.getTipRoot();
+            }
+        }
+
+        return new InMemoryDataTreeBatchCandidate(beforeRoot, currentRoot, candidates, outcomes);
     }
 
-    private static @NonNull InMemoryDataTreeModification accessMod(final DataTreeModification mod, final String op) {
+    static @NonNull InMemoryDataTreeModification accessMod(final DataTreeModification mod, final String op) {
         if (mod instanceof InMemoryDataTreeModification inMemoryMod) {
             if (inMemoryMod.isSealed()) {
                 return inMemoryMod;
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
@@ -20,6 +21,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.builder.NormalizedNodeContainerBuilder;
 import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
@@ -88,11 +90,13 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
     private static final Version FAKE_VERSION = Version.initial();
 
     private final NormalizedNodeContainerSupport<?, ?> support;
+    private final @Nullable DataTreeColdStorage coldStorage;
     private final boolean verifyChildrenStructure;
 
     AbstractNodeContainerModificationStrategy(final NormalizedNodeContainerSupport<?, ?> support,
             final DataTreeConfiguration treeConfig) {
         this.support = requireNonNull(support);
+        coldStorage = treeConfig.getColdStorage().orElse(null);
         verifyChildrenStructure = treeConfig.getTreeType() == TreeType.CONFIGURATION;
     }
 
@@ -162,6 +166,88 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
         }
     }
 
+    final @Nullable DataTreeColdStorage coldStorage() {
+        return coldStorage;
+    }
+
+    @Override
+    NormalizedNode offload(final NormalizedNode value) {
+        return coldStorage == null ? value : offloadChildren(value);
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    final TreeNode offloadCommitted(final ModifiedNode modification, final TreeNode before, final TreeNode committed,
+            final TreeNode after) {
+        if (after == null || after == before) {
+            return after == null ? null : committed;
+        }
+        if (coldStorage == null && committed == before) {
+            return after;
+        }
+
+        if (before == null || modification.getOperation() == LogicalOperation.WRITE) {
+            // The node has been written as a whole, hence we offload it as a whole. Offloaded list entries do not track
+            // versions of their children, hence we report the entire node as having been replaced at its subtree
+            // version. This errs on the side of reporting conflicts.
+            final var data = after.getData();
+            final var offloaded = offload(data);
+            return offloaded == data ? after : TreeNode.of(offloaded, after.getSubtreeVersion());
+        }
+
+        // The node has been modified in place: only modified children are considered, everything else is retained
+        // from the committed node. Entries modified in place are likely to be modified again, hence they remain on
+        // heap until they are written as a whole. This way we do not serialize an entire entry each time one of its
+        // leaves changes.
+        final var base = committed == before ? after : verifyNotNull(committed);
+        MutableTreeNode meta = null;
+        NormalizedNodeContainerBuilder data = null;
+        for (var mod : modification.getChildren()) {
+            final var id = mod.getIdentifier();
+            final var baseChild = base.childByArg(id);
+            final var result = resolveChildOperation(id).offloadCommitted(mod, before.childByArg(id),
+                committed.childByArg(id), after.childByArg(id));
+            if (result != baseChild) {
+                if (meta == null) {
+                    meta = base.mutable();
+                    data = support.createBuilder(base.getData());
+                }
+                if (result != null) {
+                    meta.putChild(result);
+                    data.addChild(result.getData());
+                } else {
+                    meta.removeChild(id);
+                    data.removeChild(id);
+                }
+            }
+        }
+        if (meta == null) {
+            return base;
+        }
+
+        meta.setSubtreeVersion(after.getSubtreeVersion());
+        meta.setData(data.build());
+        return meta.seal();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private @NonNull NormalizedNode offloadChildren(final @NonNull NormalizedNode value) {
+        NormalizedNodeContainerBuilder builder = null;
+        for (var child : ((NormalizedNodeContainer<?>) value).body()) {
+            final var childOp = childByArg(child.name());
+            if (childOp != null) {
+                final var offloaded = childOp.offload(child);
+                if (offloaded != child) {
+                    if (builder == null) {
+                        builder = support.createBuilder(value);
+                    }
+                    builder.addChild(offloaded);
+                }
+            }
+        }
+        return builder == null ? value : builder.build();
+    }
+
     @Override
     protected TreeNode applyWrite(final ModifiedNode modification, final NormalizedNode newValue,
             final TreeNode currentMeta, final Version version) {
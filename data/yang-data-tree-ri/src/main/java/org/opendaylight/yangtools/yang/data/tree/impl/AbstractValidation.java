@@ -60,6 +60,17 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         delegate.recursivelyVerifyStructure(value);
     }
 
+    @Override
+    final NormalizedNode offload(final NormalizedNode value) {
+        return delegate.offload(value);
+    }
+
+    @Override
+    final TreeNode offloadCommitted(final ModifiedNode modification, final TreeNode before,
+            final TreeNode committed, final TreeNode after) {
+        return delegate.offloadCommitted(modification, before, committed, after);
+    }
+
     @Override
     final TreeNode apply(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
         var validated = modification.validatedNode(this, currentMeta);
@@ -78,7 +89,7 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         // Deal with the result moving on us
         final var ret = delegate.apply(modification, currentMeta, version);
         if (ret != null) {
-            enforceOnData(ret.getData());
+            enforceOnResult(modification, currentMeta, ret.getData());
         }
         return ret;
     }
@@ -94,14 +105,15 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         }
 
         if (delegate instanceof AbstractValidation) {
-            checkApplicable(path, verifyNotNull(modified.validatedNode(delegate, currentMeta)).treeNode());
+            checkApplicable(path, modified, currentMeta,
+                verifyNotNull(modified.validatedNode(delegate, currentMeta)).treeNode());
             return;
         }
 
         // We need to actually perform the operation to deal with merge in a sane manner. We know the modification
         // is immutable, so the result of validation will probably not change. Note we should not be checking number
         final var applied = delegate.apply(modified, currentMeta, version);
-        checkApplicable(path, applied);
+        checkApplicable(path, modified, currentMeta, applied);
 
         // Everything passed. We now have a snapshot of the result node, it would be too bad if we just threw it out.
         // We know what the result of an apply operation is going to be *if* the following are kept unchanged:
@@ -112,11 +124,12 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         modified.setValidatedNode(this, currentMeta, applied);
     }
 
-    private void checkApplicable(final ModificationPath path, final @Nullable TreeNode applied)
+    private void checkApplicable(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final @Nullable TreeNode applied)
             throws DataValidationFailedException {
         if (applied != null) {
             // We only enforce min/max on present data and rely on MandatoryLeafEnforcer to take care of the empty case
-            enforceOnData(path, applied.getData());
+            enforceOnResult(path, modification, currentMeta, applied.getData());
         }
     }
 
@@ -134,6 +147,36 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
 
     abstract void enforceOnData(@NonNull NormalizedNode data);
 
+    /**
+     * Enforce this validation on the result of applying a modification to a node. The default implementation defers to
+     * {@link #enforceOnData(ModificationPath, NormalizedNode)}, subclasses can override it to take advantage of
+     * knowing what the modification changed.
+     *
+     * @param path Path to the node
+     * @param modification Applied modification
+     * @param currentMeta Node the modification was applied to, {@code null} if it did not exist
+     * @param result Resulting data
+     * @throws DataValidationFailedException if the result does not pass validation
+     */
+    void enforceOnResult(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final @NonNull NormalizedNode result)
+            throws DataValidationFailedException {
+        enforceOnData(path, result);
+    }
+
+    /**
+     * Enforce this validation on the result of applying a modification to a node. The default implementation defers to
+     * {@link #enforceOnData(NormalizedNode)}.
+     *
+     * @param modification Applied modification
+     * @param currentMeta Node the modification was applied to, {@code null} if it did not exist
+     * @param result Resulting data
+     */
+    void enforceOnResult(final ModifiedNode modification, final @Nullable TreeNode currentMeta,
+            final @NonNull NormalizedNode result) {
+        enforceOnData(result);
+    }
+
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
         return helper.add("delegate", delegate);
@@ -24,19 +24,22 @@ final class DataTreeState {
     private final LatestOperationHolder holder;
     private final EffectiveModelContext schemaContext;
     private final @NonNull TreeNode root;
+    private final @NonNull TreeNode preparedRoot;
 
     private DataTreeState(final TreeNode root) {
         this.root = requireNonNull(root);
+        preparedRoot = root;
         holder = new LatestOperationHolder();
         schemaContext = null;
     }
 
-    private DataTreeState(final TreeNode root, final LatestOperationHolder holder,
+    private DataTreeState(final TreeNode root, final TreeNode preparedRoot, final LatestOperationHolder holder,
             final EffectiveModelContext schemaContext) {
         // It should be impossible to instantiate a new root without a SchemaContext
         this.schemaContext = requireNonNull(schemaContext);
         this.holder = requireNonNull(holder);
         this.root = requireNonNull(root);
+        this.preparedRoot = requireNonNull(preparedRoot);
     }
 
     static DataTreeState createInitial(final TreeNode root) {
@@ -47,6 +50,17 @@ final class DataTreeState {
         return root;
     }
 
+    /**
+     * Return the root node as it was prepared by the last committed candidate. It is equivalent to {@link #getRoot()},
+     * except it does not have list entries offloaded to cold storage. Candidates prepared on top of that candidate are
+     * based on this root.
+     *
+     * @return Prepared root node
+     */
+    @NonNull TreeNode getPreparedRoot() {
+        return preparedRoot;
+    }
+
     @NonNull InMemoryDataTreeSnapshot newSnapshot() {
         return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot());
     }
@@ -54,11 +68,11 @@ final class DataTreeState {
     DataTreeState withSchemaContext(final EffectiveModelContext newSchemaContext,
             final ModificationApplyOperation operation) {
         holder.setCurrent(operation);
-        return new DataTreeState(root, holder, newSchemaContext);
+        return new DataTreeState(root, preparedRoot, holder, newSchemaContext);
     }
 
-    DataTreeState withRoot(final TreeNode newRoot) {
-        return new DataTreeState(newRoot, holder, schemaContext);
+    DataTreeState withRoot(final TreeNode newRoot, final TreeNode newPreparedRoot) {
+        return new DataTreeState(newRoot, newPreparedRoot, holder, schemaContext);
     }
 
     @Override
@@ -12,12 +12,14 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.base.MoreObjects;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.concurrent.Executor;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCommitPipeline;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
@@ -139,7 +141,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
         if (candidate instanceof NoopDataTreeCandidate) {
             return;
         }
-        if (!(candidate instanceof InMemoryDataTreeCandidate c)) {
+        if (!(candidate instanceof AbstractDataTreeCandidate c)) {
             throw new IllegalArgumentException("Invalid candidate class " + candidate.getClass());
         }
 
@@ -147,28 +149,42 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             LOG.trace("Data Tree is {}", NormalizedNodes.toStringTree(c.getTipRoot().getData()));
         }
 
-        final TreeNode newRoot = c.getTipRoot();
+        final TreeNode preparedRoot = c.getTipRoot();
+        TreeNode committedRoot = null;
+        TreeNode newRoot = null;
         DataTreeState currentState;
         DataTreeState newState;
         do {
             currentState = currentState();
             final TreeNode currentRoot = currentState.getRoot();
-            LOG.debug("Updating datastore from {} to {}", currentRoot, newRoot);
 
+            // A candidate prepared on top of the last committed candidate is based on that candidate's prepared root
             final TreeNode oldRoot = c.getBeforeRoot();
-            if (oldRoot != currentRoot) {
+            if (oldRoot != currentRoot && oldRoot != currentState.getPreparedRoot()) {
                 final String oldStr = simpleToString(oldRoot);
                 final String currentStr = simpleToString(currentRoot);
                 throw new IllegalStateException("Store tree " + currentStr + " and candidate base " + oldStr
                     + " differ.");
             }
 
-            newState = currentState.withRoot(newRoot);
+            // List entries are offloaded to cold storage only now, so that uncommitted candidates never touch it
+            if (currentRoot != committedRoot) {
+                committedRoot = currentRoot;
+                newRoot = c.offloadCommitted(currentRoot);
+            }
+            LOG.debug("Updating datastore from {} to {}", currentRoot, newRoot);
+
+            newState = currentState.withRoot(newRoot, preparedRoot);
             LOG.trace("Updated state from {} to {}", currentState, newState);
             // TODO: can we lower this to compareAndSwapRelease?
         } while (!STATE.compareAndSet(this, currentState, newState));
     }
 
+    @Override
+    public DataTreeCommitPipeline newCommitPipeline(final Executor executor) {
+        return new InMemoryDataTreeCommitPipeline(this, executor);
+    }
+
     private static String simpleToString(final Object obj) {
         return obj.getClass().getName() + "@" + Integer.toHexString(obj.hashCode());
     }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.concepts.CheckedValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeBatchCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+/**
+ * A {@link DataTreeBatchCandidate} produced by {@link AbstractDataTreeTip#prepareBatch(List)}. It tracks the root nodes
+ * before and after the batch, so that it can be committed with a single state swap. The summarized
+ * {@link #getRootNode()} is computed lazily from individual candidates, as many users only care about the outcomes.
+ */
+final class InMemoryDataTreeBatchCandidate extends AbstractDataTreeCandidate implements DataTreeBatchCandidate {
+    private final @NonNull List<CheckedValue<DataTreeCandidate, DataValidationFailedException>> outcomes;
+    private final @NonNull List<AbstractDataTreeCandidate> candidates;
+    private final @NonNull TreeNode beforeRoot;
+    private final @NonNull TreeNode afterRoot;
+
+    private volatile DataTreeCandidateNode rootNode;
+
+    InMemoryDataTreeBatchCandidate(final TreeNode beforeRoot, final TreeNode afterRoot,
+            final List<AbstractDataTreeCandidate> candidates,
+            final List<CheckedValue<DataTreeCandidate, DataValidationFailedException>> outcomes) {
+        super(YangInstanceIdentifier.of());
+        this.beforeRoot = requireNonNull(beforeRoot);
+        this.afterRoot = requireNonNull(afterRoot);
+        this.candidates = List.copyOf(candidates);
+        this.outcomes = List.copyOf(outcomes);
+    }
+
+    @Override
+    public List<CheckedValue<DataTreeCandidate, DataValidationFailedException>> outcomes() {
+        return outcomes;
+    }
+
+    @Override
+    public DataTreeCandidateNode getRootNode() {
+        var local = rootNode;
+        if (local == null) {
+            rootNode = local = candidates.isEmpty() ? NoopDataTreeCandidate.ROOT
+                : DataTreeCandidates.aggregate(candidates).getRootNode();
+        }
+        return local;
+    }
+
+    @Override
+    protected TreeNode getTipRoot() {
+        return afterRoot;
+    }
+
+    @Override
+    TreeNode getBeforeRoot() {
+        return beforeRoot;
+    }
+
+    @Override
+    TreeNode offloadCommitted(final TreeNode committedRoot) {
+        var ret = committedRoot;
+        for (var candidate : candidates) {
+            ret = candidate.offloadCommitted(ret);
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("rootPath", getRootPath())
+            .add("modifications", outcomes.size())
+            .add("effective", candidates.size())
+            .toString();
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
+import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
@@ -28,11 +29,13 @@ final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
         }
     }
 
+    private final @NonNull ModificationApplyOperation strategy;
     private final @NonNull RootNode root;
 
-    InMemoryDataTreeCandidate(final YangInstanceIdentifier rootPath, final ModifiedNode modificationRoot,
-            final TreeNode beforeRoot, final TreeNode afterRoot) {
+    InMemoryDataTreeCandidate(final YangInstanceIdentifier rootPath, final ModificationApplyOperation strategy,
+            final ModifiedNode modificationRoot, final TreeNode beforeRoot, final TreeNode afterRoot) {
         super(rootPath);
+        this.strategy = requireNonNull(strategy);
         root = new RootNode(modificationRoot, requireNonNull(beforeRoot), requireNonNull(afterRoot));
     }
 
@@ -41,10 +44,17 @@ final class InMemoryDataTreeCandidate extends AbstractDataTreeCandidate {
         return root.getNewMeta();
     }
 
+    @Override
     TreeNode getBeforeRoot() {
         return root.getOldMeta();
     }
 
+    @Override
+    TreeNode offloadCommitted(final TreeNode committedRoot) {
+        return verifyNotNull(strategy.offloadCommitted(root.getMod(), root.getOldMeta(), committedRoot,
+            root.getNewMeta()));
+    }
+
     @Override
     public DataTreeCandidateNode getRootNode() {
         return root;
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCommitPipeline;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DataTreeCommitPipeline} backed by an {@link InMemoryDataTree}. Submitted modifications are processed in
+ * rounds. Each round picks a number of pending modifications whose footprints, as expressed by their
+ * {@link ModifiedNode} trees, do not overlap. These are then validated concurrently against the current root of the
+ * data tree. Once all of them have been validated, the last validating thread acts as the sequencer: it prepares the
+ * round's modifications in submission order as a single batch, commits it and then starts the next round.
+ *
+ * <p>
+ * Two modifications overlap when there is a node which is modified by both of them, except when both of them only
+ * {@link LogicalOperation#TOUCH} that node. A modification which overlaps with a modification selected for the current
+ * round, or with a modification deferred from it, is deferred to a subsequent round. This ensures overlapping
+ * modifications are always committed in submission order.
+ *
+ * <p>
+ * Constraints spanning multiple children, like {@code min-elements}, {@code max-elements} and {@code unique}, are
+ * re-enforced when each modification is applied, hence their violation by a combination of otherwise non-overlapping
+ * modifications is reported as a failure of the later modification.
+ */
+final class InMemoryDataTreeCommitPipeline implements DataTreeCommitPipeline {
+    private static final class PendingCommit {
+        final @NonNull SettableFuture<DataTreeCandidate> future = SettableFuture.create();
+        final @NonNull InMemoryDataTreeModification modification;
+
+        // Written by the validating thread, read by the sequencer after Round.remaining reaches zero
+        Exception failure;
+
+        PendingCommit(final InMemoryDataTreeModification modification) {
+            this.modification = requireNonNull(modification);
+        }
+
+        @NonNull ModifiedNode footprint() {
+            return modification.getRootModification();
+        }
+    }
+
+    private static final class Round {
+        final @NonNull List<PendingCommit> commits;
+        final @NonNull TreeNode root;
+        final @NonNull AtomicInteger remaining;
+
+        Round(final List<PendingCommit> commits, final TreeNode root) {
+            this.commits = requireNonNull(commits);
+            this.root = requireNonNull(root);
+            remaining = new AtomicInteger(commits.size());
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryDataTreeCommitPipeline.class);
+    private static final VarHandle SCHEDULED;
+
+    static {
+        try {
+            SCHEDULED = MethodHandles.lookup().findVarHandle(InMemoryDataTreeCommitPipeline.class, "scheduled",
+                boolean.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Maximum number of modifications validated in a single round.
+     */
+    static final int MAX_ROUND_SIZE = 256;
+
+    private final ConcurrentLinkedQueue<PendingCommit> queue = new ConcurrentLinkedQueue<>();
+    private final @NonNull InMemoryDataTree tree;
+    private final @NonNull Executor executor;
+
+    // Pending commits which have been dequeued, but not processed yet. Accessed only by the thread holding SCHEDULED
+    private final ArrayDeque<PendingCommit> backlog = new ArrayDeque<>();
+
+    /**
+     * Set when there is a round being executed. All accesses need to go through {@link #SCHEDULED}
+     */
+    @SuppressWarnings("unused")
+    private volatile boolean scheduled;
+    private volatile boolean closed;
+
+    InMemoryDataTreeCommitPipeline(final InMemoryDataTree tree, final Executor executor) {
+        this.tree = requireNonNull(tree);
+        this.executor = requireNonNull(executor);
+    }
+
+    @Override
+    public ListenableFuture<DataTreeCandidate> submit(final DataTreeModification modification) {
+        final var pending = new PendingCommit(AbstractDataTreeTip.accessMod(modification, "submit"));
+        if (closed) {
+            throw new IllegalStateException("Pipeline " + this + " has been closed");
+        }
+        queue.add(pending);
+        schedule();
+        return pending.future;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private void schedule() {
+        if (SCHEDULED.compareAndSet(this, false, true)) {
+            executeRound();
+        }
+    }
+
+    private void executeRound() {
+        try {
+            executor.execute(this::startRound);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Pipeline {} failed to schedule a round, failing pending modifications", this, e);
+            failPending(e);
+        }
+    }
+
+    private void failPending(final Exception cause) {
+        backlog.forEach(pending -> pending.future.setException(cause));
+        backlog.clear();
+        for (var pending = queue.poll(); pending != null; pending = queue.poll()) {
+            pending.future.setException(cause);
+        }
+        SCHEDULED.setRelease(this, false);
+    }
+
+    private void startRound() {
+        for (var pending = queue.poll(); pending != null; pending = queue.poll()) {
+            backlog.add(pending);
+        }
+        if (backlog.isEmpty()) {
+            finishRounds();
+            return;
+        }
+
+        final var selected = new ArrayList<PendingCommit>();
+        final var deferred = new ArrayList<PendingCommit>();
+        final var it = backlog.iterator();
+        while (it.hasNext() && selected.size() < MAX_ROUND_SIZE && deferred.size() < MAX_ROUND_SIZE) {
+            final var pending = it.next();
+            if (overlapsAny(pending, selected) || overlapsAny(pending, deferred)) {
+                deferred.add(pending);
+            } else {
+                selected.add(pending);
+                it.remove();
+            }
+        }
+
+        final var round = new Round(selected, tree.getTipRoot());
+        LOG.debug("Pipeline {} starting round of {} modifications, {} deferred", this, selected.size(),
+            deferred.size());
+
+        // Fork off validation of all but the first modification, which we validate in this thread
+        for (var pending : selected.subList(1, selected.size())) {
+            try {
+                executor.execute(() -> validate(round, pending));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Pipeline {} failed to fork validation, validating inline", this, e);
+                validate(round, pending);
+            }
+        }
+        validate(round, selected.get(0));
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void validate(final Round round, final PendingCommit pending) {
+        try {
+            tree.validate(pending.modification, round.root);
+        } catch (DataValidationFailedException | IllegalArgumentException | IllegalStateException e) {
+            LOG.debug("Modification {} failed to validate", pending.modification, e);
+            pending.failure = e;
+        } catch (RuntimeException e) {
+            LOG.warn("Modification {} failed unexpectedly during validation", pending.modification, e);
+            pending.failure = e;
+        } finally {
+            // The round needs to be sequenced no matter what, otherwise its futures are never completed
+            if (round.remaining.decrementAndGet() == 0) {
+                sequence(round);
+            }
+        }
+    }
+
+    private void sequence(final Round round) {
+        final var commits = new ArrayList<PendingCommit>(round.commits.size());
+        for (var pending : round.commits) {
+            if (pending.failure == null) {
+                commits.add(pending);
+            } else {
+                pending.future.setException(pending.failure);
+            }
+        }
+
+        if (!commits.isEmpty()) {
+            commitBatch(commits, round.root);
+        }
+
+        if (!backlog.isEmpty() || !queue.isEmpty()) {
+            executeRound();
+        } else {
+            finishRounds();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void commitBatch(final List<PendingCommit> commits, final TreeNode validatedRoot) {
+        // Prepare all modifications as a single batch and publish them in one go. If somebody has committed outside of
+        // the pipeline, our validation results are stale and prepareBatch() will redo validation before each prepare.
+        final InMemoryDataTreeBatchCandidate batch;
+        try {
+            batch = tree.prepareBatch(commits.stream().map(pending -> pending.modification).toList(), validatedRoot);
+        } catch (RuntimeException e) {
+            LOG.warn("Pipeline {} failed to prepare a batch of {} modifications", this, commits.size(), e);
+            commits.forEach(pending -> pending.future.setException(e));
+            return;
+        }
+
+        try {
+            tree.commit(batch);
+        } catch (IllegalStateException e) {
+            LOG.debug("Pipeline {} failed to commit {}", this, batch, e);
+            commits.forEach(pending -> pending.future.setException(e));
+            return;
+        }
+
+        final var outcomes = batch.outcomes();
+        for (int i = 0; i < commits.size(); ++i) {
+            outcomes.get(i).completeFuture(commits.get(i).future);
+        }
+    }
+
+    private void finishRounds() {
+        SCHEDULED.setRelease(this, false);
+        // Catch any submissions which raced with us
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private static boolean overlapsAny(final PendingCommit pending, final List<PendingCommit> others) {
+        final var footprint = pending.footprint();
+        for (var other : others) {
+            if (overlaps(footprint, other.footprint())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determine whether two modifications overlap, i.e. there is a node which is modified by both of them through
+     * anything but a {@link LogicalOperation#TOUCH}.
+     *
+     * @param first First modification
+     * @param second Second modification
+     * @return {@code true} if the modifications overlap
+     */
+    static boolean overlaps(final ModifiedNode first, final ModifiedNode second) {
+        final var firstOp = first.getOperation();
+        final var secondOp = second.getOperation();
+        if (firstOp == LogicalOperation.NONE || secondOp == LogicalOperation.NONE) {
+            return false;
+        }
+        if (firstOp != LogicalOperation.TOUCH || secondOp != LogicalOperation.TOUCH) {
+            return true;
+        }
+
+        // Both are touches, iterate over the smaller set of children
+        final ModifiedNode smaller;
+        final ModifiedNode larger;
+        if (first.getChildren().size() <= second.getChildren().size()) {
+            smaller = first;
+            larger = second;
+        } else {
+            smaller = second;
+            larger = first;
+        }
+
+        for (var child : smaller.getChildren()) {
+            final var other = larger.childByArg(child.getIdentifier());
+            if (other != null && overlaps(child, other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("rootPath", tree.getRootPath()).add("closed", closed).toString();
+    }
+}
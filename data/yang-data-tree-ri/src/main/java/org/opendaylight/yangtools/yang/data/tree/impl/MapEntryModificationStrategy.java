@@ -74,4 +74,10 @@ sealed class MapEntryModificationStrategy extends DataNodeContainerModificationS
         return enforcer != null ? new EnforcingMandatory(schema, treeConfig, enforcer)
             : new MapEntryModificationStrategy(schema, treeConfig);
     }
+
+    @Override
+    final NormalizedNode offload(final NormalizedNode value) {
+        final var storage = coldStorage();
+        return storage == null ? value : storage.offload((MapEntryNode) value);
+    }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -118,6 +119,34 @@ abstract sealed class ModificationApplyOperation implements StoreTreeNode<Modifi
 
     abstract void recursivelyVerifyStructure(NormalizedNode value);
 
+    /**
+     * Offer a value written as part of its parent to the configured
+     * {@link org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage}.
+     *
+     * @param value Written value
+     * @return An equivalent value, possibly with some of its parts offloaded
+     */
+    abstract @NonNull NormalizedNode offload(@NonNull NormalizedNode value);
+
+    /**
+     * Produce the node to be committed in place of a node resulting from a prepared modification. This is where list
+     * entries created or written by the modification are offered to the configured
+     * {@link org.opendaylight.yangtools.yang.data.tree.api.DataTreeColdStorage}, so that reads from modifications and
+     * candidates which are never committed do not touch it.
+     *
+     * <p>{@code committed} is the node currently committed at this position. It is equivalent to {@code before}, but
+     * can differ from it by having some of its parts offloaded, which is the case when a candidate has been prepared on
+     * top of another candidate. Parts of {@code committed} which have not been modified are retained.
+     *
+     * @param modification Modification which has been applied
+     * @param before Node the modification has been applied to, {@code null} if it did not exist
+     * @param committed Committed equivalent of {@code before}, {@code null} if it did not exist
+     * @param after Node resulting from the modification, {@code null} if it does not exist
+     * @return Node to be committed, equivalent to {@code after}
+     */
+    abstract @Nullable TreeNode offloadCommitted(@NonNull ModifiedNode modification, @Nullable TreeNode before,
+        @Nullable TreeNode committed, @Nullable TreeNode after);
+
     abstract ToStringHelper addToStringAttributes(ToStringHelper helper);
 
     @Override
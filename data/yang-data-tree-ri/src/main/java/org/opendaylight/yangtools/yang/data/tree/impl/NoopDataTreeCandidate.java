@@ -26,7 +26,7 @@ import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
  * of this class are explicitly recognized and processing of them is skipped.
  */
 final class NoopDataTreeCandidate extends AbstractDataTreeCandidate {
-    private static final DataTreeCandidateNode ROOT = new DataTreeCandidateNode() {
+    static final DataTreeCandidateNode ROOT = new DataTreeCandidateNode() {
         @Override
         public ModificationType modificationType() {
             return ModificationType.UNMODIFIED;
@@ -76,4 +76,14 @@ final class NoopDataTreeCandidate extends AbstractDataTreeCandidate {
     protected TreeNode getTipRoot() {
         return afterRoot;
     }
+
+    @Override
+    TreeNode getBeforeRoot() {
+        return afterRoot;
+    }
+
+    @Override
+    TreeNode offloadCommitted(final TreeNode committedRoot) {
+        return committedRoot;
+    }
 }
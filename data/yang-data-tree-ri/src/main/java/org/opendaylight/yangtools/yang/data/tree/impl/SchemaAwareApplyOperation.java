@@ -146,6 +146,19 @@ abstract sealed class SchemaAwareApplyOperation<T extends DataSchemaNode> extend
         // Defaults to no-op
     }
 
+    @Override
+    NormalizedNode offload(final NormalizedNode value) {
+        // Defaults to no-op
+        return value;
+    }
+
+    @Override
+    TreeNode offloadCommitted(final ModifiedNode modification, final TreeNode before, final TreeNode committed,
+            final TreeNode after) {
+        // Nothing to offload, but an unchanged node is retained as committed
+        return after == before ? committed : after;
+    }
+
     protected void checkMergeApplicable(final ModificationPath path, final NodeModification modification,
             final TreeNode currentMeta, final Version version) throws DataValidationFailedException {
         final var orig = modification.original();
@@ -13,8 +13,10 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.HashMultimap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -23,13 +25,18 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.util.MapAdaptor;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.UniqueConstraintException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
@@ -46,7 +53,14 @@ import org.slf4j.LoggerFactory;
 final class UniqueValidation extends AbstractValidation {
     private static final Logger LOG = LoggerFactory.getLogger(UniqueValidation.class);
 
+    // Placeholder for a null value vector, as the maps we use do not allow null keys
+    private static final Object NULL_VALUES = new Object();
+
     private final @NonNull ImmutableList<UniqueValidator<?>> validators;
+    // Per-validator maps of value vectors to the entries holding them, keyed by the identity of the list data. This
+    // allows us to update the index of a list incrementally, based on the entries touched by a modification.
+    private final Cache<NormalizedNode, ImmutableList<Map<Object, PathArgument>>> indices =
+        CacheBuilder.newBuilder().weakKeys().build();
 
     private UniqueValidation(final ModificationApplyOperation delegate,
             final ImmutableList<UniqueValidator<?>> validators) {
@@ -92,27 +106,141 @@ final class UniqueValidation extends AbstractValidation {
 
     private <T extends @NonNull Exception> void enforceOnData(final NormalizedNode data,
             final ExceptionSupplier<T> exceptionSupplier) throws T {
+        if (indices.getIfPresent(data) == null) {
+            indices.put(data, buildIndex(data, exceptionSupplier));
+        }
+    }
+
+    @Override
+    void enforceOnResult(final ModificationPath path, final ModifiedNode modification,
+            final TreeNode currentMeta, final NormalizedNode result) throws UniqueConstraintException {
+        enforceOnResult(modification, currentMeta, result, (message, values) -> new UniqueConstraintException(
+            path.toInstanceIdentifier(), values, message));
+    }
+
+    @Override
+    void enforceOnResult(final ModifiedNode modification, final TreeNode currentMeta, final NormalizedNode result) {
+        enforceOnResult(modification, currentMeta, result,
+            (message, values) -> new UniqueValidationFailedException(message));
+    }
+
+    private <T extends @NonNull Exception> void enforceOnResult(final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final NormalizedNode result,
+            final ExceptionSupplier<T> exceptionSupplier) throws T {
+        if (indices.getIfPresent(result) != null) {
+            // We have already seen this data, it is known to be valid
+            return;
+        }
+
+        // If we have the index of the previous incarnation of a keyed list, and we know which entries changed, we can
+        // update that index instead of building a new one.
+        if (currentMeta != null && result instanceof MapNode resultMap
+                && currentMeta.getData() instanceof MapNode previousMap) {
+            final var operation = modification.getOperation();
+            if (operation == LogicalOperation.TOUCH || operation == LogicalOperation.MERGE) {
+                final var previousIndex = indices.getIfPresent(previousMap);
+                if (previousIndex != null) {
+                    indices.put(result, updateIndex(previousIndex, previousMap, resultMap, modification.getChildren(),
+                        exceptionSupplier));
+                    return;
+                }
+            }
+        }
+
+        indices.put(result, buildIndex(result, exceptionSupplier));
+    }
+
+    private <T extends @NonNull Exception> @NonNull ImmutableList<Map<Object, PathArgument>> buildIndex(
+            final NormalizedNode data, final ExceptionSupplier<T> exceptionSupplier) throws T {
         final Stopwatch sw = Stopwatch.createStarted();
         verify(data instanceof NormalizedNodeContainer, "Unexpected data %s", data);
         final var children = ((NormalizedNodeContainer<?>) data).body();
-        final var collected = HashMultimap.<UniqueValidator<?>, Object>create(validators.size(), children.size());
+        final var adaptor = MapAdaptor.getDefaultInstance();
+        final var index = new ArrayList<Map<Object, PathArgument>>(validators.size());
+        for (int i = 0; i < validators.size(); ++i) {
+            index.add(adaptor.initialSnapshot(children.size()));
+        }
+
         for (NormalizedNode child : children) {
             verify(child instanceof DataContainerNode, "Unexpected child %s", child);
             final DataContainerNode cont = (DataContainerNode) child;
 
             final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
-            for (UniqueValidator<?> validator : validators) {
+            for (int i = 0; i < validators.size(); ++i) {
+                final var validator = validators.get(i);
                 final Object values = validator.extractValues(valueCache, cont);
-                final Object masked = BinaryValue.wrap(values);
-                if (!collected.put(validator, masked)) {
-                    final Map<Descendant, @Nullable Object> index = validator.indexValues(values);
-                    throw exceptionSupplier.get(cont.name()
-                        + " violates unique constraint on " + masked + " of " + index.keySet(), index);
+                if (index.get(i).putIfAbsent(indexKey(values), cont.name()) != null) {
+                    throw violation(validator, cont, values, exceptionSupplier);
+                }
+            }
+        }
+
+        final var ret = optimizeIndex(index);
+        LOG.trace("Enforced {} validators on {} entries in {}", validators.size(), children.size(), sw);
+        return ret;
+    }
+
+    private <T extends @NonNull Exception> @NonNull ImmutableList<Map<Object, PathArgument>> updateIndex(
+            final ImmutableList<Map<Object, PathArgument>> previousIndex, final MapNode previous, final MapNode result,
+            final Collection<ModifiedNode> modifications, final ExceptionSupplier<T> exceptionSupplier) throws T {
+        final Stopwatch sw = Stopwatch.createStarted();
+        final var adaptor = MapAdaptor.getDefaultInstance();
+        final var index = new ArrayList<Map<Object, PathArgument>>(validators.size());
+        for (var map : previousIndex) {
+            index.add(adaptor.takeSnapshot(map));
+        }
+
+        // First remove values of all entries which have been touched, so that entries can swap their values within
+        // a single modification ...
+        for (var mod : modifications) {
+            final var id = (NodeIdentifierWithPredicates) mod.getIdentifier();
+            final var entry = previous.childByArg(id);
+            if (entry != null) {
+                final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
+                for (int i = 0; i < validators.size(); ++i) {
+                    index.get(i).remove(indexKey(validators.get(i).extractValues(valueCache, entry)), id);
                 }
             }
         }
 
-        LOG.trace("Enforced {} validators in {}", validators.size(), sw);
+        // ... and then add the values of their current incarnations
+        for (var mod : modifications) {
+            final var id = (NodeIdentifierWithPredicates) mod.getIdentifier();
+            final var entry = result.childByArg(id);
+            if (entry != null) {
+                final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
+                for (int i = 0; i < validators.size(); ++i) {
+                    final var validator = validators.get(i);
+                    final Object values = validator.extractValues(valueCache, entry);
+                    final var existing = index.get(i).putIfAbsent(indexKey(values), id);
+                    if (existing != null && !existing.equals(id)) {
+                        throw violation(validator, entry, values, exceptionSupplier);
+                    }
+                }
+            }
+        }
+
+        final var ret = optimizeIndex(index);
+        LOG.trace("Updated {} validators with {} modifications in {}", validators.size(), modifications.size(), sw);
+        return ret;
+    }
+
+    private static @NonNull ImmutableList<Map<Object, PathArgument>> optimizeIndex(
+            final List<Map<Object, PathArgument>> index) {
+        final var adaptor = MapAdaptor.getDefaultInstance();
+        return index.stream().map(adaptor::optimize).collect(ImmutableList.toImmutableList());
+    }
+
+    private static @NonNull Object indexKey(final @Nullable Object values) {
+        return values == null ? NULL_VALUES : BinaryValue.wrap(values);
+    }
+
+    private static <T extends @NonNull Exception> T violation(final UniqueValidator<?> validator,
+            final DataContainerNode entry, final @Nullable Object values,
+            final ExceptionSupplier<T> exceptionSupplier) {
+        final Map<Descendant, @Nullable Object> index = validator.indexValues(values);
+        return exceptionSupplier.get(entry.name() + " violates unique constraint on " + BinaryValue.wrap(values)
+            + " of " + index.keySet(), index);
     }
 
     @Override
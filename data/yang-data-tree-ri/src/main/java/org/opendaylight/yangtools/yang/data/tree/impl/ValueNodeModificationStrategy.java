@@ -14,8 +14,10 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafNode;
 import org.opendaylight.yangtools.yang.data.tree.api.IncorrectDataStructureException;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
@@ -94,6 +96,18 @@ final class ValueNodeModificationStrategy<T extends DataSchemaNode, V extends No
         verifyWrittenValue(value);
     }
 
+    @Override
+    void verifyValueChildren(final NormalizedNode writtenValue) {
+        // Values of lazily-decoded leaves are validated as part of full validation
+        if (writtenValue instanceof LazyLeafNode<?> lazyLeaf) {
+            try {
+                lazyLeaf.body();
+            } catch (IllegalArgumentException e) {
+                throw new SchemaValidationFailedException("Invalid value of " + lazyLeaf.name(), e);
+            }
+        }
+    }
+
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
         return helper.add("value", nodeClass.getSimpleName());
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.leafref;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Stopwatch;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multiset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.util.MapAdaptor;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incremental validation of leafrefs in a data tree. Unlike {@link LeafRefValidation}, which resolves leafref targets
+ * by scanning data, this class maintains a reverse index: for each leafref target and for each leafref it tracks how
+ * many times a particular value is present in the data tree. This index is updated from {@link DataTreeCandidate}
+ * deltas, so that the cost of validation is proportional to the size of the modification rather than to the size of
+ * the data tree. Both directions are checked: a new leafref value needs an existing target value and a target value
+ * which has been removed must not be referenced by any leafref.
+ *
+ * <p>
+ * Consistent with {@link LeafRefValidation}, a leafref path without predicates is resolved against all instances of
+ * its target. Leafrefs with predicates in their path depend on the context of each leafref instance and therefore
+ * cannot be indexed: these are validated by {@link LeafRefValidation}.
+ *
+ * <p>
+ * Indices are retained for data tree roots which have been validated successfully, for as long as those roots are
+ * reachable. Validating a candidate whose {@link DataTreeCandidateNode#dataBefore()} has not been validated by this
+ * object builds the index from scratch. Candidates are assumed to be applied to a valid data tree, i.e. only violations
+ * introduced by a candidate are reported.
+ */
+@Beta
+public final class IncrementalLeafRefValidation {
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalLeafRefValidation.class);
+
+    private final @NonNull LeafRefContext rootContext;
+    // Tracked paths: leafref targets and leafrefs themselves
+    private final @NonNull ImmutableMap<LeafRefPath, ImmutableList<NodeIdentifier>> paths;
+    // Leafref path to its target path
+    private final @NonNull ImmutableMap<LeafRefPath, LeafRefPath> leafRefs;
+    // Target path to leafref paths
+    private final @NonNull ImmutableSetMultimap<LeafRefPath, LeafRefPath> referrers;
+    // Leafrefs which need to be validated by LeafRefValidation
+    private final @NonNull Set<LeafRefContext> unindexed;
+    // Per-path value counts, keyed by identity of the data tree root they describe
+    private final Cache<NormalizedNode, ImmutableMap<LeafRefPath, Map<Object, Integer>>> indices =
+        CacheBuilder.newBuilder().weakKeys().build();
+
+    private IncrementalLeafRefValidation(final LeafRefContext rootContext) {
+        this.rootContext = requireNonNull(rootContext);
+
+        final var contexts = new ArrayList<LeafRefContext>();
+        collectLeafRefs(rootContext, contexts);
+
+        final var pathsBuilder = new LinkedHashMap<LeafRefPath, ImmutableList<NodeIdentifier>>();
+        final var leafRefsBuilder = ImmutableMap.<LeafRefPath, LeafRefPath>builder();
+        final var referrersBuilder = ImmutableSetMultimap.<LeafRefPath, LeafRefPath>builder();
+        final var unindexedBuilder = new ArrayList<LeafRefContext>();
+        for (var context : contexts) {
+            final var target = context.getAbsoluteLeafRefTargetPath();
+            final var targetPath = toNodeIdentifiers(target);
+            if (targetPath == null) {
+                unindexedBuilder.add(context);
+                continue;
+            }
+
+            final var nodePath = context.getLeafRefNodePath();
+            pathsBuilder.put(target, targetPath);
+            pathsBuilder.put(nodePath, verifyNodeIdentifiers(nodePath));
+            leafRefsBuilder.put(nodePath, target);
+            referrersBuilder.put(target, nodePath);
+        }
+
+        paths = ImmutableMap.copyOf(pathsBuilder);
+        leafRefs = leafRefsBuilder.buildKeepingLast();
+        referrers = referrersBuilder.build();
+        unindexed = Set.copyOf(unindexedBuilder);
+        LOG.debug("Indexing {} leafrefs over {} paths, {} leafrefs remain unindexed", leafRefs.size(), paths.size(),
+            unindexed.size());
+    }
+
+    /**
+     * Create a new validation for a particular {@link LeafRefContext}.
+     *
+     * @param rootContext Root leafref context
+     * @return A new validation
+     * @throws NullPointerException if {@code rootContext} is null
+     */
+    public static @NonNull IncrementalLeafRefValidation of(final LeafRefContext rootContext) {
+        return new IncrementalLeafRefValidation(rootContext);
+    }
+
+    /**
+     * Validate a {@link DataTreeCandidate} rooted at the data tree root.
+     *
+     * @param candidate Candidate to validate
+     * @throws LeafRefDataValidationFailedException if the candidate violates leafref constraints
+     * @throws IllegalArgumentException if the candidate is not rooted at the data tree root
+     */
+    public void validate(final DataTreeCandidate candidate) throws LeafRefDataValidationFailedException {
+        checkArgument(candidate.getRootPath().isEmpty(), "Candidate %s is not rooted at data tree root", candidate);
+        final var rootNode = candidate.getRootNode();
+        final var after = rootNode.dataAfter();
+        if (after == null) {
+            return;
+        }
+
+        final var errors = new LinkedHashMap<List<Object>, String>();
+        if (!unindexed.isEmpty()) {
+            for (var message : LeafRefValidation.validate(candidate, rootContext, unindexed::contains)) {
+                errors.put(List.of(message), message);
+            }
+        }
+
+        final var previous = previousIndex(rootNode.dataBefore());
+        final var sw = Stopwatch.createStarted();
+        final var removed = new HashMap<LeafRefPath, Multiset<Object>>();
+        final var added = new HashMap<LeafRefPath, Multiset<Object>>();
+        for (var entry : paths.entrySet()) {
+            final var pathRemoved = HashMultiset.create();
+            final var pathAdded = HashMultiset.create();
+            collectChanges(rootNode, entry.getValue(), 0, pathRemoved, pathAdded);
+            if (!pathRemoved.isEmpty()) {
+                removed.put(entry.getKey(), pathRemoved);
+            }
+            if (!pathAdded.isEmpty()) {
+                added.put(entry.getKey(), pathAdded);
+            }
+        }
+
+        final var index = updateIndex(previous, removed, added);
+
+        // New leafref values need to have a target ...
+        for (var entry : added.entrySet()) {
+            final var leafRef = entry.getKey();
+            final var target = leafRefs.get(leafRef);
+            if (target != null) {
+                for (var value : entry.getValue().elementSet()) {
+                    if (!index.get(target).containsKey(value)) {
+                        errors.put(List.of(leafRef, value), String.format("Invalid leafref value [%s] of LEAFREF node: "
+                            + "%s leafRef target path: %s does not exist", value, leafRef, target));
+                    }
+                }
+            }
+        }
+
+        // ... and target values which are gone must not be referenced
+        for (var entry : removed.entrySet()) {
+            final var target = entry.getKey();
+            final var targetValues = index.get(target);
+            for (var leafRef : referrers.get(target)) {
+                final var leafRefValues = index.get(leafRef);
+                for (var value : entry.getValue().elementSet()) {
+                    if (!targetValues.containsKey(value) && leafRefValues.containsKey(value)) {
+                        errors.putIfAbsent(List.of(leafRef, value), String.format("Removed leafref target value [%s] "
+                            + "of %s is still referenced by LEAFREF node: %s", value, target, leafRef));
+                    }
+                }
+            }
+        }
+
+        LOG.debug("Validated {} changed paths in {}", removed.size() + added.size(), sw);
+        LeafRefValidation.throwIfInvalid(List.copyOf(errors.values()));
+        indices.put(after, index);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("indexed", leafRefs.size()).add("unindexed", unindexed.size())
+            .toString();
+    }
+
+    private @NonNull ImmutableMap<LeafRefPath, Map<Object, Integer>> previousIndex(
+            final @Nullable NormalizedNode before) {
+        if (before == null) {
+            return updateIndex(ImmutableMap.of(), Map.of(), Map.of());
+        }
+
+        final var existing = indices.getIfPresent(before);
+        if (existing != null) {
+            return existing;
+        }
+
+        final var sw = Stopwatch.createStarted();
+        final var values = new HashMap<LeafRefPath, Multiset<Object>>();
+        for (var entry : paths.entrySet()) {
+            final var pathValues = HashMultiset.create();
+            collectValues(before, entry.getValue(), 0, pathValues);
+            values.put(entry.getKey(), pathValues);
+        }
+
+        final var ret = updateIndex(ImmutableMap.of(), Map.of(), values);
+        indices.put(before, ret);
+        LOG.debug("Indexed {} paths in {}", paths.size(), sw);
+        return ret;
+    }
+
+    private @NonNull ImmutableMap<LeafRefPath, Map<Object, Integer>> updateIndex(
+            final ImmutableMap<LeafRefPath, Map<Object, Integer>> previous,
+            final Map<LeafRefPath, Multiset<Object>> removed, final Map<LeafRefPath, Multiset<Object>> added) {
+        final var adaptor = MapAdaptor.getDefaultInstance();
+        final var builder = ImmutableMap.<LeafRefPath, Map<Object, Integer>>builderWithExpectedSize(paths.size());
+        for (var path : paths.keySet()) {
+            final var prevCounts = previous.get(path);
+            final var pathRemoved = removed.get(path);
+            final var pathAdded = added.get(path);
+            if (prevCounts != null && pathRemoved == null && pathAdded == null) {
+                builder.put(path, prevCounts);
+                continue;
+            }
+
+            final Map<Object, Integer> counts = prevCounts != null ? adaptor.takeSnapshot(prevCounts)
+                : adaptor.initialSnapshot(pathAdded != null ? pathAdded.elementSet().size() : 0);
+            if (pathRemoved != null) {
+                for (var entry : pathRemoved.entrySet()) {
+                    counts.computeIfPresent(entry.getElement(), (value, count) -> {
+                        final int newCount = count - entry.getCount();
+                        return newCount > 0 ? newCount : null;
+                    });
+                }
+            }
+            if (pathAdded != null) {
+                for (var entry : pathAdded.entrySet()) {
+                    counts.merge(entry.getElement(), entry.getCount(), Integer::sum);
+                }
+            }
+            builder.put(path, adaptor.optimize(counts));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Collect values at a path which have been removed and added by a candidate node.
+     *
+     * @param node Candidate node
+     * @param path Path of values
+     * @param offset Offset of the candidate node in the path
+     * @param removed Removed values
+     * @param added Added values
+     */
+    private static void collectChanges(final DataTreeCandidateNode node, final List<NodeIdentifier> path,
+            final int offset, final Multiset<Object> removed, final Multiset<Object> added) {
+        switch (node.modificationType()) {
+            case UNMODIFIED -> {
+                // No-op
+            }
+            case SUBTREE_MODIFIED -> {
+                if (offset == path.size()) {
+                    // A leaf-list, its entries are small enough for us to compare it as a whole
+                    collectValues(node.dataBefore(), path, offset, removed);
+                    collectValues(node.dataAfter(), path, offset, added);
+                    return;
+                }
+
+                final var next = path.get(offset);
+                for (var child : node.childNodes()) {
+                    final var name = child.name();
+                    if (next.equals(name)) {
+                        collectChanges(child, path, offset + 1, removed, added);
+                    } else if (name instanceof NodeIdentifierWithPredicates || isChoice(child)) {
+                        // Map entries and choices are transparent
+                        collectChanges(child, path, offset, removed, added);
+                    }
+                }
+            }
+            default -> {
+                collectValues(node.dataBefore(), path, offset, removed);
+                collectValues(node.dataAfter(), path, offset, added);
+            }
+        }
+    }
+
+    private static boolean isChoice(final DataTreeCandidateNode node) {
+        final var data = node.dataAfter();
+        return data != null ? data instanceof ChoiceNode : node.dataBefore() instanceof ChoiceNode;
+    }
+
+    /**
+     * Collect values at a path, following the rules used by {@link LeafRefValidation}.
+     *
+     * @param data Data node
+     * @param path Path of values
+     * @param offset Offset of the data node in the path
+     * @param values Collected values
+     */
+    private static void collectValues(final @Nullable NormalizedNode data, final List<NodeIdentifier> path,
+            final int offset, final Multiset<Object> values) {
+        if (offset == path.size()) {
+            if (data instanceof LeafNode<?> leaf) {
+                values.add(leaf.body());
+            } else if (data instanceof LeafSetNode<?> leafSet) {
+                for (var entry : leafSet.body()) {
+                    values.add(entry.body());
+                }
+            }
+            return;
+        }
+
+        if (data instanceof DataContainerNode container) {
+            final var child = container.childByArg(path.get(offset));
+            if (child != null) {
+                collectValues(child, path, offset + 1, values);
+            } else {
+                for (var mixin : container.body()) {
+                    if (mixin instanceof ChoiceNode) {
+                        collectValues(mixin, path, offset, values);
+                    }
+                }
+            }
+        } else if (data instanceof MapNode map) {
+            for (var entry : map.body()) {
+                collectValues(entry, path, offset, values);
+            }
+        }
+    }
+
+    private static void collectLeafRefs(final LeafRefContext context, final List<LeafRefContext> leafRefs) {
+        if (context.isReferencing()) {
+            leafRefs.add(context);
+        }
+        for (var child : context.getReferencingChilds().values()) {
+            collectLeafRefs(child, leafRefs);
+        }
+    }
+
+    private static @NonNull ImmutableList<NodeIdentifier> verifyNodeIdentifiers(final LeafRefPath path) {
+        final var ret = toNodeIdentifiers(path);
+        checkArgument(ret != null, "Unexpected predicates in %s", path);
+        return ret;
+    }
+
+    private static @Nullable ImmutableList<NodeIdentifier> toNodeIdentifiers(final LeafRefPath path) {
+        final var builder = ImmutableList.<NodeIdentifier>builder();
+        for (var component : path.getPathFromRoot()) {
+            if (!component.getQNamePredicates().isEmpty()) {
+                return null;
+            }
+            builder.add(NodeIdentifier.create(component.getQName()));
+        }
+        return builder.build();
+    }
+}
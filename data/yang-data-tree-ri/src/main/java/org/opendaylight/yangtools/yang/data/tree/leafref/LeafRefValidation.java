@@ -52,22 +52,53 @@ public final class LeafRefValidation {
 
     private final Set<LeafRefContext> validatedLeafRefCtx = new HashSet<>();
     private final List<String> errorsMessages = new ArrayList<>();
+    private final Predicate<LeafRefContext> leafRefFilter;
     private final NormalizedNode root;
 
-    private LeafRefValidation(final NormalizedNode root) {
+    private LeafRefValidation(final NormalizedNode root, final Predicate<LeafRefContext> leafRefFilter) {
         this.root = root;
+        this.leafRefFilter = leafRefFilter;
     }
 
     public static void validate(final DataTreeCandidate tree, final LeafRefContext rootLeafRefCtx)
             throws LeafRefDataValidationFailedException {
+        throwIfInvalid(validate(tree, rootLeafRefCtx, leafRef -> true));
+    }
+
+    /**
+     * Validate a candidate, considering only leafrefs matching specified filter.
+     *
+     * @param tree Candidate to validate
+     * @param rootLeafRefCtx Root leafref context
+     * @param leafRefFilter Filter selecting leafrefs to validate
+     * @return Validation error messages, empty if the candidate is valid
+     */
+    static List<String> validate(final DataTreeCandidate tree, final LeafRefContext rootLeafRefCtx,
+            final Predicate<LeafRefContext> leafRefFilter) {
         final var root = tree.getRootNode().dataAfter();
-        if (root != null) {
-            new LeafRefValidation(root).validateChildren(rootLeafRefCtx, tree.getRootNode().childNodes());
+        if (root == null) {
+            return List.of();
         }
+
+        final var validation = new LeafRefValidation(root, leafRefFilter);
+        validation.validateChildren(rootLeafRefCtx, tree.getRootNode().childNodes());
+        return validation.errorsMessages;
     }
 
-    private void validateChildren(final LeafRefContext rootLeafRefCtx, final Collection<DataTreeCandidateNode> children)
-            throws LeafRefDataValidationFailedException {
+    static void throwIfInvalid(final List<String> errorsMessages) throws LeafRefDataValidationFailedException {
+        if (!errorsMessages.isEmpty()) {
+            final StringBuilder message = new StringBuilder();
+            int errCount = 0;
+            for (var errorMessage : errorsMessages) {
+                message.append(errorMessage);
+                errCount++;
+            }
+            throw new LeafRefDataValidationFailedException(message.toString(), errCount);
+        }
+    }
+
+    private void validateChildren(final LeafRefContext rootLeafRefCtx,
+            final Collection<DataTreeCandidateNode> children) {
         for (var dataTreeCandidateNode : children) {
             if (dataTreeCandidateNode.modificationType() != ModificationType.UNMODIFIED) {
                 final PathArgument identifier = dataTreeCandidateNode.name();
@@ -81,16 +112,6 @@ public final class LeafRefValidation {
                 }
             }
         }
-
-        if (!errorsMessages.isEmpty()) {
-            final StringBuilder message = new StringBuilder();
-            int errCount = 0;
-            for (var errorMessage : errorsMessages) {
-                message.append(errorMessage);
-                errCount++;
-            }
-            throw new LeafRefDataValidationFailedException(message.toString(), errCount);
-        }
     }
 
     private void validateNode(final DataTreeCandidateNode node, final LeafRefContext referencedByCtx,
@@ -131,7 +152,7 @@ public final class LeafRefValidation {
         final QName childQName = childNode.name().getNodeType();
         LeafRefContext childReferencingCtx = referencingCtx.getReferencingChildByName(childQName);
         if (childReferencingCtx == null) {
-            final NormalizedNode data = verifyNotNull(childNode.dataAfter());
+            final NormalizedNode data = childData(childNode);
             if (data instanceof MapEntryNode || data instanceof UnkeyedListEntryNode) {
                 childReferencingCtx = referencingCtx;
             }
@@ -149,7 +170,7 @@ public final class LeafRefValidation {
         final QName childQName = childNode.name().getNodeType();
         LeafRefContext childReferencedByCtx = referencedByCtx.getReferencedChildByName(childQName);
         if (childReferencedByCtx == null) {
-            final NormalizedNode data = verifyNotNull(childNode.dataAfter());
+            final NormalizedNode data = childData(childNode);
             if (data instanceof MapEntryNode || data instanceof UnkeyedListEntryNode) {
                 childReferencedByCtx = referencedByCtx;
             }
@@ -158,6 +179,12 @@ public final class LeafRefValidation {
         return childReferencedByCtx;
     }
 
+    private static NormalizedNode childData(final DataTreeCandidateNode childNode) {
+        // Deleted children do not have data after, but they are still relevant
+        final var dataAfter = childNode.dataAfter();
+        return dataAfter != null ? dataAfter : verifyNotNull(childNode.dataBefore());
+    }
+
     private void validateNodeData(final NormalizedNode node, final LeafRefContext referencedByCtx,
             final LeafRefContext referencingCtx, final ModificationType modificationType,
             final YangInstanceIdentifier current) {
@@ -182,7 +209,7 @@ public final class LeafRefValidation {
         if (referencedByCtx != null && referencedByCtx.isReferenced()) {
             validateLeafRefTargetNodeData(node, referencedByCtx, modificationType);
         }
-        if (referencingCtx != null && referencingCtx.isReferencing()) {
+        if (referencingCtx != null && referencingCtx.isReferencing() && leafRefFilter.test(referencingCtx)) {
             validateLeafRefNodeData(node, referencingCtx, modificationType, current);
         }
     }
@@ -195,7 +222,7 @@ public final class LeafRefValidation {
                 if (referencedByCtx != null && referencedByCtx.isReferenced()) {
                     validateLeafRefTargetNodeData(leafSetEntry, referencedByCtx, modificationType);
                 }
-                if (referencingCtx != null && referencingCtx.isReferencing()) {
+                if (referencingCtx != null && referencingCtx.isReferencing() && leafRefFilter.test(referencingCtx)) {
                     validateLeafRefNodeData(leafSetEntry, referencingCtx, modificationType, current);
                 }
             }
@@ -284,7 +311,7 @@ public final class LeafRefValidation {
         LOG.trace("Operation [{}] validate data of leafref TARGET node: name[{}] = value[{}]", modificationType,
             referencedByCtx.getNodeName(), leaf.body());
         final Set<LeafRefContext> leafRefs = referencedByCtx.getAllReferencedByLeafRefCtxs().values().stream()
-                .filter(LeafRefContext::isReferencing).collect(Collectors.toSet());
+                .filter(LeafRefContext::isReferencing).filter(leafRefFilter).collect(Collectors.toSet());
         if (leafRefs.isEmpty()) {
             return;
         }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+class InMemoryDataTreeBatchCandidateTest extends AbstractTestModelTest {
+    private DataTree dataTree;
+
+    @BeforeEach
+    void beforeEach() throws DataValidationFailedException {
+        dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL, SCHEMA_CONTEXT);
+
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    @Test
+    void testBatchCommit() {
+        final var snapshot = dataTree.takeSnapshot();
+        final var noop = snapshot.newModification();
+        noop.ready();
+
+        final var batch = dataTree.prepareBatch(List.of(
+            writeEntry(snapshot.newModification(), 1),
+            writeEntry(snapshot.newModification(), 2),
+            noop,
+            // Conflicts with the first modification
+            writeEntry(snapshot.newModification(), 1),
+            writeEntry(snapshot.newModification(), 3)));
+
+        final var outcomes = batch.outcomes();
+        assertEquals(5, outcomes.size());
+        assertTrue(outcomes.get(0).isPresent());
+        assertTrue(outcomes.get(1).isPresent());
+        assertEquals(ModificationType.UNMODIFIED, outcomes.get(2).get().getRootNode().modificationType());
+        assertFalse(outcomes.get(3).isPresent());
+        assertInstanceOf(ConflictingModificationAppliedException.class, outcomes.get(3).getException());
+        assertTrue(outcomes.get(4).isPresent());
+
+        // Nothing is visible until we commit, empty list has disappeared
+        assertEquals(Optional.empty(), dataTree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH));
+        dataTree.commit(batch);
+        assertEquals(3, readOuterList().size());
+
+        final var root = batch.getRootNode();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, root.modificationType());
+        final var list = root.getModifiedChild(TestModel.TEST_PATH.getLastPathArgument())
+            .getModifiedChild(TestModel.OUTER_LIST_PATH.getLastPathArgument());
+        assertEquals(3, list.childNodes().size());
+    }
+
+    @Test
+    void testEmptyBatch() {
+        final var batch = dataTree.prepareBatch(List.of());
+        assertEquals(List.of(), batch.outcomes());
+        assertEquals(ModificationType.UNMODIFIED, batch.getRootNode().modificationType());
+        dataTree.commit(batch);
+    }
+
+    @Test
+    void testStaleBatchCommit() throws DataValidationFailedException {
+        final var snapshot = dataTree.takeSnapshot();
+        final var batch = dataTree.prepareBatch(List.of(writeEntry(snapshot.newModification(), 1)));
+
+        final var other = writeEntry(snapshot.newModification(), 2);
+        dataTree.validate(other);
+        dataTree.commit(dataTree.prepare(other));
+
+        assertThrows(IllegalStateException.class, () -> dataTree.commit(batch));
+    }
+
+    private MapNode readOuterList() {
+        return assertInstanceOf(MapNode.class,
+            dataTree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH).orElseThrow());
+    }
+
+    private static DataTreeModification writeEntry(final DataTreeModification mod, final int id) {
+        mod.write(TestModel.outerEntryPath(id), TestModel.outerEntry(id));
+        mod.ready();
+        return mod;
+    }
+}
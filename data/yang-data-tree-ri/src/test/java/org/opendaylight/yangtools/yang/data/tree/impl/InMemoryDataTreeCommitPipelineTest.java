@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+import com.google.common.base.VerifyException;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+
+class InMemoryDataTreeCommitPipelineTest extends AbstractTestModelTest {
+    private ExecutorService executor;
+    private DataTree dataTree;
+
+    @BeforeEach
+    void beforeEach() throws DataValidationFailedException {
+        executor = Executors.newFixedThreadPool(4);
+        dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL, SCHEMA_CONTEXT);
+
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNonOverlappingModifications() throws Exception {
+        final var snapshot = dataTree.takeSnapshot();
+        final var futures = new ArrayList<ListenableFuture<DataTreeCandidate>>();
+
+        try (var pipeline = dataTree.newCommitPipeline(executor)) {
+            for (int i = 0; i < 100; ++i) {
+                final var mod = snapshot.newModification();
+                mod.write(TestModel.outerEntryPath(i), TestModel.outerEntry(i));
+                mod.ready();
+                futures.add(pipeline.submit(mod));
+            }
+
+            for (var future : futures) {
+                assertEquals(ModificationType.SUBTREE_MODIFIED,
+                    future.get(10, TimeUnit.SECONDS).getRootNode().modificationType());
+            }
+        }
+
+        final var list = assertInstanceOf(MapNode.class,
+            dataTree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH).orElseThrow());
+        assertEquals(100, list.size());
+    }
+
+    @Test
+    void testOverlappingModifications() throws Exception {
+        final var snapshot = dataTree.takeSnapshot();
+        final var first = snapshot.newModification();
+        first.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+        first.ready();
+        final var second = snapshot.newModification();
+        second.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+        second.ready();
+
+        try (var pipeline = dataTree.newCommitPipeline(executor)) {
+            final var firstFuture = pipeline.submit(first);
+            final var secondFuture = pipeline.submit(second);
+
+            firstFuture.get(10, TimeUnit.SECONDS);
+            final var ex = assertThrows(ExecutionException.class, () -> secondFuture.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ConflictingModificationAppliedException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void testUnexpectedValidationFailure() throws Exception {
+        final var tree = spy((InMemoryDataTree) dataTree);
+        final var snapshot = tree.takeSnapshot();
+        final var bad = snapshot.newModification();
+        bad.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+        bad.ready();
+        final var good = snapshot.newModification();
+        good.write(TestModel.outerEntryPath(2), TestModel.outerEntry(2));
+        good.ready();
+
+        final var cause = new VerifyException("injected");
+        doThrow(cause).when(tree).validate(same((InMemoryDataTreeModification) bad), any(TreeNode.class));
+
+        try (var pipeline = tree.newCommitPipeline(executor)) {
+            final var badFuture = pipeline.submit(bad);
+            final var goodFuture = pipeline.submit(good);
+
+            final var ex = assertThrows(ExecutionException.class, () -> badFuture.get(10, TimeUnit.SECONDS));
+            assertSame(cause, ex.getCause());
+            goodFuture.get(10, TimeUnit.SECONDS);
+
+            // The pipeline keeps going
+            final var next = tree.takeSnapshot().newModification();
+            next.write(TestModel.outerEntryPath(3), TestModel.outerEntry(3));
+            next.ready();
+            pipeline.submit(next).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testUnexpectedPrepareFailure() throws Exception {
+        final var tree = spy((InMemoryDataTree) dataTree);
+        final var cause = new VerifyException("injected");
+        doThrow(cause).doCallRealMethod().when(tree).prepareBatch(anyList(), any(TreeNode.class));
+
+        final var snapshot = tree.takeSnapshot();
+        final var first = snapshot.newModification();
+        first.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+        first.ready();
+
+        try (var pipeline = tree.newCommitPipeline(executor)) {
+            final var ex = assertThrows(ExecutionException.class,
+                () -> pipeline.submit(first).get(10, TimeUnit.SECONDS));
+            assertSame(cause, ex.getCause());
+
+            // The pipeline keeps going
+            final var second = tree.takeSnapshot().newModification();
+            second.write(TestModel.outerEntryPath(2), TestModel.outerEntry(2));
+            second.ready();
+            pipeline.submit(second).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testOutsideCommitWhileSequencing() throws Exception {
+        final var tree = spy((InMemoryDataTree) dataTree);
+        final var snapshot = tree.takeSnapshot();
+        final var conflicting = snapshot.newModification();
+        conflicting.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+        conflicting.ready();
+        final var good = snapshot.newModification();
+        good.write(TestModel.outerEntryPath(2), TestModel.outerEntry(2));
+        good.ready();
+
+        // Commit a conflicting modification outside of the pipeline once the round has been validated, just before it
+        // is prepared
+        doAnswer(inv -> {
+            final var outside = snapshot.newModification();
+            outside.write(TestModel.outerEntryPath(1), TestModel.outerEntry(1));
+            outside.ready();
+            tree.validate(outside);
+            tree.commit(tree.prepare(outside));
+            return inv.callRealMethod();
+        }).doCallRealMethod().when(tree).prepareBatch(anyList(), any(TreeNode.class));
+
+        try (var pipeline = tree.newCommitPipeline(executor)) {
+            final var conflictingFuture = pipeline.submit(conflicting);
+            final var goodFuture = pipeline.submit(good);
+
+            final var ex = assertThrows(ExecutionException.class,
+                () -> conflictingFuture.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ConflictingModificationAppliedException.class, ex.getCause());
+            goodFuture.get(10, TimeUnit.SECONDS);
+        }
+
+        final var list = assertInstanceOf(MapNode.class,
+            tree.takeSnapshot().readNode(TestModel.OUTER_LIST_PATH).orElseThrow());
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void testClosedPipeline() {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.ready();
+
+        final var pipeline = dataTree.newCommitPipeline(executor);
+        pipeline.close();
+        assertThrows(IllegalStateException.class, () -> pipeline.submit(mod));
+    }
+
+    @Test
+    void testOverlaps() {
+        final var snapshot = dataTree.takeSnapshot();
+        final var one = modification(snapshot.newModification(), 1);
+        final var two = modification(snapshot.newModification(), 2);
+        final var oneAgain = modification(snapshot.newModification(), 1);
+
+        final var list = snapshot.newModification();
+        list.merge(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        list.ready();
+        final var listRoot = ((InMemoryDataTreeModification) list).getRootModification();
+
+        assertFalse(InMemoryDataTreeCommitPipeline.overlaps(one, two));
+        assertTrue(InMemoryDataTreeCommitPipeline.overlaps(one, oneAgain));
+        assertTrue(InMemoryDataTreeCommitPipeline.overlaps(one, listRoot));
+        assertTrue(InMemoryDataTreeCommitPipeline.overlaps(listRoot, two));
+    }
+
+    private static ModifiedNode modification(final DataTreeModification mod, final int id) {
+        mod.write(TestModel.outerEntryPath(id), TestModel.outerEntry(id));
+        mod.ready();
+        return ((InMemoryDataTreeModification) mod).getRootModification();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.util.LazyLeafValue;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class LazyLeafValidationTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+
+    private static EffectiveModelContext MODEL;
+
+    private final DataTree tree = new InMemoryDataTreeFactory()
+        .create(DataTreeConfiguration.DEFAULT_CONFIGURATION, MODEL);
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo {
+                leaf bar {
+                  type uint32;
+                }
+              }
+            }""");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL = null;
+    }
+
+    @Test
+    void testValidValue() throws DataValidationFailedException {
+        final var value = lazyValue("42");
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(FOO), createFoo(value));
+        assertFalse(value.isDecoded());
+
+        mod.ready();
+        assertTrue(value.isDecoded());
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+
+        assertEquals(ImmutableNodes.leafNode(BAR, Uint32.valueOf(42)),
+            tree.takeSnapshot().readNode(YangInstanceIdentifier.of(FOO, BAR)).orElseThrow());
+    }
+
+    @Test
+    void testInvalidValue() {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(FOO), createFoo(lazyValue("-1")));
+
+        final var ex = assertThrows(SchemaValidationFailedException.class, mod::ready);
+        assertEquals("Invalid value of (foo)bar", ex.getMessage());
+        assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+
+    private static ContainerNode createFoo(final LazyLeafValue<Uint32> value) {
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, value))
+            .build();
+    }
+
+    private static LazyLeafValue<Uint32> lazyValue(final String lexical) {
+        return LazyLeafValue.of(Uint32::valueOf, lexical);
+    }
+}
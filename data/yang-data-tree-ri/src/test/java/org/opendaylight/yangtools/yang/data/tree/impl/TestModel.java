@@ -8,7 +8,12 @@
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 
@@ -46,6 +51,19 @@ final class TestModel {
         throw new UnsupportedOperationException();
     }
 
+    public static YangInstanceIdentifier outerEntryPath(final int id) {
+        return YangInstanceIdentifier.builder(OUTER_LIST_PATH)
+            .nodeWithKey(OUTER_LIST_QNAME, ID_QNAME, Uint16.valueOf(id))
+            .build();
+    }
+
+    public static MapEntryNode outerEntry(final int id) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(OUTER_LIST_QNAME, ID_QNAME, Uint16.valueOf(id)))
+            .withChild(ImmutableNodes.leafNode(ID_QNAME, Uint16.valueOf(id)))
+            .build();
+    }
+
     // FIXME: inline into single caller
     public static EffectiveModelContext createTestContext() {
         return createTestContext("/odl-datastore-test.yang");
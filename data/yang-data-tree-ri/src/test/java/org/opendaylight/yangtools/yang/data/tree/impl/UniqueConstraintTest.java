@@ -26,6 +26,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
 import org.opendaylight.yangtools.yang.data.tree.api.UniqueConstraintException;
@@ -103,6 +104,56 @@ class UniqueConstraintTest {
         writeAndRemoveMapEntries(inMemoryDataTree, false);
     }
 
+    @Test
+    void largeMapLeafTest() throws DataValidationFailedException {
+        final var inMemoryDataTree = emptyDataTree(TEST_MODEL, true);
+        final var mapBuilder = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(TASK));
+        for (int i = 0; i < 1000; ++i) {
+            mapBuilder.withChild(createMapEntry(String.valueOf(i), "a" + i, "b" + i, "c" + i));
+        }
+        var modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.write(YangInstanceIdentifier.of(TASK_CONTAINER).node(TASK), mapBuilder.build());
+        commit(inMemoryDataTree, modificationTree);
+
+        // Modify leaves of an entry to clash with another entry
+        modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.write(taskLeafPath("5", MY_LEAF_1), ImmutableNodes.leafNode(MY_LEAF_1, "a6"));
+        modificationTree.write(taskLeafPath("5", MY_LEAF_2), ImmutableNodes.leafNode(MY_LEAF_2, "b6"));
+        final var clashing = modificationTree;
+        verifyException(assertThrows(UniqueConstraintException.class, () -> commit(inMemoryDataTree, clashing)),
+            "(foo?revision=2016-05-17)task[{(foo?revision=2016-05-17)task-id=",
+            "}] violates unique constraint on [a6, b6] of ",
+            "(foo?revision=2016-05-17)my-leaf-1",
+            "(foo?revision=2016-05-17)my-leaf-2");
+
+        // Move the other entry out of the way in the same modification
+        modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.write(taskLeafPath("5", MY_LEAF_1), ImmutableNodes.leafNode(MY_LEAF_1, "a6"));
+        modificationTree.write(taskLeafPath("5", MY_LEAF_2), ImmutableNodes.leafNode(MY_LEAF_2, "b6"));
+        modificationTree.write(taskLeafPath("6", MY_LEAF_1), ImmutableNodes.leafNode(MY_LEAF_1, "a5"));
+        commit(inMemoryDataTree, modificationTree);
+
+        // The values vacated by entry 6 are now available
+        writeMapEntry(inMemoryDataTree, "1000", "a6", "b1000", "c1000");
+        verifyException(assertThrows(UniqueConstraintException.class,
+            () -> writeMapEntry(inMemoryDataTree, "1001", "a5", "b6", "c1001")),
+            "(foo?revision=2016-05-17)task[{(foo?revision=2016-05-17)task-id=",
+            "}] violates unique constraint on [a5, b6] of ",
+            "(foo?revision=2016-05-17)my-leaf-1",
+            "(foo?revision=2016-05-17)my-leaf-2");
+    }
+
+    private static YangInstanceIdentifier taskLeafPath(final String taskId, final QName leaf) {
+        return YangInstanceIdentifier.of(TASK_CONTAINER).node(TASK).node(taskEntryKey(taskId)).node(leaf);
+    }
+
+    private static void commit(final InMemoryDataTree inMemoryDataTree,
+            final DataTreeModification modificationTree) throws DataValidationFailedException {
+        modificationTree.ready();
+        inMemoryDataTree.validate(modificationTree);
+        inMemoryDataTree.commit(inMemoryDataTree.prepare(modificationTree));
+    }
+
     private static void writeAndRemoveMapEntries(final InMemoryDataTree inMemoryDataTree, final boolean clear)
             throws DataValidationFailedException {
         writeMapEntry(inMemoryDataTree, "1", "l1", "l2", "l3");
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.leafref;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class IncrementalLeafRefValidationTest {
+    private static final QName INTERFACES = QName.create("foo", "interfaces");
+    private static final QName INTERFACE = QName.create(INTERFACES, "interface");
+    private static final QName NAME = QName.create(INTERFACES, "name");
+    private static final QName VLANS = QName.create(INTERFACES, "vlans");
+    private static final QName VLAN = QName.create(INTERFACES, "vlan");
+    private static final QName ID = QName.create(INTERFACES, "id");
+    private static final QName PARENT = QName.create(INTERFACES, "parent");
+    private static final QName PEER = QName.create(INTERFACES, "peer");
+    private static final YangInstanceIdentifier INTERFACE_PATH = YangInstanceIdentifier.of(INTERFACES, INTERFACE);
+    private static final YangInstanceIdentifier VLAN_PATH = YangInstanceIdentifier.of(VLANS, VLAN);
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static LeafRefContext LEAFREF_CONTEXT;
+
+    private DataTree dataTree;
+    private IncrementalLeafRefValidation validation;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+
+              container interfaces {
+                list interface {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                }
+              }
+
+              container vlans {
+                list vlan {
+                  key id;
+                  leaf id {
+                    type uint16;
+                  }
+                  leaf parent {
+                    type leafref {
+                      path /interfaces/interface/name;
+                    }
+                  }
+                  leaf peer {
+                    type leafref {
+                      path "/vlans/vlan[id=current()/../id]/parent";
+                    }
+                  }
+                }
+              }
+            }""");
+        LEAFREF_CONTEXT = LeafRefContext.create(MODEL_CONTEXT);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        LEAFREF_CONTEXT = null;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_CONFIGURATION, MODEL_CONTEXT);
+        validation = IncrementalLeafRefValidation.of(LEAFREF_CONTEXT);
+    }
+
+    @Test
+    void testReferences() throws Exception {
+        var mod = dataTree.takeSnapshot().newModification();
+        mod.write(INTERFACE_PATH.node(interfaceId("eth0")), interfaceEntry("eth0"));
+        mod.write(INTERFACE_PATH.node(interfaceId("eth1")), interfaceEntry("eth1"));
+        mod.write(VLAN_PATH.node(vlanId(10)), vlanEntry(10, "eth0"));
+        commit(mod);
+
+        // A new reference needs an existing target
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(VLAN_PATH.node(vlanId(20)), vlanEntry(20, "eth2"));
+        assertEquals(1, assertInvalid(mod).getValidationsErrorsCount());
+
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(VLAN_PATH.node(vlanId(20)), vlanEntry(20, "eth1"));
+        commit(mod);
+
+        // A referenced target cannot be deleted ...
+        mod = dataTree.takeSnapshot().newModification();
+        mod.delete(INTERFACE_PATH.node(interfaceId("eth0")));
+        assertEquals(1, assertInvalid(mod).getValidationsErrorsCount());
+
+        // ... unless its referrers are removed, too
+        mod = dataTree.takeSnapshot().newModification();
+        mod.delete(INTERFACE_PATH.node(interfaceId("eth0")));
+        mod.write(VLAN_PATH.node(vlanId(10)).node(PARENT), ImmutableNodes.leafNode(PARENT, "eth1"));
+        commit(mod);
+
+        // Unreferenced targets can be deleted
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(INTERFACE_PATH.node(interfaceId("eth2")), interfaceEntry("eth2"));
+        commit(mod);
+        mod = dataTree.takeSnapshot().newModification();
+        mod.delete(INTERFACE_PATH.node(interfaceId("eth2")));
+        commit(mod);
+
+        // Replacing the entire list is checked, too
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(INTERFACES), Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(INTERFACES))
+            .withChild(Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(INTERFACE))
+                .withChild(interfaceEntry("eth3"))
+                .build())
+            .build());
+        assertEquals(1, assertInvalid(mod).getValidationsErrorsCount());
+    }
+
+    @Test
+    void testUnindexedLeafRef() throws Exception {
+        var mod = dataTree.takeSnapshot().newModification();
+        mod.write(INTERFACE_PATH.node(interfaceId("eth0")), interfaceEntry("eth0"));
+        mod.write(VLAN_PATH.node(vlanId(10)), vlanEntry(10, "eth0"));
+        commit(mod);
+
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(VLAN_PATH.node(vlanId(10)).node(PEER), ImmutableNodes.leafNode(PEER, "eth0"));
+        commit(mod);
+
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(VLAN_PATH.node(vlanId(10)).node(PEER), ImmutableNodes.leafNode(PEER, "eth1"));
+        assertInvalid(mod);
+    }
+
+    private void commit(final DataTreeModification mod) throws DataValidationFailedException,
+            LeafRefDataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        final var candidate = dataTree.prepare(mod);
+        validation.validate(candidate);
+        dataTree.commit(candidate);
+    }
+
+    private LeafRefDataValidationFailedException assertInvalid(final DataTreeModification mod) throws Exception {
+        mod.ready();
+        dataTree.validate(mod);
+        final var candidate = dataTree.prepare(mod);
+        return assertThrows(LeafRefDataValidationFailedException.class, () -> validation.validate(candidate));
+    }
+
+    private static NodeIdentifierWithPredicates interfaceId(final String name) {
+        return NodeIdentifierWithPredicates.of(INTERFACE, NAME, name);
+    }
+
+    private static NodeIdentifierWithPredicates vlanId(final int id) {
+        return NodeIdentifierWithPredicates.of(VLAN, ID, Uint16.valueOf(id));
+    }
+
+    private static MapEntryNode interfaceEntry(final String name) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(interfaceId(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .build();
+    }
+
+    private static MapEntryNode vlanEntry(final int id, final String parent) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(vlanId(id))
+            .withChild(ImmutableNodes.leafNode(ID, Uint16.valueOf(id)))
+            .withChild(ImmutableNodes.leafNode(PARENT, parent))
+            .build();
+    }
+}
@@ -62,7 +62,7 @@ class TerminalDataTreeCandidateNode implements DataTreeCandidateNode {
 
     @Override
     public DataTreeCandidateNode modifiedChild(final PathArgument childIdentifier) {
-        return childNodes.get(name);
+        return childNodes.get(childIdentifier);
     }
 
     @Override
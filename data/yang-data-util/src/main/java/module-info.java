@@ -23,6 +23,9 @@ module org.opendaylight.yangtools.yang.data.util {
     requires org.opendaylight.yangtools.rfc8528.model.api;
     requires org.slf4j;
 
+    // Thread allocation accounting in CodecWarmup, if available
+    requires static jdk.management;
+
     // Annotations
     requires static transitive org.eclipse.jdt.annotation;
 }
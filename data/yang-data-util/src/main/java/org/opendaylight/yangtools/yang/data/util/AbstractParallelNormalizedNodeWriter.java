@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.util.codec.AbstractCodecFactory;
+
+/**
+ * A {@link NormalizedNodeWriter} which encodes entries of large {@link MapNode}s concurrently. Entries are split into
+ * chunks, each of which is encoded into a separate buffer by a task running in a {@link ForkJoinPool}. The resulting
+ * buffers are then written to the output in order, so that the output is identical to what
+ * {@link NormalizedNodeWriter#forStreamWriter(NormalizedNodeStreamWriter)} would produce.
+ *
+ * <p>
+ * Subclasses provide the format-specific part of this process: a {@link ChunkEncoder} capturing the state of the
+ * backing writer just after a map node has been started and a way to splice encoded chunks into its output.
+ *
+ * <p>
+ * Chunks are encoded by multiple threads at the same time. Any objects shared by their encoders, most notably codec
+ * factories, need to be thread-safe. An {@link AbstractCodecFactory} in particular has to satisfy
+ * {@link AbstractCodecFactory#isThreadSafe()}.
+ */
+@Beta
+public abstract class AbstractParallelNormalizedNodeWriter extends NormalizedNodeWriter {
+    /**
+     * Encoder of a chunk of map entries. Instances are invoked concurrently and must not share mutable state which is
+     * not thread-safe.
+     */
+    @FunctionalInterface
+    protected interface ChunkEncoder {
+        /**
+         * Encode specified entries.
+         *
+         * @param entries entries to encode
+         * @return Encoded entries
+         * @throws IOException if an error occurs
+         */
+        @NonNull String encode(List<MapEntryNode> entries) throws IOException;
+    }
+
+    /**
+     * Default number of map entries in a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    protected AbstractParallelNormalizedNodeWriter(final NormalizedNodeStreamWriter writer, final ForkJoinPool pool,
+            final int chunkSize) {
+        super(writer);
+        this.pool = requireNonNull(pool);
+        checkArgument(chunkSize > 0, "Invalid chunk size %s", chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Create a {@link ChunkEncoder} for entries of the map node which has just been started in the backing writer.
+     *
+     * @return A {@link ChunkEncoder}
+     * @throws IOException if an error occurs
+     */
+    protected abstract @NonNull ChunkEncoder newChunkEncoder() throws IOException;
+
+    /**
+     * Write an encoded chunk into the output of the backing writer.
+     *
+     * @param chunk encoded chunk, as returned from {@link ChunkEncoder#encode(List)}
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeChunk(@NonNull String chunk) throws IOException;
+
+    @Override
+    protected boolean wasProcessedAsCompositeNode(final NormalizedNode node) throws IOException {
+        if (node instanceof MapNode map && map.size() > chunkSize) {
+            final var writer = getWriter();
+            if (map instanceof UserMapNode) {
+                writer.startOrderedMapNode(map.name(), map.size());
+            } else {
+                writer.startMapNode(map.name(), map.size());
+            }
+            writeEntries(map.body());
+            writer.endNode();
+            return true;
+        }
+        return super.wasProcessedAsCompositeNode(node);
+    }
+
+    @Override
+    protected boolean writeMapEntryNode(final MapEntryNode node) throws IOException {
+        // Same as the writer returned from NormalizedNodeWriter.forStreamWriter(): key leaves go first
+        getWriter().startMapEntryNode(node.name(), node.size());
+
+        final var qnames = node.name().keySet();
+        for (var qname : qnames) {
+            final var child = node.childByArg(new NodeIdentifier(qname));
+            if (child != null) {
+                write(child);
+            }
+        }
+
+        return writeChildren(Iterables.filter(node.body(), child -> !qnames.contains(child.name().getNodeType())));
+    }
+
+    private void writeEntries(final Iterable<MapEntryNode> entries) throws IOException {
+        final var encoder = newChunkEncoder();
+        // Limit the number of chunks held in memory
+        final int maxPending = pool.getParallelism() * 2;
+        final var pending = new ArrayDeque<CompletableFuture<String>>(maxPending);
+
+        try {
+            var chunk = new ArrayList<MapEntryNode>(chunkSize);
+            for (var entry : entries) {
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    pending.add(submit(encoder, chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                    if (pending.size() >= maxPending) {
+                        writeChunk(result(pending.remove()));
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(submit(encoder, chunk));
+            }
+
+            while (!pending.isEmpty()) {
+                writeChunk(result(pending.remove()));
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(false));
+        }
+    }
+
+    private CompletableFuture<String> submit(final ChunkEncoder encoder, final List<MapEntryNode> chunk) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return encoder.encode(chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, pool);
+    }
+
+    private static @NonNull String result(final CompletableFuture<String> future) throws IOException {
+        final Throwable cause;
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            cause = e.getCause();
+        }
+
+        if (cause instanceof UncheckedIOException unchecked) {
+            throw unchecked.getCause();
+        }
+        Throwables.throwIfUnchecked(cause);
+        throw new IllegalStateException("Failed to encode chunk", cause);
+    }
+}
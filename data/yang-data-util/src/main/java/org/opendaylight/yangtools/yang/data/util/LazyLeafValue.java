@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+
+/**
+ * The lexical form of a leaf value, which is decoded on first access. Parsers operating in lazy mode pass instances of
+ * this class to {@link NormalizedNodeStreamWriter#scalarValue(Object)} instead of decoded values. A writer receiving
+ * them is expected to either retain them until the value is actually needed, or to decode them via
+ * {@link #decodedValue(Object)}.
+ *
+ * <p>
+ * Decoding, including any validation performed by the decoder, is performed at most once. Any failure to decode is
+ * reported to each caller of {@link #value()}. Since {@link #hashCode()} and {@link #equals(Object)} operate on the
+ * decoded value, they decode it as well.
+ *
+ * @param <T> Value type
+ */
+@Beta
+public final class LazyLeafValue<T> {
+    private final @NonNull Function<String, T> decoder;
+    private final @NonNull String lexicalValue;
+
+    private volatile @Nullable T value;
+
+    private LazyLeafValue(final Function<String, T> decoder, final String lexicalValue) {
+        this.decoder = requireNonNull(decoder);
+        this.lexicalValue = requireNonNull(lexicalValue);
+    }
+
+    /**
+     * Create a new lazy value.
+     *
+     * @param <T> Value type
+     * @param decoder function decoding the lexical form, throwing {@link IllegalArgumentException} if it is not valid
+     * @param lexicalValue lexical form of the value
+     * @return A new lazy value
+     * @throws NullPointerException if any argument is null
+     */
+    public static <T> @NonNull LazyLeafValue<T> of(final Function<String, T> decoder, final String lexicalValue) {
+        return new LazyLeafValue<>(decoder, lexicalValue);
+    }
+
+    /**
+     * Return the decoded form of a value, which may be a {@link LazyLeafValue}.
+     *
+     * @param value A value
+     * @return Decoded value
+     * @throws IllegalArgumentException if {@code value} is a {@link LazyLeafValue} which cannot be decoded
+     */
+    public static Object decodedValue(final Object value) {
+        return value instanceof LazyLeafValue<?> lazy ? lazy.value() : value;
+    }
+
+    /**
+     * Return the lexical form of this value.
+     *
+     * @return Lexical form of this value
+     */
+    public @NonNull String lexicalValue() {
+        return lexicalValue;
+    }
+
+    /**
+     * Return the decoded form of this value, decoding it if needed.
+     *
+     * @return Decoded value
+     * @throws IllegalArgumentException if the value cannot be decoded
+     */
+    public @NonNull T value() {
+        final var local = value;
+        return local != null ? local : decode();
+    }
+
+    /**
+     * Check whether this value has already been decoded.
+     *
+     * @return {@code true} if this value has already been decoded
+     */
+    public boolean isDecoded() {
+        return value != null;
+    }
+
+    private @NonNull T decode() {
+        // Decoding is idempotent, hence a concurrent decode does not cause any harm
+        final var decoded = requireNonNull(decoder.apply(lexicalValue), "Decoder returned null");
+        value = decoded;
+        return decoded;
+    }
+
+    @Override
+    public int hashCode() {
+        final var local = value();
+        return local instanceof byte[] bytes ? Arrays.hashCode(bytes) : local.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof LazyLeafValue<?> other && Objects.deepEquals(value(), other.value());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("lexical", lexicalValue)
+            .add("value", value)
+            .toString();
+    }
+}
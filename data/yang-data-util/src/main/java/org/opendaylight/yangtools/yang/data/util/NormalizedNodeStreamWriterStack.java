@@ -58,16 +58,21 @@ public final class NormalizedNodeStreamWriterStack implements LeafrefResolver {
     private static final Logger LOG = LoggerFactory.getLogger(NormalizedNodeStreamWriterStack.class);
 
     private final Deque<DataSchemaNode> schemaStack = new ArrayDeque<>();
-    private final SchemaInferenceStack dataTree;
+    // Pristine copy of dataTree, used to restore it in reset()
+    private final SchemaInferenceStack rootTree;
     private final DataNodeContainer root;
 
+    private SchemaInferenceStack dataTree;
+
     private NormalizedNodeStreamWriterStack(final EffectiveModelContext context) {
         dataTree = SchemaInferenceStack.of(context);
+        rootTree = dataTree.copy();
         root = requireNonNull(context);
     }
 
     private NormalizedNodeStreamWriterStack(final SchemaInferenceStack dataTree) {
         this.dataTree = requireNonNull(dataTree);
+        rootTree = dataTree.copy();
         if (!dataTree.isEmpty()) {
             final var current = dataTree.currentStatement();
             if (current instanceof DataNodeContainer container) {
@@ -170,6 +175,26 @@ public final class NormalizedNodeStreamWriterStack implements LeafrefResolver {
         return dataTree.resolveLeafref(type);
     }
 
+    /**
+     * Return an {@link Inference} corresponding to the data tree node this stack is currently positioned at. This is
+     * useful for instantiating other stacks, which are to continue from the current position.
+     *
+     * @return An {@link Inference}
+     */
+    public @NonNull Inference toInference() {
+        return dataTree.toInference();
+    }
+
+    /**
+     * Reset this stack to the state it was in when it was created, so that it can be used to track another
+     * {@link NormalizedNode} structure. This is needed in particular after a failure, which may leave the stack in an
+     * unbalanced state.
+     */
+    public void reset() {
+        schemaStack.clear();
+        dataTree = rootTree.copy();
+    }
+
     public Object getParent() {
         final var schema = schemaStack.peek();
         return schema == null ? root : schema;
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLikeCompat;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * A per-{@link EffectiveModelContext} cache of schema lookups performed by parsers when they encounter a child element
+ * or member. For each parent {@link DataSchemaNode} it holds a dispatch table, which maps the child's name to the path
+ * leading to its schema, so that each lookup is a pair of hash lookups instead of a walk through the children of the
+ * parent and its choices. Results are the same as those of
+ * {@link ParserStreamUtils#findSchemaNodeByNameAndNamespace(DataSchemaNode, String, XMLNamespace)}.
+ *
+ * <p>
+ * Instances are thread-safe and dispatch tables are built on first access.
+ */
+@Beta
+public final class ParsePlan {
+    /**
+     * Dispatch table for a single parent.
+     */
+    private static final class Children {
+        static final Children EMPTY = new Children(ImmutableMap.of(), ImmutableMap.of());
+
+        // localName -> namespace -> path
+        private final ImmutableMap<String, ImmutableMap<XMLNamespace, ImmutableList<DataSchemaNode>>> paths;
+        // localName -> all namespaces
+        private final ImmutableMap<String, ImmutableSet<XMLNamespace>> namespaces;
+
+        private Children(final ImmutableMap<String, ImmutableMap<XMLNamespace, ImmutableList<DataSchemaNode>>> paths,
+                final ImmutableMap<String, ImmutableSet<XMLNamespace>> namespaces) {
+            this.paths = requireNonNull(paths);
+            this.namespaces = requireNonNull(namespaces);
+        }
+
+        static @NonNull Children of(final DataSchemaNode parent) {
+            if (!(parent instanceof DataNodeContainer container)) {
+                return EMPTY;
+            }
+
+            // Collect all names reachable from the parent
+            final var names = new HashMap<String, Set<XMLNamespace>>();
+            collectNames(container, names);
+            if (names.isEmpty()) {
+                return EMPTY;
+            }
+
+            final var paths = ImmutableMap.<String, ImmutableMap<XMLNamespace, ImmutableList<DataSchemaNode>>>builder();
+            final var namespaces = ImmutableMap.<String, ImmutableSet<XMLNamespace>>builder();
+            for (var entry : names.entrySet()) {
+                final var localName = entry.getKey();
+                final var byNamespace = ImmutableMap.<XMLNamespace, ImmutableList<DataSchemaNode>>builder();
+                for (var namespace : entry.getValue()) {
+                    // Defer to the reference implementation to resolve conflicts
+                    byNamespace.put(namespace, ImmutableList.copyOf(
+                        ParserStreamUtils.findSchemaNodeByNameAndNamespace(parent, localName, namespace)));
+                }
+                paths.put(localName, byNamespace.build());
+                namespaces.put(localName, ImmutableSet.copyOf(entry.getValue()));
+            }
+            return new Children(paths.build(), namespaces.build());
+        }
+
+        static void collectNames(final DataNodeContainer container, final Map<String, Set<XMLNamespace>> names) {
+            for (var child : container.getChildNodes()) {
+                if (child instanceof ChoiceSchemaNode choice) {
+                    for (var caze : choice.getCases()) {
+                        collectNames(caze, names);
+                    }
+                } else {
+                    final var qname = child.getQName();
+                    names.computeIfAbsent(qname.getLocalName(), key -> new LinkedHashSet<>())
+                        .add(qname.getNamespace());
+                }
+            }
+        }
+
+        @Nullable ImmutableList<DataSchemaNode> path(final String localName, final XMLNamespace namespace) {
+            final var byNamespace = paths.get(localName);
+            return byNamespace == null ? null : byNamespace.get(namespace);
+        }
+
+        @NonNull ImmutableSet<XMLNamespace> namespaces(final String localName) {
+            final var ret = namespaces.get(localName);
+            return ret != null ? ret : ImmutableSet.of();
+        }
+    }
+
+    private static final LoadingCache<EffectiveModelContext, @NonNull ParsePlan> PLANS =
+        CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<>() {
+            @Override
+            public ParsePlan load(final EffectiveModelContext key) {
+                return new ParsePlan(key);
+            }
+        });
+
+    // Keyed by identity. Synthetic ContainerLikeCompat parents have no stable identity and bypass this cache.
+    private final LoadingCache<DataSchemaNode, @NonNull Children> children =
+        CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<>() {
+            @Override
+            public Children load(final DataSchemaNode key) {
+                return Children.of(key);
+            }
+        });
+    // Note: we do not retain the model context, so that it can be reclaimed while we are cached
+    private final ImmutableMap<String, XMLNamespace> moduleNamespaces;
+
+    private ParsePlan(final EffectiveModelContext modelContext) {
+        final var builder = ImmutableMap.<String, XMLNamespace>builder();
+        for (var name : modelContext.getModuleStatements().values().stream()
+                .map(module -> module.argument().getLocalName())
+                .collect(ImmutableSet.toImmutableSet())) {
+            builder.put(name, modelContext.findModuleStatements(name).iterator().next().localQNameModule()
+                .getNamespace());
+        }
+        moduleNamespaces = builder.build();
+    }
+
+    /**
+     * Return the {@link ParsePlan} for a particular {@link EffectiveModelContext}.
+     *
+     * @param modelContext an {@link EffectiveModelContext}
+     * @return A ParsePlan
+     */
+    public static @NonNull ParsePlan of(final EffectiveModelContext modelContext) {
+        return PLANS.getUnchecked(modelContext);
+    }
+
+    /**
+     * Find the schema of a child node. The result is a newly-allocated {@link Deque}, with the same contents as
+     * {@link ParserStreamUtils#findSchemaNodeByNameAndNamespace(DataSchemaNode, String, XMLNamespace)} would return.
+     *
+     * @param parent parent schema node
+     * @param localName child node local name
+     * @param namespace child node namespace
+     * @return A {@link Deque} of schema nodes leading to the child, empty if the child is not found
+     */
+    public @NonNull Deque<DataSchemaNode> findChild(final DataSchemaNode parent, final String localName,
+            final XMLNamespace namespace) {
+        if (parent instanceof ContainerLikeCompat) {
+            return ParserStreamUtils.findSchemaNodeByNameAndNamespace(parent, localName, namespace);
+        }
+        final var path = children.getUnchecked(parent).path(localName, namespace);
+        return path == null ? new ArrayDeque<>(1) : new ArrayDeque<>(path);
+    }
+
+    /**
+     * Return the namespaces of all children of a node, which have the specified local name, including those nested in
+     * choices.
+     *
+     * @param parent parent schema node
+     * @param localName child node local name
+     * @return Set of namespaces, empty if there is no such child
+     */
+    public @NonNull Set<XMLNamespace> childNamespaces(final DataSchemaNode parent, final String localName) {
+        if (parent instanceof ContainerLikeCompat compat) {
+            final var names = new HashMap<String, Set<XMLNamespace>>();
+            Children.collectNames(compat, names);
+            final var ret = names.get(localName);
+            return ret != null ? ret : Set.of();
+        }
+        return children.getUnchecked(parent).namespaces(localName);
+    }
+
+    /**
+     * Return the namespace of a module, as identified by its name. If there are multiple revisions of the module, the
+     * first one found is used.
+     *
+     * @param moduleName module name
+     * @return Module namespace, or {@code null} if the module is not present
+     */
+    public @Nullable XMLNamespace moduleNamespace(final String moduleName) {
+        return moduleNamespaces.get(moduleName);
+    }
+}
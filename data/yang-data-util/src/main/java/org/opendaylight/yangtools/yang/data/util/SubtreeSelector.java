@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+
+/**
+ * A selection of subtrees of a document, used by parsers to skip the parts of a document the caller is not interested
+ * in. A selector is a tree of node names: children which are not present in it are skipped without their values being
+ * decoded, children which are leaves of it are selected in their entirety.
+ *
+ * <p>
+ * Selectors are built from a set of {@link YangInstanceIdentifier}s, which are interpreted relative to the node the
+ * parser is rooted at. Paths are matched on node names only: a
+ * {@link YangInstanceIdentifier.NodeIdentifierWithPredicates} selects all entries of its list and a
+ * {@link YangInstanceIdentifier.NodeWithValue} selects all entries of its leaf-list. Paths may, but do not have to,
+ * include {@code choice} nodes. Key leaves of a selected list entry are always selected, as the entry cannot be
+ * constructed without them.
+ */
+@Beta
+public final class SubtreeSelector implements Immutable {
+    private static final @NonNull SubtreeSelector ALL = new SubtreeSelector(null);
+
+    // null indicates the entire subtree is selected
+    private final @Nullable ImmutableMap<QName, SubtreeSelector> children;
+
+    private SubtreeSelector(final @Nullable ImmutableMap<QName, SubtreeSelector> children) {
+        this.children = children;
+    }
+
+    /**
+     * Return a selector which selects everything.
+     *
+     * @return A selector which selects everything
+     */
+    public static @NonNull SubtreeSelector all() {
+        return ALL;
+    }
+
+    /**
+     * Return a selector which selects the subtrees identified by specified paths.
+     *
+     * @param paths paths to select
+     * @return A selector
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull SubtreeSelector of(final YangInstanceIdentifier... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Return a selector which selects the subtrees identified by specified paths.
+     *
+     * @param paths paths to select
+     * @return A selector
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull SubtreeSelector of(final Collection<YangInstanceIdentifier> paths) {
+        final var root = new Builder();
+        for (var path : paths) {
+            var current = root;
+            PathArgument prev = null;
+            for (var arg : path.getPathArguments()) {
+                // Lists and leaf-lists are followed by an entry with the same name, which is a single step in documents
+                if (!isEntryOf(arg, prev)) {
+                    current = current.children.computeIfAbsent(arg.getNodeType(), key -> new Builder());
+                }
+                prev = arg;
+            }
+            current.all = true;
+        }
+        return root.build();
+    }
+
+    private static boolean isEntryOf(final PathArgument arg, final @Nullable PathArgument prev) {
+        return (arg instanceof NodeIdentifierWithPredicates || arg instanceof NodeWithValue)
+            && prev instanceof NodeIdentifier && arg.getNodeType().equals(prev.getNodeType());
+    }
+
+    /**
+     * Check whether this selector selects the entire subtree.
+     *
+     * @return {@code true} if this selector selects the entire subtree
+     */
+    public boolean selectsAll() {
+        return children == null;
+    }
+
+    /**
+     * Return the selector for a child, as resolved by a parser.
+     *
+     * @param parent parent schema node
+     * @param childPath path from {@code parent} to the child, including any intermediate {@code choice} and
+     *                  {@code case} nodes
+     * @return The selector for the child, or {@code null} if the child is not selected
+     */
+    public @Nullable SubtreeSelector select(final DataSchemaNode parent,
+            final Collection<? extends DataSchemaNode> childPath) {
+        var current = children;
+        if (current == null) {
+            return this;
+        }
+
+        for (var node : childPath) {
+            if (node instanceof CaseSchemaNode) {
+                continue;
+            }
+
+            final var qname = node.getQName();
+            if (node instanceof ChoiceSchemaNode) {
+                // Choices are optional in paths
+                final var next = current.get(qname);
+                if (next != null) {
+                    final var nextChildren = next.children;
+                    if (nextChildren == null) {
+                        return next;
+                    }
+                    current = nextChildren;
+                }
+                continue;
+            }
+
+            final var ret = current.get(qname);
+            if (ret == null && parent instanceof ListSchemaNode list && list.getKeyDefinition().contains(qname)) {
+                return ALL;
+            }
+            return ret;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues().add("children", children).toString();
+    }
+
+    private static final class Builder {
+        final Map<QName, Builder> children = new HashMap<>();
+        boolean all;
+
+        SubtreeSelector build() {
+            if (all) {
+                return ALL;
+            }
+
+            final var builder = ImmutableMap.<QName, SubtreeSelector>builderWithExpectedSize(children.size());
+            for (var entry : children.entrySet()) {
+                builder.put(entry.getKey(), entry.getValue().build());
+            }
+            return new SubtreeSelector(builder.build());
+        }
+    }
+}
@@ -102,6 +102,20 @@ public abstract class AbstractCodecFactory<T extends TypeAwareCodec<?, ?, ?>>
         return cache.getComplex(schema, ret);
     }
 
+    final @NonNull CodecCache<T> cache() {
+        return cache;
+    }
+
+    /**
+     * Check whether this factory can be used concurrently from multiple threads. This is the case unless it is backed
+     * by a {@link LazyCodecCache}.
+     *
+     * @return {@code true} if this factory is thread-safe
+     */
+    public final boolean isThreadSafe() {
+        return !(cache instanceof LazyCodecCache);
+    }
+
     protected abstract T binaryCodec(BinaryTypeDefinition type);
 
     protected abstract T booleanCodec(BooleanTypeDefinition type);
@@ -58,4 +58,12 @@ public abstract class CodecCache<T> {
      * @return Codec instance, either already-cached, or the codec presented as argument.
      */
     abstract @NonNull T getSimple(TypeDefinition<?> type, T codec);
+
+    /**
+     * Return the number of codecs currently held in this cache. The result may be an estimate if the cache is being
+     * concurrently modified.
+     *
+     * @return Number of cached codecs
+     */
+    abstract int size();
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Stopwatch;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaTreeAwareEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility for populating the {@link CodecCache} of an {@link AbstractCodecFactory} ahead of time. The schema tree of
+ * the factory's {@link org.opendaylight.yangtools.yang.model.api.EffectiveModelContext} is walked by a number of
+ * {@link ForkJoinTask}s and a codec is acquired for every leaf and leaf-list encountered, so that these codecs are
+ * available when the first requests after a model update arrive. This covers the data tree as well as notifications
+ * and the input and output of RPCs and actions.
+ *
+ * <p>
+ * The cache of the factory needs to be thread-safe, i.e. either a {@link SharedCodecCache} or a
+ * {@link ConcurrentCodecCache}. The latter can be turned into a {@link PrecomputedCodecCache} once the warmup
+ * completes.
+ */
+@Beta
+public final class CodecWarmup {
+    /**
+     * Statistics of a completed warmup.
+     *
+     * @param leafCount number of leaf and leaf-list nodes visited
+     * @param codecCount number of codecs held in the cache after the warmup
+     * @param elapsed wall-clock time taken by the warmup
+     * @param allocatedBytes number of bytes allocated by the warmup, or {@code -1} if the JVM does not support
+     *                       measuring thread allocation
+     */
+    public record Stats(int leafCount, int codecCount, @NonNull Duration elapsed, long allocatedBytes) {
+        public Stats {
+            requireNonNull(elapsed);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(CodecWarmup.class);
+    // Subtrees this deep are walked by the task which encounters them, without forking any further tasks
+    private static final int MAX_FORK_DEPTH = 2;
+    private static final @Nullable ThreadMXBean THREAD_BEAN = threadBean();
+
+    private CodecWarmup() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Populate the cache of specified factory using tasks executing in specified pool.
+     *
+     * @param factory codec factory to warm up
+     * @param pool pool to use
+     * @return A future completing with warmup {@link Stats}
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the cache of {@code factory} is not thread-safe
+     */
+    public static @NonNull CompletableFuture<Stats> warmup(final AbstractCodecFactory<?> factory,
+            final ForkJoinPool pool) {
+        checkArgument(factory.isThreadSafe(), "Factory %s does not have a thread-safe cache", factory);
+        final var cache = factory.cache();
+        requireNonNull(pool);
+
+        return CompletableFuture.supplyAsync(() -> {
+            final var sw = Stopwatch.createStarted();
+            final var context = factory.getEffectiveModelContext();
+            final var walk = new Walk(factory);
+            final var tasks = new ArrayList<ForkJoinTask<?>>();
+            for (var module : context.getModuleStatements().values()) {
+                tasks.add(ForkJoinTask.adapt(new WalkTask(walk, SchemaInferenceStack.of(context), module, 0)));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            sw.stop();
+
+            final var stats = new Stats(walk.leaves.intValue(), cache.size(), sw.elapsed(),
+                THREAD_BEAN != null ? walk.allocated.sum() : -1);
+            LOG.debug("Warmed up {} with {}", factory, stats);
+            return stats;
+        }, pool);
+    }
+
+    private static @Nullable ThreadMXBean threadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            LOG.debug("Thread allocation accounting is not available", e);
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        final var bean = THREAD_BEAN;
+        return bean != null ? bean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    // State shared by all tasks of a single warmup
+    private static final class Walk {
+        final LongAdder leaves = new LongAdder();
+        final LongAdder allocated = new LongAdder();
+        final AbstractCodecFactory<?> factory;
+
+        Walk(final AbstractCodecFactory<?> factory) {
+            this.factory = requireNonNull(factory);
+        }
+    }
+
+    private static final class WalkTask implements Runnable {
+        private final Walk walk;
+        private final SchemaInferenceStack stack;
+        private final SchemaTreeAwareEffectiveStatement<?, ?> parent;
+        private final int depth;
+
+        WalkTask(final Walk walk, final SchemaInferenceStack stack,
+                final SchemaTreeAwareEffectiveStatement<?, ?> parent, final int depth) {
+            this.walk = requireNonNull(walk);
+            this.stack = requireNonNull(stack);
+            this.parent = requireNonNull(parent);
+            this.depth = depth;
+        }
+
+        @Override
+        public void run() {
+            final long startBytes = allocatedBytes();
+            final var forked = new ArrayList<ForkJoinTask<?>>();
+            if (depth < MAX_FORK_DEPTH) {
+                for (var child : parent.schemaTreeNodes()) {
+                    if (child instanceof SchemaTreeAwareEffectiveStatement<?, ?> schemaTree) {
+                        stack.enterSchemaTree(child.argument());
+                        forked.add(ForkJoinTask.adapt(new WalkTask(walk, stack.copy(), schemaTree, depth + 1)));
+                        stack.exit();
+                    } else if (child instanceof TypedDataSchemaNode typed) {
+                        codecFor(walk.factory, stack, typed);
+                        walk.leaves.increment();
+                    }
+                }
+                // Forked tasks account for themselves, hence we stop counting before we (potentially) execute them
+                walk.allocated.add(allocatedBytes() - startBytes);
+                ForkJoinTask.invokeAll(forked);
+            } else {
+                walk.leaves.add(codecsForChildren(walk.factory, stack, parent));
+                walk.allocated.add(allocatedBytes() - startBytes);
+            }
+        }
+
+        private static int codecsForChildren(final AbstractCodecFactory<?> factory, final SchemaInferenceStack stack,
+                final SchemaTreeAwareEffectiveStatement<?, ?> parent) {
+            int ret = 0;
+            for (var child : parent.schemaTreeNodes()) {
+                if (child instanceof SchemaTreeAwareEffectiveStatement<?, ?> schemaTree) {
+                    stack.enterSchemaTree(child.argument());
+                    ret += codecsForChildren(factory, stack, schemaTree);
+                    stack.exit();
+                } else if (child instanceof TypedDataSchemaNode typed) {
+                    codecFor(factory, stack, typed);
+                    ++ret;
+                }
+            }
+            return ret;
+        }
+
+        private static void codecFor(final AbstractCodecFactory<?> factory, final SchemaInferenceStack stack,
+                final TypedDataSchemaNode typed) {
+            // Leafref paths are resolved relative to the leaf itself
+            stack.enterSchemaTree(typed.getQName());
+            factory.codecFor(typed, stack);
+            stack.exit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util.codec;
+
+import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheBuilder;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeAware;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+
+/**
+ * A thread-safe lazily-populated CodecCache. Unlike {@link SharedCodecCache}, this cache holds on to its codecs for as
+ * long as it is reachable. It is intended to be populated concurrently, for example by
+ * {@link CodecWarmup#warmup(AbstractCodecFactory, java.util.concurrent.ForkJoinPool)}, and then turned into a
+ * {@link PrecomputedCodecCache} via {@link #toPrecomputed()}.
+ *
+ * @param <T> Codec type
+ */
+@Beta
+public final class ConcurrentCodecCache<T> extends CodecCache<T> {
+    // Weak keys to force identity lookup
+    private final ConcurrentMap<TypeDefinition<?>, T> simpleCodecs =
+        CacheBuilder.newBuilder().weakKeys().<TypeDefinition<?>, T>build().asMap();
+    private final ConcurrentMap<SchemaNode, T> complexCodecs =
+        CacheBuilder.newBuilder().weakKeys().<SchemaNode, T>build().asMap();
+
+    @Override
+    <S extends SchemaNode & TypeAware> T lookupComplex(final S schema) {
+        return complexCodecs.get(schema);
+    }
+
+    @Override
+    T lookupSimple(final TypeDefinition<?> type) {
+        return simpleCodecs.get(type);
+    }
+
+    @Override
+    <S extends SchemaNode & TypeAware> T getComplex(final S schema, final T codec) {
+        final T prev = complexCodecs.putIfAbsent(schema, codec);
+        return prev != null ? prev : codec;
+    }
+
+    @Override
+    T getSimple(final TypeDefinition<?> type, final T codec) {
+        final T prev = simpleCodecs.putIfAbsent(type, codec);
+        return prev != null ? prev : codec;
+    }
+
+    @Override
+    int size() {
+        return simpleCodecs.size() + complexCodecs.size();
+    }
+
+    /**
+     * Create a {@link PrecomputedCodecCache} holding a snapshot of this cache's codecs. This method should be invoked
+     * only after this cache has been fully populated.
+     *
+     * @return A PrecomputedCodecCache
+     */
+    public PrecomputedCodecCache<T> toPrecomputed() {
+        return new PrecomputedCodecCache<>(new IdentityHashMap<>(simpleCodecs), new IdentityHashMap<>(complexCodecs));
+    }
+}
@@ -45,6 +45,11 @@ public final class LazyCodecCache<T> extends CodecCache<T> {
         return simpleCodecs.computeIfAbsent(type, any -> codec);
     }
 
+    @Override
+    int size() {
+        return simpleCodecs.size() + complexCodecs.size();
+    }
+
     public PrecomputedCodecCache<T> toPrecomputed() {
         return new PrecomputedCodecCache<>(simpleCodecs, complexCodecs);
     }
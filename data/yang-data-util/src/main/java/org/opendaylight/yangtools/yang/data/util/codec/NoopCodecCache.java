@@ -51,4 +51,9 @@ public final class NoopCodecCache<T> extends CodecCache<T> {
     <S extends SchemaNode & TypeAware> T getComplex(final S schema, final T codec) {
         return codec;
     }
+
+    @Override
+    int size() {
+        return 0;
+    }
 }
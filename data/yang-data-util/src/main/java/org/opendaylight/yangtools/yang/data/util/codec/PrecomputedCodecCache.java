@@ -58,6 +58,11 @@ public final class PrecomputedCodecCache<T> extends CodecCache<T> {
         throw new IllegalStateException("Uncached codec for " + type);
     }
 
+    @Override
+    int size() {
+        return simpleCodecs.size() + complexCodecs.size();
+    }
+
     public int complexSize() {
         return complexCodecs.size();
     }
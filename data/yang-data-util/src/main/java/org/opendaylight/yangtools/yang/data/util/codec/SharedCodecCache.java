@@ -11,6 +11,7 @@ import com.google.common.annotations.Beta;
 import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypeAware;
@@ -59,4 +60,9 @@ public final class SharedCodecCache<T> extends CodecCache<T> {
             throw new IllegalStateException(e);
         }
     }
+
+    @Override
+    int size() {
+        return Ints.saturatedCast(simpleCodecs.size() + complexCodecs.size());
+    }
 }
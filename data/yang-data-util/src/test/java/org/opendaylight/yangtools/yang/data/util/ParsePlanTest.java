@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ParsePlanTest {
+    private static final XMLNamespace FOO_NS = XMLNamespace.of("foo");
+    private static final XMLNamespace BAR_NS = XMLNamespace.of("bar");
+    private static final QName TOP = QName.create(FOO_NS.toString(), "top");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static ContainerSchemaNode TOP_SCHEMA;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf direct {
+                  type string;
+                }
+                leaf same {
+                  type string;
+                }
+                choice outer {
+                  container nested {
+                    choice inner {
+                      leaf deep {
+                        type string;
+                      }
+                    }
+                  }
+                  case other {
+                    choice inner2 {
+                      leaf deeper {
+                        type string;
+                      }
+                    }
+                  }
+                }
+              }
+            }""", """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              augment /foo:top {
+                leaf same {
+                  type string;
+                }
+              }
+            }""");
+        TOP_SCHEMA = (ContainerSchemaNode) MODEL_CONTEXT.getDataChildByName(TOP);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        TOP_SCHEMA = null;
+    }
+
+    @Test
+    void testShared() {
+        assertSame(ParsePlan.of(MODEL_CONTEXT), ParsePlan.of(MODEL_CONTEXT));
+    }
+
+    @Test
+    void testFindChild() {
+        final var plan = ParsePlan.of(MODEL_CONTEXT);
+        assertSamePath(plan, MODEL_CONTEXT, "top", FOO_NS, 1);
+        assertSamePath(plan, TOP_SCHEMA, "direct", FOO_NS, 1);
+        assertSamePath(plan, TOP_SCHEMA, "same", FOO_NS, 1);
+        assertSamePath(plan, TOP_SCHEMA, "same", BAR_NS, 1);
+        assertSamePath(plan, TOP_SCHEMA, "nested", FOO_NS, 3);
+        assertSamePath(plan, TOP_SCHEMA, "deeper", FOO_NS, 5);
+        assertSamePath(plan, TOP_SCHEMA, "direct", BAR_NS, 0);
+        assertSamePath(plan, TOP_SCHEMA, "deep", FOO_NS, 0);
+        assertSamePath(plan, TOP_SCHEMA, "unknown", FOO_NS, 0);
+
+        // Results are private to the caller
+        plan.findChild(TOP_SCHEMA, "nested", FOO_NS).clear();
+        assertSamePath(plan, TOP_SCHEMA, "nested", FOO_NS, 3);
+    }
+
+    @Test
+    void testChildNamespaces() {
+        final var plan = ParsePlan.of(MODEL_CONTEXT);
+        assertEquals(Set.of(FOO_NS, BAR_NS), plan.childNamespaces(TOP_SCHEMA, "same"));
+        assertEquals(Set.of(FOO_NS), plan.childNamespaces(TOP_SCHEMA, "deeper"));
+        assertEquals(Set.of(), plan.childNamespaces(TOP_SCHEMA, "deep"));
+        assertEquals(Set.of(), plan.childNamespaces(TOP_SCHEMA.getDataChildByName(QName.create(TOP, "direct")),
+            "direct"));
+    }
+
+    @Test
+    void testModuleNamespace() {
+        final var plan = ParsePlan.of(MODEL_CONTEXT);
+        assertEquals(FOO_NS, plan.moduleNamespace("foo"));
+        assertEquals(BAR_NS, plan.moduleNamespace("bar"));
+        assertNull(plan.moduleNamespace("baz"));
+    }
+
+    private static void assertSamePath(final ParsePlan plan, final DataSchemaNode parent, final String localName,
+            final XMLNamespace namespace, final int expectedSize) {
+        final var expected = List.copyOf(
+            ParserStreamUtils.findSchemaNodeByNameAndNamespace(parent, localName, namespace));
+        final var actual = List.copyOf(plan.findChild(parent, localName, namespace));
+        assertEquals(expectedSize, expected.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
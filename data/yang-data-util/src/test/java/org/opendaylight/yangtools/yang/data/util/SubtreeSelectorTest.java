@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class SubtreeSelectorTest {
+    private static final XMLNamespace FOO_NS = XMLNamespace.of("foo");
+    private static final QName TOP = QName.create(FOO_NS.toString(), "top");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName ENTRY = QName.create(TOP, "entry");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName VALUE = QName.create(TOP, "value");
+    private static final QName ALT = QName.create(TOP, "alt");
+    private static final QName FIRST = QName.create(TOP, "first");
+
+    private static EffectiveModelContext MODEL_CONTEXT;
+    private static ContainerSchemaNode TOP_SCHEMA;
+    private static ListSchemaNode ENTRY_SCHEMA;
+
+    @BeforeAll
+    static void beforeAll() {
+        MODEL_CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container top {
+                leaf name {
+                  type string;
+                }
+                list entry {
+                  key id;
+                  leaf id {
+                    type string;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                  leaf other {
+                    type string;
+                  }
+                }
+                choice alt {
+                  leaf first {
+                    type string;
+                  }
+                  leaf second {
+                    type string;
+                  }
+                }
+                container top {
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                }
+              }
+            }""");
+        TOP_SCHEMA = (ContainerSchemaNode) MODEL_CONTEXT.getDataChildByName(TOP);
+        ENTRY_SCHEMA = (ListSchemaNode) TOP_SCHEMA.getDataChildByName(ENTRY);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        MODEL_CONTEXT = null;
+        TOP_SCHEMA = null;
+        ENTRY_SCHEMA = null;
+    }
+
+    @Test
+    void testAll() {
+        final var all = SubtreeSelector.all();
+        assertTrue(all.selectsAll());
+        assertSame(all, select(all, MODEL_CONTEXT, "top"));
+        assertSame(all, select(all, TOP_SCHEMA, "first"));
+        assertSame(all, SubtreeSelector.of(YangInstanceIdentifier.of()));
+    }
+
+    @Test
+    void testSelectLeaf() {
+        final var selector = SubtreeSelector.of(YangInstanceIdentifier.of(TOP, NAME));
+        assertFalse(selector.selectsAll());
+
+        final var top = select(selector, MODEL_CONTEXT, "top");
+        assertNotNull(top);
+        assertFalse(top.selectsAll());
+        assertTrue(select(top, TOP_SCHEMA, "name").selectsAll());
+        assertNull(select(top, TOP_SCHEMA, "entry"));
+        assertNull(select(top, TOP_SCHEMA, "first"));
+    }
+
+    @Test
+    void testSelectListEntryKeepsKeys() {
+        final var selector = SubtreeSelector.of(YangInstanceIdentifier.builder()
+            .node(TOP)
+            .node(ENTRY)
+            .node(NodeIdentifierWithPredicates.of(ENTRY, Map.of(ID, "one")))
+            .node(VALUE)
+            .build());
+
+        final var entry = select(select(selector, MODEL_CONTEXT, "top"), TOP_SCHEMA, "entry");
+        assertNotNull(entry);
+        assertFalse(entry.selectsAll());
+        assertTrue(select(entry, ENTRY_SCHEMA, "id").selectsAll());
+        assertTrue(select(entry, ENTRY_SCHEMA, "value").selectsAll());
+        assertNull(select(entry, ENTRY_SCHEMA, "other"));
+    }
+
+    @Test
+    void testSelectNestedSameName() {
+        final var top = select(SubtreeSelector.of(YangInstanceIdentifier.of(TOP, TOP, NAME)), MODEL_CONTEXT, "top");
+        assertNotNull(top);
+        assertNull(select(top, TOP_SCHEMA, "name"));
+
+        final var nested = select(top, TOP_SCHEMA, "top");
+        assertNotNull(nested);
+        assertFalse(nested.selectsAll());
+        final var nestedSchema = (ContainerSchemaNode) TOP_SCHEMA.getDataChildByName(TOP);
+        assertTrue(select(nested, nestedSchema, "name").selectsAll());
+        assertNull(select(nested, nestedSchema, "value"));
+    }
+
+    @Test
+    void testSelectChoice() {
+        // Choice is optional in the path
+        final var withoutChoice = select(SubtreeSelector.of(YangInstanceIdentifier.of(TOP, FIRST)), MODEL_CONTEXT,
+            "top");
+        assertTrue(select(withoutChoice, TOP_SCHEMA, "first").selectsAll());
+        assertNull(select(withoutChoice, TOP_SCHEMA, "second"));
+
+        final var withChoice = select(SubtreeSelector.of(YangInstanceIdentifier.of(new NodeIdentifier(TOP),
+            new NodeIdentifier(ALT), new NodeIdentifier(FIRST))), MODEL_CONTEXT, "top");
+        assertTrue(select(withChoice, TOP_SCHEMA, "first").selectsAll());
+        assertNull(select(withChoice, TOP_SCHEMA, "second"));
+
+        final var entireChoice = select(SubtreeSelector.of(YangInstanceIdentifier.of(TOP, ALT)), MODEL_CONTEXT,
+            "top");
+        assertTrue(select(entireChoice, TOP_SCHEMA, "first").selectsAll());
+        assertTrue(select(entireChoice, TOP_SCHEMA, "second").selectsAll());
+        assertNull(select(entireChoice, TOP_SCHEMA, "name"));
+    }
+
+    private static @Nullable SubtreeSelector select(final SubtreeSelector selector, final DataSchemaNode parent,
+            final String localName) {
+        return selector.select(parent, ParsePlan.of(MODEL_CONTEXT).findChild(parent, localName, FOO_NS));
+    }
+}
@@ -436,15 +436,23 @@ public final class EffectiveStatements {
                 : new RegularContainerEffectiveStatement(declared, substatements, argument, flags);
     }
 
+    public static DefaultEffectiveStatement createDefault(final DefaultStatement declared) {
+        return new EmptyDefaultEffectiveStatement(declared);
+    }
+
     public static DefaultEffectiveStatement createDefault(final DefaultStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyDefaultEffectiveStatement(declared)
+        return substatements.isEmpty() ? createDefault(declared)
             : new RegularDefaultEffectiveStatement(declared, substatements);
     }
 
+    public static DescriptionEffectiveStatement createDescription(final DescriptionStatement declared) {
+        return new EmptyDescriptionEffectiveStatement(declared);
+    }
+
     public static DescriptionEffectiveStatement createDescription(final DescriptionStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyDescriptionEffectiveStatement(declared)
+        return substatements.isEmpty() ? createDescription(declared)
             : new RegularDescriptionEffectiveStatement(declared, substatements);
     }
 
@@ -464,15 +472,23 @@ public final class EffectiveStatements {
             : new RegularEnumEffectiveStatement(declared, substatements);
     }
 
+    public static ErrorAppTagEffectiveStatement createErrorAppTag(final ErrorAppTagStatement declared) {
+        return new EmptyErrorAppTagEffectiveStatement(declared);
+    }
+
     public static ErrorAppTagEffectiveStatement createErrorAppTag(final ErrorAppTagStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyErrorAppTagEffectiveStatement(declared)
+        return substatements.isEmpty() ? createErrorAppTag(declared)
             : new RegularErrorAppTagEffectiveStatement(declared, substatements);
     }
 
+    public static ErrorMessageEffectiveStatement createErrorMessage(final ErrorMessageStatement declared) {
+        return new EmptyErrorMessageEffectiveStatement(declared);
+    }
+
     public static ErrorMessageEffectiveStatement createErrorMessage(final ErrorMessageStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyErrorMessageEffectiveStatement(declared)
+        return substatements.isEmpty() ? createErrorMessage(declared)
             : new RegularErrorMessageEffectiveStatement(declared, substatements);
     }
 
@@ -757,9 +773,13 @@ public final class EffectiveStatements {
             : new RegularPrefixEffectiveStatement(declared, substatements);
     }
 
+    public static PresenceEffectiveStatement createPresence(final PresenceStatement declared) {
+        return new EmptyPresenceEffectiveStatement(declared);
+    }
+
     public static PresenceEffectiveStatement createPresence(final PresenceStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyPresenceEffectiveStatement(declared)
+        return substatements.isEmpty() ? createPresence(declared)
             : new RegularPresenceEffectiveStatement(declared, substatements);
     }
 
@@ -851,9 +871,13 @@ public final class EffectiveStatements {
         return new TypedefEffectiveStatementImpl(declared, flags, substatements);
     }
 
+    public static UnitsEffectiveStatement createUnits(final UnitsStatement declared) {
+        return new EmptyUnitsEffectiveStatement(declared);
+    }
+
     public static UnitsEffectiveStatement createUnits(final UnitsStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return substatements.isEmpty() ? new EmptyUnitsEffectiveStatement(declared)
+        return substatements.isEmpty() ? createUnits(declared)
             : new RegularUnitsEffectiveStatement(declared, substatements);
     }
 
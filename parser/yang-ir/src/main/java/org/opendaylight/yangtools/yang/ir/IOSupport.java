@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.ir;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.ir.IRArgument.Concatenation;
+import org.opendaylight.yangtools.yang.ir.IRArgument.Single;
+import org.opendaylight.yangtools.yang.ir.IRKeyword.Qualified;
+
+/**
+ * Support for a compact binary serialization of an {@link IRStatement} tree. The format is self-contained and is
+ * intended for caching the result of parsing a YANG file, so that the parser does not need to be invoked again. It
+ * retains all information present in the IR, including statement locations.
+ *
+ * <p>
+ * Strings and keywords are written only once, subsequent occurrences are encoded as references. The format is
+ * versioned and {@link #readStatement(DataInput)} rejects any input written in a different version.
+ */
+@Beta
+public final class IOSupport {
+    private static final int VERSION = 1;
+
+    private static final int ARG_NONE = 0;
+    private static final int ARG_IDENTIFIER = 1;
+    private static final int ARG_UNQUOTED = 2;
+    private static final int ARG_SINGLE_QUOTED = 3;
+    private static final int ARG_DOUBLE_QUOTED = 4;
+    private static final int ARG_CONCATENATION = 5;
+
+    // Keyword tags: even values are references to already-seen keywords, odd values introduce a new keyword
+    private static final int KEYWORD_NEW_UNQUALIFIED = 1;
+    private static final int KEYWORD_NEW_QUALIFIED = 3;
+
+    private IOSupport() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Write a statement and all of its substatements.
+     *
+     * @param out Output
+     * @param statement Statement to write
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any argument is null
+     */
+    public static void writeStatement(final DataOutput out, final IRStatement statement) throws IOException {
+        requireNonNull(statement);
+        out.writeByte(VERSION);
+        new Writer(requireNonNull(out)).writeStatement(statement);
+    }
+
+    /**
+     * Read a statement and all of its substatements, as written by {@link #writeStatement(DataOutput, IRStatement)}.
+     *
+     * @param in Input
+     * @return A statement
+     * @throws IOException if an I/O error occurs or the input is not a valid serialized statement
+     * @throws NullPointerException if {@code in} is null
+     */
+    public static @NonNull IRStatement readStatement(final DataInput in) throws IOException {
+        final int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version);
+        }
+        return new Reader(in).readStatement();
+    }
+
+    private static final class Writer {
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<IRKeyword, Integer> keywords = new HashMap<>();
+        private final DataOutput out;
+
+        Writer(final DataOutput out) {
+            this.out = out;
+        }
+
+        void writeStatement(final IRStatement statement) throws IOException {
+            writeKeyword(statement.keyword());
+            writeArgument(statement.argument());
+            writeVarInt(statement.startLine());
+            writeVarInt(statement.startColumn());
+
+            final var statements = statement.statements();
+            writeVarInt(statements.size());
+            for (var stmt : statements) {
+                writeStatement(stmt);
+            }
+        }
+
+        private void writeKeyword(final IRKeyword keyword) throws IOException {
+            final var ref = keywords.get(keyword);
+            if (ref != null) {
+                writeVarInt(ref << 1);
+                return;
+            }
+
+            keywords.put(keyword, keywords.size());
+            if (keyword instanceof Qualified qualified) {
+                writeVarInt(KEYWORD_NEW_QUALIFIED);
+                writeString(qualified.prefix());
+            } else {
+                writeVarInt(KEYWORD_NEW_UNQUALIFIED);
+            }
+            writeString(keyword.identifier());
+        }
+
+        private void writeArgument(final @Nullable IRArgument argument) throws IOException {
+            if (argument == null) {
+                out.writeByte(ARG_NONE);
+            } else if (argument instanceof Single single) {
+                writeSingle(single);
+            } else if (argument instanceof Concatenation concat) {
+                out.writeByte(ARG_CONCATENATION);
+                final var parts = concat.parts();
+                writeVarInt(parts.size());
+                for (var part : parts) {
+                    writeSingle(part);
+                }
+            } else {
+                throw new IOException("Unhandled argument " + argument);
+            }
+        }
+
+        private void writeSingle(final Single single) throws IOException {
+            final int type;
+            if (single.isValidIdentifier()) {
+                type = ARG_IDENTIFIER;
+            } else if (single.needQuoteCheck()) {
+                type = ARG_UNQUOTED;
+            } else if (single.needUnescape()) {
+                type = ARG_DOUBLE_QUOTED;
+            } else {
+                type = ARG_SINGLE_QUOTED;
+            }
+            out.writeByte(type);
+            writeString(single.string());
+        }
+
+        // Strings tags: even values are references to already-seen strings, odd values carry the length of a new string
+        private void writeString(final String str) throws IOException {
+            final var ref = strings.get(str);
+            if (ref != null) {
+                writeVarInt(ref << 1);
+                return;
+            }
+
+            strings.put(str, strings.size());
+            final var bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length << 1 | 1);
+            out.write(bytes);
+        }
+
+        private void writeVarInt(final int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.writeByte(remaining & 0x7F | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte(remaining);
+        }
+    }
+
+    private static final class Reader {
+        private final List<String> strings = new ArrayList<>();
+        private final List<IRKeyword> keywords = new ArrayList<>();
+        private final DataInput in;
+
+        Reader(final DataInput in) {
+            this.in = requireNonNull(in);
+        }
+
+        @NonNull IRStatement readStatement() throws IOException {
+            final var keyword = readKeyword();
+            final var argument = readArgument();
+            final int line = readVarInt();
+            final int column = readVarInt();
+
+            final int size = readVarInt();
+            final ImmutableList<IRStatement> statements;
+            if (size == 0) {
+                statements = ImmutableList.of();
+            } else {
+                final var builder = ImmutableList.<IRStatement>builderWithExpectedSize(size);
+                for (int i = 0; i < size; ++i) {
+                    builder.add(readStatement());
+                }
+                statements = builder.build();
+            }
+            return IRStatement.of(keyword, argument, line, column, statements);
+        }
+
+        private @NonNull IRKeyword readKeyword() throws IOException {
+            final int tag = readVarInt();
+            final IRKeyword keyword;
+            switch (tag) {
+                case KEYWORD_NEW_UNQUALIFIED -> keyword = IRKeyword.Unqualified.of(readString());
+                case KEYWORD_NEW_QUALIFIED -> {
+                    final var prefix = readString();
+                    keyword = IRKeyword.Qualified.of(prefix, readString());
+                }
+                default -> {
+                    return lookup(keywords, tag, "keyword");
+                }
+            }
+            keywords.add(keyword);
+            return keyword;
+        }
+
+        private @Nullable IRArgument readArgument() throws IOException {
+            final int type = in.readUnsignedByte();
+            return switch (type) {
+                case ARG_NONE -> null;
+                case ARG_CONCATENATION -> {
+                    final int size = readVarInt();
+                    final var parts = new ArrayList<Single>(size);
+                    for (int i = 0; i < size; ++i) {
+                        parts.add(readSingle(in.readUnsignedByte()));
+                    }
+                    yield IRArgument.of(parts);
+                }
+                default -> readSingle(type);
+            };
+        }
+
+        private @NonNull Single readSingle(final int type) throws IOException {
+            final var str = readString();
+            return switch (type) {
+                case ARG_IDENTIFIER -> IRArgument.identifier(str);
+                case ARG_UNQUOTED -> IRArgument.unquoted(str);
+                case ARG_SINGLE_QUOTED -> str.isEmpty() ? IRArgument.empty() : IRArgument.singleQuoted(str);
+                case ARG_DOUBLE_QUOTED -> IRArgument.doubleQuoted(str);
+                default -> throw new IOException("Unexpected argument type " + type);
+            };
+        }
+
+        private @NonNull String readString() throws IOException {
+            final int tag = readVarInt();
+            if ((tag & 1) == 0) {
+                return lookup(strings, tag, "string");
+            }
+
+            final var bytes = new byte[tag >>> 1];
+            in.readFully(bytes);
+            final var str = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(str);
+            return str;
+        }
+
+        private int readVarInt() throws IOException {
+            int ret = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final int b = in.readUnsignedByte();
+                ret |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return ret;
+                }
+            }
+            throw new IOException("Malformed variable-length integer");
+        }
+
+        private static <T> @NonNull T lookup(final List<T> list, final int tag, final String what) throws IOException {
+            final int index = tag >>> 1;
+            if ((tag & 1) != 0 || index >= list.size()) {
+                throw new IOException("Invalid " + what + " reference " + tag);
+            }
+            return list.get(index);
+        }
+    }
+}
@@ -12,10 +12,14 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.SetMultimap;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
 import javax.xml.transform.TransformerException;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
@@ -35,9 +39,65 @@ import org.opendaylight.yangtools.yang.parser.rfc7950.repo.YinTextToDomTransform
 import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
 import org.opendaylight.yangtools.yang.parser.spi.source.StatementStreamSource;
 import org.opendaylight.yangtools.yang.parser.stmt.reactor.CrossSourceStatementReactor.BuildAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
 final class DefaultYangParser implements YangParser {
+    /**
+     * Outcome of converting a single source to a {@link StatementStreamSource}.
+     */
+    private record Conversion(@Nullable StatementStreamSource stream, @Nullable Exception failure) {
+        StatementStreamSource get() throws IOException, YangSyntaxErrorException {
+            final var local = failure;
+            if (local == null) {
+                return stream;
+            }
+            if (local instanceof IOException e) {
+                throw e;
+            }
+            if (local instanceof YangSyntaxErrorException e) {
+                throw e;
+            }
+            throw (RuntimeException) local;
+        }
+    }
+
+    /**
+     * A {@link ManagedBlocker} converting a single source. Conversion reads the source, which may block on I/O, hence
+     * we let the pool know, so that it can compensate for the blocked worker.
+     */
+    private static final class ConversionBlocker implements ManagedBlocker {
+        private final SchemaSourceRepresentation source;
+
+        private @Nullable Conversion result;
+
+        ConversionBlocker(final SchemaSourceRepresentation source) {
+            this.source = requireNonNull(source);
+        }
+
+        @Override
+        public boolean block() {
+            result = convertSource(source);
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return result != null;
+        }
+
+        @NonNull Conversion result() {
+            final var local = result;
+            if (local == null) {
+                throw new IllegalStateException("Conversion of " + source + " has not completed");
+            }
+            return local;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultYangParser.class);
+
     static final @NonNull Collection<Class<? extends SchemaSourceRepresentation>> REPRESENTATIONS =
             ImmutableList.of(YangIRSchemaSource.class, YangTextSchemaSource.class, YinDomSchemaSource.class,
                 YinXmlSchemaSource.class, YinTextSchemaSource.class);
@@ -67,6 +127,36 @@ final class DefaultYangParser implements YangParser {
         return this;
     }
 
+    @Override
+    public @NonNull YangParser addSources(final SchemaSourceRepresentation... sources) throws IOException,
+            YangSyntaxErrorException {
+        return addSources(Arrays.asList(sources));
+    }
+
+    @Override
+    public @NonNull YangParser addSources(final Collection<? extends SchemaSourceRepresentation> sources)
+            throws IOException, YangSyntaxErrorException {
+        for (var conversion : convertSources(sources)) {
+            buildAction.addSource(conversion.get());
+        }
+        return this;
+    }
+
+    @Override
+    public @NonNull YangParser addLibSources(final SchemaSourceRepresentation... sources) throws IOException,
+            YangSyntaxErrorException {
+        return addLibSources(Arrays.asList(sources));
+    }
+
+    @Override
+    public @NonNull YangParser addLibSources(final Collection<SchemaSourceRepresentation> sources)
+            throws IOException, YangSyntaxErrorException {
+        for (var conversion : convertSources(sources)) {
+            buildAction.addLibSource(conversion.get());
+        }
+        return this;
+    }
+
     @Override
     public @NonNull YangParser setSupportedFeatures(final FeatureSet supportedFeatures) {
         buildAction.setSupportedFeatures(supportedFeatures);
@@ -103,6 +193,46 @@ final class DefaultYangParser implements YangParser {
         return new YangParserException("Failed to assemble sources", reported);
     }
 
+    /*
+     * Convert a number of sources to StatementStreamSources. Lexing, parsing and building the IR of a source does not
+     * touch any state shared with other sources, hence multiple sources are converted in parallel. Results are reported
+     * in the order of the sources, so that callers add them in a deterministic order and report the same failure as
+     * sequential conversion would.
+     *
+     * Sources are read while they are being converted, which can block on I/O. Conversions are therefore run as
+     * ManagedBlockers, so that they do not starve the common ForkJoinPool, which is used by parallel streams.
+     */
+    private static List<Conversion> convertSources(final Collection<? extends SchemaSourceRepresentation> sources) {
+        final var list = List.copyOf(sources);
+        if (list.size() < 2) {
+            return list.stream().map(DefaultYangParser::convertSource).toList();
+        }
+
+        LOG.debug("Converting {} sources in parallel", list.size());
+        return list.parallelStream().map(DefaultYangParser::convertBlocking).toList();
+    }
+
+    private static Conversion convertBlocking(final SchemaSourceRepresentation source) {
+        final var blocker = new ConversionBlocker(source);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            // block() does not throw, hence this cannot happen
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while converting " + source, e);
+        }
+        return blocker.result();
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private static Conversion convertSource(final SchemaSourceRepresentation source) {
+        try {
+            return new Conversion(sourceToStatementStream(source), null);
+        } catch (IOException | YangSyntaxErrorException | RuntimeException e) {
+            return new Conversion(null, e);
+        }
+    }
+
     static StatementStreamSource sourceToStatementStream(final SchemaSourceRepresentation source)
             throws IOException, YangSyntaxErrorException {
         requireNonNull(source);
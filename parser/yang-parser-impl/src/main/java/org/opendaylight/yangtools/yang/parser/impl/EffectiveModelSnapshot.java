@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.stmt.FeatureSet;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceRepresentation;
+import org.opendaylight.yangtools.yang.model.repo.api.YangIRSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParser;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
+import org.opendaylight.yangtools.yang.parser.api.YangSyntaxErrorException;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToIRTransformer;
+
+/**
+ * A snapshot of the inputs of an {@link EffectiveModelContext}, which can be persisted and used to assemble the same
+ * context again without the need to parse any YANG text. A snapshot holds the {@link YangIRSchemaSource} of each
+ * source and library source comprising the model, the SHA-256 hash of the text of each of them, the set of supported
+ * features and the modules with supported deviations.
+ *
+ * <p>
+ * A persisted snapshot is typically used as follows:
+ * <pre>{@code
+ *     final var snapshot = EffectiveModelSnapshot.readFrom(in);
+ *     if (snapshot.matches(sources)) {
+ *         return snapshot.buildEffectiveModel(parserFactory);
+ *     }
+ * }</pre>
+ */
+@Beta
+public final class EffectiveModelSnapshot implements Immutable {
+    /**
+     * Builder of {@link EffectiveModelSnapshot}s. Its methods mirror those of {@link YangParser}.
+     */
+    public static final class Builder {
+        private final ImmutableList.Builder<YangIRSchemaSource> sources = ImmutableList.builder();
+        private final ImmutableList.Builder<HashCode> hashes = ImmutableList.builder();
+        private final ImmutableList.Builder<YangIRSchemaSource> libSources = ImmutableList.builder();
+        private final ImmutableList.Builder<HashCode> libHashes = ImmutableList.builder();
+        private @Nullable ImmutableSet<QName> supportedFeatures;
+        private @Nullable ImmutableSetMultimap<QNameModule, QNameModule> modulesWithSupportedDeviations;
+
+        private Builder() {
+            // Hidden on purpose
+        }
+
+        /**
+         * Add a source, parsing its text.
+         *
+         * @param source Source text
+         * @return This builder
+         * @throws IOException if the source cannot be read
+         * @throws YangSyntaxErrorException if the source fails syntactic analysis
+         * @throws NullPointerException if {@code source} is null
+         */
+        public @NonNull Builder addSource(final YangTextSchemaSource source)
+                throws IOException, YangSyntaxErrorException {
+            return addSource(source, TextToIRTransformer.transformText(source));
+        }
+
+        /**
+         * Add a source whose text has already been transformed into a {@link YangIRSchemaSource}, for example by a
+         * cache.
+         *
+         * @param source Source text
+         * @param irSource IR of {@code source}
+         * @return This builder
+         * @throws IOException if the source cannot be read
+         * @throws NullPointerException if any argument is null
+         */
+        public @NonNull Builder addSource(final YangTextSchemaSource source, final YangIRSchemaSource irSource)
+                throws IOException {
+            requireNonNull(irSource);
+            hashes.add(hashOf(source));
+            sources.add(irSource);
+            return this;
+        }
+
+        /**
+         * Add a library source, parsing its text.
+         *
+         * @param source Source text
+         * @return This builder
+         * @throws IOException if the source cannot be read
+         * @throws YangSyntaxErrorException if the source fails syntactic analysis
+         * @throws NullPointerException if {@code source} is null
+         */
+        public @NonNull Builder addLibSource(final YangTextSchemaSource source)
+                throws IOException, YangSyntaxErrorException {
+            return addLibSource(source, TextToIRTransformer.transformText(source));
+        }
+
+        /**
+         * Add a library source whose text has already been transformed into a {@link YangIRSchemaSource}.
+         *
+         * @param source Source text
+         * @param irSource IR of {@code source}
+         * @return This builder
+         * @throws IOException if the source cannot be read
+         * @throws NullPointerException if any argument is null
+         */
+        public @NonNull Builder addLibSource(final YangTextSchemaSource source, final YangIRSchemaSource irSource)
+                throws IOException {
+            requireNonNull(irSource);
+            libHashes.add(hashOf(source));
+            libSources.add(irSource);
+            return this;
+        }
+
+        /**
+         * Set the set of supported features.
+         *
+         * @param features Set of supported features, {@code null} if all features are supported
+         * @return This builder
+         */
+        public @NonNull Builder setSupportedFeatures(final @Nullable Set<QName> features) {
+            supportedFeatures = features == null ? null : ImmutableSet.copyOf(features);
+            return this;
+        }
+
+        /**
+         * Set the modules with supported deviations, as per
+         * {@link YangParser#setModulesWithSupportedDeviations(SetMultimap)}.
+         *
+         * @param modulesDeviatedByModules Modules with supported deviations, {@code null} if all deviations are
+         *                                 supported
+         * @return This builder
+         */
+        public @NonNull Builder setModulesWithSupportedDeviations(
+                final @Nullable SetMultimap<QNameModule, QNameModule> modulesDeviatedByModules) {
+            modulesWithSupportedDeviations = modulesDeviatedByModules == null ? null
+                : ImmutableSetMultimap.copyOf(modulesDeviatedByModules);
+            return this;
+        }
+
+        /**
+         * Build a snapshot.
+         *
+         * @return A snapshot
+         */
+        public @NonNull EffectiveModelSnapshot build() {
+            return new EffectiveModelSnapshot(sources.build(), hashes.build(), libSources.build(), libHashes.build(),
+                supportedFeatures, modulesWithSupportedDeviations);
+        }
+    }
+
+    private static final int MAGIC = 0x594D5302;
+
+    private final @NonNull ImmutableList<YangIRSchemaSource> sources;
+    private final @NonNull ImmutableList<HashCode> hashes;
+    private final @NonNull ImmutableList<YangIRSchemaSource> libSources;
+    private final @NonNull ImmutableList<HashCode> libHashes;
+    private final @Nullable ImmutableSet<QName> supportedFeatures;
+    private final @Nullable ImmutableSetMultimap<QNameModule, QNameModule> modulesWithSupportedDeviations;
+
+    private EffectiveModelSnapshot(final ImmutableList<YangIRSchemaSource> sources,
+            final ImmutableList<HashCode> hashes, final ImmutableList<YangIRSchemaSource> libSources,
+            final ImmutableList<HashCode> libHashes, final @Nullable ImmutableSet<QName> supportedFeatures,
+            final @Nullable ImmutableSetMultimap<QNameModule, QNameModule> modulesWithSupportedDeviations) {
+        this.sources = requireNonNull(sources);
+        this.hashes = requireNonNull(hashes);
+        this.libSources = requireNonNull(libSources);
+        this.libHashes = requireNonNull(libHashes);
+        this.supportedFeatures = supportedFeatures;
+        this.modulesWithSupportedDeviations = modulesWithSupportedDeviations;
+    }
+
+    /**
+     * Return a new {@link Builder}.
+     *
+     * @return A new builder
+     */
+    public static @NonNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a snapshot of a model composed of specified sources.
+     *
+     * @param sources Model sources
+     * @param supportedFeatures Set of supported features, {@code null} if all features are supported
+     * @return A snapshot
+     * @throws IOException if a source cannot be read
+     * @throws YangSyntaxErrorException if a source fails syntactic analysis
+     * @throws NullPointerException if {@code sources} is null
+     */
+    public static @NonNull EffectiveModelSnapshot of(final Collection<YangTextSchemaSource> sources,
+            final @Nullable Set<QName> supportedFeatures) throws IOException, YangSyntaxErrorException {
+        final var builder = builder().setSupportedFeatures(supportedFeatures);
+        for (var source : sources) {
+            builder.addSource(source);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Read a snapshot, as written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in Input
+     * @return A snapshot
+     * @throws IOException if an I/O error occurs or the input does not contain a valid snapshot
+     * @throws NullPointerException if {@code in} is null
+     */
+    public static @NonNull EffectiveModelSnapshot readFrom(final DataInput in) throws IOException {
+        final int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Unexpected header " + Integer.toHexString(magic));
+        }
+
+        final ImmutableSet<QName> features;
+        final ImmutableSetMultimap<QNameModule, QNameModule> deviations;
+        try {
+            final int featureCount = in.readInt();
+            if (featureCount >= 0) {
+                final var builder = ImmutableSet.<QName>builderWithExpectedSize(featureCount);
+                for (int i = 0; i < featureCount; ++i) {
+                    builder.add(QName.readFrom(in));
+                }
+                features = builder.build();
+            } else {
+                features = null;
+            }
+
+            final int deviationCount = in.readInt();
+            if (deviationCount >= 0) {
+                final var builder = ImmutableSetMultimap.<QNameModule, QNameModule>builder();
+                for (int i = 0; i < deviationCount; ++i) {
+                    builder.put(QNameModule.readFrom(in), QNameModule.readFrom(in));
+                }
+                deviations = builder.build();
+            } else {
+                deviations = null;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException("Invalid model configuration", e);
+        }
+
+        final var sources = ImmutableList.<YangIRSchemaSource>builder();
+        final var hashes = ImmutableList.<HashCode>builder();
+        readSources(in, sources, hashes);
+        final var libSources = ImmutableList.<YangIRSchemaSource>builder();
+        final var libHashes = ImmutableList.<HashCode>builder();
+        readSources(in, libSources, libHashes);
+
+        return new EffectiveModelSnapshot(sources.build(), hashes.build(), libSources.build(), libHashes.build(),
+            features, deviations);
+    }
+
+    /**
+     * Write this snapshot.
+     *
+     * @param out Output
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if {@code out} is null
+     */
+    public void writeTo(final DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+
+        final var features = supportedFeatures;
+        if (features != null) {
+            out.writeInt(features.size());
+            for (var feature : features) {
+                feature.writeTo(out);
+            }
+        } else {
+            out.writeInt(-1);
+        }
+
+        final var deviations = modulesWithSupportedDeviations;
+        if (deviations != null) {
+            out.writeInt(deviations.size());
+            for (var entry : deviations.entries()) {
+                entry.getKey().writeTo(out);
+                entry.getValue().writeTo(out);
+            }
+        } else {
+            out.writeInt(-1);
+        }
+
+        writeSources(out, sources, hashes);
+        writeSources(out, libSources, libHashes);
+    }
+
+    /**
+     * Return the sources captured in this snapshot, in the order they were specified.
+     *
+     * @return Captured sources
+     */
+    public @NonNull List<YangIRSchemaSource> sources() {
+        return sources;
+    }
+
+    /**
+     * Return the library sources captured in this snapshot, in the order they were specified.
+     *
+     * @return Captured library sources
+     */
+    public @NonNull List<YangIRSchemaSource> libSources() {
+        return libSources;
+    }
+
+    /**
+     * Return the set of supported features captured in this snapshot.
+     *
+     * @return Supported features, or {@code null} if all features are supported
+     */
+    public @Nullable Set<QName> supportedFeatures() {
+        return supportedFeatures;
+    }
+
+    /**
+     * Return the modules with supported deviations captured in this snapshot.
+     *
+     * @return Modules with supported deviations, or {@code null} if all deviations are supported
+     */
+    public @Nullable SetMultimap<QNameModule, QNameModule> modulesWithSupportedDeviations() {
+        return modulesWithSupportedDeviations;
+    }
+
+    /**
+     * Check whether this snapshot was taken from specified sources and no library sources. This is equivalent to
+     * {@code matches(texts, List.of())}.
+     *
+     * @param texts Source texts
+     * @return {@code true} if this snapshot corresponds to specified sources
+     * @throws IOException if a source cannot be read
+     * @throws NullPointerException if {@code texts} is null
+     */
+    public boolean matches(final Collection<YangTextSchemaSource> texts) throws IOException {
+        return matches(texts, List.of());
+    }
+
+    /**
+     * Check whether this snapshot was taken from specified sources and library sources, i.e. whether the text of each
+     * of the sources is the same as the text of a source captured in this snapshot and vice versa, and the same holds
+     * for library sources. The order of sources is not significant.
+     *
+     * @param texts Source texts
+     * @param libTexts Library source texts
+     * @return {@code true} if this snapshot corresponds to specified sources
+     * @throws IOException if a source cannot be read
+     * @throws NullPointerException if any argument is null
+     */
+    public boolean matches(final Collection<YangTextSchemaSource> texts,
+            final Collection<YangTextSchemaSource> libTexts) throws IOException {
+        return hashesMatch(hashes, texts) && hashesMatch(libHashes, libTexts);
+    }
+
+    /**
+     * Assemble the {@link EffectiveModelContext} captured in this snapshot.
+     *
+     * @param parserFactory Factory of parsers to use
+     * @return An {@link EffectiveModelContext}
+     * @throws YangParserException if the model cannot be assembled
+     * @throws NullPointerException if {@code parserFactory} is null
+     */
+    public @NonNull EffectiveModelContext buildEffectiveModel(final YangParserFactory parserFactory)
+            throws YangParserException {
+        final var parser = parserFactory.createParser();
+        final var features = supportedFeatures;
+        if (features != null) {
+            parser.setSupportedFeatures(FeatureSet.of(features));
+        }
+        final var deviations = modulesWithSupportedDeviations;
+        if (deviations != null) {
+            parser.setModulesWithSupportedDeviations(deviations);
+        }
+
+        try {
+            parser.addSources(sources);
+            if (!libSources.isEmpty()) {
+                parser.addLibSources(List.<SchemaSourceRepresentation>copyOf(libSources));
+            }
+        } catch (IOException e) {
+            throw new YangParserException("Failed to add sources", e);
+        }
+        return parser.buildEffectiveModel();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("sources", sources.stream().map(YangIRSchemaSource::getIdentifier).toList())
+            .add("libSources", libSources.isEmpty() ? null
+                : libSources.stream().map(YangIRSchemaSource::getIdentifier).toList())
+            .add("supportedFeatures", supportedFeatures)
+            .add("modulesWithSupportedDeviations", modulesWithSupportedDeviations)
+            .toString();
+    }
+
+    private static void readSources(final DataInput in, final ImmutableList.Builder<YangIRSchemaSource> sources,
+            final ImmutableList.Builder<HashCode> hashes) throws IOException {
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid source count " + count);
+        }
+        for (int i = 0; i < count; ++i) {
+            final var hash = new byte[Hashing.sha256().bits() / Byte.SIZE];
+            in.readFully(hash);
+            hashes.add(HashCode.fromBytes(hash));
+            sources.add(YangIRSchemaSource.readFrom(in));
+        }
+    }
+
+    private static void writeSources(final DataOutput out, final List<YangIRSchemaSource> sources,
+            final List<HashCode> hashes) throws IOException {
+        out.writeInt(sources.size());
+        for (int i = 0; i < sources.size(); ++i) {
+            out.write(hashes.get(i).asBytes());
+            sources.get(i).writeTo(out);
+        }
+    }
+
+    private static boolean hashesMatch(final List<HashCode> expected, final Collection<YangTextSchemaSource> texts)
+            throws IOException {
+        if (texts.size() != expected.size()) {
+            return false;
+        }
+
+        final var actual = ImmutableMultiset.<HashCode>builder();
+        for (var text : texts) {
+            actual.add(hashOf(text));
+        }
+        return actual.build().equals(ImmutableMultiset.copyOf(expected));
+    }
+
+    private static HashCode hashOf(final YangTextSchemaSource source) throws IOException {
+        return source.asByteSource(StandardCharsets.UTF_8).hash(Hashing.sha256());
+    }
+}
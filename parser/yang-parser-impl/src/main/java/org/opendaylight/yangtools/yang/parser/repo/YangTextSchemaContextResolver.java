@@ -18,7 +18,6 @@ import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
 import java.net.URL;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -47,7 +46,6 @@ import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.repo.api.StatementParserMode;
 import org.opendaylight.yangtools.yang.model.repo.api.YangIRSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
-import org.opendaylight.yangtools.yang.model.repo.spi.GuavaSchemaSourceCache;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource.Costs;
 import org.opendaylight.yangtools.yang.model.repo.spi.SchemaListenerRegistration;
@@ -61,7 +59,6 @@ import org.slf4j.LoggerFactory;
 
 public final class YangTextSchemaContextResolver implements AutoCloseable, SchemaSourceProvider<YangTextSchemaSource> {
     private static final Logger LOG = LoggerFactory.getLogger(YangTextSchemaContextResolver.class);
-    private static final Duration SOURCE_LIFETIME = Duration.ofSeconds(60);
 
     private final Collection<SourceIdentifier> requiredSources = new ConcurrentLinkedDeque<>();
     private final Multimap<SourceIdentifier, YangTextSchemaSource> texts = ArrayListMultimap.create();
@@ -69,7 +66,6 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
     private final Map<QNameModule, List<ImmutableSet<String>>> registeredFeatures = new HashMap<>();
     private final AtomicReference<Optional<EffectiveModelContext>> currentSchemaContext =
             new AtomicReference<>(Optional.empty());
-    private final GuavaSchemaSourceCache<YangIRSchemaSource> cache;
     private final SchemaListenerRegistration transReg;
     private final SchemaSourceRegistry registry;
     private final SchemaRepository repository;
@@ -84,7 +80,6 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
         this.registry = requireNonNull(registry);
 
         transReg = registry.registerSchemaSourceListener(TextToIRTransformer.create(repository, registry));
-        cache = GuavaSchemaSourceCache.createSoftCache(registry, YangIRSchemaSource.class, SOURCE_LIFETIME);
     }
 
     public static @NonNull YangTextSchemaContextResolver create(final String name) {
@@ -145,8 +140,12 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
 
             final var reg = registry.registerSchemaSource(this,
                 PotentialSchemaSource.create(parsedId, YangTextSchemaSource.class, Costs.IMMEDIATE.getValue()));
+            // Retain the IR for as long as the source is registered, so that assembling a model after some other source
+            // has been added or removed does not need to parse this source again
+            final var irReg = registry.registerSchemaSource(
+                (SchemaSourceProvider<YangIRSchemaSource>) sourceId -> FluentFutures.immediateFluentFuture(ast),
+                PotentialSchemaSource.create(parsedId, YangIRSchemaSource.class, Costs.IMMEDIATE.getValue()));
             requiredSources.add(parsedId);
-            cache.schemaSourceEncountered(ast);
             LOG.debug("Added source {} to schema context requirements", parsedId);
             version = new Object();
 
@@ -158,6 +157,7 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
                         LOG.trace("Removed source {} from schema context requirements", parsedId);
                         version = new Object();
                         reg.close();
+                        irReg.close();
                         texts.remove(parsedId, text);
                     }
                 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.api.YangSyntaxErrorException;
+
+class DefaultYangParserTest {
+    private static final int MODULE_COUNT = 32;
+
+    private final DefaultYangParserFactory factory = new DefaultYangParserFactory();
+
+    @Test
+    void testParallelAddSources() throws Exception {
+        final var sources = new ArrayList<YangTextSchemaSource>();
+        for (int i = 0; i < MODULE_COUNT; ++i) {
+            sources.add(moduleSource(i));
+        }
+
+        final var sequential = factory.createParser();
+        for (var source : sources) {
+            sequential.addSource(source);
+        }
+
+        assertEquals(rootNames(sequential.buildDeclaredModel()),
+            rootNames(factory.createParser().addSources(sources).buildDeclaredModel()));
+        assertEquals(MODULE_COUNT, factory.createParser().addSources(sources).buildEffectiveModel().getModules()
+            .size());
+    }
+
+    @Test
+    void testParallelAddLibSources() throws Exception {
+        final var lib = List.of(moduleSource(1), moduleSource(2));
+        final var context = factory.createParser()
+            .addSource(moduleSource(0))
+            .addLibSources(lib.toArray(YangTextSchemaSource[]::new))
+            .buildEffectiveModel();
+        // Library sources are not referenced, hence they are not part of the resulting context
+        assertEquals(1, context.getModules().size());
+    }
+
+    @Test
+    void testFirstFailureReported() {
+        final var sources = new ArrayList<YangTextSchemaSource>();
+        for (int i = 0; i < MODULE_COUNT; ++i) {
+            sources.add(i % 8 == 5 ? brokenSource(i) : moduleSource(i));
+        }
+
+        for (int i = 0; i < 10; ++i) {
+            final var ex = assertThrows(YangSyntaxErrorException.class,
+                () -> factory.createParser().addSources(sources));
+            assertEquals(Optional.of(new SourceIdentifier("mod5")), ex.getSource());
+        }
+    }
+
+    @Test
+    void testBlockingSources() throws Exception {
+        // More sources than workers in the common pool, each of which blocks until all of them are being read
+        final int count = ForkJoinPool.getCommonPoolParallelism() + 2;
+        final var latch = new CountDownLatch(count);
+        final var timedOut = new AtomicBoolean();
+        final var sources = new ArrayList<YangTextSchemaSource>();
+        for (int i = 0; i < count; ++i) {
+            final var text = moduleText("mod" + i);
+            sources.add(YangTextSchemaSource.delegateForCharSource(new SourceIdentifier("mod" + i), new CharSource() {
+                @Override
+                public Reader openStream() throws IOException {
+                    latch.countDown();
+                    try {
+                        if (!latch.await(10, TimeUnit.SECONDS)) {
+                            timedOut.set(true);
+                        }
+                    } catch (InterruptedException e) {
+                        throw new IOException("Interrupted", e);
+                    }
+                    return new StringReader(text);
+                }
+            }));
+        }
+
+        assertEquals(count, factory.createParser().addSources(sources).buildEffectiveModel().getModules().size());
+        assertFalse(timedOut.get());
+    }
+
+    private static List<String> rootNames(final List<DeclaredStatement<?>> roots) {
+        return roots.stream().map(DeclaredStatement::rawArgument).sorted().toList();
+    }
+
+    private static YangTextSchemaSource moduleSource(final int index) {
+        final var name = "mod" + index;
+        return YangTextSchemaSource.delegateForCharSource(new SourceIdentifier(name),
+            CharSource.wrap(moduleText(name)));
+    }
+
+    private static String moduleText(final String name) {
+        return "module " + name + " { namespace " + name + "; prefix " + name
+            + "; container cont { leaf leaf { type string; } } }";
+    }
+
+    private static YangTextSchemaSource brokenSource(final int index) {
+        final var name = "mod" + index;
+        return YangTextSchemaSource.delegateForCharSource(new SourceIdentifier(name), CharSource.wrap("module " + name
+            + " { namespace " + name + "; prefix " + name + "; container cont { "));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToIRTransformer;
+
+class EffectiveModelSnapshotTest {
+    private static final YangTextSchemaSource FOO = YangTextSchemaSource.delegateForCharSource("foo.yang",
+        CharSource.wrap("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              feature feat;
+              grouping grp {
+                leaf leaf {
+                  type string;
+                }
+              }
+            }"""));
+    private static final YangTextSchemaSource BAR = YangTextSchemaSource.delegateForCharSource("bar.yang",
+        CharSource.wrap("""
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              container cont {
+                uses foo:grp;
+              }
+              container opt {
+                if-feature foo:feat;
+              }
+            }"""));
+    private static final YangTextSchemaSource BAZ = YangTextSchemaSource.delegateForCharSource("baz.yang",
+        CharSource.wrap("""
+            module baz {
+              namespace baz;
+              prefix baz;
+              import bar {
+                prefix bar;
+              }
+              deviation /bar:cont {
+                deviate not-supported;
+              }
+            }"""));
+    private static final QName CONT = QName.create("bar", "cont");
+    private static final QName OPT = QName.create("bar", "opt");
+
+    @Test
+    void testWriteAndRestore() throws Exception {
+        final var snapshot = EffectiveModelSnapshot.of(List.of(FOO, BAR), null);
+        final var restored = roundTrip(snapshot);
+
+        assertNull(restored.supportedFeatures());
+        assertEquals(snapshot.sources().size(), restored.sources().size());
+        for (int i = 0; i < snapshot.sources().size(); ++i) {
+            final var expected = snapshot.sources().get(i);
+            final var actual = restored.sources().get(i);
+            assertEquals(expected.getIdentifier(), actual.getIdentifier());
+            assertEquals(expected.getRootStatement(), actual.getRootStatement());
+        }
+
+        final var context = restored.buildEffectiveModel(new DefaultYangParserFactory());
+        assertEquals(2, context.getModules().size());
+        assertDataTree(context, true);
+    }
+
+    @Test
+    void testSupportedFeatures() throws Exception {
+        final var restored = roundTrip(EffectiveModelSnapshot.of(List.of(FOO, BAR), Set.of()));
+        assertEquals(Set.of(), restored.supportedFeatures());
+        assertDataTree(restored.buildEffectiveModel(new DefaultYangParserFactory()), false);
+    }
+
+    @Test
+    void testMatches() throws Exception {
+        final var snapshot = EffectiveModelSnapshot.of(List.of(FOO, BAR), null);
+        assertTrue(snapshot.matches(List.of(FOO, BAR)));
+        assertTrue(snapshot.matches(List.of(BAR, FOO)));
+        assertFalse(snapshot.matches(List.of(FOO)));
+        assertFalse(snapshot.matches(List.of(FOO, FOO)));
+        assertFalse(snapshot.matches(List.of(FOO, YangTextSchemaSource.delegateForCharSource("bar.yang",
+            CharSource.wrap("module bar { namespace bar; prefix bar; }")))));
+    }
+
+    @Test
+    void testPrebuiltSource() throws Exception {
+        final var ir = TextToIRTransformer.transformText(FOO);
+        final var snapshot = EffectiveModelSnapshot.builder().addSource(FOO, ir).build();
+        assertSame(ir, snapshot.sources().get(0));
+        assertTrue(snapshot.matches(List.of(FOO)));
+    }
+
+    @Test
+    void testLibSourcesAndDeviations() throws Exception {
+        final var builder = EffectiveModelSnapshot.builder().addSource(BAR).addSource(BAZ).addLibSource(FOO);
+
+        // All deviations are supported by default
+        final var deviated = roundTrip(builder.build());
+        assertNull(deviated.modulesWithSupportedDeviations());
+        assertEquals(1, deviated.libSources().size());
+        assertTrue(deviated.matches(List.of(BAZ, BAR), List.of(FOO)));
+        assertFalse(deviated.matches(List.of(BAZ, BAR)));
+        assertFalse(deviated.matches(List.of(BAZ, BAR, FOO)));
+        final var deviatedContext = deviated.buildEffectiveModel(new DefaultYangParserFactory());
+        assertEquals(3, deviatedContext.getModules().size());
+        assertFalse(deviatedContext.findModuleStatement(CONT.getModule()).orElseThrow().findDataTreeNode(CONT)
+            .isPresent());
+
+        // No deviations are supported
+        final var restored = roundTrip(builder.setModulesWithSupportedDeviations(ImmutableSetMultimap.of()).build());
+        assertEquals(ImmutableSetMultimap.of(), restored.modulesWithSupportedDeviations());
+        assertDataTree(restored.buildEffectiveModel(new DefaultYangParserFactory()), true);
+    }
+
+    @Test
+    void testCorruptRevision() throws Exception {
+        final var out = ByteStreams.newDataOutput();
+        EffectiveModelSnapshot.of(List.of(YangTextSchemaSource.delegateForCharSource("foo.yang", CharSource.wrap("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              revision 2023-01-01;
+            }"""))), null).writeTo(out);
+        // Retain the rest of the snapshot, but store an invalid revision
+        final var bytes = new String(out.toByteArray(), StandardCharsets.ISO_8859_1)
+            .replace("2023-01-01", "2023-13-45").getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThrows(IOException.class, () -> EffectiveModelSnapshot.readFrom(ByteStreams.newDataInput(bytes)));
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IOException.class, () -> EffectiveModelSnapshot.readFrom(
+            ByteStreams.newDataInput(new byte[] { 1, 2, 3, 4 })));
+    }
+
+    private static EffectiveModelSnapshot roundTrip(final EffectiveModelSnapshot snapshot) throws IOException {
+        final var out = ByteStreams.newDataOutput();
+        snapshot.writeTo(out);
+        return EffectiveModelSnapshot.readFrom(ByteStreams.newDataInput(out.toByteArray()));
+    }
+
+    private static void assertDataTree(final EffectiveModelContext context, final boolean expectOpt) {
+        final var bar = context.findModuleStatement(CONT.getModule()).orElseThrow();
+        assertTrue(bar.findDataTreeNode(CONT).isPresent());
+        assertEquals(expectOpt, bar.findDataTreeNode(OPT).isPresent());
+    }
+}
@@ -14,15 +14,22 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
 import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
 
 public class YangTextSchemaContextResolverTest {
     @Test
@@ -155,6 +162,58 @@ public class YangTextSchemaContextResolverTest {
         assertTrue(isModulePresent(context6, auxCont.getModule(), pathToAuxiliary));
     }
 
+    @Test
+    public void testRegisteredSourcesNotReparsed() throws Exception {
+        final var resolver = YangTextSchemaContextResolver.create("reparse-test-bundle");
+        final var fooReads = new AtomicInteger();
+        final var fooReg = resolver.registerSource(countingSource("foo", fooReads, """
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo;
+            }"""));
+        assertEquals(1, fooReads.get());
+        assertEquals(1, resolver.getEffectiveModelContext().orElseThrow().getModules().size());
+
+        // Adding a module importing foo reassembles the model, but does not read foo again
+        final var barReads = new AtomicInteger();
+        final var barReg = resolver.registerSource(countingSource("bar", barReads, """
+            module bar {
+              namespace bar;
+              prefix bar;
+              import foo {
+                prefix foo;
+              }
+              augment /foo:foo {
+                leaf bar {
+                  type string;
+                }
+              }
+            }"""));
+        final var context = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(2, context.getModules().size());
+        assertTrue(isModulePresent(context, QNameModule.create(XMLNamespace.of("foo")),
+            List.of(QName.create("foo", "foo"), QName.create("bar", "bar"))));
+        assertEquals(1, fooReads.get());
+        assertEquals(1, barReads.get());
+
+        barReg.close();
+        assertEquals(1, resolver.getEffectiveModelContext().orElseThrow().getModules().size());
+        assertEquals(1, fooReads.get());
+        fooReg.close();
+    }
+
+    private static YangTextSchemaSource countingSource(final String name, final AtomicInteger reads,
+            final String text) {
+        return YangTextSchemaSource.delegateForCharSource(new SourceIdentifier(name), new CharSource() {
+            @Override
+            public Reader openStream() throws IOException {
+                reads.incrementAndGet();
+                return new StringReader(text);
+            }
+        });
+    }
+
     private static boolean isModulePresent(final EffectiveModelContext context, final QNameModule qnameModule,
             final List<QName> path) {
         for (var module : context.getModules()) {
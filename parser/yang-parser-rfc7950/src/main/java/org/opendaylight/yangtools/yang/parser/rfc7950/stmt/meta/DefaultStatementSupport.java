@@ -18,13 +18,11 @@ import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatementDecorators
 import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatements;
 import org.opendaylight.yangtools.yang.model.ri.stmt.EffectiveStatements;
 import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStringStatementSupport;
-import org.opendaylight.yangtools.yang.parser.spi.meta.BoundStmtCtx;
-import org.opendaylight.yangtools.yang.parser.spi.meta.EffectiveStmtCtx.Current;
+import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractInternedStringStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 
 public final class DefaultStatementSupport
-        extends AbstractStringStatementSupport<DefaultStatement, DefaultEffectiveStatement> {
+        extends AbstractInternedStringStatementSupport<DefaultStatement, DefaultEffectiveStatement> {
     private static final SubstatementValidator SUBSTATEMENT_VALIDATOR =
         SubstatementValidator.builder(YangStmtMapping.DEFAULT).build();
 
@@ -34,9 +32,9 @@ public final class DefaultStatementSupport
     }
 
     @Override
-    protected DefaultStatement createDeclared(final BoundStmtCtx<String> ctx,
+    protected DefaultStatement createDeclared(final String argument,
             final ImmutableList<DeclaredStatement<?>> substatements) {
-        return DeclaredStatements.createDefault(ctx.getRawArgument(), substatements);
+        return DeclaredStatements.createDefault(argument, substatements);
     }
 
     @Override
@@ -46,8 +44,18 @@ public final class DefaultStatementSupport
     }
 
     @Override
-    protected DefaultEffectiveStatement createEffective(final Current<String, DefaultStatement> stmt,
+    protected DefaultStatement createEmptyDeclared(final String argument) {
+        return DeclaredStatements.createDefault(argument);
+    }
+
+    @Override
+    protected DefaultEffectiveStatement createEffective(final DefaultStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return EffectiveStatements.createDefault(stmt.declared(), substatements);
+        return EffectiveStatements.createDefault(declared, substatements);
+    }
+
+    @Override
+    protected DefaultEffectiveStatement createEmptyEffective(final DefaultStatement declared) {
+        return EffectiveStatements.createDefault(declared);
     }
 }
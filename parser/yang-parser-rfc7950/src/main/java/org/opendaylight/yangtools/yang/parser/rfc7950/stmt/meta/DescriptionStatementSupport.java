@@ -18,13 +18,11 @@ import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatementDecorators
 import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatements;
 import org.opendaylight.yangtools.yang.model.ri.stmt.EffectiveStatements;
 import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStringStatementSupport;
-import org.opendaylight.yangtools.yang.parser.spi.meta.BoundStmtCtx;
-import org.opendaylight.yangtools.yang.parser.spi.meta.EffectiveStmtCtx.Current;
+import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractInternedStringStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 
 public final class DescriptionStatementSupport
-        extends AbstractStringStatementSupport<DescriptionStatement, DescriptionEffectiveStatement> {
+        extends AbstractInternedStringStatementSupport<DescriptionStatement, DescriptionEffectiveStatement> {
     private static final SubstatementValidator SUBSTATEMENT_VALIDATOR =
         SubstatementValidator.builder(YangStmtMapping.DESCRIPTION).build();
 
@@ -33,9 +31,9 @@ public final class DescriptionStatementSupport
     }
 
     @Override
-    protected DescriptionStatement createDeclared(final BoundStmtCtx<String> ctx,
+    protected DescriptionStatement createDeclared(final String argument,
             final ImmutableList<DeclaredStatement<?>> substatements) {
-        return DeclaredStatements.createDescription(ctx.getRawArgument(), substatements);
+        return DeclaredStatements.createDescription(argument, substatements);
     }
 
     @Override
@@ -45,8 +43,18 @@ public final class DescriptionStatementSupport
     }
 
     @Override
-    protected DescriptionEffectiveStatement createEffective(final Current<String, DescriptionStatement> stmt,
+    protected DescriptionStatement createEmptyDeclared(final String argument) {
+        return DeclaredStatements.createDescription(argument);
+    }
+
+    @Override
+    protected DescriptionEffectiveStatement createEffective(final DescriptionStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return EffectiveStatements.createDescription(stmt.declared(), substatements);
+        return EffectiveStatements.createDescription(declared, substatements);
+    }
+
+    @Override
+    protected DescriptionEffectiveStatement createEmptyEffective(final DescriptionStatement declared) {
+        return EffectiveStatements.createDescription(declared);
     }
 }
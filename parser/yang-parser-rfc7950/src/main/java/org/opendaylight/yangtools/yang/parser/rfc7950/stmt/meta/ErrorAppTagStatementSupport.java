@@ -18,13 +18,11 @@ import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatementDecorators
 import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatements;
 import org.opendaylight.yangtools.yang.model.ri.stmt.EffectiveStatements;
 import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
-import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractStringStatementSupport;
-import org.opendaylight.yangtools.yang.parser.spi.meta.BoundStmtCtx;
-import org.opendaylight.yangtools.yang.parser.spi.meta.EffectiveStmtCtx.Current;
+import org.opendaylight.yangtools.yang.parser.spi.meta.AbstractInternedStringStatementSupport;
 import org.opendaylight.yangtools.yang.parser.spi.meta.SubstatementValidator;
 
 public final class ErrorAppTagStatementSupport
-        extends AbstractStringStatementSupport<ErrorAppTagStatement, ErrorAppTagEffectiveStatement> {
+        extends AbstractInternedStringStatementSupport<ErrorAppTagStatement, ErrorAppTagEffectiveStatement> {
     private static final SubstatementValidator SUBSTATEMENT_VALIDATOR =
         SubstatementValidator.builder(YangStmtMapping.ERROR_APP_TAG).build();
 
@@ -33,9 +31,9 @@ public final class ErrorAppTagStatementSupport
     }
 
     @Override
-    protected ErrorAppTagStatement createDeclared(final BoundStmtCtx<String> ctx,
+    protected ErrorAppTagStatement createDeclared(final String argument,
             final ImmutableList<DeclaredStatement<?>> substatements) {
-        return DeclaredStatements.createErrorAppTag(ctx.getRawArgument(), substatements);
+        return DeclaredStatements.createErrorAppTag(argument, substatements);
     }
 
     @Override
@@ -45,8 +43,18 @@ public final class ErrorAppTagStatementSupport
     }
 
     @Override
-    protected ErrorAppTagEffectiveStatement createEffective(final Current<String, ErrorAppTagStatement> stmt,
+    protected ErrorAppTagStatement createEmptyDeclared(final String argument) {
+        return DeclaredStatements.createErrorAppTag(argument);
+    }
+
+    @Override
+    protected ErrorAppTagEffectiveStatement createEffective(final ErrorAppTagStatement declared,
             final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
-        return EffectiveStatements.createErrorAppTag(stmt.declared(), substatements);
+        return EffectiveStatements.createErrorAppTag(declared, substatements);
+    }
+
+    @Override
+    protected ErrorAppTagEffectiveStatement createEmptyEffective(final ErrorAppTagStatement declared) {
+        return EffectiveStatements.createErrorAppTag(declared);
     }
 }
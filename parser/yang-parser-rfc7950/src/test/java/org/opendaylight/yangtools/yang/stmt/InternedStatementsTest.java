@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.stmt;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContainerEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DefaultEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorAppTagEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorMessageEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LeafEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MustEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PresenceEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnitsEffectiveStatement;
+
+/**
+ * Check that simple statements with the same argument are shared both within a single model and across models built by
+ * the same reactor.
+ */
+class InternedStatementsTest extends AbstractYangTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create("bar", "bar");
+
+    @Test
+    void testSharingWithinModel() {
+        final var context = assertEffectiveModelDir("/interned-statements");
+        assertShared(container(context, FOO), container(context, BAR));
+    }
+
+    @Test
+    void testSharingAcrossModels() {
+        final var first = assertEffectiveModelDir("/interned-statements");
+        final var second = assertEffectiveModelDir("/interned-statements");
+        final var firstFoo = container(first, FOO);
+        final var secondFoo = container(second, FOO);
+        assertNotSame(firstFoo, secondFoo);
+        assertShared(firstFoo, secondFoo);
+    }
+
+    private static ContainerEffectiveStatement container(final EffectiveModelContext context, final QName qname) {
+        return context.findModuleStatement(qname.getModule()).orElseThrow()
+            .findFirstEffectiveSubstatement(ContainerEffectiveStatement.class).orElseThrow();
+    }
+
+    private static void assertShared(final ContainerEffectiveStatement first,
+            final ContainerEffectiveStatement second) {
+        assertSameSubstatement(DescriptionEffectiveStatement.class, first, second);
+        assertSameSubstatement(PresenceEffectiveStatement.class, first, second);
+
+        final var firstMust = first.findFirstEffectiveSubstatement(MustEffectiveStatement.class).orElseThrow();
+        final var secondMust = second.findFirstEffectiveSubstatement(MustEffectiveStatement.class).orElseThrow();
+        assertSameSubstatement(ErrorMessageEffectiveStatement.class, firstMust, secondMust);
+        assertSameSubstatement(ErrorAppTagEffectiveStatement.class, firstMust, secondMust);
+
+        final var firstLeaf = first.findFirstEffectiveSubstatement(LeafEffectiveStatement.class).orElseThrow();
+        final var secondLeaf = second.findFirstEffectiveSubstatement(LeafEffectiveStatement.class).orElseThrow();
+        assertSameSubstatement(UnitsEffectiveStatement.class, firstLeaf, secondLeaf);
+        assertSameSubstatement(DefaultEffectiveStatement.class, firstLeaf, secondLeaf);
+    }
+
+    private static <T extends EffectiveStatement<?, ?>> void assertSameSubstatement(final Class<T> type,
+            final EffectiveStatement<?, ?> first, final EffectiveStatement<?, ?> second) {
+        final var firstStmt = first.findFirstEffectiveSubstatement(type).orElseThrow();
+        final var secondStmt = second.findFirstEffectiveSubstatement(type).orElseThrow();
+        assertSame(firstStmt, secondStmt);
+        assertSame(firstStmt.getDeclared(), secondStmt.getDeclared());
+    }
+}
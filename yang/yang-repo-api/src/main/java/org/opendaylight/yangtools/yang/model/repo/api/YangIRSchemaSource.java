@@ -11,10 +11,15 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.AbstractSimpleIdentifiable;
+import org.opendaylight.yangtools.yang.ir.IOSupport;
 import org.opendaylight.yangtools.yang.ir.IRKeyword;
 import org.opendaylight.yangtools.yang.ir.IRKeyword.Unqualified;
 import org.opendaylight.yangtools.yang.ir.IRStatement;
@@ -45,6 +50,50 @@ public final class YangIRSchemaSource extends AbstractSimpleIdentifiable<SourceI
         checkArgument(rootStatement.argument() != null, "Root statement does not have an argument");
     }
 
+    /**
+     * Read a source, as written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in Input
+     * @return A source
+     * @throws IOException if an I/O error occurs or the input does not contain a valid source
+     * @throws NullPointerException if {@code in} is null
+     */
+    public static @NonNull YangIRSchemaSource readFrom(final DataInput in) throws IOException {
+        final var name = in.readUTF();
+        final var revision = in.readBoolean() ? in.readUTF() : null;
+        final var symbolicName = in.readBoolean() ? in.readUTF() : null;
+        final var rootStatement = IOSupport.readStatement(in);
+        try {
+            return new YangIRSchemaSource(new SourceIdentifier(name, revision), rootStatement, symbolicName);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException("Invalid source " + name, e);
+        }
+    }
+
+    /**
+     * Write this source, i.e. its identifier, symbolic name and root statement, in a format understood by
+     * {@link #readFrom(DataInput)}. The format of the root statement is defined by {@link IOSupport}.
+     *
+     * @param out Output
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if {@code out} is null
+     */
+    public void writeTo(final DataOutput out) throws IOException {
+        final var sourceId = getIdentifier();
+        out.writeUTF(sourceId.name().getLocalName());
+        final var revision = sourceId.revision();
+        out.writeBoolean(revision != null);
+        if (revision != null) {
+            out.writeUTF(revision.toString());
+        }
+        final var local = symbolicName;
+        out.writeBoolean(local != null);
+        if (local != null) {
+            out.writeUTF(local);
+        }
+        IOSupport.writeStatement(out, rootStatement);
+    }
+
     @Override
     public Optional<String> getSymbolicName() {
         return Optional.ofNullable(symbolicName);
@@ -14,4 +14,7 @@ module org.opendaylight.yangtools.yang.model.repo.fs {
     requires org.opendaylight.yangtools.util;
     requires org.opendaylight.yangtools.yang.common;
     requires org.slf4j;
+
+    // Annotations
+    requires static org.eclipse.jdt.annotation;
 }
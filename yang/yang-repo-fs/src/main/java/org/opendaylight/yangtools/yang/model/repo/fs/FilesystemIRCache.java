@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import com.google.common.annotations.Beta;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.model.repo.api.YangIRSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of {@link YangIRSchemaSource}s, stored as files under provided directory. Unlike
+ * {@link FilesystemSchemaSourceCache}, entries are keyed by a SHA-256 hash of the identifier and the content of the
+ * {@link YangTextSchemaSource} they were produced from, hence a source does not need to be parsed again as long as its
+ * text does not change. The identifier is part of the key, as a {@link Transformation} may derive the identifier of
+ * its result from it.
+ *
+ * <p>
+ * Entries are stored in the format defined by {@link YangIRSchemaSource#writeTo(java.io.DataOutput)}. Entries which
+ * cannot be read, for example because they were written by an incompatible version, are discarded and recreated.
+ * Entries are written atomically, hence multiple instances can safely share the same directory.
+ */
+@Beta
+public final class FilesystemIRCache {
+    /**
+     * A transformation of a {@link YangTextSchemaSource} into a {@link YangIRSchemaSource}, typically invoking a YANG
+     * parser.
+     *
+     * @param <X> Type of exception thrown by the transformation
+     */
+    @FunctionalInterface
+    public interface Transformation<X extends Exception> {
+        /**
+         * Transform a source.
+         *
+         * @param source Source to transform
+         * @return Transformed source
+         * @throws IOException if the source cannot be read
+         * @throws X if the source cannot be transformed
+         */
+        @NonNull YangIRSchemaSource transform(@NonNull YangTextSchemaSource source) throws IOException, X;
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(FilesystemIRCache.class);
+    private static final String SUFFIX = ".yangir";
+    // Identifies the format of the entry header, independent of the format of the IR itself
+    private static final int MAGIC = 0x59495202;
+
+    private final @NonNull Path directory;
+
+    /**
+     * Create a new cache, storing its entries in specified directory. The directory is created if it does not exist.
+     *
+     * @param directory Storage directory
+     * @throws IOException if the directory cannot be created
+     * @throws NullPointerException if {@code directory} is null
+     */
+    public FilesystemIRCache(final Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Return the {@link YangIRSchemaSource} corresponding to a {@link YangTextSchemaSource}. If the cache does not
+     * contain an entry for the content of {@code source}, the source is transformed using specified transformation and
+     * the result is stored in the cache.
+     *
+     * @param <X> Type of exception thrown by the transformation
+     * @param source Source text
+     * @param transformation Transformation to use when the cache does not contain the source
+     * @return A {@link YangIRSchemaSource}
+     * @throws IOException if {@code source} cannot be read
+     * @throws X if {@code transformation} fails
+     * @throws NullPointerException if any argument is null
+     */
+    public <X extends Exception> @NonNull YangIRSchemaSource getSource(final YangTextSchemaSource source,
+            final Transformation<X> transformation) throws IOException, X {
+        final var hash = hash(source);
+        final var file = directory.resolve(hash + SUFFIX);
+
+        final var cached = restore(file, source);
+        if (cached != null) {
+            LOG.trace("Source {} found in cache as {}", source.getIdentifier(), file);
+            return cached;
+        }
+
+        LOG.debug("Source {} not found in cache as {}", source.getIdentifier(), file);
+        final var ret = transformation.transform(source);
+        store(file, hash, ret);
+        return ret;
+    }
+
+    private static String hash(final YangTextSchemaSource source) throws IOException {
+        final var hasher = Hashing.sha256().newHasher()
+            .putString(source.getIdentifier().toYangFilename(), StandardCharsets.UTF_8)
+            // File names cannot contain NUL, hence this separates them from the content
+            .putByte((byte) 0);
+        source.asByteSource(StandardCharsets.UTF_8).copyTo(Funnels.asOutputStream(hasher));
+        return hasher.hash().toString();
+    }
+
+    private static @Nullable YangIRSchemaSource restore(final Path file, final YangTextSchemaSource source) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new IOException("Unexpected header " + Integer.toHexString(magic));
+            }
+            // The symbolic name is not part of the key, hence we report the one of the source
+            final var cached = YangIRSchemaSource.readFrom(in);
+            return new YangIRSchemaSource(cached.getIdentifier(), cached.getRootStatement(),
+                source.getSymbolicName().orElse(null));
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Discarding unusable cache entry {}", file, e);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                LOG.warn("Failed to delete cache entry {}", file, ex);
+            }
+            return null;
+        }
+    }
+
+    private void store(final Path file, final String hash, final YangIRSchemaSource source) {
+        final var sourceId = source.getIdentifier();
+        try {
+            final var tmp = Files.createTempFile(directory, hash, ".tmp");
+            try {
+                try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    source.writeTo(out);
+                }
+
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    LOG.debug("Atomic move not supported, falling back to replace", e);
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to store source {} in cache as {}", sourceId, file, e);
+            return;
+        }
+        LOG.trace("Source {} stored in cache as {}", sourceId, file);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangIRSchemaSource;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.api.YangSyntaxErrorException;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToIRTransformer;
+
+class FilesystemIRCacheTest {
+    private static final YangTextSchemaSource FOO = YangTextSchemaSource.delegateForCharSource("foo.yang",
+        CharSource.wrap("""
+            module foo {
+              namespace "urn:foo";
+              prefix foo;
+              revision 2023-01-01;
+              extension ext {
+                argument arg;
+              }
+              container cont {
+                description 'single-quoted' + "double-quoted\\n";
+                reference unquoted;
+                foo:ext identifier;
+                leaf leaf {
+                  type string {
+                    pattern '.*';
+                  }
+                  default "";
+                }
+              }
+            }"""));
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    void testCacheAndRestore() throws Exception {
+        final var first = new FilesystemIRCache(directory).getSource(FOO, this::transform);
+        assertEquals(1, invocations.get());
+        assertEquals(new SourceIdentifier("foo", "2023-01-01"), first.getIdentifier());
+
+        // A fresh instance reads the entry stored by the first one
+        final var second = new FilesystemIRCache(directory).getSource(FOO, this::transform);
+        assertEquals(1, invocations.get());
+        assertEquals(first.getIdentifier(), second.getIdentifier());
+        assertEquals(first.getSymbolicName(), second.getSymbolicName());
+        assertEquals(first.getRootStatement(), second.getRootStatement());
+    }
+
+    @Test
+    void testChangedContent() throws Exception {
+        final var cache = new FilesystemIRCache(directory);
+        cache.getSource(FOO, this::transform);
+        final var bar = cache.getSource(YangTextSchemaSource.delegateForCharSource("foo.yang", CharSource.wrap("""
+            module bar {
+              namespace bar;
+              prefix bar;
+            }""")), this::transform);
+        assertEquals(2, invocations.get());
+        assertEquals(new SourceIdentifier("bar"), bar.getIdentifier());
+    }
+
+    @Test
+    void testCorruptEntry() throws Exception {
+        final var cache = new FilesystemIRCache(directory);
+        final var expected = cache.getSource(FOO, this::transform);
+
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                Files.write(file, new byte[] { 1, 2, 3 });
+            }
+        }
+
+        final var actual = cache.getSource(FOO, this::transform);
+        assertEquals(2, invocations.get());
+        assertEquals(expected.getRootStatement(), actual.getRootStatement());
+
+        // The entry has been replaced
+        cache.getSource(FOO, this::transform);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void testIdentifierIsPartOfKey() throws Exception {
+        final var cache = new FilesystemIRCache(directory);
+        final var text = CharSource.wrap("""
+            module baz {
+              namespace baz;
+              prefix baz;
+            }""");
+        final var first = cache.getSource(YangTextSchemaSource.delegateForCharSource("baz@2023-01-01.yang", text),
+            this::transformWithIdentifier);
+        assertEquals(new SourceIdentifier("baz", "2023-01-01"), first.getIdentifier());
+
+        // Same content, but a different identifier
+        final var second = cache.getSource(YangTextSchemaSource.delegateForCharSource("baz@2023-02-02.yang", text),
+            this::transformWithIdentifier);
+        assertEquals(2, invocations.get());
+        assertEquals(new SourceIdentifier("baz", "2023-02-02"), second.getIdentifier());
+
+        assertEquals(first.getIdentifier(), cache.getSource(
+            YangTextSchemaSource.delegateForCharSource("baz@2023-01-01.yang", text), this::transformWithIdentifier)
+            .getIdentifier());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void testCorruptRevision() throws Exception {
+        final var cache = new FilesystemIRCache(directory);
+        cache.getSource(FOO, this::transform);
+
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                // Retain the rest of the entry, but store an invalid revision
+                final var bytes = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+                Files.write(file, bytes.replace("2023-01-01", "2023-13-45").getBytes(StandardCharsets.ISO_8859_1));
+            }
+        }
+
+        assertEquals(new SourceIdentifier("foo", "2023-01-01"), cache.getSource(FOO, this::transform).getIdentifier());
+        assertEquals(2, invocations.get());
+        cache.getSource(FOO, this::transform);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void testTransformationFailure() throws IOException {
+        final var cache = new FilesystemIRCache(directory);
+        final var broken = YangTextSchemaSource.delegateForCharSource("broken.yang",
+            CharSource.wrap("module broken {"));
+        assertThrows(YangSyntaxErrorException.class, () -> cache.getSource(broken, this::transform));
+        assertThrows(YangSyntaxErrorException.class, () -> cache.getSource(broken, this::transform));
+        assertEquals(2, invocations.get());
+
+        try (var files = Files.list(directory)) {
+            files.forEach(file -> fail("Unexpected file " + file));
+        }
+    }
+
+    private YangIRSchemaSource transform(final YangTextSchemaSource source)
+            throws IOException, YangSyntaxErrorException {
+        invocations.incrementAndGet();
+        return TextToIRTransformer.transformText(source);
+    }
+
+    // A transformation which takes the identifier from the source
+    private YangIRSchemaSource transformWithIdentifier(final YangTextSchemaSource source)
+            throws IOException, YangSyntaxErrorException {
+        final var ir = transform(source);
+        return new YangIRSchemaSource(source.getIdentifier(), ir.getRootStatement(),
+            ir.getSymbolicName().orElse(null));
+    }
+}